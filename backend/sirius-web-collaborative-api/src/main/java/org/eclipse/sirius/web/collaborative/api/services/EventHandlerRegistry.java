@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Dispatch table used to find the event handler of an input.
+ *
+ * <p>
+ * The event handlers able to handle a type of input are computed once, the first time an input of this type is
+ * received, and shared by all the event processors using this registry. The time spent in each event handler is
+ * recorded for each type of input.
+ * </p>
+ *
+ * @param <I>
+ *            The type of the inputs
+ * @param <H>
+ *            The type of the event handlers
+ * @author sbegaudeau
+ */
+public class EventHandlerRegistry<I, H> {
+
+    private final List<H> eventHandlers;
+
+    private final BiPredicate<H, I> canHandlePredicate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Class<?>, List<H>> inputTypeToEventHandlers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<List<Class<?>>, Timer> timers = new ConcurrentHashMap<>();
+
+    public EventHandlerRegistry(List<H> eventHandlers, BiPredicate<H, I> canHandlePredicate, MeterRegistry meterRegistry) {
+        this.eventHandlers = List.copyOf(Objects.requireNonNull(eventHandlers));
+        this.canHandlePredicate = Objects.requireNonNull(canHandlePredicate);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    /**
+     * Returns the first event handler able to handle the given input.
+     *
+     * @param input
+     *            The input
+     * @return The event handler found or an empty optional
+     */
+    public Optional<H> getEventHandler(I input) {
+        List<H> candidates = this.inputTypeToEventHandlers.computeIfAbsent(input.getClass(), inputType -> this.computeCandidates(input));
+
+        // @formatter:off
+        return candidates.stream()
+                .filter(eventHandler -> !(eventHandler instanceof IDynamicEventHandler) || this.canHandlePredicate.test(eventHandler, input))
+                .findFirst();
+        // @formatter:on
+    }
+
+    /**
+     * Finds the event handler of the given input and invokes it while recording its execution time.
+     *
+     * @param <R>
+     *            The type of the result of the event handler
+     * @param input
+     *            The input
+     * @param invocation
+     *            The invocation of the event handler found
+     * @return The result of the invocation or an empty optional if no event handler can handle the input
+     */
+    public <R> Optional<R> handle(I input, Function<H, R> invocation) {
+        return this.getEventHandler(input).map(eventHandler -> this.getTimer(eventHandler, input).record(() -> invocation.apply(eventHandler)));
+    }
+
+    /**
+     * Computes the event handlers which may handle the inputs with the same type as the given one.
+     *
+     * <p>
+     * The list stops at the first event handler which can handle this type of input. The dynamic event handlers found
+     * before it are kept since they will have to be asked for each input.
+     * </p>
+     */
+    private List<H> computeCandidates(I input) {
+        List<H> candidates = new ArrayList<>();
+        for (H eventHandler : this.eventHandlers) {
+            if (eventHandler instanceof IDynamicEventHandler) {
+                candidates.add(eventHandler);
+            } else if (this.canHandlePredicate.test(eventHandler, input)) {
+                candidates.add(eventHandler);
+                break;
+            }
+        }
+        return List.copyOf(candidates);
+    }
+
+    private Timer getTimer(H eventHandler, I input) {
+        List<Class<?>> key = List.of(eventHandler.getClass(), input.getClass());
+
+        // @formatter:off
+        return this.timers.computeIfAbsent(key, k -> Timer.builder(Monitoring.EVENT_HANDLER_DURATION)
+                .tag(Monitoring.NAME, eventHandler.getClass().getSimpleName())
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .register(this.meterRegistry));
+        // @formatter:on
+    }
+}
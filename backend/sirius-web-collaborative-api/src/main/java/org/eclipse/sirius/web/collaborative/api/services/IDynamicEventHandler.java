@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+/**
+ * Marker interface of the event handlers which decide if they can handle an input using its content and not only its
+ * type.
+ *
+ * <p>
+ * The {@link EventHandlerRegistry} resolves the event handler of an input once for each type of input. The event
+ * handlers implementing this interface are excluded from this resolution and they are asked for each input if they can
+ * handle it.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IDynamicEventHandler {
+    // Marker interface
+}
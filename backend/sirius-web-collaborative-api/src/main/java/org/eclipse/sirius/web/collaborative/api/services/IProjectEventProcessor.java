@@ -35,7 +35,7 @@ public interface IProjectEventProcessor {
 
     List<IRepresentationEventProcessor> getRepresentationEventProcessors();
 
-    void release(SubscriptionDescription subscriptionDescription, Context context);
+    void release(SubscriptionDescription subscriptionDescription, UUID representationId, Context context);
 
     Optional<IPayload> handle(IInput input, Context context);
 
@@ -30,6 +30,8 @@ public interface IProjectEventProcessorRegistry {
 
     Optional<IPayload> dispatchEvent(UUID projectId, IInput input, Context context);
 
+    Optional<IProjectEventProcessor> getProjectEventProcessor(UUID projectId);
+
     Optional<IProjectEventProcessor> getOrCreateProjectEventProcessor(UUID projectId);
 
     void dispose(UUID projectId);
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.collaborative.api.services;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.services.api.Context;
@@ -33,6 +34,22 @@ public interface IRepresentationEventProcessor {
 
     void refresh();
 
+    /**
+     * Refreshes the representation knowing the objects changed since its last refresh.
+     *
+     * <p>
+     * By default, the whole representation is refreshed. The representations able to refresh only the parts depending
+     * on the changed objects can override this method.
+     * </p>
+     *
+     * @param changedObjects
+     *            The objects which have been modified, created or removed, or an empty set if the changes are unknown
+     *            and the whole representation should be refreshed
+     */
+    default void refresh(Set<Object> changedObjects) {
+        this.refresh();
+    }
+
     ISubscriptionManager getSubscriptionManager();
 
     Flux<IPayload> getOutputEvents();
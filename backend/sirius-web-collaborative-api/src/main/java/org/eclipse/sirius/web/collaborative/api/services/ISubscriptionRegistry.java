@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Registry of the subscriptions to the representations used to find directly the target of a subscription when it is
+ * terminated.
+ *
+ * @author sbegaudeau
+ */
+public interface ISubscriptionRegistry {
+    void add(SubscriptionDescription subscriptionDescription, SubscriptionTarget subscriptionTarget);
+
+    Optional<SubscriptionTarget> remove(SubscriptionDescription subscriptionDescription);
+
+    /**
+     * Removes all the subscriptions to the given representation once it has been disposed.
+     *
+     * @param projectId
+     *            The identifier of the project
+     * @param representationId
+     *            The identifier of the representation
+     */
+    void removeRepresentation(UUID projectId, UUID representationId);
+
+    /**
+     * Removes all the subscriptions to the representations of the given project once it has been disposed.
+     *
+     * @param projectId
+     *            The identifier of the project
+     */
+    void removeProject(UUID projectId);
+}
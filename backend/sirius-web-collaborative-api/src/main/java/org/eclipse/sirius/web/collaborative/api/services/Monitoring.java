@@ -21,10 +21,24 @@ public final class Monitoring {
 
     public static final String EVENT_HANDLER = "siriusweb_eventhandlers"; //$NON-NLS-1$
 
+    public static final String EVENT_HANDLER_DURATION = "siriusweb_eventhandlers_duration"; //$NON-NLS-1$
+
     public static final String REPRESENTATION_EVENT_PROCESSOR_REFRESH = "siriusweb_representationeventprocessor_refresh"; //$NON-NLS-1$
 
+    public static final String PROJECT_EXECUTOR_QUEUE_DEPTH = "siriusweb_projectexecutor_queue_depth"; //$NON-NLS-1$
+
+    public static final String PROJECT_EXECUTOR_WAIT = "siriusweb_projectexecutor_wait"; //$NON-NLS-1$
+
+    public static final String PROJECT_EXECUTOR_SERVICE = "siriusweb_projectexecutor_service"; //$NON-NLS-1$
+
+    public static final String PROJECT_EXECUTOR_BATCH_SIZE = "siriusweb_projectexecutor_batch_size"; //$NON-NLS-1$
+
     public static final String NAME = "name"; //$NON-NLS-1$
 
+    public static final String INPUT = "input"; //$NON-NLS-1$
+
+    public static final String PROJECT = "project"; //$NON-NLS-1$
+
     private Monitoring() {
         // Prevent instantiation
     }
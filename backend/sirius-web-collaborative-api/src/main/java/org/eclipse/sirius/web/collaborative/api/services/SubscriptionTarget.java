@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The project and the representation targeted by a subscription.
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionTarget {
+    private final UUID projectId;
+
+    private final UUID representationId;
+
+    public SubscriptionTarget(UUID projectId, UUID representationId) {
+        this.projectId = Objects.requireNonNull(projectId);
+        this.representationId = Objects.requireNonNull(representationId);
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    public UUID getRepresentationId() {
+        return this.representationId;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'projectId: {1}, representationId: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.representationId);
+    }
+}
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.collaborative.api;
 
 import org.eclipse.sirius.web.collaborative.api.architecture.CodingRulesTestCases;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistryTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -25,7 +26,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 //@formatter:off
 @SuiteClasses({
-    CodingRulesTestCases.class
+    CodingRulesTestCases.class,
+    EventHandlerRegistryTestCases.class
 })
 //@formatter:on
 public final class AllSiriusWebCollaborativeAPITests {
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+import org.junit.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test cases of the event handler registry.
+ *
+ * @author sbegaudeau
+ */
+public class EventHandlerRegistryTestCases {
+
+    private static final String STRING_HANDLER = "stringHandler"; //$NON-NLS-1$
+
+    private static final String INTEGER_HANDLER = "integerHandler"; //$NON-NLS-1$
+
+    private static final String INPUT = "input"; //$NON-NLS-1$
+
+    private final List<Object> askedEventHandlers = new ArrayList<>();
+
+    private final BiPredicate<Object, Object> canHandlePredicate = (eventHandler, input) -> {
+        this.askedEventHandlers.add(eventHandler);
+        boolean canHandle = (STRING_HANDLER.equals(eventHandler) && input instanceof String) || (INTEGER_HANDLER.equals(eventHandler) && input instanceof Integer);
+        if (eventHandler instanceof IDynamicEventHandler) {
+            canHandle = INPUT.equals(input);
+        }
+        return canHandle;
+    };
+
+    @Test
+    public void testEventHandlersResolvedOncePerInputType() {
+        EventHandlerRegistry<Object, Object> registry = new EventHandlerRegistry<>(List.of(STRING_HANDLER, INTEGER_HANDLER), this.canHandlePredicate, new SimpleMeterRegistry());
+
+        assertThat(registry.getEventHandler(1)).hasValue(INTEGER_HANDLER);
+        assertThat(registry.getEventHandler(2)).hasValue(INTEGER_HANDLER);
+        assertThat(registry.getEventHandler(INPUT)).hasValue(STRING_HANDLER);
+        assertThat(registry.getEventHandler("other")).hasValue(STRING_HANDLER); //$NON-NLS-1$
+        assertThat(registry.getEventHandler(1.0)).isEmpty();
+        assertThat(registry.getEventHandler(2.0)).isEmpty();
+
+        assertThat(this.askedEventHandlers).containsExactly(STRING_HANDLER, INTEGER_HANDLER, STRING_HANDLER, STRING_HANDLER, INTEGER_HANDLER);
+    }
+
+    @Test
+    public void testDynamicEventHandlersAskedForEachInput() {
+        Object dynamicEventHandler = new IDynamicEventHandler() {
+            // Matches only a specific input
+        };
+        EventHandlerRegistry<Object, Object> registry = new EventHandlerRegistry<>(List.of(dynamicEventHandler, STRING_HANDLER), this.canHandlePredicate, new SimpleMeterRegistry());
+
+        assertThat(registry.getEventHandler(INPUT)).hasValue(dynamicEventHandler);
+        assertThat(registry.getEventHandler("other")).hasValue(STRING_HANDLER); //$NON-NLS-1$
+        assertThat(registry.getEventHandler(INPUT)).hasValue(dynamicEventHandler);
+
+        assertThat(this.askedEventHandlers).containsExactly(STRING_HANDLER, dynamicEventHandler, dynamicEventHandler, dynamicEventHandler);
+    }
+
+    @Test
+    public void testEventHandlerDurationRecorded() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventHandlerRegistry<Object, Object> registry = new EventHandlerRegistry<>(List.of(STRING_HANDLER), this.canHandlePredicate, meterRegistry);
+
+        Optional<String> optionalResult = registry.handle(INPUT, eventHandler -> eventHandler + INPUT);
+        registry.handle(INPUT, eventHandler -> eventHandler + INPUT);
+        Optional<String> optionalMissingResult = registry.handle(1, eventHandler -> eventHandler + INPUT);
+
+        assertThat(optionalResult).hasValue(STRING_HANDLER + INPUT);
+        assertThat(optionalMissingResult).isEmpty();
+
+        // @formatter:off
+        long count = meterRegistry.get(Monitoring.EVENT_HANDLER_DURATION)
+                .tag(Monitoring.NAME, String.class.getSimpleName())
+                .tag(Monitoring.INPUT, String.class.getSimpleName())
+                .timer()
+                .count();
+        // @formatter:on
+        assertThat(count).isEqualTo(2);
+    }
+}
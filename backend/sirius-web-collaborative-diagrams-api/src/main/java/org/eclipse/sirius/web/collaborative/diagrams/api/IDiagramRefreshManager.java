@@ -25,7 +25,7 @@ import reactor.core.publisher.Flux;
  * @author sbegaudeau
  */
 public interface IDiagramRefreshManager {
-    void initialize(UUID projectId, DiagramCreationParameters diagramCreationParameters);
+    void initialize(UUID projectId, DiagramCreationParameters diagramCreationParameters, Diagram storedDiagram);
 
     void refresh(UUID projectId, DiagramCreationParameters diagramCreationParameters);
 
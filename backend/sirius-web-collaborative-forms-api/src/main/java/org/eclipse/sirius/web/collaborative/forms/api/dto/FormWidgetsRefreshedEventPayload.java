@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.forms.api.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.forms.AbstractWidget;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+
+/**
+ * Payload used to indicate that some widgets of the form have been refreshed.
+ *
+ * <p>
+ * The structure of the form has not changed, the widgets should replace the widgets with the same id in the form.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class FormWidgetsRefreshedEventPayload implements IPayload {
+    private final UUID formId;
+
+    private final String label;
+
+    private final List<AbstractWidget> widgets;
+
+    public FormWidgetsRefreshedEventPayload(UUID formId, String label, List<AbstractWidget> widgets) {
+        this.formId = Objects.requireNonNull(formId);
+        this.label = Objects.requireNonNull(label);
+        this.widgets = Objects.requireNonNull(widgets);
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getFormId() {
+        return this.formId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public String getLabel() {
+        return this.label;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull AbstractWidget> getWidgets() {
+        return this.widgets;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'formId: {1}, label: {2}, widgetCount: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.formId, this.label, this.widgets.size());
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.forms.api.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.collaborative.forms.api.IFormInput;
+
+/**
+ * The input used to retrieve a page of the options of a select.
+ *
+ * @author sbegaudeau
+ */
+public final class GetSelectOptionsInput implements IFormInput {
+    private final UUID projectId;
+
+    private final UUID representationId;
+
+    private final String selectId;
+
+    private final String filter;
+
+    private final int startIndex;
+
+    private final int first;
+
+    public GetSelectOptionsInput(UUID projectId, UUID representationId, String selectId, String filter, int startIndex, int first) {
+        this.projectId = Objects.requireNonNull(projectId);
+        this.representationId = Objects.requireNonNull(representationId);
+        this.selectId = Objects.requireNonNull(selectId);
+        this.filter = filter;
+        this.startIndex = startIndex;
+        this.first = first;
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    @Override
+    public UUID getRepresentationId() {
+        return this.representationId;
+    }
+
+    public String getSelectId() {
+        return this.selectId;
+    }
+
+    /**
+     * Returns the text which should be contained in the label of the options.
+     *
+     * @return The filter, may be <code>null</code>
+     */
+    public String getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Returns the index of the first candidate of the select from which the options should be retrieved.
+     *
+     * @return The index of the candidate, 0 to start with the first option
+     */
+    public int getStartIndex() {
+        return this.startIndex;
+    }
+
+    public int getFirst() {
+        return this.first;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'projectId: {1}, representationId: {2}, selectId: {3}, filter: {4}, startIndex: {5}, first: {6}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.representationId, this.selectId, this.filter, this.startIndex, this.first);
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.forms.api.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.forms.SelectOption;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+
+/**
+ * The payload containing a page of the options of a select.
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class GetSelectOptionsSuccessPayload implements IPayload {
+
+    private final List<SelectOption> options;
+
+    private final List<Integer> optionIndexes;
+
+    private final boolean hasNextPage;
+
+    public GetSelectOptionsSuccessPayload(List<SelectOption> options, List<Integer> optionIndexes, boolean hasNextPage) {
+        this.options = Objects.requireNonNull(options);
+        this.optionIndexes = Objects.requireNonNull(optionIndexes);
+        this.hasNextPage = hasNextPage;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull SelectOption> getOptions() {
+        return this.options;
+    }
+
+    /**
+     * Returns the index of the candidate of each option, in the same order as the options.
+     *
+     * @return The indexes of the candidates
+     */
+    public List<Integer> getOptionIndexes() {
+        return this.optionIndexes;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public boolean isHasNextPage() {
+        return this.hasNextPage;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'options: {1}, hasNextPage: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.options, this.hasNextPage);
+    }
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.trees.api;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLInputObjectType;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+
+/**
+ * The input of the collapse tree items mutation.
+ *
+ * <p>
+ * It indicates that a client does not display the children of the given tree items anymore. They should contain the
+ * descendants of a collapsed tree item whose children have been retrieved by this client too.
+ * </p>
+ *
+ * @author hmarchadour
+ */
+@GraphQLInputObjectType
+public final class CollapseTreeItemsInput implements ITreeInput {
+    private UUID projectId;
+
+    private UUID representationId;
+
+    private List<String> treeItemIds;
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getRepresentationId() {
+        return this.representationId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull String> getTreeItemIds() {
+        return this.treeItemIds;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'projectId: {1}, representationId: {2}, treeItemIds: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.representationId, this.treeItemIds);
+    }
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.trees.api;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The input used to retrieve a page of the children of a tree item.
+ *
+ * <p>
+ * The tree item will be considered as expanded by the tree from now on, in order to refresh its children.
+ * </p>
+ *
+ * @author hmarchadour
+ */
+public final class GetTreeItemChildrenInput implements ITreeInput {
+    private final UUID projectId;
+
+    private final UUID representationId;
+
+    private final String treeItemId;
+
+    private final String after;
+
+    private final int first;
+
+    public GetTreeItemChildrenInput(UUID projectId, UUID representationId, String treeItemId, String after, int first) {
+        this.projectId = Objects.requireNonNull(projectId);
+        this.representationId = Objects.requireNonNull(representationId);
+        this.treeItemId = Objects.requireNonNull(treeItemId);
+        this.after = after;
+        this.first = first;
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    @Override
+    public UUID getRepresentationId() {
+        return this.representationId;
+    }
+
+    public String getTreeItemId() {
+        return this.treeItemId;
+    }
+
+    /**
+     * Returns the id of the child after which the children should be retrieved.
+     *
+     * @return The id of the child, or <code>null</code> to start with the first child
+     */
+    public String getAfter() {
+        return this.after;
+    }
+
+    public int getFirst() {
+        return this.first;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'projectId: {1}, representationId: {2}, treeItemId: {3}, after: {4}, first: {5}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.projectId, this.representationId, this.treeItemId, this.after, this.first);
+    }
+}
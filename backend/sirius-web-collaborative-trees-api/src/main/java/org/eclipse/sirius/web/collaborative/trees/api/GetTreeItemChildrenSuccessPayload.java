@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.trees.api;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.trees.TreeItem;
+
+/**
+ * The payload containing a page of the children of a tree item.
+ *
+ * @author hmarchadour
+ */
+@GraphQLObjectType
+public final class GetTreeItemChildrenSuccessPayload implements IPayload {
+
+    private final List<TreeItem> children;
+
+    private final boolean hasNextPage;
+
+    public GetTreeItemChildrenSuccessPayload(List<TreeItem> children, boolean hasNextPage) {
+        this.children = Objects.requireNonNull(children);
+        this.hasNextPage = hasNextPage;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull TreeItem> getChildren() {
+        return this.children;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public boolean isHasNextPage() {
+        return this.hasNextPage;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'childCount: {1}, hasNextPage: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.children.size(), this.hasNextPage);
+    }
+}
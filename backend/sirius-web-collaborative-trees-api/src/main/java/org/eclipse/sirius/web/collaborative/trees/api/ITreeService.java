@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.collaborative.trees.api;
 
+import java.util.Set;
+
 import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.renderer.TreeRenderingCache;
 
 /**
  * Interface of the tree service.
@@ -21,4 +24,23 @@ import org.eclipse.sirius.web.trees.Tree;
  */
 public interface ITreeService {
     Tree create(TreeCreationParameters treeCreationParameters);
+
+    Tree create(TreeCreationParameters treeCreationParameters, TreeRenderingCache cache);
+
+    /**
+     * Refreshes a tree by rendering again only some of its tree items.
+     *
+     * @param treeCreationParameters
+     *            The parameters of the tree
+     * @param previousTree
+     *            The previous version of the tree
+     * @param previousCache
+     *            The cache filled during the rendering of the previous version of the tree
+     * @param invalidatedTreeItemIds
+     *            The ids of the tree items to render again
+     * @param cache
+     *            The cache to fill during the rendering of the new version of the tree
+     * @return The new version of the tree
+     */
+    Tree refresh(TreeCreationParameters treeCreationParameters, Tree previousTree, TreeRenderingCache previousCache, Set<String> invalidatedTreeItemIds, TreeRenderingCache cache);
 }
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.trees.api;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.trees.TreeItem;
+
+/**
+ * Payload used to indicate that some items of the tree have been refreshed.
+ *
+ * <p>
+ * It only contains the visible tree items which are new or whose content has changed. The children of those items
+ * should be retrieved using their ids, from the previous version of the tree or from the items of this payload.
+ * </p>
+ *
+ * @author hmarchadour
+ */
+@GraphQLObjectType
+public final class TreeItemsRefreshedEventPayload implements IPayload {
+    private final UUID treeId;
+
+    private final List<TreeItem> treeItems;
+
+    public TreeItemsRefreshedEventPayload(UUID treeId, List<TreeItem> treeItems) {
+        this.treeId = Objects.requireNonNull(treeId);
+        this.treeItems = Objects.requireNonNull(treeItems);
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getTreeId() {
+        return this.treeId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull TreeItem> getTreeItems() {
+        return this.treeItems;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'treeId: {1}, treeItemCount: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.treeId, this.treeItems.size());
+    }
+}
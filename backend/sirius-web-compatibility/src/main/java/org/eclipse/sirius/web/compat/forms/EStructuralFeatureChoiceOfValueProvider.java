@@ -15,14 +15,18 @@ package org.eclipse.sirius.web.compat.forms;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.notify.AdapterFactory;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.edit.provider.IItemPropertyDescriptor;
 import org.eclipse.emf.edit.provider.IItemPropertySource;
+import org.eclipse.emf.edit.provider.ItemPropertyDescriptor;
+import org.eclipse.sirius.web.emf.services.EClassInstanceIndexProvider;
 import org.eclipse.sirius.web.representations.VariableManager;
 
 /**
@@ -36,6 +40,8 @@ public class EStructuralFeatureChoiceOfValueProvider implements Function<Variabl
 
     private AdapterFactory adapterFactory;
 
+    private final EClassInstanceIndexProvider instanceIndexProvider = new EClassInstanceIndexProvider();
+
     public EStructuralFeatureChoiceOfValueProvider(String featureVariableName, AdapterFactory adapterFactory) {
         this.featureVariableName = Objects.requireNonNull(featureVariableName);
         this.adapterFactory = Objects.requireNonNull(adapterFactory);
@@ -56,7 +62,8 @@ public class EStructuralFeatureChoiceOfValueProvider implements Function<Variabl
                 IItemPropertyDescriptor descriptor = itemPropertySource.getPropertyDescriptor(eObject, eReference);
                 if (descriptor != null) {
                     // @formatter:off
-                    List<Object> choiceOfValues = descriptor.getChoiceOfValues(eObject).stream()
+                    List<Object> choiceOfValues = this.getIndexedChoiceOfValues(eObject, eReference, descriptor)
+                            .orElseGet(() -> new ArrayList<>(descriptor.getChoiceOfValues(eObject))).stream()
                             .filter(Objects::nonNull)
                             .collect(Collectors.toList());
                     // @formatter:on
@@ -68,4 +75,38 @@ public class EStructuralFeatureChoiceOfValueProvider implements Function<Variabl
         return new ArrayList<>();
     }
 
+    /**
+     * Returns the choice of values computed by default by an {@link ItemPropertyDescriptor} for a non containment
+     * reference, that is all the instances of the type of the reference, thanks to the index of the instances of the
+     * editing context instead of a traversal of the whole resource set.
+     *
+     * <p>
+     * Custom property descriptors may compute their choice of values differently, and the instances of the Ecore
+     * classes are often reached outside of the resource set thanks to the registered packages, they are thus left to
+     * the property descriptor.
+     * </p>
+     *
+     * @param eObject
+     *            The object
+     * @param eReference
+     *            The reference
+     * @param descriptor
+     *            The property descriptor of the reference
+     * @return The choice of values or an empty optional if they cannot be retrieved from the index
+     */
+    private Optional<List<Object>> getIndexedChoiceOfValues(EObject eObject, EReference eReference, IItemPropertyDescriptor descriptor) {
+        Optional<List<Object>> optionalChoiceOfValues = Optional.empty();
+
+        boolean isDefaultDescriptor = ItemPropertyDescriptor.class.equals(descriptor.getClass());
+        boolean isIndexedType = !EcorePackage.eINSTANCE.equals(eReference.getEReferenceType().getEPackage());
+        if (isDefaultDescriptor && !eReference.isContainment() && isIndexedType) {
+            // @formatter:off
+            optionalChoiceOfValues = this.instanceIndexProvider.apply(eObject)
+                    .map(instanceIndex -> new ArrayList<Object>(instanceIndex.getInstances(eReference.getEReferenceType())));
+            // @formatter:on
+        }
+
+        return optionalChoiceOfValues;
+    }
+
 }
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.compat.forms;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.sirius.web.forms.components.WidgetComponent;
+import org.eclipse.sirius.web.forms.components.WidgetDependencyRecorder;
+import org.eclipse.sirius.web.representations.VariableManager;
+
+/**
+ * Decorates a provider of a widget in order to record the value of the structural feature in the variable manager as a
+ * dependency of the widget.
+ *
+ * <p>
+ * The value is converted before being recorded in order to record other values displayed by the widget too, such as the
+ * label of the referenced objects.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the result of the provider
+ * @author sbegaudeau
+ */
+public class EStructuralFeatureDependencyRecorder<T> implements Function<VariableManager, T> {
+
+    private final String featureVariableName;
+
+    private final Function<Object, Object> valueConverter;
+
+    private final Function<VariableManager, T> provider;
+
+    public EStructuralFeatureDependencyRecorder(String featureVariableName, Function<Object, Object> valueConverter, Function<VariableManager, T> provider) {
+        this.featureVariableName = Objects.requireNonNull(featureVariableName);
+        this.valueConverter = Objects.requireNonNull(valueConverter);
+        this.provider = Objects.requireNonNull(provider);
+    }
+
+    @Override
+    public T apply(VariableManager variableManager) {
+        var optionalRecorder = variableManager.get(WidgetComponent.DEPENDENCY_RECORDER, WidgetDependencyRecorder.class);
+        var optionalEObject = variableManager.get(VariableManager.SELF, EObject.class);
+        var optionalEStructuralFeature = variableManager.get(this.featureVariableName, EStructuralFeature.class);
+
+        if (optionalRecorder.isPresent() && optionalEObject.isPresent() && optionalEStructuralFeature.isPresent()) {
+            EObject eObject = optionalEObject.get();
+            EStructuralFeature eStructuralFeature = optionalEStructuralFeature.get();
+            optionalRecorder.get().record(() -> this.getValue(eObject, eStructuralFeature));
+        }
+        return this.provider.apply(variableManager);
+    }
+
+    private Object getValue(EObject eObject, EStructuralFeature eStructuralFeature) {
+        Object value = eObject.eGet(eStructuralFeature);
+        if (value instanceof Collection<?>) {
+            value = new ArrayList<>((Collection<?>) value);
+        }
+        return this.valueConverter.apply(value);
+    }
+
+}
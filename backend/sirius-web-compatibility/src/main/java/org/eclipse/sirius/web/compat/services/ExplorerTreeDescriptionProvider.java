@@ -13,10 +13,10 @@
 package org.eclipse.sirius.web.compat.services;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -69,7 +69,7 @@ public class ExplorerTreeDescriptionProvider {
     }
 
     private String getTreeItemId(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
 
         String id = null;
         if (self instanceof RepresentationDescriptor) {
@@ -84,12 +84,12 @@ public class ExplorerTreeDescriptionProvider {
     }
 
     private String getKind(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
         return this.objectService.getKind(self);
     }
 
     private String getLabel(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
 
         String label = ""; //$NON-NLS-1$
         if (self instanceof RepresentationDescriptor) {
@@ -111,7 +111,7 @@ public class ExplorerTreeDescriptionProvider {
     }
 
     private boolean isEditable(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
 
         boolean editable = false;
         if (self instanceof RepresentationDescriptor) {
@@ -126,7 +126,7 @@ public class ExplorerTreeDescriptionProvider {
     }
 
     private String getImageURL(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
 
         String imageURL = null;
         if (self instanceof EObject) {
@@ -159,7 +159,7 @@ public class ExplorerTreeDescriptionProvider {
     }
 
     private boolean hasChildren(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
 
         boolean hasChildren = false;
         if (self instanceof Resource) {
@@ -180,21 +180,16 @@ public class ExplorerTreeDescriptionProvider {
     private List<Object> getChildren(VariableManager variableManager) {
         List<Object> result = new ArrayList<>();
 
-        List<String> expandedIds = new ArrayList<>();
-        Object objects = variableManager.getVariables().get(TreeRenderer.EXPANDED);
-        if (objects instanceof List<?>) {
-            List<?> list = (List<?>) objects;
-            expandedIds = list.stream().filter(String.class::isInstance).map(String.class::cast).collect(Collectors.toUnmodifiableList());
-        }
-
-        Object editingContext = variableManager.getVariables().get(IEditingContext.EDITING_CONTEXT);
+        // The expanded ids are shared by all the tree items, they are looked up without any copy
+        Collection<?> expandedIds = variableManager.get(TreeRenderer.EXPANDED, Collection.class).orElse(List.of());
+        Object editingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, Object.class).orElse(null);
 
         if (editingContext instanceof IEditingContext) {
             IEditingContext context = (IEditingContext) editingContext;
 
             String id = this.getTreeItemId(variableManager);
             if (expandedIds.contains(id)) {
-                Object self = variableManager.getVariables().get(VariableManager.SELF);
+                Object self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
 
                 if (self instanceof Resource) {
                     Resource resource = (Resource) self;
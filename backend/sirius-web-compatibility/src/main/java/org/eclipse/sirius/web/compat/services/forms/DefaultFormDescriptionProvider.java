@@ -36,6 +36,7 @@ import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.services.api.objects.IObjectService;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationDescriptionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -52,9 +53,25 @@ public class DefaultFormDescriptionProvider implements IDefaultFormDescriptionPr
 
     private final ComposedAdapterFactory composedAdapterFactory;
 
-    public DefaultFormDescriptionProvider(IObjectService objectService, ComposedAdapterFactory composedAdapterFactory) {
+    private final int lazyOptionsThreshold;
+
+    /**
+     * Creates the provider of the default form description.
+     *
+     * @param objectService
+     *            The object service
+     * @param composedAdapterFactory
+     *            The composed adapter factory
+     * @param lazyOptionsThreshold
+     *            The number of candidates above which the options of the selects are retrieved on demand by the
+     *            client, the options are always sent with the form by default since the client does not retrieve them
+     *            on demand yet
+     */
+    public DefaultFormDescriptionProvider(IObjectService objectService, ComposedAdapterFactory composedAdapterFactory,
+            @Value("${sirius.web.forms.select.lazyOptionsThreshold:2147483647}") int lazyOptionsThreshold) {
         this.objectService = Objects.requireNonNull(objectService);
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
+        this.lazyOptionsThreshold = lazyOptionsThreshold;
     }
 
     @Override
@@ -134,7 +151,7 @@ public class DefaultFormDescriptionProvider implements IDefaultFormDescriptionPr
         ifDescriptions.add(new EBooleanIfDescriptionProvider(this.composedAdapterFactory).getIfDescription());
         ifDescriptions.add(new EEnumIfDescriptionProvider(this.composedAdapterFactory).getIfDescription());
 
-        ifDescriptions.add(new MonoValuedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService).getIfDescription());
+        ifDescriptions.add(new MonoValuedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService, this.lazyOptionsThreshold).getIfDescription());
         ifDescriptions.add(new MultiValuedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService).getIfDescription());
 
         ifDescriptions.add(new NumberIfDescriptionProvider(EcorePackage.Literals.EINT, this.composedAdapterFactory).getIfDescription());
@@ -20,6 +20,7 @@ import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.web.compat.forms.EStructuralFeatureDependencyRecorder;
 import org.eclipse.sirius.web.compat.forms.EStructuralFeatureLabelProvider;
 import org.eclipse.sirius.web.forms.description.CheckboxDescription;
 import org.eclipse.sirius.web.forms.description.IfDescription;
@@ -64,7 +65,7 @@ public class EBooleanIfDescriptionProvider {
         return CheckboxDescription.newCheckboxDescription(CHECKBOX_DESCRIPTION_ID)
                 .idProvider(new WidgetIdProvider())
                 .labelProvider(this.getLabelProvider())
-                .valueProvider(this.getValueProvider())
+                .valueProvider(new EStructuralFeatureDependencyRecorder<>(DefaultFormDescriptionProvider.ESTRUCTURAL_FEATURE, Function.identity(), this.getValueProvider()))
                 .newValueHandler(this.getNewValueHandler())
                 .build();
         // @formatter:on
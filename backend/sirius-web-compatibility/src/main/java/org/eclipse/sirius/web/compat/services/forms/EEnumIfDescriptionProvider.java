@@ -29,6 +29,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.web.compat.forms.EStructuralFeatureDependencyRecorder;
 import org.eclipse.sirius.web.compat.forms.EStructuralFeatureLabelProvider;
 import org.eclipse.sirius.web.forms.components.SelectComponent;
 import org.eclipse.sirius.web.forms.description.IfDescription;
@@ -82,7 +83,7 @@ public class EEnumIfDescriptionProvider {
         return RadioDescription.newRadioDescription(RADIO_DESCRIPTION_ID)
                 .idProvider(new WidgetIdProvider())
                 .labelProvider(this.getLabelProvider())
-                .optionsProvider(this.getOptionsProvider())
+                .optionsProvider(new EStructuralFeatureDependencyRecorder<>(DefaultFormDescriptionProvider.ESTRUCTURAL_FEATURE, Function.identity(), this.getOptionsProvider()))
                 .optionSelectedProvider(this.getOptionSelectedProvider())
                 .optionIdProvider(this.getOptionIdProvider())
                 .optionLabelProvider(this.getOptionLabelProvider())
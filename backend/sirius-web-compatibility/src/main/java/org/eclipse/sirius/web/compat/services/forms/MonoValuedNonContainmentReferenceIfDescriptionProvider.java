@@ -12,17 +12,23 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.compat.services.forms;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.sirius.web.compat.forms.EStructuralFeatureChoiceOfValueProvider;
+import org.eclipse.sirius.web.compat.forms.EStructuralFeatureDependencyRecorder;
 import org.eclipse.sirius.web.compat.forms.EStructuralFeatureLabelProvider;
 import org.eclipse.sirius.web.forms.components.SelectComponent;
+import org.eclipse.sirius.web.forms.components.WidgetComponent;
+import org.eclipse.sirius.web.forms.components.WidgetDependencyRecorder;
 import org.eclipse.sirius.web.forms.description.IfDescription;
 import org.eclipse.sirius.web.forms.description.SelectDescription;
 import org.eclipse.sirius.web.representations.Status;
@@ -47,11 +53,24 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
 
     private final IObjectService objectService;
 
+    private final int lazyOptionsThreshold;
+
     private final Logger logger = LoggerFactory.getLogger(MonoValuedNonContainmentReferenceIfDescriptionProvider.class);
 
-    public MonoValuedNonContainmentReferenceIfDescriptionProvider(ComposedAdapterFactory composedAdapterFactory, IObjectService objectService) {
+    /**
+     * Creates the provider of the description of the widget.
+     *
+     * @param composedAdapterFactory
+     *            The composed adapter factory
+     * @param objectService
+     *            The object service
+     * @param lazyOptionsThreshold
+     *            The number of candidates above which the options of the select are retrieved on demand by the client
+     */
+    public MonoValuedNonContainmentReferenceIfDescriptionProvider(ComposedAdapterFactory composedAdapterFactory, IObjectService objectService, int lazyOptionsThreshold) {
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
         this.objectService = Objects.requireNonNull(objectService);
+        this.lazyOptionsThreshold = lazyOptionsThreshold;
     }
 
     public IfDescription getIfDescription() {
@@ -80,10 +99,11 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
         return SelectDescription.newSelectDescription(SELECT_DESCRIPTION_ID)
                 .idProvider(new WidgetIdProvider())
                 .labelProvider(this.getLabelProvider())
-                .valueProvider(this.getValueProvider())
+                .valueProvider(new EStructuralFeatureDependencyRecorder<>(DefaultFormDescriptionProvider.ESTRUCTURAL_FEATURE, this::getValueWithLabel, this.getValueProvider()))
                 .optionsProvider(this.getOptionsProvider())
                 .optionIdProvider(this.getOptionIdProvider())
                 .optionLabelProvider(this.getOptionLabelProvider())
+                .lazyOptionsThreshold(this.lazyOptionsThreshold)
                 .newValueHandler(this.getNewValueHandler())
                 .build();
         // @formatter:on
@@ -144,8 +164,39 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
         };
     }
 
+    private Object getValueWithLabel(Object value) {
+        List<Object> valueWithLabel = new ArrayList<>();
+        if (value != null) {
+            valueWithLabel.add(value);
+            valueWithLabel.add(this.objectService.getFullLabel(value));
+        }
+        return valueWithLabel;
+    }
+
     private Function<VariableManager, List<Object>> getOptionsProvider() {
-        return new EStructuralFeatureChoiceOfValueProvider(DefaultFormDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
+        var choiceOfValueProvider = new EStructuralFeatureChoiceOfValueProvider(DefaultFormDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
+        return variableManager -> {
+            // The candidates are computed only once, they are also the current value of the dependency
+            List<Object> candidates = choiceOfValueProvider.apply(variableManager);
+            // @formatter:off
+            variableManager.get(WidgetComponent.DEPENDENCY_RECORDER, WidgetDependencyRecorder.class)
+                    .ifPresent(recorder -> recorder.record(this.getOptionsDependency(new ArrayList<>(candidates)), () -> this.getOptionsDependency(choiceOfValueProvider.apply(variableManager))));
+            // @formatter:on
+            return candidates;
+        };
+    }
+
+    private Object getOptionsDependency(List<Object> candidates) {
+        Object optionsDependency = candidates;
+        if (candidates.size() <= this.lazyOptionsThreshold) {
+            // The labels of the options are only sent with the form below the threshold
+            // @formatter:off
+            optionsDependency = candidates.stream()
+                    .map(candidate -> Arrays.asList(candidate, this.objectService.getFullLabel(candidate)))
+                    .collect(Collectors.toList());
+            // @formatter:on
+        }
+        return optionsDependency;
     }
 
     private Function<VariableManager, String> getOptionIdProvider() {
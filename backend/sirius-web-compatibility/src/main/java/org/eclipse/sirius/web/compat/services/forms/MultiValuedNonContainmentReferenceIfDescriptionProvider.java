@@ -13,14 +13,17 @@
 package org.eclipse.sirius.web.compat.services.forms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.web.compat.forms.EStructuralFeatureDependencyRecorder;
 import org.eclipse.sirius.web.compat.forms.EStructuralFeatureLabelProvider;
 import org.eclipse.sirius.web.compat.services.ImageConstants;
 import org.eclipse.sirius.web.forms.components.ListComponent;
@@ -75,7 +78,7 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
         return ListDescription.newListDescription(LIST_DESCRIPTION_ID)
                 .idProvider(new WidgetIdProvider())
                 .labelProvider(this.getLabelProvider())
-                .itemsProvider(this.getItemsProvider())
+                .itemsProvider(new EStructuralFeatureDependencyRecorder<>(DefaultFormDescriptionProvider.ESTRUCTURAL_FEATURE, this::getItemsWithLabels, this.getItemsProvider()))
                 .itemIdProvider(this.getItemIdProvider())
                 .itemLabelProvider(this.getItemLabelProvider())
                 .itemImageURLProvider(this.getImageURLProvider())
@@ -114,6 +117,18 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
         };
     }
 
+    private Object getItemsWithLabels(Object value) {
+        List<Object> itemsWithLabels = new ArrayList<>();
+        if (value instanceof List<?>) {
+            // @formatter:off
+            ((List<?>) value).stream()
+                    .map(item -> Arrays.asList(item, this.objectService.getFullLabel(item)))
+                    .collect(Collectors.toCollection(() -> itemsWithLabels));
+            // @formatter:on
+        }
+        return itemsWithLabels;
+    }
+
     private Function<VariableManager, String> getItemIdProvider() {
         return variableManager -> {
             Object object = variableManager.getVariables().get(ListComponent.CANDIDATE_VARIABLE);
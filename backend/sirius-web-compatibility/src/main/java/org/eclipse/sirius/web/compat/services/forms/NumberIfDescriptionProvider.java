@@ -22,6 +22,7 @@ import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.web.compat.forms.EStructuralFeatureDependencyRecorder;
 import org.eclipse.sirius.web.compat.forms.EStructuralFeatureLabelProvider;
 import org.eclipse.sirius.web.forms.description.IfDescription;
 import org.eclipse.sirius.web.forms.description.TextfieldDescription;
@@ -67,7 +68,7 @@ public class NumberIfDescriptionProvider {
         return TextfieldDescription.newTextfieldDescription(TEXTFIELD_DESCRIPTION_ID)
                 .idProvider(this.getIdProvider())
                 .labelProvider(this.getLabelProvider())
-                .valueProvider(this.getValueProvider())
+                .valueProvider(new EStructuralFeatureDependencyRecorder<>(DefaultFormDescriptionProvider.ESTRUCTURAL_FEATURE, Function.identity(), this.getValueProvider()))
                 .newValueHandler(this.getNewValueHandler())
                 .build();
         // @formatter:on
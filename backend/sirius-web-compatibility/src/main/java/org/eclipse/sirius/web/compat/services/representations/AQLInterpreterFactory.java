@@ -25,6 +25,7 @@ import org.eclipse.sirius.properties.ViewExtensionDescription;
 import org.eclipse.sirius.viewpoint.description.Group;
 import org.eclipse.sirius.viewpoint.description.JavaExtension;
 import org.eclipse.sirius.viewpoint.description.Viewpoint;
+import org.eclipse.sirius.web.emf.services.EClassInstanceIndexServices;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,9 @@ import org.springframework.stereotype.Service;
 
 /**
  * This class is used to create a new AQL interpreter using all the Java classes defined in a viewpoint.
+ * <p>
+ * The services of the index of the instances of the editing context are available in all the interpreters.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -48,6 +52,7 @@ public class AQLInterpreterFactory {
                 .map(this::getJavaServices)
                 .orElse(new ArrayList<>());
         // @formatter:on
+        javaClasses.add(EClassInstanceIndexServices.class);
 
         List<EPackage> ePackages = diagramDescription.getMetamodel();
         return new AQLInterpreter(javaClasses, ePackages);
@@ -64,8 +69,9 @@ public class AQLInterpreterFactory {
         var javaClasses = viewpoints.stream()
                 .map(this::getJavaServices)
                 .flatMap(Collection::stream)
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toList());
         // @formatter:on
+        javaClasses.add(EClassInstanceIndexServices.class);
 
         List<EPackage> ePackages = viewExtensionDescription.getMetamodels();
 
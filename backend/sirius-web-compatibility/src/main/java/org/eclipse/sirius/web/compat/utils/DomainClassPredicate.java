@@ -43,6 +43,17 @@ public class DomainClassPredicate implements Predicate<EObject> {
 
     @Override
     public boolean test(EObject eObject) {
+        return this.isDomainClass(eObject.eClass());
+    }
+
+    /**
+     * Indicates if the instances of the given EClass are instances of the domain class.
+     *
+     * @param eClass
+     *            The EClass
+     * @return <code>true</code> if the instances of the EClass match the domain class, <code>false</code> otherwise
+     */
+    public boolean isDomainClass(EClass eClass) {
         String packageName = null;
         String className = null;
 
@@ -59,17 +70,17 @@ public class DomainClassPredicate implements Predicate<EObject> {
                 boolean result = false;
 
                 List<EClass> eAllTypes = new ArrayList<>();
-                eAllTypes.add(eObject.eClass());
-                eAllTypes.addAll(eObject.eClass().getEAllSuperTypes());
+                eAllTypes.add(eClass);
+                eAllTypes.addAll(eClass.getEAllSuperTypes());
 
                 Iterator<EClass> iterator = eAllTypes.iterator();
                 while (iterator.hasNext() && !result) {
-                    EClass eClass = iterator.next();
+                    EClass eType = iterator.next();
                     if (packageName == null && className != null) {
                         // Only consider the class name
-                        result = className.equals(eClass.getName());
+                        result = className.equals(eType.getName());
                     } else if (packageName != null && className != null) {
-                        result = packageName.equals(eClass.getEPackage().getName()) && className.equals(eClass.getName());
+                        result = packageName.equals(eType.getEPackage().getName()) && className.equals(eType.getName());
                     }
                 }
                 return result;
@@ -17,10 +17,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.web.emf.services.EClassInstanceIndexProvider;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
 import org.eclipse.sirius.web.representations.VariableManager;
@@ -50,6 +52,8 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
 
     private String preconditionExpression;
 
+    private final EClassInstanceIndexProvider instanceIndexProvider = new EClassInstanceIndexProvider();
+
     public SemanticCandidatesProvider(AQLInterpreter interpreter, String domainClass, String semanticCandidatesExpression, String preconditionExpression) {
         this.interpreter = Objects.requireNonNull(interpreter);
         this.domainClass = Objects.requireNonNull(domainClass);
@@ -65,17 +69,9 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
     public List<Object> apply(VariableManager variableManager) {
         List<Object> semanticCandidates = new ArrayList<>();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.semanticCandidatesExpression);
-
         DomainClassPredicate domainClassPredicate = new DomainClassPredicate(this.domainClass);
 
-        // @formatter:off
-        List<EObject> eObjects = result.asObjects().orElse(List.of()).stream()
-                .filter(EObject.class::isInstance)
-                .map(EObject.class::cast)
-                .filter(domainClassPredicate::test)
-                .collect(Collectors.toList());
-        // @formatter:on
+        List<EObject> eObjects = this.getIndexedCandidates(variableManager, domainClassPredicate).orElseGet(() -> this.evaluateCandidates(variableManager, domainClassPredicate));
 
         for (EObject eObject : eObjects) {
             // Retrieve all the variables and overwrite the variable self
@@ -96,4 +92,45 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
         }
         return semanticCandidates;
     }
+
+    /**
+     * Returns the candidates matching the default semantic candidates expression thanks to the index of the instances
+     * of the editing context, instead of traversing all the contents of the resource.
+     *
+     * @param variableManager
+     *            The variable manager
+     * @param domainClassPredicate
+     *            The predicate of the domain class
+     * @return The candidates or an empty optional if they cannot be retrieved from the index
+     */
+    private Optional<List<EObject>> getIndexedCandidates(VariableManager variableManager, DomainClassPredicate domainClassPredicate) {
+        Optional<List<EObject>> optionalCandidates = Optional.empty();
+
+        var optionalSelf = variableManager.get(VariableManager.SELF, EObject.class).filter(self -> self.eResource() != null);
+        if (DEFAULT_SEMANTIC_CANDIDATES_EXPRESSION.equals(this.semanticCandidatesExpression) && optionalSelf.isPresent()) {
+            EObject self = optionalSelf.get();
+
+            // The root elements of the resource are not returned by eAllContents()
+            // @formatter:off
+            optionalCandidates = this.instanceIndexProvider.apply(self)
+                    .map(instanceIndex -> instanceIndex.getInstances(domainClassPredicate::isDomainClass).stream()
+                            .filter(eObject -> eObject.eResource() == self.eResource() && eObject.eContainer() != null)
+                            .collect(Collectors.toList()));
+            // @formatter:on
+        }
+
+        return optionalCandidates;
+    }
+
+    private List<EObject> evaluateCandidates(VariableManager variableManager, DomainClassPredicate domainClassPredicate) {
+        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.semanticCandidatesExpression);
+
+        // @formatter:off
+        return result.asObjects().orElse(List.of()).stream()
+                .filter(EObject.class::isInstance)
+                .map(EObject.class::cast)
+                .filter(domainClassPredicate::test)
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
 }
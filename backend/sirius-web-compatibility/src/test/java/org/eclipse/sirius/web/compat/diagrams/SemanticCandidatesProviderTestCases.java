@@ -18,11 +18,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.ENamedElement;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.sirius.web.compat.utils.SemanticCandidatesProvider;
+import org.eclipse.sirius.web.emf.services.EClassInstanceIndex;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.junit.Test;
@@ -100,4 +106,68 @@ public class SemanticCandidatesProviderTestCases {
         assertThat(semanticCandidates).hasSize(2);
         assertThat(eClasses).extracting(ENamedElement::getName).containsExactly("EEnum", "EEnumLiteral"); //$NON-NLS-1$//$NON-NLS-2$
     }
+
+    /**
+     * Test that the semantic candidates computed with the default semantic candidates expression thanks to the index of
+     * the instances are the same as the ones computed by the evaluation of the expression.
+     */
+    @Test
+    public void testDefaultSemanticCandidatesExpressionWithInstanceIndex() {
+        String domainClass = "ecore::ENamedElement"; //$NON-NLS-1$
+        SemanticCandidatesProvider semanticCandidatesProvider = new SemanticCandidatesProvider(this.interpreter, domainClass, "", ""); //$NON-NLS-1$ //$NON-NLS-2$
+
+        EPackage indexedEPackage = this.createEPackage();
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(indexedEPackage.eResource());
+        resourceSet.eAdapters().add(new EClassInstanceIndex());
+
+        VariableManager indexedVariableManager = new VariableManager();
+        indexedVariableManager.put(VariableManager.SELF, indexedEPackage);
+        List<Object> indexedSemanticCandidates = semanticCandidatesProvider.apply(indexedVariableManager);
+
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, this.createEPackage());
+        List<Object> semanticCandidates = semanticCandidatesProvider.apply(variableManager);
+
+        assertThat(semanticCandidates).hasSize(5);
+        assertThat(this.getNames(indexedSemanticCandidates)).containsExactlyElementsOf(this.getNames(semanticCandidates));
+    }
+
+    private List<String> getNames(List<Object> semanticCandidates) {
+        // @formatter:off
+        return semanticCandidates.stream()
+                .map(ENamedElement.class::cast)
+                .map(ENamedElement::getName)
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
+
+    private EPackage createEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("root"); //$NON-NLS-1$
+
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEClass.setName("First"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(firstEClass);
+
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEClass.setName("Second"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(secondEClass);
+
+        EPackage subPackage = EcoreFactory.eINSTANCE.createEPackage();
+        subPackage.setName("sub"); //$NON-NLS-1$
+        ePackage.getESubpackages().add(subPackage);
+
+        EClass thirdEClass = EcoreFactory.eINSTANCE.createEClass();
+        thirdEClass.setName("Third"); //$NON-NLS-1$
+        subPackage.getEClassifiers().add(thirdEClass);
+
+        EClass fourthEClass = EcoreFactory.eINSTANCE.createEClass();
+        fourthEClass.setName("Fourth"); //$NON-NLS-1$
+        ePackage.getEClassifiers().add(fourthEClass);
+
+        Resource resource = new ResourceImpl(URI.createURI("candidates")); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+        return ePackage;
+    }
 }
@@ -12,10 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.components;
 
-import java.lang.reflect.Constructor;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 
@@ -32,13 +36,46 @@ public class BaseRenderer {
 
     private final IElementFactory elementFactory;
 
+    private final IComponentFactory componentFactory;
+
     private final Logger logger;
 
-    public BaseRenderer(IInstancePropsValidator instancePropsValidator, IComponentPropsValidator componentPropsValidator, IElementFactory elementFactory, Logger logger) {
+    private final Optional<ForkJoinPool> optionalForkJoinPool;
+
+    public BaseRenderer(IInstancePropsValidator instancePropsValidator, IComponentPropsValidator componentPropsValidator, IElementFactory elementFactory, IComponentFactory componentFactory,
+            Logger logger) {
         this.instancePropsValidator = Objects.requireNonNull(instancePropsValidator);
         this.componentPropsValidator = Objects.requireNonNull(componentPropsValidator);
         this.elementFactory = Objects.requireNonNull(elementFactory);
+        this.componentFactory = Objects.requireNonNull(componentFactory);
         this.logger = Objects.requireNonNull(logger);
+        this.optionalForkJoinPool = Optional.empty();
+    }
+
+    /**
+     * Creates a renderer which will render the children of the parallel fragments on the given fork join pool.
+     *
+     * @param instancePropsValidator
+     *            The validator of the properties of the instances
+     * @param componentPropsValidator
+     *            The validator of the properties of the components
+     * @param elementFactory
+     *            The factory used to create the instances
+     * @param componentFactory
+     *            The factory used to create the components
+     * @param logger
+     *            The logger
+     * @param forkJoinPool
+     *            The pool used to render the children of parallel fragments
+     */
+    public BaseRenderer(IInstancePropsValidator instancePropsValidator, IComponentPropsValidator componentPropsValidator, IElementFactory elementFactory, IComponentFactory componentFactory,
+            Logger logger, ForkJoinPool forkJoinPool) {
+        this.instancePropsValidator = Objects.requireNonNull(instancePropsValidator);
+        this.componentPropsValidator = Objects.requireNonNull(componentPropsValidator);
+        this.elementFactory = Objects.requireNonNull(elementFactory);
+        this.componentFactory = Objects.requireNonNull(componentFactory);
+        this.logger = Objects.requireNonNull(logger);
+        this.optionalForkJoinPool = Optional.of(forkJoinPool);
     }
 
     /**
@@ -166,8 +203,20 @@ public class BaseRenderer {
     }
 
     private void renderChildren(IProps props, List<Object> instances) {
-        for (Element childElement : props.getChildren()) {
-            Object renderedChildren = this.renderElement(childElement);
+        List<Element> childElements = props.getChildren();
+
+        List<Object> renderedElements = null;
+        boolean isParallel = props instanceof FragmentProps && ((FragmentProps) props).isParallel();
+        if (isParallel && childElements.size() > 1 && this.optionalForkJoinPool.isPresent()) {
+            renderedElements = this.renderElementsInParallel(childElements, this.optionalForkJoinPool.get());
+        } else {
+            renderedElements = new ArrayList<>(childElements.size());
+            for (Element childElement : childElements) {
+                renderedElements.add(this.renderElement(childElement));
+            }
+        }
+
+        for (Object renderedChildren : renderedElements) {
             if (renderedChildren instanceof List<?>) {
                 // In case a fragment contains another fragment
                 instances.addAll((List<?>) renderedChildren);
@@ -178,12 +227,48 @@ public class BaseRenderer {
         }
     }
 
+    /**
+     * Renders the given elements concurrently on the fork join pool.
+     * <p>
+     * The elements are rendered by sibling tasks which may fork new tasks themselves if they contain parallel fragments.
+     * The rendered instances are returned in the order of the elements in order to keep the result deterministic.
+     * </p>
+     *
+     * @param elements
+     *            The elements to render
+     * @param forkJoinPool
+     *            The pool used to render the elements
+     * @return The rendered instances, in the order of the elements
+     */
+    private List<Object> renderElementsInParallel(List<Element> elements, ForkJoinPool forkJoinPool) {
+        // @formatter:off
+        List<ForkJoinTask<Object>> tasks = elements.stream()
+                .map(element -> ForkJoinTask.adapt(() -> this.renderElement(element)))
+                .collect(Collectors.toList());
+        // @formatter:on
+
+        if (ForkJoinTask.getPool() == forkJoinPool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            forkJoinPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+
+        List<Object> renderedElements = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<Object> task : tasks) {
+            renderedElements.add(task.join());
+        }
+        return renderedElements;
+    }
+
     private boolean validateFragmentProps(IProps props) {
         return props instanceof FragmentProps && ((FragmentProps) props).getChildren() != null;
     }
 
     /**
      * Used to render a component using its properties.
+     * <p>
+     * The component is created by the component factory of the representation.
+     * </p>
      *
      * @param type
      *            The type of the component
@@ -194,18 +279,29 @@ public class BaseRenderer {
     private Object renderComponent(Class<?> type, IProps props) {
         Object instance = null;
         if (IComponent.class.isAssignableFrom(type) && this.componentPropsValidator.validateComponentProps(type, props)) {
-            try {
-                Constructor<?> constructor = type.getConstructor(props.getClass());
-                IComponent component = (IComponent) constructor.newInstance(props);
-                Element renderedElement = component.render();
+            Optional<IComponent> optionalComponent = this.componentFactory.createComponent(type, props);
+            if (optionalComponent.isPresent()) {
+                Element renderedElement = optionalComponent.get().render();
                 if (renderedElement != null) {
                     instance = this.renderElement(renderedElement);
                 }
-            } catch (ReflectiveOperationException | SecurityException | IllegalArgumentException exception) {
-                this.logger.error(exception.getMessage(), exception);
+            } else {
+                this.logger.error(this.getComponentCreationErrorMessage(type, props));
             }
         }
         return instance;
     }
 
+    private String getComponentCreationErrorMessage(Class<?> type, IProps props) {
+        String message = MessageFormat.format("No factory has been registered for the component {0}", type.getName()); //$NON-NLS-1$
+        if (this.componentFactory.canCreateComponent(type)) {
+            String propsType = "null"; //$NON-NLS-1$
+            if (props != null) {
+                propsType = props.getClass().getName();
+            }
+            message = MessageFormat.format("The properties {0} do not match the type expected by the factory of the component {1}", propsType, type.getName()); //$NON-NLS-1$
+        }
+        return message;
+    }
+
 }
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.components;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Registry of the functions used to create the components, keyed by the type of the component.
+ * <p>
+ * Each representation registers the components it uses in order to let the renderer instantiate them without relying
+ * on reflection. The registry should be populated before the rendering, it can then be read concurrently.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ComponentFactoryRegistry implements IComponentFactory {
+
+    private final Map<Class<?>, Function<IProps, IComponent>> componentFactories = new HashMap<>();
+
+    /**
+     * Registers the function used to create the components of the given type.
+     *
+     * @param <P>
+     *            The type of the properties of the component
+     * @param componentType
+     *            The type of the component
+     * @param propsType
+     *            The type of the properties of the component
+     * @param componentFactory
+     *            The function used to create the component from its properties
+     * @return The registry
+     */
+    public <P extends IProps> ComponentFactoryRegistry register(Class<? extends IComponent> componentType, Class<P> propsType, Function<P, IComponent> componentFactory) {
+        this.componentFactories.put(componentType, props -> {
+            IComponent component = null;
+            if (propsType.isInstance(props)) {
+                component = componentFactory.apply(propsType.cast(props));
+            }
+            return component;
+        });
+        return this;
+    }
+
+    @Override
+    public Optional<IComponent> createComponent(Class<?> componentType, IProps props) {
+        // @formatter:off
+        return Optional.ofNullable(this.componentFactories.get(componentType))
+                .map(componentFactory -> componentFactory.apply(props));
+        // @formatter:on
+    }
+
+    @Override
+    public boolean canCreateComponent(Class<?> componentType) {
+        return this.componentFactories.containsKey(componentType);
+    }
+
+}
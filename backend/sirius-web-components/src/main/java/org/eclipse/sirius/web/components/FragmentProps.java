@@ -17,18 +17,34 @@ import java.util.Objects;
 
 /**
  * The properties of a fragment.
+ * <p>
+ * A fragment can be flagged as parallel to indicate that its children do not depend on each other and can thus be
+ * rendered concurrently if the renderer has been configured to do so. The order of the rendered children stays the
+ * order of the elements.
+ * </p>
  *
  * @author sbegaudeau
  */
 public class FragmentProps implements IProps {
     private List<Element> children;
 
+    private boolean isParallel;
+
     public FragmentProps(List<Element> children) {
+        this(children, false);
+    }
+
+    public FragmentProps(List<Element> children, boolean isParallel) {
         this.children = Objects.requireNonNull(children);
+        this.isParallel = isParallel;
     }
 
     @Override
     public List<Element> getChildren() {
         return this.children;
     }
+
+    public boolean isParallel() {
+        return this.isParallel;
+    }
 }
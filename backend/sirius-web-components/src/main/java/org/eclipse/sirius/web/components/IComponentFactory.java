@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.components;
+
+import java.util.Optional;
+
+/**
+ * Used to create the components.
+ *
+ * @author sbegaudeau
+ */
+public interface IComponentFactory {
+    Optional<IComponent> createComponent(Class<?> componentType, IProps props);
+
+    /**
+     * Indicates if a factory has been registered for the given type of component, whatever the properties given to it.
+     *
+     * @param componentType
+     *            The type of the component
+     * @return <code>true</code> if the components of the given type can be created, <code>false</code> otherwise
+     */
+    boolean canCreateComponent(Class<?> componentType);
+}
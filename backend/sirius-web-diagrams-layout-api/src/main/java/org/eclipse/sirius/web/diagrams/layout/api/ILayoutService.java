@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.diagrams.layout.api;
 
+import java.util.function.BooleanSupplier;
+
 import org.eclipse.sirius.web.diagrams.Diagram;
 
 /**
@@ -21,4 +23,15 @@ import org.eclipse.sirius.web.diagrams.Diagram;
  */
 public interface ILayoutService {
     Diagram layout(Diagram diagram);
+
+    /**
+     * Layouts the given diagram and stops as soon as possible once the layout has been canceled.
+     *
+     * @param diagram
+     *            The diagram to layout
+     * @param isCanceled
+     *            Indicates if the layout has been canceled, the result of a canceled layout should be ignored
+     * @return The layouted diagram
+     */
+    Diagram layout(Diagram diagram, BooleanSupplier isCanceled);
 }
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.elk.core.util.BasicProgressMonitor;
+
+/**
+ * Progress monitor used to stop a running ELK layout once it has been canceled by its caller.
+ *
+ * @author sbegaudeau
+ */
+public class CancelableProgressMonitor extends BasicProgressMonitor {
+
+    private final BooleanSupplier isCanceled;
+
+    public CancelableProgressMonitor(BooleanSupplier isCanceled) {
+        this.isCanceled = Objects.requireNonNull(isCanceled);
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return this.isCanceled.getAsBoolean();
+    }
+
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.elk.graph.ElkConnectableShape;
+import org.eclipse.elk.graph.ElkEdge;
+import org.eclipse.elk.graph.ElkGraphElement;
+import org.eclipse.elk.graph.ElkLabel;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.ElkPort;
+import org.eclipse.elk.graph.ElkShape;
+import org.eclipse.elk.graph.properties.IProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes a canonical hash of the structure of an ELK graph ready to be layouted.
+ * <p>
+ * The hash covers the hierarchy of the nodes, their ports, the edges, the labels, the dimensions of all these
+ * elements and the layout options applied to them by the layout configurator. Two graphs with the same hash will thus
+ * produce the same layout.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ElkDiagramHashProvider {
+
+    private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    private static final char SEPARATOR = ';';
+
+    private static final String TO_STRING = "toString"; //$NON-NLS-1$
+
+    private final Logger logger = LoggerFactory.getLogger(ElkDiagramHashProvider.class);
+
+    /**
+     * Indicates, for each type of value of the layout options, if its description does not depend on its identity.
+     */
+    private final Map<Class<?>, Boolean> class2hasStableDescription = new ConcurrentHashMap<>();
+
+    /**
+     * Computes the hash of the given graph.
+     *
+     * @param elkDiagram
+     *            The graph ready to be layouted
+     * @return The hash of the graph or an empty optional if it could not be computed, for example if the value of one
+     *         of its layout options cannot be described independently of its identity
+     */
+    public Optional<String> getHash(ElkNode elkDiagram) {
+        Optional<String> optionalHash = Optional.empty();
+        StringBuilder builder = new StringBuilder();
+        AtomicBoolean isStable = new AtomicBoolean(true);
+        this.describeNode(elkDiagram, builder, isStable);
+
+        if (isStable.get()) {
+            try {
+                MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+                messageDigest.update(builder.toString().getBytes(StandardCharsets.UTF_8));
+                optionalHash = Optional.of(Base64.getEncoder().encodeToString(messageDigest.digest()));
+            } catch (NoSuchAlgorithmException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+        return optionalHash;
+    }
+
+    private void describeNode(ElkNode elkNode, StringBuilder builder, AtomicBoolean isStable) {
+        builder.append('N');
+        this.describeShape(elkNode, builder, isStable);
+        elkNode.getLabels().forEach(elkLabel -> this.describeLabel(elkLabel, builder, isStable));
+        elkNode.getPorts().forEach(elkPort -> this.describePort(elkPort, builder, isStable));
+        elkNode.getChildren().forEach(elkChild -> this.describeNode(elkChild, builder, isStable));
+        elkNode.getContainedEdges().forEach(elkEdge -> this.describeEdge(elkEdge, builder, isStable));
+        builder.append('/');
+    }
+
+    private void describePort(ElkPort elkPort, StringBuilder builder, AtomicBoolean isStable) {
+        builder.append('P');
+        this.describeShape(elkPort, builder, isStable);
+        elkPort.getLabels().forEach(elkLabel -> this.describeLabel(elkLabel, builder, isStable));
+        builder.append('/');
+    }
+
+    private void describeEdge(ElkEdge elkEdge, StringBuilder builder, AtomicBoolean isStable) {
+        builder.append('E');
+        this.describeElement(elkEdge, builder, isStable);
+        for (ElkConnectableShape source : elkEdge.getSources()) {
+            builder.append(source.getIdentifier()).append(SEPARATOR);
+        }
+        builder.append('>');
+        for (ElkConnectableShape target : elkEdge.getTargets()) {
+            builder.append(target.getIdentifier()).append(SEPARATOR);
+        }
+        elkEdge.getLabels().forEach(elkLabel -> this.describeLabel(elkLabel, builder, isStable));
+        builder.append('/');
+    }
+
+    private void describeLabel(ElkLabel elkLabel, StringBuilder builder, AtomicBoolean isStable) {
+        builder.append('L');
+        this.describeShape(elkLabel, builder, isStable);
+        builder.append(elkLabel.getText()).append(SEPARATOR);
+        for (Object adapter : elkLabel.eAdapters()) {
+            if (adapter instanceof AlignmentHolder) {
+                AlignmentHolder alignmentHolder = (AlignmentHolder) adapter;
+                builder.append(alignmentHolder.getAlignment().getX()).append(SEPARATOR);
+                builder.append(alignmentHolder.getAlignment().getY()).append(SEPARATOR);
+            }
+        }
+        builder.append('/');
+    }
+
+    private void describeShape(ElkShape elkShape, StringBuilder builder, AtomicBoolean isStable) {
+        this.describeElement(elkShape, builder, isStable);
+        builder.append(elkShape.getX()).append(SEPARATOR);
+        builder.append(elkShape.getY()).append(SEPARATOR);
+        builder.append(elkShape.getWidth()).append(SEPARATOR);
+        builder.append(elkShape.getHeight()).append(SEPARATOR);
+    }
+
+    private void describeElement(ElkGraphElement elkGraphElement, StringBuilder builder, AtomicBoolean isStable) {
+        builder.append(elkGraphElement.getIdentifier()).append(SEPARATOR);
+
+        // @formatter:off
+        elkGraphElement.getAllProperties().entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getId()))
+                .forEach(entry -> this.describeProperty(entry, builder, isStable));
+        // @formatter:on
+    }
+
+    private void describeProperty(Map.Entry<IProperty<?>, Object> entry, StringBuilder builder, AtomicBoolean isStable) {
+        Object value = entry.getValue();
+        if (value != null && !this.class2hasStableDescription.computeIfAbsent(value.getClass(), this::overridesToString)) {
+            // The default description of an object contains its identity, which would give a new hash for each graph
+            isStable.set(false);
+        }
+        builder.append(entry.getKey().getId()).append('=').append(value).append(SEPARATOR);
+    }
+
+    private boolean overridesToString(Class<?> type) {
+        boolean overridesToString = false;
+        try {
+            overridesToString = !Object.class.equals(type.getMethod(TO_STRING).getDeclaringClass());
+        } catch (NoSuchMethodException | SecurityException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return overridesToString;
+    }
+
+}
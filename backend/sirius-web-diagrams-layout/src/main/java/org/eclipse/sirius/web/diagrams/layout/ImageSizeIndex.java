@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.web.diagrams.Size;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the size of the images persisted in a properties file in order to be reused after a restart.
+ * <p>
+ * Each size is stored with the fingerprint of the image which has been measured. A size is only reused if the
+ * fingerprint of the image has not changed since. The file also stores the version of the way the sizes are computed,
+ * a file written with another version is ignored.
+ * </p>
+ *
+ * @author hmarchadour
+ */
+public class ImageSizeIndex {
+
+    private static final String SEPARATOR = ";"; //$NON-NLS-1$
+
+    /**
+     * The key of the version in the file, it cannot conflict with the path of an image since it is not a valid class
+     * path resource.
+     */
+    private static final String VERSION_KEY = "#version"; //$NON-NLS-1$
+
+    /**
+     * The version of the way the sizes are computed, it must be incremented when the sizes computed change.
+     */
+    private static final String VERSION = "2"; //$NON-NLS-1$
+
+    private static final int WIDTH_INDEX = 0;
+
+    private static final int HEIGHT_INDEX = 1;
+
+    private static final int FINGERPRINT_INDEX = 2;
+
+    private final Logger logger = LoggerFactory.getLogger(ImageSizeIndex.class);
+
+    private final Optional<Path> optionalPath;
+
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean isDirty = new AtomicBoolean();
+
+    /**
+     * Creates the index and loads its content.
+     *
+     * @param optionalPath
+     *            The path of the file in which the index is persisted or an empty optional to keep the index in memory
+     */
+    public ImageSizeIndex(Optional<Path> optionalPath) {
+        this.optionalPath = Objects.requireNonNull(optionalPath);
+        this.optionalPath.filter(Files::isRegularFile).ifPresent(this::load);
+    }
+
+    private void load(Path path) {
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            properties.load(inputStream);
+            if (VERSION.equals(properties.getProperty(VERSION_KEY))) {
+                properties.remove(VERSION_KEY);
+                properties.stringPropertyNames().forEach(imagePath -> this.entries.put(imagePath, properties.getProperty(imagePath)));
+            } else {
+                this.isDirty.set(true);
+            }
+        } catch (IOException exception) {
+            String pattern = "The image size index {0} could not be loaded: {1}"; //$NON-NLS-1$
+            this.logger.warn(MessageFormat.format(pattern, path, exception.getMessage()), exception);
+        }
+    }
+
+    public Optional<Size> getSize(String imagePath, String fingerprint) {
+        // @formatter:off
+        return Optional.ofNullable(this.entries.get(imagePath))
+                .map(entry -> entry.split(SEPARATOR, FINGERPRINT_INDEX + 1))
+                .filter(values -> values.length == FINGERPRINT_INDEX + 1 && values[FINGERPRINT_INDEX].equals(fingerprint))
+                .flatMap(this::toSize);
+        // @formatter:on
+    }
+
+    private Optional<Size> toSize(String[] values) {
+        Optional<Size> optionalSize = Optional.empty();
+        try {
+            double width = Double.parseDouble(values[WIDTH_INDEX]);
+            double height = Double.parseDouble(values[HEIGHT_INDEX]);
+            optionalSize = Optional.of(Size.newSize().width(width).height(height).build());
+        } catch (NumberFormatException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return optionalSize;
+    }
+
+    public void putSize(String imagePath, String fingerprint, Size size) {
+        String entry = size.getWidth() + SEPARATOR + size.getHeight() + SEPARATOR + fingerprint;
+        String previousEntry = this.entries.put(imagePath, entry);
+        if (!entry.equals(previousEntry)) {
+            this.isDirty.set(true);
+        }
+    }
+
+    /**
+     * Writes the index in its file if it has changed since it has been loaded or saved.
+     */
+    public synchronized void save() {
+        if (this.optionalPath.isPresent() && this.isDirty.getAndSet(false)) {
+            Path path = this.optionalPath.get();
+
+            Properties properties = new Properties();
+            properties.putAll(this.entries);
+            properties.setProperty(VERSION_KEY, VERSION);
+            try {
+                Path parent = path.toAbsolutePath().getParent();
+                Files.createDirectories(parent);
+                Path temporaryPath = Files.createTempFile(parent, path.getFileName().toString(), null);
+                try (OutputStream outputStream = Files.newOutputStream(temporaryPath)) {
+                    properties.store(outputStream, "Size of the images: width;height;fingerprint"); //$NON-NLS-1$
+                }
+                Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException exception) {
+                this.isDirty.set(true);
+                String pattern = "The image size index {0} could not be saved: {1}"; //$NON-NLS-1$
+                this.logger.warn(MessageFormat.format(pattern, path, exception.getMessage()), exception);
+            }
+        }
+    }
+
+}
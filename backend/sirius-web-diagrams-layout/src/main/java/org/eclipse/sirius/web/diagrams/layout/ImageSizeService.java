@@ -17,16 +17,31 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 
 import java.awt.image.BufferedImage;
-import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.jar.JarEntry;
+import java.util.zip.GZIPInputStream;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.imageio.ImageIO;
 
@@ -39,18 +54,26 @@ import org.apache.batik.bridge.UserAgent;
 import org.apache.batik.bridge.UserAgentAdapter;
 import org.apache.batik.gvt.GraphicsNode;
 import org.apache.batik.util.XMLResourceDescriptor;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.eclipse.sirius.web.api.services.IImagePathService;
 import org.eclipse.sirius.web.diagrams.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.svg.SVGDocument;
 
 /**
  * Service used to compute the native image size.
+ * <p>
+ * All the images available in the folders of the {@link IImagePathService} are measured in parallel in the background
+ * on startup. The sizes computed are stored in an index which can be persisted in a file to be reused after a restart
+ * as long as the images have not changed. The size of an SVG image is the size of the geometry bounds computed by
+ * Batik.
+ * </p>
  *
  * @author hmarchadour
  */
@@ -61,22 +84,47 @@ public class ImageSizeService {
 
     private static final String SVG_FILE_EXTENSION = "svg"; //$NON-NLS-1$
 
+    private static final Set<String> IMAGE_FILE_EXTENSIONS = Set.of(SVG_FILE_EXTENSION, SVGZ_FILE_EXTENSION, "png", "gif", "jpg", "jpeg", "bmp"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
     private static final long MAX_CACHE_SIZE = 1000;
 
-    private final SAXSVGDocumentFactory factory = new SAXSVGDocumentFactory(XMLResourceDescriptor.getXMLParserClassName());
+    private static final String PATH_SEPARATOR = "/"; //$NON-NLS-1$
 
-    private final UserAgent agent = new UserAgentAdapter();
+    private static final String JAR_SEPARATOR = "!/"; //$NON-NLS-1$
 
-    // FIXME? The loader maintains a cache which may need to be disposed on day
-    private final DocumentLoader loader = new DocumentLoader(this.agent);
+    private static final String FINGERPRINT_SEPARATOR = "-"; //$NON-NLS-1$
 
-    private final GVTBuilder builder = new GVTBuilder();
+    /**
+     * The URI given to Batik for the SVG documents read from a stream. It should not point to the real location of the
+     * image to avoid jar in jar path problems.
+     */
+    private static final String SVG_DOCUMENT_URI_PREFIX = "file:///sirius-web/"; //$NON-NLS-1$
+
+    private final UserAgent agent = new UserAgentAdapter();
 
     private final Logger logger = LoggerFactory.getLogger(ImageSizeService.class);
 
     private final LoadingCache<String, Optional<Size>> cache;
 
-    public ImageSizeService() {
+    private final List<IImagePathService> imagePathServices;
+
+    private final ImageSizeIndex imageSizeIndex;
+
+    private ExecutorService executorService;
+
+    /**
+     * Creates the image size service.
+     *
+     * @param imagePathServices
+     *            The services providing the folders of the images to measure on startup
+     * @param imageSizeIndexPath
+     *            The path of the file in which the size of the images are persisted or an empty string to keep them
+     *            in memory only
+     */
+    public ImageSizeService(List<IImagePathService> imagePathServices, @Value("${sirius.web.images.sizeIndex:}") String imageSizeIndexPath) {
+        this.imagePathServices = Objects.requireNonNull(imagePathServices);
+        this.imageSizeIndex = new ImageSizeIndex(Optional.of(imageSizeIndexPath).filter(path -> !path.isBlank()).map(Paths::get));
+
         var cacheLoader = new CacheLoader<String, Optional<Size>>() {
             @Override
             public Optional<Size> load(String path) throws Exception {
@@ -92,10 +140,67 @@ public class ImageSizeService {
         // @formatter:on
     }
 
+    @PostConstruct
+    public void initialize() {
+        this.executorService = Executors.newSingleThreadExecutor();
+        this.executorService.execute(this::measureImages);
+        this.executorService.shutdown();
+    }
+
     @PreDestroy
     public void dispose() {
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
         this.logger.debug(this.cache.stats().toString());
         this.cache.invalidateAll();
+        this.imageSizeIndex.save();
+    }
+
+    /**
+     * Measures in parallel all the images available in the folders of the image path services and saves their size
+     * in the index.
+     */
+    private void measureImages() {
+        long start = System.currentTimeMillis();
+
+        List<String> imagePaths = this.findImagePaths();
+        imagePaths.parallelStream().forEach(this::getSize);
+        this.imageSizeIndex.save();
+
+        String pattern = "{0} images measured in {1}ms"; //$NON-NLS-1$
+        this.logger.debug(MessageFormat.format(pattern, imagePaths.size(), System.currentTimeMillis() - start));
+    }
+
+    private List<String> findImagePaths() {
+        List<String> imagePaths = new ArrayList<>();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(ImageSizeService.class.getClassLoader());
+        for (IImagePathService imagePathService : this.imagePathServices) {
+            for (String folder : imagePathService.getPaths()) {
+                String normalizedFolder = this.normalize(folder);
+                try {
+                    for (Resource resource : resolver.getResources("classpath*:" + normalizedFolder + "/**/*")) { //$NON-NLS-1$ //$NON-NLS-2$
+                        this.getImagePath(normalizedFolder, resource).ifPresent(imagePaths::add);
+                    }
+                } catch (IOException exception) {
+                    this.logger.warn(exception.getMessage(), exception);
+                }
+            }
+        }
+        return imagePaths;
+    }
+
+    private Optional<String> getImagePath(String folder, Resource resource) throws IOException {
+        Optional<String> optionalImagePath = Optional.empty();
+        String filename = resource.getFilename();
+        if (resource.isReadable() && filename != null && IMAGE_FILE_EXTENSIONS.contains(this.getExtension(filename).toLowerCase())) {
+            String url = URLDecoder.decode(resource.getURL().toString(), StandardCharsets.UTF_8);
+            int folderIndex = url.indexOf(folder + PATH_SEPARATOR, url.lastIndexOf(JAR_SEPARATOR) + 1);
+            if (folderIndex >= 0) {
+                optionalImagePath = Optional.of(url.substring(folderIndex));
+            }
+        }
+        return optionalImagePath;
     }
 
     /**
@@ -109,7 +214,7 @@ public class ImageSizeService {
         Optional<Size> optionalSize = Optional.empty();
 
         try {
-            optionalSize = this.cache.get(imagePath);
+            optionalSize = this.cache.get(this.normalize(imagePath));
         } catch (ExecutionException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
@@ -117,15 +222,36 @@ public class ImageSizeService {
         return optionalSize;
     }
 
+    private String normalize(String imagePath) {
+        String normalizedImagePath = imagePath;
+        if (normalizedImagePath.startsWith(PATH_SEPARATOR)) {
+            normalizedImagePath = normalizedImagePath.substring(PATH_SEPARATOR.length());
+        }
+        return normalizedImagePath;
+    }
+
+    private String getExtension(String imagePath) {
+        return imagePath.substring(imagePath.lastIndexOf('.') + 1);
+    }
+
     private Optional<Size> computeSize(String imagePath) {
         Optional<Size> optionalSize = Optional.empty();
         Optional<URL> optionalURL = this.getImageURL(imagePath);
         if (optionalURL.isPresent()) {
-            String extension = imagePath.substring(imagePath.lastIndexOf('.') + 1);
-            if (SVG_FILE_EXTENSION.equalsIgnoreCase(extension) || SVGZ_FILE_EXTENSION.equalsIgnoreCase(extension)) {
-                optionalSize = this.getSVGSize(optionalURL.get(), extension);
-            } else {
-                optionalSize = this.getNonSVGSize(optionalURL.get());
+            URL url = optionalURL.get();
+            Optional<String> optionalFingerprint = this.getFingerprint(url);
+            optionalSize = optionalFingerprint.flatMap(fingerprint -> this.imageSizeIndex.getSize(imagePath, fingerprint));
+            if (optionalSize.isEmpty()) {
+                String extension = this.getExtension(imagePath);
+                if (SVG_FILE_EXTENSION.equalsIgnoreCase(extension) || SVGZ_FILE_EXTENSION.equalsIgnoreCase(extension)) {
+                    optionalSize = this.getSVGSize(imagePath, url, extension);
+                } else {
+                    optionalSize = this.getNonSVGSize(url);
+                }
+
+                if (optionalSize.isPresent() && optionalFingerprint.isPresent()) {
+                    this.imageSizeIndex.putSize(imagePath, optionalFingerprint.get(), optionalSize.get());
+                }
             }
         }
         return optionalSize;
@@ -144,57 +270,94 @@ public class ImageSizeService {
     }
 
     /**
-     * Computes the size of the SVG image using Batik
+     * Computes the fingerprint of the image from its last modification time and its size.
+     *
+     * @param url
+     *            The URL of the image
+     * @return The fingerprint of the image or an empty optional if the image is neither in a jar nor in a file
+     */
+    private Optional<String> getFingerprint(URL url) {
+        Optional<String> optionalFingerprint = Optional.empty();
+        try {
+            URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection) {
+                JarEntry jarEntry = ((JarURLConnection) connection).getJarEntry();
+                optionalFingerprint = Optional.of(jarEntry.getTime() + FINGERPRINT_SEPARATOR + jarEntry.getSize());
+            } else if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+                Path path = Paths.get(url.toURI());
+                optionalFingerprint = Optional.of(Files.getLastModifiedTime(path).toMillis() + FINGERPRINT_SEPARATOR + Files.size(path));
+            }
+        } catch (IOException | URISyntaxException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return optionalFingerprint;
+    }
+
+    /**
+     * Computes the size of the SVG image using Batik.
      *
+     * @param imagePath
+     *            The path of the image
      * @param url
      *            The URL of the image
      * @param extension
      *            The extension (svg or svgz) of the image
      * @return The size of the image or an empty optional if an error has occurred
      */
-    private Optional<Size> getSVGSize(URL url, String extension) {
+    private Optional<Size> getSVGSize(String imagePath, URL url, String extension) {
         Optional<Size> optionalSize = Optional.empty();
 
-        File tmpSvg = null;
-        try (InputStream inJarInputStream = new BufferedInputStream(url.openStream())) {
-            // We will copy the svg file to avoid jar in jar path problems.
-            tmpSvg = java.io.File.createTempFile("sirius-web", extension); //$NON-NLS-1$
-            try (FileOutputStream outputStream = new FileOutputStream(tmpSvg)) {
-                IOUtils.copy(inJarInputStream, outputStream);
-                try (InputStream onTmpInputStream = FileUtils.openInputStream(tmpSvg)) {
-                    SVGDocument doc = this.factory.createSVGDocument(tmpSvg.toURI().toURL().toString(), onTmpInputStream);
-                    BridgeContext context = new BridgeContext(this.agent, this.loader);
-                    context.setDynamic(true);
-                    GraphicsNode root = this.builder.build(context, doc);
-                    /**
-                     * To get bounds, we use "Geometry bounds" instead of "Primitive Bounds" or "Sensitive Bounds".
-                     * Geometry bounds returns the bounds of the area (including padding).
-                     *
-                     * @see https://xmlgraphics.apache.org/batik/javadoc/org/apache/batik/gvt/GraphicsNode.html
-                     */
-                    double width = root.getGeometryBounds().getWidth();
-                    double height = root.getGeometryBounds().getHeight();
-
-                    // @formatter:off
-                    optionalSize = Optional.of(Size.newSize()
-                            .width(width)
-                            .height(height)
-                            .build());
-                    // @formatter:on
-                }
-            }
+        try (InputStream inputStream = this.openSVGStream(url, extension)) {
+            byte[] content = IOUtils.toByteArray(inputStream);
+            optionalSize = Optional.of(this.getSVGGeometrySize(imagePath, content));
         } catch (IOException | BridgeException exception) {
             String pattern = "An error has occured while computing the dimensions of {0}: {1}"; //$NON-NLS-1$
             this.logger.error(MessageFormat.format(pattern, url.toString(), exception.getMessage()), exception);
-        } finally {
-            if (tmpSvg != null && tmpSvg.exists()) {
-                tmpSvg.delete();
-            }
         }
 
         return optionalSize;
     }
 
+    private InputStream openSVGStream(URL url, String extension) throws IOException {
+        InputStream inputStream = url.openStream();
+        if (SVGZ_FILE_EXTENSION.equalsIgnoreCase(extension)) {
+            inputStream = new GZIPInputStream(inputStream);
+        }
+        return inputStream;
+    }
+
+    /**
+     * Computes the size of the SVG image using Batik.
+     *
+     * @param imagePath
+     *            The path of the image
+     * @param content
+     *            The content of the image
+     * @return The size of the image
+     */
+    private Size getSVGGeometrySize(String imagePath, byte[] content) throws IOException {
+        SAXSVGDocumentFactory factory = new SAXSVGDocumentFactory(XMLResourceDescriptor.getXMLParserClassName());
+        SVGDocument doc = factory.createSVGDocument(SVG_DOCUMENT_URI_PREFIX + imagePath, new ByteArrayInputStream(content));
+        BridgeContext context = new BridgeContext(this.agent, new DocumentLoader(this.agent));
+        context.setDynamic(true);
+        GraphicsNode root = new GVTBuilder().build(context, doc);
+        /**
+         * To get bounds, we use "Geometry bounds" instead of "Primitive Bounds" or "Sensitive Bounds". Geometry bounds
+         * returns the bounds of the area (including padding).
+         *
+         * @see https://xmlgraphics.apache.org/batik/javadoc/org/apache/batik/gvt/GraphicsNode.html
+         */
+        double width = root.getGeometryBounds().getWidth();
+        double height = root.getGeometryBounds().getHeight();
+
+        // @formatter:off
+        return Size.newSize()
+                .width(width)
+                .height(height)
+                .build();
+        // @formatter:on
+    }
+
     /**
      * Computes the size of the image using AWT.
      *
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+
+/**
+ * The font used to measure the labels with a given style, along with the advance of the Latin characters.
+ * <p>
+ * The bounds of a piece of text made of printable Latin-1 characters only are computed by adding the advances of its
+ * characters, just like AWT does for simple text, without going through AWT. Any other piece of text, which may need a
+ * complex layout, is measured by AWT.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class LabelFont {
+
+    private static final int LATIN_CHARACTERS_COUNT = 256;
+
+    private static final char FIRST_PRINTABLE_CHARACTER = 0x20;
+
+    private static final char FIRST_CONTROL_CHARACTER = 0x7F;
+
+    private static final char LAST_CONTROL_CHARACTER = 0x9F;
+
+    private final Font font;
+
+    private final FontRenderContext fontRenderContext;
+
+    private final float[] latinAdvances = new float[LATIN_CHARACTERS_COUNT];
+
+    private final double y;
+
+    private final double height;
+
+    public LabelFont(Font font, FontRenderContext fontRenderContext) {
+        this.font = Objects.requireNonNull(font);
+        this.fontRenderContext = Objects.requireNonNull(fontRenderContext);
+
+        for (int character = 0; character < LATIN_CHARACTERS_COUNT; character++) {
+            this.latinAdvances[character] = (float) font.getStringBounds(String.valueOf((char) character), fontRenderContext).getWidth();
+        }
+
+        // The vertical bounds of a simple piece of text only depend on the metrics of the font
+        Rectangle2D bounds = font.getStringBounds(" ", fontRenderContext); //$NON-NLS-1$
+        this.y = bounds.getY();
+        this.height = bounds.getHeight();
+    }
+
+    public Rectangle2D getStringBounds(String text) {
+        boolean isLatinText = true;
+        float width = 0;
+        int index = 0;
+        while (isLatinText && index < text.length()) {
+            char character = text.charAt(index);
+            isLatinText = this.isPrintableLatinCharacter(character);
+            if (isLatinText) {
+                // Sum in float exactly like AWT in order to get the very same width
+                width = width + this.latinAdvances[character];
+            }
+            index++;
+        }
+
+        Rectangle2D stringBounds = null;
+        if (isLatinText) {
+            stringBounds = new Rectangle2D.Double(0, this.y, width, this.height);
+        } else {
+            stringBounds = this.font.getStringBounds(text, this.fontRenderContext);
+        }
+        return stringBounds;
+    }
+
+    private boolean isPrintableLatinCharacter(char character) {
+        boolean isControlCharacter = character >= FIRST_CONTROL_CHARACTER && character <= LAST_CONTROL_CHARACTER;
+        return character >= FIRST_PRINTABLE_CHARACTER && character < LATIN_CHARACTERS_COUNT && !isControlCharacter;
+    }
+
+}
@@ -12,15 +12,21 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.diagrams.layout;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import javax.annotation.PostConstruct;
 
 import org.eclipse.elk.alg.layered.options.LayeredOptions;
 import org.eclipse.elk.core.IGraphLayoutEngine;
 import org.eclipse.elk.core.LayoutConfigurator;
 import org.eclipse.elk.core.RecursiveGraphLayoutEngine;
 import org.eclipse.elk.core.data.LayoutMetaDataService;
-import org.eclipse.elk.core.util.BasicProgressMonitor;
 import org.eclipse.elk.core.util.ElkUtil;
 import org.eclipse.elk.graph.ElkGraphElement;
 import org.eclipse.elk.graph.ElkNode;
@@ -28,15 +34,28 @@ import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationDescriptionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
 /**
  * Perform the layouting of the given diagram.
+ * <p>
+ * When the layout cache is enabled, the layouted ELK graphs are cached by the hash of their structure. When a diagram
+ * is refreshed without any change impacting its layout, for example after a change of the color of a label, the
+ * positions computed previously are applied again to the new diagram without running ELK. The cache is bounded by the
+ * total number of elements of the graphs it retains.
+ * </p>
  *
  * @author sbegaudeau
  */
 @Service
-public class LayoutService implements ILayoutService {
+public class LayoutService implements ILayoutService, MeterBinder {
+
+    private static final String LAYOUT_CACHE_NAME = "siriusweb_layout"; //$NON-NLS-1$
 
     private final DiagramConverter diagramConverter;
 
@@ -46,16 +65,65 @@ public class LayoutService implements ILayoutService {
 
     private final IRepresentationDescriptionService representationDescriptionService;
 
+    private final ElkDiagramHashProvider elkDiagramHashProvider;
+
+    private final Optional<Cache<String, ConvertedDiagram>> optionalLayoutCache;
+
+    /**
+     * Creates the layout service.
+     *
+     * @param diagramConverter
+     *            The converter of the diagrams into ELK graphs
+     * @param layoutConfiguratorRegistry
+     *            The registry of the layout configurators
+     * @param layoutedDiagramProvider
+     *            The provider of the layouted diagrams
+     * @param representationDescriptionService
+     *            The representation description service
+     * @param elkDiagramHashProvider
+     *            The provider of the hashes of the ELK graphs
+     * @param layoutCacheMaximumWeight
+     *            The maximum number of graph elements retained by the layout cache or 0 to disable the cache
+     */
     public LayoutService(DiagramConverter diagramConverter, LayoutConfiguratorRegistry layoutConfiguratorRegistry, LayoutedDiagramProvider layoutedDiagramProvider,
-            IRepresentationDescriptionService representationDescriptionService) {
+            IRepresentationDescriptionService representationDescriptionService, ElkDiagramHashProvider elkDiagramHashProvider,
+            @Value("${sirius.web.diagrams.layout.cache.maximumWeight:0}") long layoutCacheMaximumWeight) {
         this.diagramConverter = Objects.requireNonNull(diagramConverter);
         this.layoutConfiguratorRegistry = Objects.requireNonNull(layoutConfiguratorRegistry);
         this.layoutedDiagramProvider = Objects.requireNonNull(layoutedDiagramProvider);
         this.representationDescriptionService = Objects.requireNonNull(representationDescriptionService);
+        this.elkDiagramHashProvider = Objects.requireNonNull(elkDiagramHashProvider);
+        if (layoutCacheMaximumWeight > 0) {
+            // @formatter:off
+            Cache<String, ConvertedDiagram> layoutCache = CacheBuilder.newBuilder()
+                    .maximumWeight(layoutCacheMaximumWeight)
+                    .weigher((String hash, ConvertedDiagram convertedDiagram) -> convertedDiagram.getId2ElkGraphElements().size() + 1)
+                    .recordStats()
+                    .build();
+            // @formatter:on
+            this.optionalLayoutCache = Optional.of(layoutCache);
+        } else {
+            this.optionalLayoutCache = Optional.empty();
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        LayoutMetaDataService.getInstance().registerLayoutMetaDataProviders(new LayeredOptions());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.optionalLayoutCache.ifPresent(layoutCache -> GuavaCacheMetrics.monitor(meterRegistry, layoutCache, LAYOUT_CACHE_NAME));
     }
 
     @Override
     public Diagram layout(Diagram diagram) {
+        return this.layout(diagram, () -> false);
+    }
+
+    @Override
+    public Diagram layout(Diagram diagram, BooleanSupplier isCanceled) {
         ConvertedDiagram convertedDiagram = this.diagramConverter.convert(diagram);
 
         ElkNode elkDiagram = convertedDiagram.getElkDiagram();
@@ -67,14 +135,24 @@ public class LayoutService implements ILayoutService {
             layoutConfigurator = this.layoutConfiguratorRegistry.getDefaultLayoutConfigurator();
         }
 
-        LayoutMetaDataService.getInstance().registerLayoutMetaDataProviders(new LayeredOptions());
-
         ElkUtil.applyVisitors(elkDiagram, layoutConfigurator);
-        IGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
-        engine.layout(elkDiagram, new BasicProgressMonitor());
 
-        Map<String, ElkGraphElement> id2ElkGraphElements = convertedDiagram.getId2ElkGraphElements();
-        Diagram layoutedDiagram = this.layoutedDiagramProvider.getLayoutedDiagram(diagram, elkDiagram, id2ElkGraphElements);
+        Optional<String> optionalHash = this.optionalLayoutCache.flatMap(layoutCache -> this.elkDiagramHashProvider.getHash(elkDiagram));
+        ConvertedDiagram layoutedConvertedDiagram = optionalHash.flatMap(hash -> this.optionalLayoutCache.map(layoutCache -> layoutCache.getIfPresent(hash))).orElse(null);
+        if (layoutedConvertedDiagram == null) {
+            IGraphLayoutEngine engine = new RecursiveGraphLayoutEngine();
+            engine.layout(elkDiagram, new CancelableProgressMonitor(isCanceled));
+
+            layoutedConvertedDiagram = convertedDiagram;
+            if (!isCanceled.getAsBoolean()) {
+                // A canceled layout may have been stopped halfway, it must not be reused
+                optionalHash.ifPresent(hash -> this.optionalLayoutCache.ifPresent(layoutCache -> layoutCache.put(hash, convertedDiagram)));
+            }
+        }
+
+        ElkNode layoutedElkDiagram = layoutedConvertedDiagram.getElkDiagram();
+        Map<String, ElkGraphElement> id2ElkGraphElements = layoutedConvertedDiagram.getId2ElkGraphElements();
+        Diagram layoutedDiagram = this.layoutedDiagramProvider.getLayoutedDiagram(diagram, layoutedElkDiagram, id2ElkGraphElements);
 
         return layoutedDiagram;
     }
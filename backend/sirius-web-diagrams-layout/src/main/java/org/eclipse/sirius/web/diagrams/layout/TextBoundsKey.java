@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+/**
+ * The key used to cache the bounds of a piece of text.
+ *
+ * @author sbegaudeau
+ */
+public class TextBoundsKey {
+
+    private final String text;
+
+    private final int fontSize;
+
+    private final boolean isBold;
+
+    private final boolean isItalic;
+
+    public TextBoundsKey(String text, int fontSize, boolean isBold, boolean isItalic) {
+        this.text = Objects.requireNonNull(text);
+        this.fontSize = fontSize;
+        this.isBold = isBold;
+        this.isItalic = isItalic;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.text, this.fontSize, this.isBold, this.isItalic);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof TextBoundsKey) {
+            TextBoundsKey textBoundsKey = (TextBoundsKey) obj;
+            isEqual = this.fontSize == textBoundsKey.fontSize && this.isBold == textBoundsKey.isBold && this.isItalic == textBoundsKey.isItalic && this.text.equals(textBoundsKey.text);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'text: {1}, fontSize: {2}, isBold: {3}, isItalic: {4}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.text, this.fontSize, this.isBold, this.isItalic);
+    }
+}
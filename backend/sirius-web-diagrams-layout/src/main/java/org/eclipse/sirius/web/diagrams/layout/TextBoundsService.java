@@ -12,10 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.diagrams.layout;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import java.awt.Font;
 import java.awt.font.FontRenderContext;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -30,14 +35,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
 /**
  * Utility class used to compute the size of a piece of text.
+ * <p>
+ * The bounds of the texts are cached by text and style since the same labels are measured again and again during each
+ * layout. The statistics of the cache are published in the meter registry.
+ * </p>
  *
  * @author sbegaudeau
  * @author hmarchadour
  */
 @Service
-public class TextBoundsService {
+public class TextBoundsService implements MeterBinder {
     /**
      * Font used in backend & frontend to compute and draw diagram labels.
      */
@@ -49,8 +62,18 @@ public class TextBoundsService {
 
     private static final int SPACE_FOR_ICON = 20;
 
+    private static final int FONT_STYLES_COUNT = 4;
+
+    private static final long TEXT_BOUNDS_CACHE_MAXIMUM_SIZE = 10_000;
+
+    private static final String TEXT_BOUNDS_CACHE_NAME = "siriusweb_text_bounds"; //$NON-NLS-1$
+
     private final Logger logger = LoggerFactory.getLogger(TextBoundsService.class);
 
+    private final Cache<TextBoundsKey, Rectangle2D> textBoundsCache = CacheBuilder.newBuilder().maximumSize(TEXT_BOUNDS_CACHE_MAXIMUM_SIZE).recordStats().build();
+
+    private final Map<Integer, LabelFont> labelFonts = new ConcurrentHashMap<>();
+
     private ExecutorService executorService;
 
     @PostConstruct
@@ -91,6 +114,11 @@ public class TextBoundsService {
         }
     }
 
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        GuavaCacheMetrics.monitor(meterRegistry, this.textBoundsCache, TEXT_BOUNDS_CACHE_NAME);
+    }
+
     public TextBounds getBounds(Label label) {
         int fontStyle = Font.PLAIN;
         LabelStyle labelStyle = label.getStyle();
@@ -100,8 +128,7 @@ public class TextBoundsService {
         if (labelStyle.isItalic()) {
             fontStyle = fontStyle | Font.ITALIC;
         }
-        Font font = new Font(DEFAULT_LABEL_FONT_NAME, fontStyle, label.getStyle().getFontSize());
-        Rectangle2D stringBounds = font.getStringBounds(label.getText(), FONT_RENDER_CONTEXT);
+        Rectangle2D stringBounds = this.getStringBounds(label.getText(), fontStyle, labelStyle);
         double width = stringBounds.getWidth();
         double height = stringBounds.getHeight();
 
@@ -129,4 +156,19 @@ public class TextBoundsService {
 
         return new TextBounds(size, alignment);
     }
+
+    private Rectangle2D getStringBounds(String text, int fontStyle, LabelStyle labelStyle) {
+        TextBoundsKey textBoundsKey = new TextBoundsKey(text, labelStyle.getFontSize(), labelStyle.isBold(), labelStyle.isItalic());
+        Rectangle2D stringBounds = this.textBoundsCache.getIfPresent(textBoundsKey);
+        if (stringBounds == null) {
+            int fontSize = labelStyle.getFontSize();
+            LabelFont labelFont = this.labelFonts.computeIfAbsent(fontSize * FONT_STYLES_COUNT + fontStyle, key -> {
+                Font font = new Font(DEFAULT_LABEL_FONT_NAME, fontStyle, fontSize);
+                return new LabelFont(font, FONT_RENDER_CONTEXT);
+            });
+            stringBounds = labelFont.getStringBounds(text);
+            this.textBoundsCache.put(textBoundsKey, stringBounds);
+        }
+        return stringBounds;
+    }
 }
@@ -15,8 +15,11 @@ package org.eclipse.sirius.web.diagrams.layout;
 import org.eclipse.sirius.web.diagrams.layout.architecture.CodingRulesTestCases;
 import org.eclipse.sirius.web.diagrams.layout.architecture.ImmutableTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.DiagramConverterTestCases;
+import org.eclipse.sirius.web.diagrams.layout.services.ElkDiagramHashProviderTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.ImageNodeStyleSizeServiceTestCases;
+import org.eclipse.sirius.web.diagrams.layout.services.ImageSizeIndexTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.ImageSizeServiceTestCases;
+import org.eclipse.sirius.web.diagrams.layout.services.LabelFontTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.LayoutedDiagramProviderTestCases;
 import org.eclipse.sirius.web.diagrams.layout.services.TextBoundsServiceTestCases;
 import org.junit.runner.RunWith;
@@ -29,8 +32,9 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author sbegaudeau
  */
 @RunWith(Suite.class)
-@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, DiagramConverterTestCases.class, ImageNodeStyleSizeServiceTestCases.class, ImageSizeServiceTestCases.class,
-        LayoutedDiagramProviderTestCases.class, TextBoundsServiceTestCases.class })
+@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, DiagramConverterTestCases.class, ElkDiagramHashProviderTestCases.class,
+        ImageNodeStyleSizeServiceTestCases.class, ImageSizeIndexTestCases.class, ImageSizeServiceTestCases.class, LabelFontTestCases.class, LayoutedDiagramProviderTestCases.class,
+        TextBoundsServiceTestCases.class })
 public final class AllSiriusWebDiagramsLayoutTests {
     private AllSiriusWebDiagramsLayoutTests() {
         // Prevent
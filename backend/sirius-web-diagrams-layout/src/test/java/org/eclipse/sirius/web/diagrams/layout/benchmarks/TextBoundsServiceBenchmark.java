@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the measurement of the labels of a diagram.
+ * <p>
+ * The throughput is reported in labels per second. The repeated labels are served by the cache of the text bounds
+ * while the distinct labels are always measured again. It is not executed by the test suites and should be launched
+ * from the IDE or with the JMH runner.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TextBoundsServiceBenchmark {
+
+    private static final int LABELS_COUNT = 1_000;
+
+    private TextBoundsService textBoundsService;
+
+    private List<Label> repeatedLabels;
+
+    private int distinctLabelsCount;
+
+    private LabelStyle labelStyle;
+
+    @Setup
+    public void setup() {
+        this.textBoundsService = new TextBoundsService();
+
+        // @formatter:off
+        this.labelStyle = LabelStyle.newLabelStyle()
+                .fontSize(16)
+                .color("#000000") //$NON-NLS-1$
+                .iconURL("") //$NON-NLS-1$
+                .build();
+
+        this.repeatedLabels = IntStream.range(0, LABELS_COUNT)
+                .mapToObj(index -> this.createLabel("Entity" + (index % 20))) //$NON-NLS-1$
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
+
+    private Label createLabel(String text) {
+        // @formatter:off
+        return Label.newLabel("labelId") //$NON-NLS-1$
+                .type("label:inside-center") //$NON-NLS-1$
+                .position(Position.UNDEFINED)
+                .size(Size.UNDEFINED)
+                .alignment(Position.UNDEFINED)
+                .text(text)
+                .style(this.labelStyle)
+                .build();
+        // @formatter:on
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LABELS_COUNT)
+    public void measureRepeatedLabels(Blackhole blackhole) {
+        for (Label label : this.repeatedLabels) {
+            blackhole.consume(this.textBoundsService.getBounds(label));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LABELS_COUNT)
+    public void measureDistinctLabels(Blackhole blackhole) {
+        for (int i = 0; i < LABELS_COUNT; i++) {
+            this.distinctLabelsCount++;
+            Label label = this.createLabel("Entity named " + this.distinctLabelsCount); //$NON-NLS-1$
+            blackhole.consume(this.textBoundsService.getBounds(label));
+        }
+    }
+
+}
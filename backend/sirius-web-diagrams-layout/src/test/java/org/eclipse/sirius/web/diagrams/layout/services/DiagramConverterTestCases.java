@@ -75,7 +75,7 @@ public class DiagramConverterTestCases {
         }
     };
 
-    private ImageSizeService imageSizeService = new ImageSizeService() {
+    private ImageSizeService imageSizeService = new ImageSizeService(List.of(), "") { //$NON-NLS-1$
         @Override
         public Optional<Size> getSize(String imagePath) {
             return Optional.of(Size.newSize().width(IMAGE_WIDTH).height(IMAGE_HEIGHT).build());
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.elk.core.util.ElkUtil;
+import org.eclipse.elk.graph.ElkNode;
+import org.eclipse.elk.graph.properties.Property;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.ImageNodeStyle;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.layout.DiagramConverter;
+import org.eclipse.sirius.web.diagrams.layout.ElkDiagramHashProvider;
+import org.eclipse.sirius.web.diagrams.layout.ImageNodeStyleSizeService;
+import org.eclipse.sirius.web.diagrams.layout.ImageSizeService;
+import org.eclipse.sirius.web.diagrams.layout.LayoutConfiguratorRegistry;
+import org.eclipse.sirius.web.diagrams.layout.TextBounds;
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.Test;
+
+/**
+ * Unit tests of the hash of the structure of the ELK graphs used as key by the layout cache.
+ *
+ * @author sbegaudeau
+ */
+public class ElkDiagramHashProviderTestCases {
+
+    private static final double CHARACTER_WIDTH = 10;
+
+    private static final double TEXT_HEIGHT = 10;
+
+    private static final double IMAGE_SIZE = 150;
+
+    private static final UUID DIAGRAM_ID = UUID.randomUUID();
+
+    private static final String FIRST_NODE_ID = "firstNodeId"; //$NON-NLS-1$
+
+    private static final String SECOND_NODE_ID = "secondNodeId"; //$NON-NLS-1$
+
+    private static final String FIRST_EDGE_ID = "firstEdgeId"; //$NON-NLS-1$
+
+    private TextBoundsService textBoundsService = new TextBoundsService() {
+        @Override
+        public TextBounds getBounds(Label label) {
+            Size size = Size.newSize().width(CHARACTER_WIDTH * label.getText().length()).height(TEXT_HEIGHT).build();
+            return new TextBounds(size, Position.UNDEFINED);
+        }
+    };
+
+    private ImageNodeStyleSizeService imageNodeStyleSizeService = new ImageNodeStyleSizeService(new ImageSizeService(List.of(), "")) { //$NON-NLS-1$
+        @Override
+        public Size getSize(ImageNodeStyle imageNodeStyle) {
+            return Size.newSize().width(IMAGE_SIZE).height(IMAGE_SIZE).build();
+        }
+    };
+
+    private DiagramConverter diagramConverter = new DiagramConverter(this.textBoundsService, this.imageNodeStyleSizeService);
+
+    private LayoutConfiguratorRegistry layoutConfiguratorRegistry = new LayoutConfiguratorRegistry(List.of());
+
+    private ElkDiagramHashProvider elkDiagramHashProvider = new ElkDiagramHashProvider();
+
+    @Test
+    public void testSameDiagramHasSameHash() {
+        Diagram diagram = this.getDiagram(new TestDiagramBuilder().getNode(FIRST_NODE_ID));
+
+        assertThat(this.getHash(diagram, true)).isPresent();
+        assertThat(this.getHash(diagram, true)).isEqualTo(this.getHash(diagram, true));
+    }
+
+    @Test
+    public void testLabelColorDoesNotChangeHash() {
+        Node node = new TestDiagramBuilder().getNode(FIRST_NODE_ID);
+
+        // @formatter:off
+        LabelStyle labelStyle = LabelStyle.newLabelStyle()
+                .color("#FF0000") //$NON-NLS-1$
+                .fontSize(16)
+                .iconURL("") //$NON-NLS-1$
+                .build();
+        Node redNode = Node.newNode(node)
+                .label(Label.newLabel(node.getLabel()).style(labelStyle).build())
+                .build();
+        // @formatter:on
+
+        assertThat(this.getHash(this.getDiagram(redNode), true)).isEqualTo(this.getHash(this.getDiagram(node), true));
+    }
+
+    @Test
+    public void testLabelSizeChangesHash() {
+        Node node = new TestDiagramBuilder().getNode(FIRST_NODE_ID);
+        Node renamedNode = Node.newNode(node).label(Label.newLabel(node.getLabel()).text("a longer text").build()).build(); //$NON-NLS-1$
+
+        assertThat(this.getHash(this.getDiagram(renamedNode), true)).isNotEqualTo(this.getHash(this.getDiagram(node), true));
+    }
+
+    @Test
+    public void testEdgeChangesHash() {
+        TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+        Node firstNode = diagramBuilder.getNode(FIRST_NODE_ID);
+        Node secondNode = diagramBuilder.getNode(SECOND_NODE_ID);
+        Edge edge = diagramBuilder.getEdge(FIRST_EDGE_ID, FIRST_NODE_ID, SECOND_NODE_ID);
+
+        Diagram diagram = this.getDiagram(firstNode, secondNode);
+        Diagram diagramWithEdge = Diagram.newDiagram(diagram).edges(List.of(edge)).build();
+
+        assertThat(this.getHash(diagramWithEdge, true)).isNotEqualTo(this.getHash(diagram, true));
+    }
+
+    @Test
+    public void testLayoutConfiguratorChangesHash() {
+        Diagram diagram = this.getDiagram(new TestDiagramBuilder().getNode(FIRST_NODE_ID));
+
+        assertThat(this.getHash(diagram, false)).isNotEqualTo(this.getHash(diagram, true));
+    }
+
+    @Test
+    public void testIdentityBasedOptionHasNoHash() {
+        Diagram diagram = this.getDiagram(new TestDiagramBuilder().getNode(FIRST_NODE_ID));
+        ElkNode elkDiagram = this.diagramConverter.convert(diagram).getElkDiagram();
+        elkDiagram.setProperty(new Property<Object>("org.eclipse.sirius.web.tests.identity"), new Object()); //$NON-NLS-1$
+
+        assertThat(this.elkDiagramHashProvider.getHash(elkDiagram)).isEmpty();
+    }
+
+    private Diagram getDiagram(Node... nodes) {
+        return Diagram.newDiagram(new TestDiagramBuilder().getDiagram(DIAGRAM_ID)).nodes(List.of(nodes)).build();
+    }
+
+    private Optional<String> getHash(Diagram diagram, boolean isConfigured) {
+        ElkNode elkDiagram = this.diagramConverter.convert(diagram).getElkDiagram();
+        if (isConfigured) {
+            ElkUtil.applyVisitors(elkDiagram, this.layoutConfiguratorRegistry.getDefaultLayoutConfigurator());
+        }
+        return this.elkDiagramHashProvider.getHash(elkDiagram);
+    }
+
+}
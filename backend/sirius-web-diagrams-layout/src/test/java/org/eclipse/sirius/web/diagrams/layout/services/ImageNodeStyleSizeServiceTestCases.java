@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.diagrams.layout.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.assertj.core.data.Offset;
@@ -39,7 +40,7 @@ public class ImageNodeStyleSizeServiceTestCases {
             .build();
     // @formatter:on
 
-    private ImageSizeService imageSizeService = new ImageSizeService() {
+    private ImageSizeService imageSizeService = new ImageSizeService(List.of(), "") { //$NON-NLS-1$
         @Override
         public Optional<Size> getSize(String imagePath) {
             return Optional.of(SIZE);
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.assertj.core.data.Offset;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.layout.ImageSizeIndex;
+import org.junit.Test;
+
+/**
+ * Unit tests of the persisted index of the size of the images.
+ *
+ * @author hmarchadour
+ */
+public class ImageSizeIndexTestCases {
+
+    private static final String IMAGE_PATH = "icons/image.svg"; //$NON-NLS-1$
+
+    private static final String FINGERPRINT = "1606000000000-1024"; //$NON-NLS-1$
+
+    private static final double WIDTH = 120;
+
+    private static final double HEIGHT = 80;
+
+    @Test
+    public void testSizeReusedAfterRestart() throws IOException {
+        Path directory = Files.createTempDirectory(ImageSizeIndexTestCases.class.getSimpleName());
+        Path indexPath = directory.resolve("image-sizes.properties"); //$NON-NLS-1$
+        try {
+            ImageSizeIndex imageSizeIndex = new ImageSizeIndex(Optional.of(indexPath));
+            imageSizeIndex.putSize(IMAGE_PATH, FINGERPRINT, Size.newSize().width(WIDTH).height(HEIGHT).build());
+            imageSizeIndex.save();
+
+            assertThat(Files.isRegularFile(indexPath)).isTrue();
+
+            ImageSizeIndex reloadedImageSizeIndex = new ImageSizeIndex(Optional.of(indexPath));
+            Optional<Size> optionalSize = reloadedImageSizeIndex.getSize(IMAGE_PATH, FINGERPRINT);
+            assertThat(optionalSize).isPresent();
+            assertThat(optionalSize.get().getWidth()).isCloseTo(WIDTH, Offset.offset(0.0001));
+            assertThat(optionalSize.get().getHeight()).isCloseTo(HEIGHT, Offset.offset(0.0001));
+        } finally {
+            Files.deleteIfExists(indexPath);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testSizeNotReusedFromPreviousVersion() throws IOException {
+        Path directory = Files.createTempDirectory(ImageSizeIndexTestCases.class.getSimpleName());
+        Path indexPath = directory.resolve("image-sizes.properties"); //$NON-NLS-1$
+        try {
+            Files.writeString(indexPath, IMAGE_PATH + "=" + WIDTH + ";" + HEIGHT + ";" + FINGERPRINT); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+            ImageSizeIndex imageSizeIndex = new ImageSizeIndex(Optional.of(indexPath));
+            assertThat(imageSizeIndex.getSize(IMAGE_PATH, FINGERPRINT)).isEmpty();
+        } finally {
+            Files.deleteIfExists(indexPath);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testSizeNotReusedForModifiedImage() {
+        ImageSizeIndex imageSizeIndex = new ImageSizeIndex(Optional.empty());
+        imageSizeIndex.putSize(IMAGE_PATH, FINGERPRINT, Size.newSize().width(WIDTH).height(HEIGHT).build());
+
+        assertThat(imageSizeIndex.getSize(IMAGE_PATH, FINGERPRINT)).isPresent();
+        assertThat(imageSizeIndex.getSize(IMAGE_PATH, "1606000000001-1024")).isEmpty(); //$NON-NLS-1$
+    }
+
+}
@@ -43,7 +43,7 @@ public class ImageSizeServiceTestCases {
 
     private static final List<String> FOLDERS = List.of("svg", "png", "jpg"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-    private final ImageSizeService imageSizeService = new ImageSizeService();
+    private final ImageSizeService imageSizeService = new ImageSizeService(List.of(), ""); //$NON-NLS-1$
 
     private final String imagePath;
 
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.layout.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+
+import org.eclipse.sirius.web.diagrams.layout.LabelFont;
+import org.junit.Test;
+
+/**
+ * Test cases used to ensure that the text bounds computed with the advances of the Latin characters are the same as
+ * the ones computed by AWT.
+ *
+ * @author sbegaudeau
+ */
+public class LabelFontTestCases {
+
+    private static final FontRenderContext FONT_RENDER_CONTEXT = new FontRenderContext(new AffineTransform(), true, true);
+
+    // @formatter:off
+    private static final List<String> TEXTS = List.of(
+            "", //$NON-NLS-1$
+            "Hello World", //$NON-NLS-1$
+            "abcdefghijklmopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ", //$NON-NLS-1$
+            " &;$({[]})*@#=:;,?./+-_! ", //$NON-NLS-1$
+            "\u00c9l\u00e9ment \u00e0 c\u00f4t\u00e9 \u00ff", //$NON-NLS-1$
+            "\u0416\u0443\u0440\u043d\u0430\u043b", //$NON-NLS-1$
+            "\u65e5\u672c\u8a9e", //$NON-NLS-1$
+            "tab\tcharacter" //$NON-NLS-1$
+    );
+    // @formatter:on
+
+    @Test
+    public void testStringBoundsMatchAWT() {
+        for (int fontStyle : List.of(Font.PLAIN, Font.BOLD, Font.ITALIC, Font.BOLD | Font.ITALIC)) {
+            for (int fontSize : List.of(8, 12, 16, 24)) {
+                Font font = new Font("Arial", fontStyle, fontSize); //$NON-NLS-1$
+                LabelFont labelFont = new LabelFont(font, FONT_RENDER_CONTEXT);
+                for (String text : TEXTS) {
+                    Rectangle2D expectedBounds = font.getStringBounds(text, FONT_RENDER_CONTEXT);
+                    Rectangle2D bounds = labelFont.getStringBounds(text);
+
+                    assertThat(bounds.getX()).isEqualTo(expectedBounds.getX());
+                    assertThat(bounds.getY()).isEqualTo(expectedBounds.getY());
+                    assertThat(bounds.getWidth()).isEqualTo(expectedBounds.getWidth());
+                    assertThat(bounds.getHeight()).isEqualTo(expectedBounds.getHeight());
+                }
+            }
+        }
+    }
+}
@@ -54,6 +54,12 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
 
     private List<Edge> edges;
 
+    /**
+     * The index of the elements of the diagram, computed lazily since most of the copies of a diagram are never
+     * searched.
+     */
+    private transient volatile DiagramElementIndex index;
+
     private Diagram() {
         // Prevent instantiation
     }
@@ -120,6 +126,26 @@ public final class Diagram implements IRepresentation, ISemanticRepresentation {
         return this.edges;
     }
 
+    /**
+     * Returns the index of the elements of the diagram used to find them by their identifier.
+     * <p>
+     * The index is computed on the first call and kept for the following ones, whether the diagram has been built or
+     * deserialized.
+     * </p>
+     *
+     * @return The index of the elements of the diagram
+     */
+    @JsonIgnore
+    public DiagramElementIndex getIndex() {
+        DiagramElementIndex diagramElementIndex = this.index;
+        if (diagramElementIndex == null) {
+            // Computing the index twice on concurrent calls is harmless since it only depends on the immutable elements
+            diagramElementIndex = new DiagramElementIndex(this.nodes, this.edges);
+            this.index = diagramElementIndex;
+        }
+        return diagramElementIndex;
+    }
+
     public static Builder newDiagram(UUID id) {
         return new Builder(id);
     }
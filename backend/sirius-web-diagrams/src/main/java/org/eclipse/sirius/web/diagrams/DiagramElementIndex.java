@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Index of the nodes, including the border and child nodes, and of the edges of a diagram by their identifier.
+ * <p>
+ * If several elements share the same identifier, the first one found during a depth-first traversal of the diagram is
+ * indexed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class DiagramElementIndex {
+
+    private final Map<String, Node> nodes;
+
+    private final Map<String, Edge> edges;
+
+    public DiagramElementIndex(List<Node> nodes, List<Edge> edges) {
+        Map<String, Node> nodesById = new HashMap<>();
+        this.indexNodes(nodesById, Objects.requireNonNull(nodes));
+        this.nodes = Collections.unmodifiableMap(nodesById);
+
+        Map<String, Edge> edgesById = new HashMap<>(Objects.requireNonNull(edges).size());
+        for (Edge edge : edges) {
+            edgesById.putIfAbsent(edge.getId(), edge);
+        }
+        this.edges = Collections.unmodifiableMap(edgesById);
+    }
+
+    private void indexNodes(Map<String, Node> nodesById, List<Node> candidates) {
+        for (Node node : candidates) {
+            nodesById.putIfAbsent(node.getId(), node);
+            this.indexNodes(nodesById, node.getBorderNodes());
+            this.indexNodes(nodesById, node.getChildNodes());
+        }
+    }
+
+    public Optional<Node> findNode(String nodeId) {
+        return Optional.ofNullable(this.nodes.get(nodeId));
+    }
+
+    public Optional<Edge> findEdge(String edgeId) {
+        return Optional.ofNullable(this.edges.get(edgeId));
+    }
+
+}
@@ -82,6 +82,21 @@ public final class EdgeStyle {
         return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.size, this.lineStyle, this.sourceArrow, this.targetArrow, this.color);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.size, this.lineStyle, this.sourceArrow, this.targetArrow, this.color);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof EdgeStyle) {
+            EdgeStyle style = (EdgeStyle) obj;
+            isEqual = this.size == style.size && Objects.equals(this.lineStyle, style.lineStyle) && Objects.equals(this.sourceArrow, style.sourceArrow) && Objects.equals(this.targetArrow, style.targetArrow) && Objects.equals(this.color, style.color);
+        }
+        return isEqual;
+    }
+
     /**
      * The builder used to create the edge style.
      *
@@ -135,7 +150,7 @@ public final class EdgeStyle {
             edgeStyle.sourceArrow = Objects.requireNonNull(this.sourceArrow);
             edgeStyle.targetArrow = Objects.requireNonNull(this.targetArrow);
             edgeStyle.color = Objects.requireNonNull(this.color);
-            return edgeStyle;
+            return StylePool.INSTANCE.intern(edgeStyle, EdgeStyle.class);
         }
     }
 }
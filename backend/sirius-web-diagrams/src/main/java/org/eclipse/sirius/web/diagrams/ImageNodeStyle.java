@@ -57,6 +57,21 @@ public final class ImageNodeStyle implements INodeStyle {
         return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.imageURL);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.imageURL, this.scalingFactor);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof ImageNodeStyle) {
+            ImageNodeStyle style = (ImageNodeStyle) obj;
+            isEqual = Objects.equals(this.imageURL, style.imageURL) && this.scalingFactor == style.scalingFactor;
+        }
+        return isEqual;
+    }
+
     /**
      * The builder used to create the image node style description.
      *
@@ -86,7 +101,7 @@ public final class ImageNodeStyle implements INodeStyle {
             ImageNodeStyle style = new ImageNodeStyle();
             style.imageURL = Objects.requireNonNull(this.imageURL);
             style.scalingFactor = Objects.requireNonNull(this.scalingFactor);
-            return style;
+            return StylePool.INSTANCE.intern(style, ImageNodeStyle.class);
         }
     }
 }
@@ -92,6 +92,21 @@ public final class LabelStyle {
         return new Builder();
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.color, this.fontSize, this.bold, this.italic, this.underline, this.strikeThrough, this.iconURL);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof LabelStyle) {
+            LabelStyle style = (LabelStyle) obj;
+            isEqual = Objects.equals(this.color, style.color) && this.fontSize == style.fontSize && this.bold == style.bold && this.italic == style.italic && this.underline == style.underline && this.strikeThrough == style.strikeThrough && Objects.equals(this.iconURL, style.iconURL);
+        }
+        return isEqual;
+    }
+
     /**
      * The builder used to create the label style.
      *
@@ -162,7 +177,7 @@ public final class LabelStyle {
             labelDescription.underline = this.underline;
             labelDescription.iconURL = Objects.requireNonNull(this.iconURL);
 
-            return labelDescription;
+            return StylePool.INSTANCE.intern(labelDescription, LabelStyle.class);
         }
     }
 }
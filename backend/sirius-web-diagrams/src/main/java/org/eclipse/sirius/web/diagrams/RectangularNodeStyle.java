@@ -75,6 +75,21 @@ public final class RectangularNodeStyle implements INodeStyle {
         return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.color, this.borderColor, this.borderSize, this.borderStyle);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.color, this.borderColor, this.borderSize, this.borderStyle);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof RectangularNodeStyle) {
+            RectangularNodeStyle style = (RectangularNodeStyle) obj;
+            isEqual = Objects.equals(this.color, style.color) && Objects.equals(this.borderColor, style.borderColor) && this.borderSize == style.borderSize && Objects.equals(this.borderStyle, style.borderStyle);
+        }
+        return isEqual;
+    }
+
     /**
      * The builder used to create the rectangular node style.
      *
@@ -121,7 +136,7 @@ public final class RectangularNodeStyle implements INodeStyle {
             nodeStyleDescription.borderColor = Objects.requireNonNull(this.borderColor);
             nodeStyleDescription.borderSize = Objects.requireNonNull(this.borderSize);
             nodeStyleDescription.borderStyle = Objects.requireNonNull(this.borderStyle);
-            return nodeStyleDescription;
+            return StylePool.INSTANCE.intern(nodeStyleDescription, RectangularNodeStyle.class);
         }
     }
 
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool used to share equal instances of the immutable styles of the diagrams.
+ * <p>
+ * Thousands of elements of a diagram usually have the same style, the builders of the styles thus return the instance
+ * of the pool equal to the style built instead of keeping one instance per element. The styles are only weakly
+ * referenced by the pool, they are released once they are not used by any diagram anymore. The pool can be used
+ * concurrently without any lock since the diagrams are rendered and deserialized by several threads.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class StylePool {
+
+    /**
+     * The pool used by the builders of the styles.
+     */
+    public static final StylePool INSTANCE = new StylePool();
+
+    private final Map<StyleReference, StyleReference> styles = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<Object> releasedStyles = new ReferenceQueue<>();
+
+    /**
+     * Returns the instance of the pool equal to the given style, the style itself becomes this instance if there was
+     * none.
+     *
+     * @param <T>
+     *            The type of the style
+     * @param style
+     *            The style
+     * @param type
+     *            The type of the style
+     * @return The instance of the pool equal to the given style
+     */
+    public <T> T intern(T style, Class<T> type) {
+        Objects.requireNonNull(style);
+        this.removeReleasedStyles();
+
+        StyleReference reference = new StyleReference(style, this.releasedStyles);
+        Object pooledStyle = null;
+        while (pooledStyle == null) {
+            StyleReference pooledReference = this.styles.putIfAbsent(reference, reference);
+            if (pooledReference == null) {
+                pooledStyle = style;
+            } else {
+                pooledStyle = pooledReference.get();
+                if (pooledStyle == null) {
+                    // The equal style has been released but its reference has not been removed yet
+                    this.styles.remove(pooledReference, pooledReference);
+                }
+            }
+        }
+        return type.cast(pooledStyle);
+    }
+
+    public int size() {
+        this.removeReleasedStyles();
+        return this.styles.size();
+    }
+
+    private void removeReleasedStyles() {
+        Reference<?> reference = this.releasedStyles.poll();
+        while (reference != null) {
+            this.styles.remove(reference);
+            reference = this.releasedStyles.poll();
+        }
+    }
+
+    /**
+     * The weak reference to a style used as a key of the pool.
+     * <p>
+     * Two references are equal if they are the same reference or if their styles are equal. The hash code of the style
+     * is kept in order to remove the reference from the pool once the style has been released.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    private static final class StyleReference extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        StyleReference(Object style, ReferenceQueue<Object> queue) {
+            super(style, queue);
+            this.hashCode = style.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            boolean isEqual = this == object;
+            if (!isEqual && object instanceof StyleReference && this.hashCode == object.hashCode()) {
+                Object style = this.get();
+                isEqual = style != null && style.equals(((StyleReference) object).get());
+            }
+            return isEqual;
+        }
+    }
+}
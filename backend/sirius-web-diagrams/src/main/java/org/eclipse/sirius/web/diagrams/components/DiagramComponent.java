@@ -18,6 +18,8 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.components.Fragment;
+import org.eclipse.sirius.web.components.FragmentProps;
 import org.eclipse.sirius.web.components.IComponent;
 import org.eclipse.sirius.web.diagrams.Position;
 import org.eclipse.sirius.web.diagrams.Size;
@@ -51,10 +53,12 @@ public class DiagramComponent implements IComponent {
 
         DiagramRenderingCache cache = new DiagramRenderingCache();
 
+        // The node descriptions are independent from each other, each of them has its own cache merged before the
+        // rendering of the edges
         // @formatter:off
         var nodes = diagramDescription.getNodeDescriptions().stream()
                 .map(nodeDescription -> {
-                    var nodeComponentProps = new NodeComponentProps(variableManager, nodeDescription, false, cache);
+                    var nodeComponentProps = new NodeComponentProps(variableManager, nodeDescription, false, cache.createChild());
                     return new Element(NodeComponent.class, nodeComponentProps);
                 })
                 .collect(Collectors.toList());
@@ -70,7 +74,7 @@ public class DiagramComponent implements IComponent {
         // @formatter:on
 
         List<Element> children = new ArrayList<>();
-        children.addAll(nodes);
+        children.add(new Fragment(new FragmentProps(nodes, true)));
         children.addAll(edges);
 
         // @formatter:off
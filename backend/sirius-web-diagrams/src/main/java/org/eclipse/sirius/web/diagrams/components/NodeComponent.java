@@ -72,14 +72,14 @@ public class NodeComponent implements IComponent {
             // @formatter:off
             var borderNodes = nodeDescription.getBorderNodeDescriptions().stream()
                     .map(borderNodeDescription -> {
-                        var nodeComponentProps = new NodeComponentProps(nodeVariableManager, borderNodeDescription, true, cache);
+                        var nodeComponentProps = new NodeComponentProps(nodeVariableManager, borderNodeDescription, true, cache.createChild());
                         return new Element(NodeComponent.class, nodeComponentProps);
                     })
                     .collect(Collectors.toList());
 
             var childNodes = nodeDescription.getChildNodeDescriptions().stream()
                     .map(childNodeDescription -> {
-                        var nodeComponentProps = new NodeComponentProps(nodeVariableManager, childNodeDescription, false, cache);
+                        var nodeComponentProps = new NodeComponentProps(nodeVariableManager, childNodeDescription, false, cache.createChild());
                         return new Element(NodeComponent.class, nodeComponentProps);
                     })
                     .collect(Collectors.toList());
@@ -111,7 +111,8 @@ public class NodeComponent implements IComponent {
             cache.put(semanticElement, nodeElement);
         }
 
-        FragmentProps fragmentProps = new FragmentProps(children);
+        // The subtrees of the semantic candidates are independent from each other since they have their own caches
+        FragmentProps fragmentProps = new FragmentProps(children, true);
         return new Fragment(fragmentProps);
     }
 
@@ -13,7 +13,10 @@
 package org.eclipse.sirius.web.diagrams.description;
 
 import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
@@ -24,6 +27,7 @@ import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.diagrams.tools.ITool;
 import org.eclipse.sirius.web.diagrams.tools.ToolSection;
 import org.eclipse.sirius.web.representations.IRepresentationDescription;
 import org.eclipse.sirius.web.representations.VariableManager;
@@ -64,6 +68,10 @@ public final class DiagramDescription implements IRepresentationDescription {
 
     private List<EdgeDescription> edgeDescriptions;
 
+    private Map<String, ITool> toolIndex;
+
+    private boolean threadSafe;
+
     private DiagramDescription() {
         // Prevent instantiation
     }
@@ -103,6 +111,16 @@ public final class DiagramDescription implements IRepresentationDescription {
         return this.toolSections;
     }
 
+    /**
+     * Returns the tools of all the tool sections by their identifier. If several tools share the same identifier, the
+     * first one is indexed.
+     *
+     * @return The tools by their identifier
+     */
+    public Map<String, ITool> getToolIndex() {
+        return this.toolIndex;
+    }
+
     public List<NodeDescription> getNodeDescriptions() {
         return this.nodeDescriptions;
     }
@@ -111,6 +129,20 @@ public final class DiagramDescription implements IRepresentationDescription {
         return this.edgeDescriptions;
     }
 
+    /**
+     * Indicates if the providers of the description can be evaluated concurrently.
+     * <p>
+     * Only the diagrams whose description is thread-safe can be rendered in parallel. The descriptions relying on EMF,
+     * for example through AQL expressions, are not thread-safe since EMF is not thread-safe even for reads: proxies are
+     * resolved and adapters are created lazily.
+     * </p>
+     *
+     * @return <code>true</code> if the providers can be evaluated concurrently, <code>false</code> otherwise
+     */
+    public boolean isThreadSafe() {
+        return this.threadSafe;
+    }
+
     public static Builder newDiagramDescription(UUID id) {
         return new Builder(id);
     }
@@ -146,6 +178,10 @@ public final class DiagramDescription implements IRepresentationDescription {
 
         private List<EdgeDescription> edgeDescriptions;
 
+        private Map<String, ITool> toolIndex;
+
+        private boolean threadSafe;
+
         private Builder(UUID id) {
             this.id = Objects.requireNonNull(id);
         }
@@ -190,6 +226,11 @@ public final class DiagramDescription implements IRepresentationDescription {
             return this;
         }
 
+        public Builder threadSafe(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+            return this;
+        }
+
         public DiagramDescription build() {
             DiagramDescription diagramDescription = new DiagramDescription();
             diagramDescription.id = Objects.requireNonNull(this.id);
@@ -201,6 +242,16 @@ public final class DiagramDescription implements IRepresentationDescription {
             diagramDescription.toolSections = Objects.requireNonNull(this.toolSections);
             diagramDescription.nodeDescriptions = Objects.requireNonNull(this.nodeDescriptions);
             diagramDescription.edgeDescriptions = Objects.requireNonNull(this.edgeDescriptions);
+            diagramDescription.threadSafe = this.threadSafe;
+
+            Map<String, ITool> toolsById = new HashMap<>();
+            for (ToolSection toolSection : this.toolSections) {
+                for (ITool tool : toolSection.getTools()) {
+                    toolsById.putIfAbsent(tool.getId(), tool);
+                }
+            }
+            this.toolIndex = Collections.unmodifiableMap(toolsById);
+            diagramDescription.toolIndex = this.toolIndex;
             return diagramDescription;
         }
     }
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.renderer;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.web.components.ComponentFactoryRegistry;
+import org.eclipse.sirius.web.components.IComponent;
+import org.eclipse.sirius.web.components.IComponentFactory;
+import org.eclipse.sirius.web.components.IProps;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.web.diagrams.components.EdgeComponent;
+import org.eclipse.sirius.web.diagrams.components.EdgeComponentProps;
+import org.eclipse.sirius.web.diagrams.components.LabelComponent;
+import org.eclipse.sirius.web.diagrams.components.LabelComponentProps;
+import org.eclipse.sirius.web.diagrams.components.NodeComponent;
+import org.eclipse.sirius.web.diagrams.components.NodeComponentProps;
+
+/**
+ * Used to create the components of the diagram without relying on reflection.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramComponentFactory implements IComponentFactory {
+
+    private final ComponentFactoryRegistry componentFactoryRegistry = new ComponentFactoryRegistry();
+
+    public DiagramComponentFactory() {
+        // @formatter:off
+        this.componentFactoryRegistry.register(DiagramComponent.class, DiagramComponentProps.class, DiagramComponent::new)
+                .register(NodeComponent.class, NodeComponentProps.class, NodeComponent::new)
+                .register(EdgeComponent.class, EdgeComponentProps.class, EdgeComponent::new)
+                .register(LabelComponent.class, LabelComponentProps.class, LabelComponent::new);
+        // @formatter:on
+    }
+
+    @Override
+    public Optional<IComponent> createComponent(Class<?> componentType, IProps props) {
+        return this.componentFactoryRegistry.createComponent(componentType, props);
+    }
+
+    @Override
+    public boolean canCreateComponent(Class<?> componentType) {
+        return this.componentFactoryRegistry.canCreateComponent(componentType);
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.diagrams.renderer;
 
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.sirius.web.components.BaseRenderer;
 import org.eclipse.sirius.web.components.Element;
@@ -35,7 +36,21 @@ public class DiagramRenderer {
     private final BaseRenderer baseRenderer;
 
     public DiagramRenderer(Logger logger) {
-        this.baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory(logger), logger);
+        this.baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory(logger), new DiagramComponentFactory(), logger);
+    }
+
+    /**
+     * Creates a diagram renderer which will render the independent node descriptions and the subtrees of their
+     * semantic candidates concurrently on the given pool. The diagram rendered is the same as the one rendered
+     * sequentially.
+     *
+     * @param logger
+     *            The logger
+     * @param forkJoinPool
+     *            The pool used to render the nodes of the diagram
+     */
+    public DiagramRenderer(Logger logger, ForkJoinPool forkJoinPool) {
+        this.baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory(logger), new DiagramComponentFactory(), logger, forkJoinPool);
     }
 
     public Diagram render(Element element) {
@@ -22,6 +22,13 @@ import org.eclipse.sirius.web.components.Element;
 
 /**
  * Cache used during the rendering of a diagram.
+ * <p>
+ * Independent parts of the diagram (the nodes of a description or the subtree of a node) can be rendered concurrently.
+ * Each of those parts is given its own child cache, created in the order of the elements to render. The content of the
+ * child caches is merged in this order, after the content of their parent, the first time the cache is read. As a
+ * result, the content of the cache is the same as if the whole diagram had been rendered sequentially with a single
+ * cache.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -33,24 +40,53 @@ public class DiagramRenderingCache {
 
     private final Map<Object, List<Element>> objectToNodes = new HashMap<>();
 
-    public void put(UUID nodeDescriptionId, Element nodeElement) {
+    private final List<DiagramRenderingCache> children = new ArrayList<>();
+
+    /**
+     * Creates a new cache whose content will be merged in this cache after the content of the children created before.
+     *
+     * @return The child cache
+     */
+    public synchronized DiagramRenderingCache createChild() {
+        DiagramRenderingCache child = new DiagramRenderingCache();
+        this.children.add(child);
+        return child;
+    }
+
+    public synchronized void put(UUID nodeDescriptionId, Element nodeElement) {
         this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
     }
 
-    public void put(Object object, Element nodeElement) {
+    public synchronized void put(Object object, Element nodeElement) {
         this.nodeToObject.put(nodeElement, object);
         this.objectToNodes.computeIfAbsent(object, obj -> new ArrayList<>()).add(nodeElement);
     }
 
-    public Map<UUID, List<Element>> getNodeDescriptionIdToNodes() {
+    public synchronized Map<UUID, List<Element>> getNodeDescriptionIdToNodes() {
+        this.mergeChildren();
         return this.nodeDescriptionIdToNodes;
     }
 
-    public Map<Element, Object> getNodeToObject() {
+    public synchronized Map<Element, Object> getNodeToObject() {
+        this.mergeChildren();
         return this.nodeToObject;
     }
 
-    public Map<Object, List<Element>> getObjectToNodes() {
+    public synchronized Map<Object, List<Element>> getObjectToNodes() {
+        this.mergeChildren();
         return this.objectToNodes;
     }
+
+    private void mergeChildren() {
+        for (DiagramRenderingCache child : this.children) {
+            child.getNodeDescriptionIdToNodes().forEach((nodeDescriptionId, nodeElements) -> {
+                this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).addAll(nodeElements);
+            });
+            this.nodeToObject.putAll(child.getNodeToObject());
+            child.getObjectToNodes().forEach((object, nodeElements) -> {
+                this.objectToNodes.computeIfAbsent(object, obj -> new ArrayList<>()).addAll(nodeElements);
+            });
+        }
+        this.children.clear();
+    }
 }
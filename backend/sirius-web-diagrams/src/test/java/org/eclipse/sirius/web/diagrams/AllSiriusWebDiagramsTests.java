@@ -16,6 +16,7 @@ import org.eclipse.sirius.web.diagrams.architecture.CodingRulesTestCases;
 import org.eclipse.sirius.web.diagrams.architecture.ImmutableTestCases;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRendererEdgeTestCases;
 import org.eclipse.sirius.web.diagrams.renderer.DiagramRendererNodeTestCases;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRendererParallelTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -26,7 +27,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author sbegaudeau
  */
 @RunWith(Suite.class)
-@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, DiagramRendererEdgeTestCases.class, DiagramRendererNodeTestCases.class })
+@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, DiagramRendererEdgeTestCases.class, DiagramRendererNodeTestCases.class, DiagramRendererParallelTestCases.class, StylePoolTestCases.class })
 public final class AllSiriusWebDiagramsTests {
     private AllSiriusWebDiagramsTests() {
         // Prevent instantiation
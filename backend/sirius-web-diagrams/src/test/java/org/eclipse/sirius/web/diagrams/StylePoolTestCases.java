@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Test cases for the pool of styles.
+ *
+ * @author sbegaudeau
+ */
+public class StylePoolTestCases {
+
+    private static final String BLACK = "#000000"; //$NON-NLS-1$
+
+    private static final String WHITE = "#FFFFFF"; //$NON-NLS-1$
+
+    @Test
+    public void testEqualStylesAreShared() {
+        assertThat(this.getRectangularNodeStyle(new String(WHITE))).isSameAs(this.getRectangularNodeStyle(new String(WHITE)));
+        assertThat(this.getRectangularNodeStyle(WHITE)).isNotSameAs(this.getRectangularNodeStyle(BLACK));
+
+        assertThat(this.getLabelStyle(16)).isSameAs(this.getLabelStyle(16));
+        assertThat(this.getLabelStyle(16)).isNotSameAs(this.getLabelStyle(12));
+
+        ImageNodeStyle imageNodeStyle = ImageNodeStyle.newImageNodeStyle().imageURL("/image.png").scalingFactor(1).build(); //$NON-NLS-1$
+        assertThat(ImageNodeStyle.newImageNodeStyle().imageURL("/image.png").scalingFactor(1).build()).isSameAs(imageNodeStyle); //$NON-NLS-1$
+
+        assertThat(this.getEdgeStyle(ArrowStyle.InputArrow)).isSameAs(this.getEdgeStyle(ArrowStyle.InputArrow));
+        assertThat(this.getEdgeStyle(ArrowStyle.InputArrow)).isNotSameAs(this.getEdgeStyle(ArrowStyle.Diamond));
+    }
+
+    @Test
+    public void testStylesOfDifferentTypesAreNotShared() {
+        StylePool stylePool = new StylePool();
+        RectangularNodeStyle style = this.getRectangularNodeStyle(WHITE);
+
+        assertThat(stylePool.intern(style, RectangularNodeStyle.class)).isSameAs(style);
+        assertThat(stylePool.intern(WHITE, String.class)).isSameAs(WHITE);
+        assertThat(stylePool.size()).isEqualTo(2);
+    }
+
+    private RectangularNodeStyle getRectangularNodeStyle(String color) {
+        // @formatter:off
+        return RectangularNodeStyle.newRectangularNodeStyle()
+                .color(color)
+                .borderColor(BLACK)
+                .borderSize(1)
+                .borderStyle(LineStyle.Solid)
+                .build();
+        // @formatter:on
+    }
+
+    private LabelStyle getLabelStyle(int fontSize) {
+        // @formatter:off
+        return LabelStyle.newLabelStyle()
+                .color(BLACK)
+                .fontSize(fontSize)
+                .bold(false)
+                .italic(false)
+                .underline(false)
+                .strikeThrough(false)
+                .iconURL("") //$NON-NLS-1$
+                .build();
+        // @formatter:on
+    }
+
+    private EdgeStyle getEdgeStyle(ArrowStyle targetArrow) {
+        // @formatter:off
+        return EdgeStyle.newEdgeStyle()
+                .size(1)
+                .lineStyle(LineStyle.Solid)
+                .sourceArrow(ArrowStyle.None)
+                .targetArrow(targetArrow)
+                .color(BLACK)
+                .build();
+        // @formatter:on
+    }
+}
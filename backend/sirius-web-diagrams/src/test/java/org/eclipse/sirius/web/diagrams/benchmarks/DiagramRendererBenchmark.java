@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.web.diagrams.description.NodeDescription;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark of the rendering of a diagram with lots of nodes.
+ * <p>
+ * Each node is rendered by a node component and a label component, it can thus be used to compare the cost of the
+ * instantiation of the components by the renderer. It is not executed by the test suites and should be launched from
+ * the IDE or with the JMH runner.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DiagramRendererBenchmark {
+
+    private static final String SEPARATOR = "_"; //$NON-NLS-1$
+
+    @Param({ "10", "50" })
+    private int candidatesCount;
+
+    private DiagramRenderer diagramRenderer;
+
+    private DiagramDescription diagramDescription;
+
+    @Setup
+    public void setup() {
+        Logger logger = LoggerFactory.getLogger(DiagramRendererBenchmark.class);
+        this.diagramRenderer = new DiagramRenderer(logger);
+
+        NodeDescription childNodeDescription = this.getNodeDescription(List.of());
+        NodeDescription nodeDescription = this.getNodeDescription(List.of(childNodeDescription));
+
+        // @formatter:off
+        this.diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID())
+                .idProvider(variableManager -> UUID.randomUUID())
+                .label("Benchmark") //$NON-NLS-1$
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "targetObjectId") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Diagram") //$NON-NLS-1$
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of())
+                .toolSections(List.of())
+                .build();
+        // @formatter:on
+    }
+
+    private NodeDescription getNodeDescription(List<NodeDescription> childNodeDescriptions) {
+        UUID nodeDescriptionId = UUID.randomUUID();
+        Function<VariableManager, String> idProvider = variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""); //$NON-NLS-1$
+
+        // @formatter:off
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .colorProvider(variableManager -> "#000000") //$NON-NLS-1$
+                .fontSizeProvider(variableManager -> 16)
+                .boldProvider(variableManager -> false)
+                .italicProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .iconURLProvider(variableManager -> "") //$NON-NLS-1$
+                .build();
+
+        LabelDescription labelDescription = LabelDescription.newLabelDescription("labelDescriptionId") //$NON-NLS-1$
+                .idProvider(variableManager -> variableManager.get(LabelDescription.OWNER_ID, String.class).orElse("")) //$NON-NLS-1$
+                .textProvider(idProvider)
+                .styleDescription(labelStyleDescription)
+                .build();
+
+        Function<VariableManager, List<Object>> semanticElementsProvider = variableManager -> {
+            String parent = variableManager.get(VariableManager.SELF, String.class).orElse(""); //$NON-NLS-1$
+            return IntStream.range(0, this.candidatesCount)
+                    .mapToObj(index -> parent + SEPARATOR + nodeDescriptionId + SEPARATOR + index)
+                    .collect(Collectors.toList());
+        };
+
+        return NodeDescription.newNodeDescription(nodeDescriptionId)
+                .idProvider(idProvider)
+                .typeProvider(variableManager -> "node:rectangular") //$NON-NLS-1$
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(idProvider)
+                .targetObjectKindProvider(variableManager -> "") //$NON-NLS-1$
+                .targetObjectLabelProvider(variableManager -> "")//$NON-NLS-1$
+                .labelDescription(labelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .color("") //$NON-NLS-1$
+                        .borderColor("") //$NON-NLS-1$
+                        .borderSize(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> Status.OK)
+                .deleteHandler(variableManager -> Status.OK)
+                .build();
+        // @formatter:on
+    }
+
+    @Benchmark
+    public void render(Blackhole blackhole) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, "root"); //$NON-NLS-1$
+        Element element = new Element(DiagramComponent.class, new DiagramComponentProps(variableManager, this.diagramDescription));
+        Diagram diagram = this.diagramRenderer.render(element);
+        blackhole.consume(diagram);
+    }
+
+}
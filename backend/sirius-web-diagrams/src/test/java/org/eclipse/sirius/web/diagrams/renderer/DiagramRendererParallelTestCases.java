@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.ArrowStyle;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.web.diagrams.description.NodeDescription;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Test cases for the parallel rendering of diagrams.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramRendererParallelTestCases {
+
+    private static final int CANDIDATES_COUNT = 20;
+
+    private static final String PARENT = "parent"; //$NON-NLS-1$
+
+    private static final String SEPARATOR = "_"; //$NON-NLS-1$
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramRendererParallelTestCases.class);
+
+    /**
+     * Renders the same diagram, with nested nodes and edges depending on the cache, sequentially and in parallel and
+     * checks that both diagrams are identical.
+     */
+    @Test
+    public void testParallelRenderingMatchesSequentialRendering() {
+        NodeDescription childNodeDescription = this.getNodeDescription(UUID.randomUUID(), List.of());
+        NodeDescription firstNodeDescription = this.getNodeDescription(UUID.randomUUID(), List.of(childNodeDescription));
+        NodeDescription secondNodeDescription = this.getNodeDescription(UUID.randomUUID(), List.of(childNodeDescription));
+        EdgeDescription edgeDescription = this.getEdgeDescription(List.of(childNodeDescription));
+
+        // @formatter:off
+        DiagramDescription diagramDescription = DiagramDescription.newDiagramDescription(UUID.randomUUID())
+                .idProvider(variableManager -> UUID.nameUUIDFromBytes(PARENT.getBytes()))
+                .label("") //$NON-NLS-1$
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Diagram") //$NON-NLS-1$
+                .nodeDescriptions(List.of(firstNodeDescription, secondNodeDescription))
+                .edgeDescriptions(List.of(edgeDescription))
+                .toolSections(List.of())
+                .build();
+        // @formatter:on
+
+        Diagram sequentialDiagram = new DiagramRenderer(this.logger).render(this.createDiagramElement(diagramDescription));
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            Diagram parallelDiagram = new DiagramRenderer(this.logger, forkJoinPool).render(this.createDiagramElement(diagramDescription));
+
+            assertThat(sequentialDiagram.getNodes()).hasSize(2 * CANDIDATES_COUNT);
+            assertThat(sequentialDiagram.getEdges()).hasSize(2 * CANDIDATES_COUNT * CANDIDATES_COUNT);
+            assertThat(this.describe(parallelDiagram)).isEqualTo(this.describe(sequentialDiagram));
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    private Element createDiagramElement(DiagramDescription diagramDescription) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, PARENT);
+        DiagramComponentProps props = new DiagramComponentProps(variableManager, diagramDescription);
+        return new Element(DiagramComponent.class, props);
+    }
+
+    private NodeDescription getNodeDescription(UUID nodeDescriptionId, List<NodeDescription> childNodeDescriptions) {
+        // @formatter:off
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .colorProvider(variableManager -> "#000000") //$NON-NLS-1$
+                .fontSizeProvider(variableManager -> 16)
+                .boldProvider(variableManager -> false)
+                .italicProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .iconURLProvider(variableManager -> "") //$NON-NLS-1$
+                .build();
+
+        Function<VariableManager, String> idProvider = variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null);
+
+        LabelDescription labelDescription = LabelDescription.newLabelDescription("labelDescriptionId") //$NON-NLS-1$
+                .idProvider(variableManager -> variableManager.get(LabelDescription.OWNER_ID, String.class).orElse(null))
+                .textProvider(idProvider)
+                .styleDescription(labelStyleDescription)
+                .build();
+
+        Function<VariableManager, List<Object>> semanticElementsProvider = variableManager -> {
+            String parent = variableManager.get(VariableManager.SELF, String.class).orElse(""); //$NON-NLS-1$
+            return IntStream.range(0, CANDIDATES_COUNT)
+                    .mapToObj(index -> parent + SEPARATOR + nodeDescriptionId + SEPARATOR + index)
+                    .collect(Collectors.toList());
+        };
+
+        return NodeDescription.newNodeDescription(nodeDescriptionId)
+                .idProvider(idProvider)
+                .typeProvider(variableManager -> "node:rectangular") //$NON-NLS-1$
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(idProvider)
+                .targetObjectKindProvider(variableManager -> "") //$NON-NLS-1$
+                .targetObjectLabelProvider(variableManager -> "")//$NON-NLS-1$
+                .labelDescription(labelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .color("") //$NON-NLS-1$
+                        .borderColor("") //$NON-NLS-1$
+                        .borderSize(0)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> Status.OK)
+                .deleteHandler(variableManager -> Status.OK)
+                .build();
+        // @formatter:on
+    }
+
+    private EdgeDescription getEdgeDescription(List<NodeDescription> nodeDescriptions) {
+        Function<VariableManager, List<Element>> nodesProvider = variableManager -> {
+            // @formatter:off
+            return variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class)
+                    .map(cache -> nodeDescriptions.stream()
+                            .map(NodeDescription::getId)
+                            .map(cache.getNodeDescriptionIdToNodes()::get)
+                            .filter(Objects::nonNull)
+                            .flatMap(List::stream)
+                            .collect(Collectors.toList()))
+                    .orElse(List.of());
+            // @formatter:on
+        };
+
+        Function<VariableManager, Optional<Label>> labelProvider = variableManager -> Optional.empty();
+
+        // @formatter:off
+        return EdgeDescription.newEdgeDescription(UUID.randomUUID())
+                .idProvider(variableManager -> variableManager.get(EdgeDescription.COUNT, Integer.class).map(String::valueOf).orElse(null))
+                .semanticElementsProvider(variableManager -> List.of(PARENT))
+                .sourceNodesProvider(nodesProvider)
+                .targetNodesProvider(variableManager -> nodesProvider.apply(variableManager).subList(0, 1))
+                .beginLabelProvider(labelProvider)
+                .centerLabelProvider(labelProvider)
+                .endLabelProvider(labelProvider)
+                .sourceNodeDescriptions(nodeDescriptions)
+                .targetNodeDescriptions(nodeDescriptions)
+                .targetObjectIdProvider(variableManager -> PARENT)
+                .targetObjectKindProvider(variableManager -> "") //$NON-NLS-1$
+                .targetObjectLabelProvider(variableManager -> "")//$NON-NLS-1$
+                .styleProvider(variableManager -> EdgeStyle.newEdgeStyle()
+                        .size(1)
+                        .lineStyle(LineStyle.Solid)
+                        .sourceArrow(ArrowStyle.None)
+                        .targetArrow(ArrowStyle.None)
+                        .color("") //$NON-NLS-1$
+                        .build())
+                .labelEditHandler((variableManager, newLabel) -> Status.OK)
+                .build();
+        // @formatter:on
+    }
+
+    private List<String> describe(Diagram diagram) {
+        List<String> description = diagram.getNodes().stream().map(this::describe).collect(Collectors.toList());
+        for (Edge edge : diagram.getEdges()) {
+            description.add(edge.getId() + SEPARATOR + edge.getSourceId() + SEPARATOR + edge.getTargetId());
+        }
+        return description;
+    }
+
+    private String describe(Node node) {
+        String childNodes = node.getChildNodes().stream().map(this::describe).collect(Collectors.joining(",")); //$NON-NLS-1$
+        return node.getId() + SEPARATOR + node.getLabel().getId() + SEPARATOR + node.getLabel().getText() + "[" + childNodes + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
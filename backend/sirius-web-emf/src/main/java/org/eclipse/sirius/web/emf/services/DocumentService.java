@@ -34,6 +34,7 @@ import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
 import org.eclipse.sirius.web.persistence.repositories.IProjectRepository;
 import org.eclipse.sirius.web.services.api.document.Document;
 import org.eclipse.sirius.web.services.api.document.IDocumentService;
+import org.eclipse.sirius.web.services.api.objects.IEditingContextPersistenceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -50,11 +51,14 @@ public class DocumentService implements IDocumentService {
 
     private final IProjectRepository projectRepository;
 
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
     private final Logger logger = LoggerFactory.getLogger(DocumentService.class);
 
-    public DocumentService(IProjectRepository projectRepository, IDocumentRepository documentRepository) {
+    public DocumentService(IProjectRepository projectRepository, IDocumentRepository documentRepository, IEditingContextPersistenceService editingContextPersistenceService) {
         this.projectRepository = Objects.requireNonNull(projectRepository);
         this.documentRepository = Objects.requireNonNull(documentRepository);
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
     }
 
     @Override
@@ -76,16 +80,19 @@ public class DocumentService implements IDocumentService {
 
     @Override
     public Optional<Document> getDocument(UUID documentId) {
+        this.editingContextPersistenceService.flush();
         return this.documentRepository.findById(documentId).map(new DocumentMapper()::toDTO);
     }
 
     @Override
     public Optional<Document> getDocument(UUID projectId, UUID documentId) {
+        this.editingContextPersistenceService.flush();
         return this.documentRepository.findByProjectIdAndId(projectId, documentId).map(new DocumentMapper()::toDTO);
     }
 
     @Override
     public List<Document> getDocuments(UUID projectId) {
+        this.editingContextPersistenceService.flush();
         // @formatter:off
         return this.documentRepository.findAllByProjectId(projectId).stream()
                 .map(new DocumentMapper()::toDTO)
@@ -95,6 +102,7 @@ public class DocumentService implements IDocumentService {
 
     @Override
     public void delete(UUID documentId) {
+        this.editingContextPersistenceService.flush();
         this.documentRepository.deleteById(documentId);
     }
 
@@ -151,6 +159,8 @@ public class DocumentService implements IDocumentService {
 
     @Override
     public Optional<Document> rename(UUID documentId, String newName) {
+        // The pending content of the document must be written first since the whole document is saved again below
+        this.editingContextPersistenceService.flush();
         Optional<DocumentEntity> optionalDocumentEntity = this.documentRepository.findById(documentId);
         if (optionalDocumentEntity.isPresent()) {
             DocumentEntity documentEntity = optionalDocumentEntity.get();
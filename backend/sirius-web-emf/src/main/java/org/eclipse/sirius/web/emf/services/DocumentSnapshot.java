@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The serialized content of a document at a given time, waiting to be written in the database.
+ *
+ * @author sbegaudeau
+ */
+public class DocumentSnapshot {
+
+    private final UUID projectId;
+
+    private final UUID documentId;
+
+    private final String content;
+
+    private final long creationTime;
+
+    public DocumentSnapshot(UUID projectId, UUID documentId, String content, long creationTime) {
+        this.projectId = Objects.requireNonNull(projectId);
+        this.documentId = Objects.requireNonNull(documentId);
+        this.content = Objects.requireNonNull(content);
+        this.creationTime = creationTime;
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    public UUID getDocumentId() {
+        return this.documentId;
+    }
+
+    public String getContent() {
+        return this.content;
+    }
+
+    /**
+     * Returns the time at which the snapshot has been taken, as given by {@link System#nanoTime()}.
+     *
+     * @return The time at which the snapshot has been taken
+     */
+    public long getCreationTime() {
+        return this.creationTime;
+    }
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * An index of all the instances of each EClass in a resource set.
+ *
+ * <p>
+ * Installed on the resource set of an editing context, this content adapter is attached to every object in the resource
+ * set, and it is thus notified when an object is added or removed in order to keep the index up to date. Looking for all
+ * the instances of a type only costs a lookup per indexed EClass followed by a copy of the result, instead of a
+ * traversal of the whole model.
+ * </p>
+ * <p>
+ * The instances are returned in the order of the contents of the resource set, the order of a traversal of the resource
+ * set. The objects are indexed in this order when the index is installed. Since objects added or moved afterwards are
+ * not in this order anymore, a change of the containment makes the next lookup index the contents again in the order of
+ * a traversal, once for all the lookups performed until the next change. Just like the resource set itself, the index
+ * should only be modified by the thread of its editing context.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EClassInstanceIndex extends EContentAdapter {
+
+    private final Map<EClass, Map<EObject, Long>> eClass2Instances = new LinkedHashMap<>();
+
+    private long sequence;
+
+    /**
+     * The notifier on which the index has been installed, the contents of this notifier are traversed to restore the
+     * order of the instances.
+     */
+    private Notifier root;
+
+    private boolean isOutOfOrder;
+
+    /**
+     * Returns all the instances of the given EClass, including the instances of its subtypes.
+     *
+     * @param eClass
+     *            The EClass
+     * @return The instances of the EClass
+     */
+    public List<EObject> getInstances(EClass eClass) {
+        return this.getInstances(candidate -> EcorePackage.Literals.EOBJECT.equals(eClass) || eClass.isSuperTypeOf(candidate));
+    }
+
+    /**
+     * Returns all the instances whose EClass matches the given predicate.
+     *
+     * @param eClassPredicate
+     *            The predicate tested on each indexed EClass
+     * @return The instances of the matching EClasses
+     */
+    public List<EObject> getInstances(Predicate<EClass> eClassPredicate) {
+        if (this.isOutOfOrder) {
+            this.restoreOrder();
+        }
+
+        // @formatter:off
+        List<Map<EObject, Long>> matchingInstances = this.eClass2Instances.entrySet().stream()
+                .filter(entry -> eClassPredicate.test(entry.getKey()))
+                .map(Entry::getValue)
+                .collect(Collectors.toList());
+        // @formatter:on
+
+        List<EObject> instances = new ArrayList<>();
+        if (matchingInstances.size() == 1) {
+            instances.addAll(matchingInstances.get(0).keySet());
+        } else if (matchingInstances.size() > 1) {
+            // The instances of several EClasses are sorted back in the order of the contents of the resource set
+            // @formatter:off
+            matchingInstances.stream()
+                    .map(Map::entrySet)
+                    .flatMap(Collection::stream)
+                    .sorted(Entry.comparingByValue())
+                    .map(Entry::getKey)
+                    .forEach(instances::add);
+            // @formatter:on
+        }
+        return instances;
+    }
+
+    /**
+     * Indexes again all the instances in the order of a traversal of the contents of the resource set.
+     */
+    private void restoreOrder() {
+        Map<EClass, Map<EObject, Long>> previousEClass2Instances = new LinkedHashMap<>(this.eClass2Instances);
+        this.eClass2Instances.clear();
+        this.sequence = 0;
+
+        if (this.root != null) {
+            TreeIterator<Object> iterator = EcoreUtil.getAllProperContents(List.of(this.root), false);
+            while (iterator.hasNext()) {
+                Object content = iterator.next();
+                if (content instanceof EObject) {
+                    EObject eObject = (EObject) content;
+                    Map<EObject, Long> previousInstances = previousEClass2Instances.get(eObject.eClass());
+                    if (previousInstances != null && previousInstances.remove(eObject) != null) {
+                        this.index(eObject);
+                    }
+                }
+            }
+        }
+
+        // The instances which have not been traversed, such as the contents of other resources, are kept after the others
+        previousEClass2Instances.values().stream().map(Map::keySet).flatMap(Collection::stream).forEach(this::index);
+        this.isOutOfOrder = false;
+    }
+
+    private void index(EObject eObject) {
+        this.sequence = this.sequence + 1;
+        this.eClass2Instances.computeIfAbsent(eObject.eClass(), eClass -> new LinkedHashMap<>()).put(eObject, this.sequence);
+    }
+
+    @Override
+    public void setTarget(Notifier target) {
+        if (this.root == null) {
+            this.root = target;
+        }
+        super.setTarget(target);
+    }
+
+    @Override
+    public void unsetTarget(Notifier target) {
+        super.unsetTarget(target);
+        if (target == this.root) {
+            this.root = null;
+        }
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        // The target is indexed before its contents to keep the order of the contents of the resource set
+        this.index(target);
+        super.setTarget(target);
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        Map<EObject, Long> instances = this.eClass2Instances.get(target.eClass());
+        if (instances != null) {
+            instances.remove(target);
+            if (instances.isEmpty()) {
+                this.eClass2Instances.remove(target.eClass());
+            }
+        }
+    }
+
+    @Override
+    protected void selfAdapt(Notification notification) {
+        int eventType = notification.getEventType();
+        boolean isAddition = eventType == Notification.ADD || eventType == Notification.ADD_MANY || eventType == Notification.SET || eventType == Notification.MOVE;
+        if (isAddition && this.isContainmentChange(notification)) {
+            // The objects added or moved are not at their position in a traversal of the resource set anymore
+            this.isOutOfOrder = true;
+        }
+        super.selfAdapt(notification);
+    }
+
+    private boolean isContainmentChange(Notification notification) {
+        Object notifier = notification.getNotifier();
+        Object feature = notification.getFeature();
+        boolean isContainmentChange = feature instanceof EReference && ((EReference) feature).isContainment();
+        if (notifier instanceof Resource) {
+            isContainmentChange = notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS;
+        } else if (notifier instanceof ResourceSet) {
+            isContainmentChange = notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+        }
+        return isContainmentChange;
+    }
+
+    @Override
+    protected boolean resolve() {
+        // The index should never load the targets of the proxies
+        return false;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return EClassInstanceIndex.class.equals(type);
+    }
+}
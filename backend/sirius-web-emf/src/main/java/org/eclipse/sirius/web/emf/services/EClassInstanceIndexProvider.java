@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+/**
+ * Used to find the index of the instances of the resource set containing an object.
+ *
+ * @author sbegaudeau
+ */
+public class EClassInstanceIndexProvider implements Function<EObject, Optional<EClassInstanceIndex>> {
+
+    @Override
+    public Optional<EClassInstanceIndex> apply(EObject eObject) {
+        // @formatter:off
+        return Optional.ofNullable(eObject.eResource())
+                .map(Resource::getResourceSet)
+                .map(ResourceSet::eAdapters)
+                .flatMap(adapters -> adapters.stream()
+                        .filter(EClassInstanceIndex.class::isInstance)
+                        .map(EClassInstanceIndex.class::cast)
+                        .findFirst());
+        // @formatter:on
+    }
+
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * AQL services giving access to the index of the instances of the editing context.
+ *
+ * <p>
+ * For example, <code>aql:self.allInstances(flow::DataSource)</code> returns all the data sources of the editing context
+ * without having to traverse all its contents.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EClassInstanceIndexServices {
+
+    private final EClassInstanceIndexProvider instanceIndexProvider = new EClassInstanceIndexProvider();
+
+    public List<EObject> allInstances(EObject self, EClass eClass) {
+        // @formatter:off
+        return this.instanceIndexProvider.apply(self)
+                .map(instanceIndex -> instanceIndex.getInstances(eClass))
+                .orElseGet(ArrayList::new);
+        // @formatter:on
+    }
+
+}
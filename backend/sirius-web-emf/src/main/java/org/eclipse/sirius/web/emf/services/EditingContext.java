@@ -29,9 +29,17 @@ public class EditingContext implements IEditingContext {
 
     private final EditingDomain editingDomain;
 
-    public EditingContext(UUID projectId, EditingDomain editingDomain) {
+    private final EClassInstanceIndex instanceIndex;
+
+    private final EditingContextHistory history;
+
+    public EditingContext(UUID projectId, EditingDomain editingDomain, EditingContextHistory history) {
         this.projectId = Objects.requireNonNull(projectId);
         this.editingDomain = Objects.requireNonNull(editingDomain);
+        this.history = Objects.requireNonNull(history);
+
+        this.instanceIndex = new EClassInstanceIndex();
+        this.editingDomain.getResourceSet().eAdapters().add(this.instanceIndex);
     }
 
     @Override
@@ -44,4 +52,12 @@ public class EditingContext implements IEditingContext {
         return this.editingDomain;
     }
 
+    public EClassInstanceIndex getInstanceIndex() {
+        return this.instanceIndex;
+    }
+
+    public EditingContextHistory getHistory() {
+        return this.history;
+    }
+
 }
@@ -35,6 +35,7 @@ import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -60,10 +61,17 @@ public class EditingContextFactory implements IEditingContextFactory {
 
     private final Timer timer;
 
-    public EditingContextFactory(IDocumentRepository documentRepository, ComposedAdapterFactory composedAdapterFactory, EPackage.Registry ePackageRegistry, MeterRegistry meterRegistry) {
+    private final int historyMaxEntries;
+
+    private final int historyMaxChanges;
+
+    public EditingContextFactory(IDocumentRepository documentRepository, ComposedAdapterFactory composedAdapterFactory, EPackage.Registry ePackageRegistry, MeterRegistry meterRegistry,
+            @Value("${sirius.web.editingContext.history.maxEntries:50}") int historyMaxEntries, @Value("${sirius.web.editingContext.history.maxChanges:100000}") int historyMaxChanges) {
         this.documentRepository = Objects.requireNonNull(documentRepository);
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
         this.ePackageRegistry = Objects.requireNonNull(ePackageRegistry);
+        this.historyMaxEntries = historyMaxEntries;
+        this.historyMaxChanges = historyMaxChanges;
 
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
     }
@@ -96,7 +104,8 @@ public class EditingContextFactory implements IEditingContextFactory {
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
 
-        return new EditingContext(projectId, editingDomain);
+        EditingContextHistory history = new EditingContextHistory(editingDomain, this.historyMaxEntries, this.historyMaxChanges);
+        return new EditingContext(projectId, editingDomain, history);
     }
 
 }
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.command.CommandStack;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.FeatureChange;
+import org.eclipse.emf.ecore.change.ResourceChange;
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
+import org.eclipse.emf.edit.domain.EditingDomain;
+
+/**
+ * The history of the changes performed on the resource set of an editing context.
+ *
+ * <p>
+ * The changes are recorded with a {@link ChangeRecorder} between {@link #startRecording()} and
+ * {@link #stopRecording()}, usually around the handling of one input, and each non-empty change description is kept to
+ * be undone and redone later. Since the history is used to undo the changes, the commands executed on the command stack
+ * of the editing domain are not kept once the recording has been stopped.
+ * </p>
+ * <p>
+ * The history is bounded both by its number of entries and by the number of changes recorded in all of them, the
+ * objects removed from the resource set being counted with their whole content. Once one of these limits is exceeded,
+ * the oldest entries are forgotten. Just like the resource set itself, the history should only be used by the thread
+ * of its editing context.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextHistory {
+
+    private final EditingDomain editingDomain;
+
+    private final int maxEntries;
+
+    private final int maxChanges;
+
+    private final ChangeRecorder changeRecorder = new ChangeRecorder();
+
+    /**
+     * The change descriptions which can be undone, the most recent first.
+     */
+    private final Deque<ChangeDescription> undoableChanges = new ArrayDeque<>();
+
+    /**
+     * The change descriptions which can be redone, the most recently undone first.
+     */
+    private final Deque<ChangeDescription> redoableChanges = new ArrayDeque<>();
+
+    /**
+     * The number of changes of each change description of the history, as computed when it has been added.
+     */
+    private final Map<ChangeDescription, Integer> changeDescription2changesCount = new HashMap<>();
+
+    private int changesCount;
+
+    public EditingContextHistory(EditingDomain editingDomain, int maxEntries, int maxChanges) {
+        this.editingDomain = Objects.requireNonNull(editingDomain);
+        this.maxEntries = maxEntries;
+        this.maxChanges = maxChanges;
+    }
+
+    public void startRecording() {
+        if (!this.changeRecorder.isRecording()) {
+            this.changeRecorder.beginRecording(List.of(this.editingDomain.getResourceSet()));
+        }
+    }
+
+    /**
+     * Stops recording the changes and keeps them in the history if there are any.
+     *
+     * @return The resources and the objects which have been modified, created or removed since the recording has been
+     *         started
+     */
+    public Set<Object> stopRecording() {
+        Set<Object> changedObjects = new LinkedHashSet<>();
+        if (this.changeRecorder.isRecording()) {
+            ChangeDescription changeDescription = this.changeRecorder.endRecording();
+            this.editingDomain.getCommandStack().flush();
+
+            changedObjects.addAll(this.getChangedObjects(changeDescription));
+            if (!changedObjects.isEmpty()) {
+                this.redoableChanges.forEach(this::forget);
+                this.redoableChanges.clear();
+
+                this.push(this.undoableChanges, changeDescription);
+                this.trim();
+            }
+        }
+        return changedObjects;
+    }
+
+    public boolean canUndo() {
+        return !this.undoableChanges.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !this.redoableChanges.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent changes of the history.
+     *
+     * @return <code>true</code> if some changes have been undone, <code>false</code> if there was nothing to undo
+     */
+    public boolean undo() {
+        return this.applyAndReverse(this.undoableChanges, this.redoableChanges);
+    }
+
+    /**
+     * Performs again the most recently undone changes of the history.
+     *
+     * @return <code>true</code> if some changes have been redone, <code>false</code> if there was nothing to redo
+     */
+    public boolean redo() {
+        return this.applyAndReverse(this.redoableChanges, this.undoableChanges);
+    }
+
+    /**
+     * Applies the most recent change description of the source and moves its reverse in the target.
+     *
+     * <p>
+     * The changes in progress are kept in the history first, and the recording is suspended while the change
+     * description is applied in order not to record it as a new change.
+     * </p>
+     */
+    private boolean applyAndReverse(Deque<ChangeDescription> source, Deque<ChangeDescription> target) {
+        boolean isRecording = this.changeRecorder.isRecording();
+        this.stopRecording();
+
+        Optional<ChangeDescription> optionalChangeDescription = Optional.ofNullable(source.pollFirst());
+        optionalChangeDescription.ifPresent(changeDescription -> {
+            this.forget(changeDescription);
+            changeDescription.applyAndReverse();
+            this.push(target, changeDescription);
+        });
+
+        if (isRecording) {
+            this.startRecording();
+        }
+        return optionalChangeDescription.isPresent();
+    }
+
+    private void push(Deque<ChangeDescription> changeDescriptions, ChangeDescription changeDescription) {
+        changeDescriptions.push(changeDescription);
+
+        // The count is kept since the retained objects may be modified once they have been attached again
+        int count = this.getChangesCount(changeDescription);
+        this.changeDescription2changesCount.put(changeDescription, count);
+        this.changesCount += count;
+    }
+
+    private void forget(ChangeDescription changeDescription) {
+        this.changesCount -= this.changeDescription2changesCount.remove(changeDescription);
+    }
+
+    /**
+     * Forgets the oldest undoable changes until the history fits in its limits again.
+     */
+    private void trim() {
+        int entriesCount = this.undoableChanges.size() + this.redoableChanges.size();
+        while (!this.undoableChanges.isEmpty() && (entriesCount > this.maxEntries || this.changesCount > this.maxChanges)) {
+            ChangeDescription changeDescription = this.undoableChanges.removeLast();
+            this.forget(changeDescription);
+            entriesCount--;
+        }
+    }
+
+    private Set<Object> getChangedObjects(ChangeDescription changeDescription) {
+        Set<Object> changedObjects = new LinkedHashSet<>();
+        changedObjects.addAll(changeDescription.getObjectChanges().keySet());
+        changedObjects.addAll(changeDescription.getObjectsToAttach());
+        changedObjects.addAll(changeDescription.getObjectsToDetach());
+        for (ResourceChange resourceChange : changeDescription.getResourceChanges()) {
+            changedObjects.add(resourceChange.getResource());
+        }
+        return changedObjects;
+    }
+
+    /**
+     * Returns the number of changes of the given change description, used as an estimation of the memory it retains.
+     * <p>
+     * The objects to attach have been detached from the resource set, for example by a deletion, and the change
+     * description is the only one retaining them. Each of them is thus counted with all its content.
+     * </p>
+     */
+    private int getChangesCount(ChangeDescription changeDescription) {
+        int count = changeDescription.getResourceChanges().size();
+        for (List<FeatureChange> featureChanges : changeDescription.getObjectChanges().values()) {
+            count = count + featureChanges.size();
+        }
+        for (EObject objectToAttach : changeDescription.getObjectsToAttach()) {
+            count = count + this.getRetainedObjectsCount(objectToAttach, this.maxChanges - count);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the given detached object and its content, up to the given limit since a history exceeding its maximum
+     * number of changes will be trimmed anyway.
+     */
+    private int getRetainedObjectsCount(EObject detachedObject, int limit) {
+        int count = 1;
+        TreeIterator<EObject> iterator = detachedObject.eAllContents();
+        while (iterator.hasNext() && count <= limit) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+}
@@ -13,6 +13,8 @@
 package org.eclipse.sirius.web.emf.services;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
@@ -40,12 +42,42 @@ public class EditingContextManager implements IEditingContextManager {
 
     @Override
     public IEditingContext createEditingContext(UUID projectID) {
+        this.editingContextPersistenceService.flush();
         return this.editingContextFactory.createEditingContext(projectID);
     }
 
     @Override
-    public void persist(UUID projectId, IEditingContext editingContext) {
-        this.editingContextPersistenceService.persist(projectId, editingContext);
+    public void persist(UUID projectId, IEditingContext editingContext, Set<Object> changedObjects) {
+        this.editingContextPersistenceService.persist(projectId, editingContext, changedObjects);
+    }
+
+    @Override
+    public void startRecording(IEditingContext editingContext) {
+        this.getHistory(editingContext).ifPresent(EditingContextHistory::startRecording);
+    }
+
+    @Override
+    public Set<Object> stopRecording(IEditingContext editingContext) {
+        return this.getHistory(editingContext).map(EditingContextHistory::stopRecording).orElse(Set.of());
+    }
+
+    @Override
+    public boolean undo(IEditingContext editingContext) {
+        return this.getHistory(editingContext).map(EditingContextHistory::undo).orElse(false);
+    }
+
+    @Override
+    public boolean redo(IEditingContext editingContext) {
+        return this.getHistory(editingContext).map(EditingContextHistory::redo).orElse(false);
+    }
+
+    private Optional<EditingContextHistory> getHistory(IEditingContext editingContext) {
+        // @formatter:off
+        return Optional.of(editingContext)
+                .filter(EditingContext.class::isInstance)
+                .map(EditingContext.class::cast)
+                .map(EditingContext::getHistory);
+        // @formatter:on
     }
 
 }
@@ -16,12 +16,23 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PreDestroy;
+
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
@@ -32,15 +43,27 @@ import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextPersistenceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
 /**
  * Service used to persist the editing context when a change has been performed.
  *
+ * <p>
+ * The resources of the editing context containing changed objects are always serialized by the caller, which gives a
+ * consistent snapshot of the documents. When the persistence is synchronous, these snapshots are written immediately
+ * and a failure is thrown to the caller. When the persistence is asynchronous, they are written in the database by a
+ * single background writer, in order. The snapshots of a document which have not been written yet are replaced by the
+ * most recent one. The snapshots which could not be written are kept to be written again with the next ones.
+ * {@link #flush()} waits until all the snapshots taken before have been written.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -48,6 +71,12 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private static final String TIMER_NAME = "siriusweb_editingcontext_save"; //$NON-NLS-1$
 
+    private static final String LAG_TIMER_NAME = "siriusweb_editingcontext_persistence_lag"; //$NON-NLS-1$
+
+    private static final String PENDING_GAUGE_NAME = "siriusweb_editingcontext_persistence_pending"; //$NON-NLS-1$
+
+    private static final String WRITER_THREAD_NAME = "sirius-web-persistence"; //$NON-NLS-1$
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextPersistenceService.class);
 
     private final IDocumentRepository documentRepository;
@@ -56,43 +85,142 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private final Timer timer;
 
-    public EditingContextPersistenceService(IDocumentRepository documentRepository, ApplicationEventPublisher applicationEventPublisher, MeterRegistry meterRegistry) {
+    private final Timer lagTimer;
+
+    private final Optional<ExecutorService> optionalWriter;
+
+    /**
+     * The snapshots waiting to be written by document id, guarded by itself.
+     */
+    private final Map<UUID, DocumentSnapshot> pendingSnapshots = new LinkedHashMap<>();
+
+    /**
+     * Creates the editing context persistence service.
+     *
+     * @param documentRepository
+     *            The document repository
+     * @param applicationEventPublisher
+     *            The application event publisher
+     * @param meterRegistry
+     *            The meter registry
+     * @param isAsynchronous
+     *            <code>true</code> to write the documents on a background writer, <code>false</code> to write them
+     *            on the thread of the caller
+     */
+    public EditingContextPersistenceService(IDocumentRepository documentRepository, ApplicationEventPublisher applicationEventPublisher, MeterRegistry meterRegistry,
+            @Value("${sirius.web.editingContext.persistence.asynchronous:false}") boolean isAsynchronous) {
         this.documentRepository = Objects.requireNonNull(documentRepository);
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
 
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+        this.lagTimer = Timer.builder(LAG_TIMER_NAME).register(meterRegistry);
+        Gauge.builder(PENDING_GAUGE_NAME, this::getPendingSnapshotsCount).register(meterRegistry);
+
+        if (isAsynchronous) {
+            this.optionalWriter = Optional.of(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName(WRITER_THREAD_NAME);
+                return thread;
+            }));
+        } else {
+            this.optionalWriter = Optional.empty();
+        }
     }
 
     @Override
-    public void persist(UUID projectId, IEditingContext editingContext) {
+    public void persist(UUID projectId, IEditingContext editingContext, Set<Object> changedObjects) {
         long start = System.currentTimeMillis();
 
         // @formatter:off
-        var optionalDocuments = Optional.ofNullable(editingContext)
+        List<DocumentSnapshot> snapshots = Optional.ofNullable(editingContext)
             .map(IEditingContext::getDomain)
             .filter(EditingDomain.class::isInstance)
             .map(EditingDomain.class::cast)
-            .map(this::persist);
-        optionalDocuments.ifPresent(documentEntities -> {
-            this.applicationEventPublisher.publishEvent(new DocumentsModifiedEvent(projectId, documentEntities));
-        });
+            .map(editingDomain -> this.takeSnapshots(projectId, editingDomain, changedObjects))
+            .orElse(List.of());
         // @formatter:on
 
+        if (this.optionalWriter.isPresent()) {
+            synchronized (this.pendingSnapshots) {
+                snapshots.forEach(snapshot -> this.pendingSnapshots.put(snapshot.getDocumentId(), snapshot));
+            }
+            this.scheduleWrite(this.optionalWriter.get());
+        } else {
+            this.write(snapshots);
+        }
+
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
     }
 
-    private List<DocumentEntity> persist(EditingDomain editingDomain) {
-        List<DocumentEntity> result = new ArrayList<>();
+    @Override
+    public void flush() {
+        if (this.optionalWriter.isPresent()) {
+            try {
+                this.optionalWriter.get().submit(this::writePendingSnapshots).get();
+            } catch (RejectedExecutionException exception) {
+                this.writePendingSnapshots();
+            } catch (InterruptedException | ExecutionException exception) {
+                this.logger.error(exception.getMessage(), exception);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.flush();
+        this.optionalWriter.ifPresent(ExecutorService::shutdown);
+    }
+
+    private void scheduleWrite(ExecutorService writer) {
+        try {
+            writer.execute(this::writePendingSnapshots);
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn("The background writer is stopped, the documents are written immediately"); //$NON-NLS-1$
+            this.writePendingSnapshots();
+        }
+    }
+
+    private int getPendingSnapshotsCount() {
+        synchronized (this.pendingSnapshots) {
+            return this.pendingSnapshots.size();
+        }
+    }
+
+    /**
+     * Serializes the resources containing the changed objects, or all of them if there are no changed objects.
+     */
+    private List<DocumentSnapshot> takeSnapshots(UUID projectId, EditingDomain editingDomain, Set<Object> changedObjects) {
+        Set<Resource> changedResources = this.getResources(changedObjects);
+
+        List<DocumentSnapshot> snapshots = new ArrayList<>();
         List<Resource> resources = editingDomain.getResourceSet().getResources();
         for (Resource resource : resources) {
-            this.save(resource).ifPresent(result::add);
+            if (changedObjects.isEmpty() || changedResources.contains(resource)) {
+                this.takeSnapshot(projectId, resource).ifPresent(snapshots::add);
+            }
         }
-        return result;
+        return snapshots;
     }
 
-    private Optional<DocumentEntity> save(Resource resource) {
-        Optional<DocumentEntity> result = Optional.empty();
+    /**
+     * Returns the resources containing the given objects. The objects removed from the resource set are ignored since
+     * their former container is among the changed objects too.
+     */
+    private Set<Resource> getResources(Set<Object> changedObjects) {
+        Set<Resource> resources = new HashSet<>();
+        for (Object changedObject : changedObjects) {
+            if (changedObject instanceof Resource) {
+                resources.add((Resource) changedObject);
+            } else if (changedObject instanceof EObject) {
+                Optional.ofNullable(((EObject) changedObject).eResource()).ifPresent(resources::add);
+            }
+        }
+        return resources;
+    }
+
+    private Optional<DocumentSnapshot> takeSnapshot(UUID projectId, Resource resource) {
+        Optional<DocumentSnapshot> result = Optional.empty();
         HashMap<Object, Object> options = new HashMap<>();
         options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
 
@@ -110,13 +238,77 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
             String content = new String(bytes);
 
             UUID id = UUID.fromString(resource.getURI().toString());
-            result = this.documentRepository.findById(id).map(entity -> {
-                entity.setContent(content);
-                return this.documentRepository.save(entity);
-            });
+            result = Optional.of(new DocumentSnapshot(projectId, id, content, System.nanoTime()));
         } catch (IllegalArgumentException | IOException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
         return result;
     }
+
+    /**
+     * Writes the pending snapshots on the background writer. The snapshots which could not be written are kept to be
+     * written again with the next ones, unless a more recent one has been taken.
+     */
+    private void writePendingSnapshots() {
+        List<DocumentSnapshot> snapshots;
+        synchronized (this.pendingSnapshots) {
+            snapshots = new ArrayList<>(this.pendingSnapshots.values());
+            this.pendingSnapshots.clear();
+        }
+
+        List<DocumentSnapshot> failedSnapshots = new ArrayList<>();
+        Map<UUID, List<DocumentEntity>> projectIdToDocumentEntities = new LinkedHashMap<>();
+        for (DocumentSnapshot snapshot : snapshots) {
+            try {
+                this.write(snapshot, projectIdToDocumentEntities);
+            } catch (DataAccessException exception) {
+                this.logger.error(exception.getMessage(), exception);
+                failedSnapshots.add(snapshot);
+            }
+        }
+        this.publishDocumentsModifiedEvents(projectIdToDocumentEntities);
+
+        if (!failedSnapshots.isEmpty()) {
+            synchronized (this.pendingSnapshots) {
+                failedSnapshots.forEach(snapshot -> this.pendingSnapshots.putIfAbsent(snapshot.getDocumentId(), snapshot));
+            }
+        }
+    }
+
+    /**
+     * Writes the given snapshots on the thread of the caller. The first failure is thrown to the caller, the documents
+     * written before are still notified.
+     *
+     * @param snapshots
+     *            The snapshots to write
+     */
+    private void write(List<DocumentSnapshot> snapshots) {
+        Map<UUID, List<DocumentEntity>> projectIdToDocumentEntities = new LinkedHashMap<>();
+        try {
+            for (DocumentSnapshot snapshot : snapshots) {
+                this.write(snapshot, projectIdToDocumentEntities);
+            }
+        } finally {
+            this.publishDocumentsModifiedEvents(projectIdToDocumentEntities);
+        }
+    }
+
+    private void write(DocumentSnapshot snapshot, Map<UUID, List<DocumentEntity>> projectIdToDocumentEntities) {
+        List<DocumentEntity> documentEntities = projectIdToDocumentEntities.computeIfAbsent(snapshot.getProjectId(), projectId -> new ArrayList<>());
+        this.save(snapshot).ifPresent(documentEntities::add);
+        this.lagTimer.record(System.nanoTime() - snapshot.getCreationTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void publishDocumentsModifiedEvents(Map<UUID, List<DocumentEntity>> projectIdToDocumentEntities) {
+        projectIdToDocumentEntities.forEach((projectId, documentEntities) -> {
+            this.applicationEventPublisher.publishEvent(new DocumentsModifiedEvent(projectId, documentEntities));
+        });
+    }
+
+    private Optional<DocumentEntity> save(DocumentSnapshot snapshot) {
+        return this.documentRepository.findById(snapshot.getDocumentId()).map(entity -> {
+            entity.setContent(snapshot.getContent());
+            return this.documentRepository.save(entity);
+        });
+    }
 }
@@ -17,7 +17,9 @@ import org.eclipse.sirius.web.emf.architecture.ServiceTestCases;
 import org.eclipse.sirius.web.emf.architecture.SpringCodingRulesTestCases;
 import org.eclipse.sirius.web.emf.services.CreateDocumentEventHandlerTestCases;
 import org.eclipse.sirius.web.emf.services.DeleteDocumentEventHandlerTestCases;
+import org.eclipse.sirius.web.emf.services.EClassInstanceIndexTestCases;
 import org.eclipse.sirius.web.emf.services.EditingContextFactoryTestCases;
+import org.eclipse.sirius.web.emf.services.EditingContextHistoryTestCases;
 import org.eclipse.sirius.web.emf.services.EditingContextPersistenceServiceTestCases;
 import org.eclipse.sirius.web.emf.services.IDManagerTestCases;
 import org.eclipse.sirius.web.emf.services.LabelFeatureProviderRegistryTestCases;
@@ -42,7 +44,9 @@ import org.junit.runners.Suite.SuiteClasses;
     //ConfigurationTestCases.class,
     CreateDocumentEventHandlerTestCases.class,
     DeleteDocumentEventHandlerTestCases.class,
+    EClassInstanceIndexTestCases.class,
     EditingContextFactoryTestCases.class,
+    EditingContextHistoryTestCases.class,
     EditingContextPersistenceServiceTestCases.class,
     IDManagerTestCases.class,
     LabelFeatureProviderRegistryTestCases.class,
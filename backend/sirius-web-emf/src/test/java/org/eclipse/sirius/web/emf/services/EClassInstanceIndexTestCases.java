@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.Test;
+
+/**
+ * Unit tests of the index of the instances of each EClass.
+ *
+ * @author sbegaudeau
+ */
+public class EClassInstanceIndexTestCases {
+
+    @Test
+    public void testIndexFollowsTheContentsOfTheResourceSet() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EDataType eDataType = EcoreFactory.eINSTANCE.createEDataType();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(eDataType);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        Resource resource = new ResourceImpl(URI.createURI("instances")); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        EClassInstanceIndex instanceIndex = new EClassInstanceIndex();
+        resourceSet.eAdapters().add(instanceIndex);
+
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.ECLASS)).containsExactly(firstEClass, secondEClass);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.ECLASSIFIER)).containsExactly(firstEClass, eDataType, secondEClass);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.EOBJECT)).containsExactly(ePackage, firstEClass, eDataType, secondEClass);
+        assertThat(new EClassInstanceIndexProvider().apply(firstEClass)).contains(instanceIndex);
+
+        EClass thirdEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(thirdEClass);
+        ePackage.getEClassifiers().remove(firstEClass);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.ECLASS)).containsExactly(secondEClass, thirdEClass);
+
+        resourceSet.getResources().remove(resource);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.EOBJECT)).isEmpty();
+    }
+
+    @Test
+    public void testInstancesAddedOrMovedAreInTheOrderOfTheContents() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        Resource resource = new ResourceImpl(URI.createURI("instances")); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        EClassInstanceIndex instanceIndex = new EClassInstanceIndex();
+        resourceSet.eAdapters().add(instanceIndex);
+
+        EClass insertedEClass = EcoreFactory.eINSTANCE.createEClass();
+        EDataType insertedEDataType = EcoreFactory.eINSTANCE.createEDataType();
+        ePackage.getEClassifiers().add(0, insertedEClass);
+        ePackage.getEClassifiers().add(1, insertedEDataType);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.ECLASS)).containsExactly(insertedEClass, firstEClass, secondEClass);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.ECLASSIFIER)).containsExactly(insertedEClass, insertedEDataType, firstEClass, secondEClass);
+
+        ePackage.getEClassifiers().move(0, secondEClass);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.ECLASS)).containsExactly(secondEClass, insertedEClass, firstEClass);
+        assertThat(instanceIndex.getInstances(EcorePackage.Literals.EOBJECT)).containsExactly(ePackage, secondEClass, insertedEClass, insertedEDataType, firstEClass);
+    }
+
+}
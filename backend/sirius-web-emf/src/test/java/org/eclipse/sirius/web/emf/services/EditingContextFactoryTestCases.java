@@ -76,7 +76,7 @@ public class EditingContextFactoryTestCases {
 
         UUID projectId = UUID.randomUUID();
 
-        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry, new SimpleMeterRegistry());
+        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry, new SimpleMeterRegistry(), 50, 100000);
         IEditingContext editingContext = editingContextFactory.createEditingContext(projectId);
 
         assertThat(editingContext.getDomain()).isInstanceOf(EditingDomain.class);
@@ -114,7 +114,7 @@ public class EditingContextFactoryTestCases {
         ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory();
         EPackage.Registry ePackageRegistry = new EPackageRegistryImpl();
 
-        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry, new SimpleMeterRegistry());
+        IEditingContextFactory editingContextFactory = new EditingContextFactory(documentRepository, composedAdapterFactory, ePackageRegistry, new SimpleMeterRegistry(), 50, 100000);
         IEditingContext editingContext = editingContextFactory.createEditingContext(projectId);
 
         assertThat(editingContext.getDomain()).isInstanceOf(EditingDomain.class);
@@ -130,8 +130,9 @@ public class EditingContextFactoryTestCases {
 
     private void assertProperResourceLoading(Resource resource, DocumentEntity documentEntity) {
         assertThat(resource).isNotNull();
-        assertThat(resource.eAdapters()).hasSize(1);
+        assertThat(resource.eAdapters()).hasSize(2);
         assertThat(resource.eAdapters().get(0)).isInstanceOf(DocumentMetadataAdapter.class);
+        assertThat(resource.eAdapters().get(1)).isInstanceOf(EClassInstanceIndex.class);
         DocumentMetadataAdapter firstAdapter = (DocumentMetadataAdapter) resource.eAdapters().get(0);
         assertThat(firstAdapter.getName()).isEqualTo(documentEntity.getName());
     }
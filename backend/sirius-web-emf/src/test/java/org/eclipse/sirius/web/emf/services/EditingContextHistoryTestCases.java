@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.edit.command.SetCommand;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.junit.Test;
+
+/**
+ * Unit tests of the history of the editing context.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextHistoryTestCases {
+
+    private static final String INITIAL_NAME = "Concept"; //$NON-NLS-1$
+
+    private static final String FIRST_NAME = "First"; //$NON-NLS-1$
+
+    private static final String SECOND_NAME = "Second"; //$NON-NLS-1$
+
+    private final EditingDomain editingDomain = new EditingDomainFactory().create();
+
+    private final EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+
+    public EditingContextHistoryTestCases() {
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(UUID.randomUUID().toString()));
+        this.eClass.setName(INITIAL_NAME);
+        resource.getContents().add(this.eClass);
+        this.editingDomain.getResourceSet().getResources().add(resource);
+    }
+
+    @Test
+    public void testUndoRedo() {
+        EditingContextHistory history = new EditingContextHistory(this.editingDomain, 10, 100);
+        assertThat(history.canUndo()).isFalse();
+
+        history.startRecording();
+        this.eClass.setName(FIRST_NAME);
+        assertThat(history.stopRecording()).containsExactly(this.eClass);
+        assertThat(history.canUndo()).isTrue();
+
+        assertThat(history.undo()).isTrue();
+        assertThat(this.eClass.getName()).isEqualTo(INITIAL_NAME);
+        assertThat(history.canUndo()).isFalse();
+        assertThat(history.canRedo()).isTrue();
+
+        assertThat(history.redo()).isTrue();
+        assertThat(this.eClass.getName()).isEqualTo(FIRST_NAME);
+        assertThat(history.redo()).isFalse();
+
+        assertThat(history.undo()).isTrue();
+        history.startRecording();
+        this.eClass.setName(SECOND_NAME);
+        history.stopRecording();
+        assertThat(history.canRedo()).isFalse();
+    }
+
+    @Test
+    public void testUndoDuringRecording() {
+        EditingContextHistory history = new EditingContextHistory(this.editingDomain, 10, 100);
+        history.startRecording();
+        this.eClass.setName(FIRST_NAME);
+        history.stopRecording();
+
+        history.startRecording();
+        assertThat(history.undo()).isTrue();
+        assertThat(history.stopRecording()).isEmpty();
+
+        assertThat(this.eClass.getName()).isEqualTo(INITIAL_NAME);
+        assertThat(history.canRedo()).isTrue();
+    }
+
+    @Test
+    public void testBoundedHistory() {
+        EditingContextHistory history = new EditingContextHistory(this.editingDomain, 2, 100);
+        for (String name : new String[] { FIRST_NAME, SECOND_NAME, "Third" }) { //$NON-NLS-1$
+            history.startRecording();
+            this.eClass.setName(name);
+            history.stopRecording();
+        }
+
+        assertThat(history.undo()).isTrue();
+        assertThat(history.undo()).isTrue();
+        assertThat(history.undo()).isFalse();
+        assertThat(this.eClass.getName()).isEqualTo(FIRST_NAME);
+    }
+
+    /**
+     * Deletes a package and checks that all its content is counted in the changes retained by the history.
+     */
+    @Test
+    public void testDeletedContentIsCounted() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        for (int i = 0; i < 20; i++) {
+            ePackage.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        }
+        this.eClass.eResource().getContents().add(ePackage);
+
+        EditingContextHistory history = new EditingContextHistory(this.editingDomain, 10, 10);
+        history.startRecording();
+        this.eClass.eResource().getContents().remove(ePackage);
+        history.stopRecording();
+
+        assertThat(history.canUndo()).isFalse();
+    }
+
+    @Test
+    public void testCommandStackIsFlushed() {
+        EditingContextHistory history = new EditingContextHistory(this.editingDomain, 10, 100);
+        history.startRecording();
+        this.editingDomain.getCommandStack().execute(SetCommand.create(this.editingDomain, this.eClass, EcorePackage.Literals.ENAMED_ELEMENT__NAME, FIRST_NAME));
+        assertThat(this.editingDomain.getCommandStack().canUndo()).isTrue();
+
+        assertThat(history.stopRecording()).containsExactly(this.eClass);
+        assertThat(this.editingDomain.getCommandStack().canUndo()).isFalse();
+        assertThat(history.canUndo()).isTrue();
+    }
+}
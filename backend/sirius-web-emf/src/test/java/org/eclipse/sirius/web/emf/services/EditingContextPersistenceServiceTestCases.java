@@ -13,11 +13,15 @@
 package org.eclipse.sirius.web.emf.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
@@ -30,6 +34,8 @@ import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.services.api.objects.IEditingContextPersistenceService;
 import org.junit.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
@@ -78,7 +84,8 @@ public class EditingContextPersistenceServiceTestCases {
                 return Optional.of(existingEntity);
             }
         };
-        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry());
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry(),
+                false);
         assertThat(entities).hasSize(0);
 
         IEditingContext editingContext = new IEditingContext() {
@@ -93,7 +100,7 @@ public class EditingContextPersistenceServiceTestCases {
             }
         };
 
-        editingContextPersistenceService.persist(projectId, editingContext);
+        editingContextPersistenceService.persist(projectId, editingContext, Set.of());
         assertThat(entities).hasSize(1);
 
         DocumentEntity documentEntity = entities.get(0);
@@ -101,4 +108,172 @@ public class EditingContextPersistenceServiceTestCases {
         assertThat(documentEntity.getName()).isEqualTo(name);
         assertThat(documentEntity.getProject().getId()).isEqualTo(projectId);
     }
+
+    /**
+     * Persists the editing context several times while the background writer is busy and checks that only the most
+     * recent snapshot is written once the writer is available again.
+     *
+     * @throws InterruptedException
+     *             If the test is interrupted
+     */
+    @Test
+    public void testAsynchronousPersistenceCoalescesSnapshots() throws InterruptedException {
+        UUID projectId = UUID.randomUUID();
+
+        UUID id = UUID.randomUUID();
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(id.toString()));
+        resource.eAdapters().add(new DocumentMetadataAdapter("Asynchronous Document")); //$NON-NLS-1$
+
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        resource.getContents().add(eClass);
+
+        EditingDomain editingDomain = new EditingDomainFactory().create();
+        editingDomain.getResourceSet().getResources().add(resource);
+
+        DocumentEntity existingEntity = new DocumentEntity();
+        existingEntity.setId(id);
+
+        CountDownLatch writerStarted = new CountDownLatch(1);
+        CountDownLatch writerReleased = new CountDownLatch(1);
+        List<String> savedContents = new ArrayList<>();
+        IDocumentRepository documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public <S extends DocumentEntity> S save(S entity) {
+                savedContents.add(entity.getContent());
+                return entity;
+            }
+
+            @Override
+            public Optional<DocumentEntity> findById(UUID id) {
+                writerStarted.countDown();
+                try {
+                    writerReleased.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(existingEntity);
+            }
+        };
+        EditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(),
+                new SimpleMeterRegistry(), true);
+        try {
+            IEditingContext editingContext = new IEditingContext() {
+                @Override
+                public UUID getProjectId() {
+                    return projectId;
+                }
+
+                @Override
+                public Object getDomain() {
+                    return editingDomain;
+                }
+            };
+
+            eClass.setName("First"); //$NON-NLS-1$
+            editingContextPersistenceService.persist(projectId, editingContext, Set.of());
+            assertThat(writerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            eClass.setName("Second"); //$NON-NLS-1$
+            editingContextPersistenceService.persist(projectId, editingContext, Set.of());
+            eClass.setName("Third"); //$NON-NLS-1$
+            editingContextPersistenceService.persist(projectId, editingContext, Set.of());
+
+            writerReleased.countDown();
+            editingContextPersistenceService.flush();
+
+            assertThat(savedContents).hasSize(2);
+            assertThat(savedContents.get(0)).contains("First"); //$NON-NLS-1$
+            assertThat(savedContents.get(1)).contains("Third"); //$NON-NLS-1$
+        } finally {
+            writerReleased.countDown();
+            editingContextPersistenceService.dispose();
+        }
+    }
+
+    /**
+     * Persists the editing context with the objects changed and checks that only the document containing them is
+     * written.
+     */
+    @Test
+    public void testOnlyChangedDocumentsArePersisted() {
+        UUID projectId = UUID.randomUUID();
+        EditingDomain editingDomain = new EditingDomainFactory().create();
+
+        UUID firstId = UUID.randomUUID();
+        JsonResource firstResource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(firstId.toString()));
+        firstResource.getContents().add(EcoreFactory.eINSTANCE.createEClass());
+        editingDomain.getResourceSet().getResources().add(firstResource);
+
+        UUID secondId = UUID.randomUUID();
+        JsonResource secondResource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(secondId.toString()));
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        secondResource.getContents().add(eClass);
+        editingDomain.getResourceSet().getResources().add(secondResource);
+
+        List<UUID> savedIds = new ArrayList<>();
+        IDocumentRepository documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public <S extends DocumentEntity> S save(S entity) {
+                savedIds.add(entity.getId());
+                return entity;
+            }
+
+            @Override
+            public Optional<DocumentEntity> findById(UUID id) {
+                DocumentEntity documentEntity = new DocumentEntity();
+                documentEntity.setId(id);
+                return Optional.of(documentEntity);
+            }
+        };
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry(),
+                false);
+
+        eClass.setName("Changed"); //$NON-NLS-1$
+        editingContextPersistenceService.persist(projectId, this.createEditingContext(projectId, editingDomain), Set.of(eClass));
+        assertThat(savedIds).isEqualTo(List.of(secondId));
+
+        savedIds.clear();
+        editingContextPersistenceService.persist(projectId, this.createEditingContext(projectId, editingDomain), Set.of());
+        assertThat(savedIds).isEqualTo(List.of(firstId, secondId));
+    }
+
+    /**
+     * Checks that a failure of the synchronous persistence is thrown to the caller.
+     */
+    @Test
+    public void testSynchronousPersistenceFailureIsThrown() {
+        UUID projectId = UUID.randomUUID();
+        EditingDomain editingDomain = new EditingDomainFactory().create();
+
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(UUID.randomUUID().toString()));
+        resource.getContents().add(EcoreFactory.eINSTANCE.createEClass());
+        editingDomain.getResourceSet().getResources().add(resource);
+
+        IDocumentRepository documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public Optional<DocumentEntity> findById(UUID id) {
+                DataAccessException exception = new DataAccessResourceFailureException("The database is unavailable"); //$NON-NLS-1$
+                throw exception;
+            }
+        };
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry(),
+                false);
+
+        IEditingContext editingContext = this.createEditingContext(projectId, editingDomain);
+        assertThatThrownBy(() -> editingContextPersistenceService.persist(projectId, editingContext, Set.of())).isInstanceOf(DataAccessException.class);
+    }
+
+    private IEditingContext createEditingContext(UUID projectId, EditingDomain editingDomain) {
+        return new IEditingContext() {
+            @Override
+            public UUID getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public Object getDomain() {
+                return editingDomain;
+            }
+        };
+    }
 }
@@ -51,7 +51,7 @@ public class NoOpProjectEventProcessor implements IProjectEventProcessor {
     }
 
     @Override
-    public void release(SubscriptionDescription subscriptionDescription, Context context) {
+    public void release(SubscriptionDescription subscriptionDescription, UUID representationId, Context context) {
     }
 
     @Override
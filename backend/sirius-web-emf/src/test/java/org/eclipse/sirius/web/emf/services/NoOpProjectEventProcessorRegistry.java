@@ -45,6 +45,11 @@ public class NoOpProjectEventProcessorRegistry implements IProjectEventProcessor
         return Optional.empty();
     }
 
+    @Override
+    public Optional<IProjectEventProcessor> getProjectEventProcessor(UUID projectId) {
+        return Optional.empty();
+    }
+
     @Override
     public void dispose(UUID projectId) {
     }
@@ -51,6 +51,10 @@ public class NoOpRepresentationService implements IRepresentationService {
     public void save(RepresentationDescriptor representationDescriptor) {
     }
 
+    @Override
+    public void flush(UUID representationId) {
+    }
+
     @Override
     public Optional<RepresentationDescriptor> getRepresentation(UUID representationId) {
         return null;
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The options of a select computed on demand from its candidates.
+ *
+ * <p>
+ * When a select has too many candidates, only the option of its current value is sent with the form. The other options
+ * are then retrieved page by page, and filtered by label, thanks to this object. The candidates are the ones computed
+ * during the rendering of the form, they are thus consistent with the count of options of the select. The index of a
+ * candidate can thus be used as the cursor of its option.
+ * </p>
+ *
+ * <p>
+ * The id of an option is only computed once it is needed and it is then kept. The ids already computed by the options of
+ * the previous rendering of the select can be reused for the candidates which are still there. The labels are not kept
+ * since they may change without any change of the candidates.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class LazySelectOptions {
+
+    private final List<Object> candidates;
+
+    private final Function<Object, String> optionIdProvider;
+
+    private final Function<Object, String> optionLabelProvider;
+
+    private final String[] optionIds;
+
+    public LazySelectOptions(List<Object> candidates, Function<Object, String> optionIdProvider, Function<Object, String> optionLabelProvider) {
+        this.candidates = Objects.requireNonNull(candidates);
+        this.optionIdProvider = Objects.requireNonNull(optionIdProvider);
+        this.optionLabelProvider = Objects.requireNonNull(optionLabelProvider);
+        this.optionIds = new String[candidates.size()];
+    }
+
+    /**
+     * Creates the options of a select reusing the ids computed by the options of its previous rendering.
+     *
+     * @param candidates
+     *            The candidates
+     * @param optionIdProvider
+     *            The provider of the id of the option of a candidate
+     * @param optionLabelProvider
+     *            The provider of the label of the option of a candidate
+     * @param previousOptions
+     *            The options of the previous rendering of the select
+     */
+    public LazySelectOptions(List<Object> candidates, Function<Object, String> optionIdProvider, Function<Object, String> optionLabelProvider, LazySelectOptions previousOptions) {
+        this(candidates, optionIdProvider, optionLabelProvider);
+
+        Map<Object, String> previousOptionIds = previousOptions.getComputedOptionIds();
+        for (int index = 0; index < this.optionIds.length; index++) {
+            this.optionIds[index] = previousOptionIds.get(candidates.get(index));
+        }
+    }
+
+    public int getCount() {
+        return this.candidates.size();
+    }
+
+    /**
+     * Returns the option with the given id.
+     *
+     * @param optionId
+     *            The id of the option, may be <code>null</code>
+     * @return The option or an empty optional if none of the candidates has this id
+     */
+    public Optional<SelectOption> getOption(String optionId) {
+        Optional<SelectOption> optionalOption = Optional.empty();
+        for (int index = 0; index < this.candidates.size() && optionalOption.isEmpty(); index++) {
+            if (Objects.equals(optionId, this.getOptionId(index))) {
+                optionalOption = Optional.of(this.getOption(index));
+            }
+        }
+        return optionalOption;
+    }
+
+    /**
+     * Returns the option of the candidate with the given index.
+     *
+     * @param index
+     *            The index of the candidate
+     * @return The option
+     */
+    public SelectOption getOption(int index) {
+        // @formatter:off
+        return SelectOption.newSelectOption(this.getOptionId(index))
+                .label(this.optionLabelProvider.apply(this.candidates.get(index)))
+                .build();
+        // @formatter:on
+    }
+
+    /**
+     * Returns the index of at most the given number of candidates whose option has a label containing the given filter,
+     * ignoring the case.
+     *
+     * @param filter
+     *            The filter, a blank or <code>null</code> filter will match all the options
+     * @param startIndex
+     *            The index of the first candidate to consider
+     * @param count
+     *            The maximum number of indexes to return
+     * @return The indexes of the candidates, in ascending order
+     */
+    public List<Integer> getOptionIndexes(String filter, int startIndex, int count) {
+        String lowerCaseFilter = Optional.ofNullable(filter).map(String::toLowerCase).orElse(""); //$NON-NLS-1$
+        boolean hasFilter = !lowerCaseFilter.isBlank();
+
+        List<Integer> optionIndexes = new ArrayList<>();
+        for (int index = Math.max(startIndex, 0); index < this.candidates.size() && optionIndexes.size() < count; index++) {
+            if (!hasFilter || this.optionLabelProvider.apply(this.candidates.get(index)).toLowerCase().contains(lowerCaseFilter)) {
+                optionIndexes.add(index);
+            }
+        }
+        return optionIndexes;
+    }
+
+    /**
+     * Returns all the options, in the order of the candidates.
+     *
+     * @return The options
+     */
+    public List<SelectOption> getOptions() {
+        List<SelectOption> options = new ArrayList<>(this.candidates.size());
+        for (int index = 0; index < this.candidates.size(); index++) {
+            options.add(this.getOption(index));
+        }
+        return options;
+    }
+
+    private String getOptionId(int index) {
+        String optionId = this.optionIds[index];
+        if (optionId == null) {
+            optionId = this.optionIdProvider.apply(this.candidates.get(index));
+            this.optionIds[index] = optionId;
+        }
+        return optionId;
+    }
+
+    private Map<Object, String> getComputedOptionIds() {
+        Map<Object, String> computedOptionIds = new HashMap<>();
+        for (int index = 0; index < this.optionIds.length; index++) {
+            if (this.optionIds[index] != null) {
+                computedOptionIds.put(this.candidates.get(index), this.optionIds[index]);
+            }
+        }
+        return computedOptionIds;
+    }
+
+}
@@ -37,6 +37,8 @@ public final class Select extends AbstractWidget {
 
     private String value;
 
+    private LazySelectOptions lazyOptions;
+
     private Function<String, Status> newValueHandler;
 
     private Select() {
@@ -60,6 +62,26 @@ public final class Select extends AbstractWidget {
         return this.value;
     }
 
+    /**
+     * Returns the number of options of the select.
+     *
+     * <p>
+     * When the select has more options than the ones sent with the form, the other options should be retrieved on
+     * demand thanks to {@link #getLazyOptions()}.
+     * </p>
+     *
+     * @return The number of options of the select
+     */
+    @GraphQLField
+    @GraphQLNonNull
+    public int getOptionsCount() {
+        return this.lazyOptions.getCount();
+    }
+
+    public LazySelectOptions getLazyOptions() {
+        return this.lazyOptions;
+    }
+
     public Function<String, Status> getNewValueHandler() {
         return this.newValueHandler;
     }
@@ -70,8 +92,8 @@ public final class Select extends AbstractWidget {
 
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, label: {2}, value: {3}, options: {4}'}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.getId(), this.label, this.value, this.options);
+        String pattern = "{0} '{'id: {1}, label: {2}, value: {3}, options: {4}, optionsCount: {5}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.getId(), this.label, this.value, this.options, this.getOptionsCount());
     }
 
     /**
@@ -89,6 +111,8 @@ public final class Select extends AbstractWidget {
 
         private String value;
 
+        private LazySelectOptions lazyOptions;
+
         private Function<String, Status> newValueHandler;
 
         private Builder(String id) {
@@ -110,6 +134,11 @@ public final class Select extends AbstractWidget {
             return this;
         }
 
+        public Builder lazyOptions(LazySelectOptions lazyOptions) {
+            this.lazyOptions = Objects.requireNonNull(lazyOptions);
+            return this;
+        }
+
         public Builder newValueHandler(Function<String, Status> newValueHandler) {
             this.newValueHandler = Objects.requireNonNull(newValueHandler);
             return this;
@@ -121,6 +150,7 @@ public final class Select extends AbstractWidget {
             select.label = Objects.requireNonNull(this.label);
             select.options = Objects.requireNonNull(this.options);
             select.value = this.value;
+            select.lazyOptions = Objects.requireNonNull(this.lazyOptions);
             select.newValueHandler = Objects.requireNonNull(this.newValueHandler);
             return select;
         }
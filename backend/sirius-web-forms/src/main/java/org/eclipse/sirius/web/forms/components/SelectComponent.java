@@ -12,13 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.forms.components;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.components.IComponent;
+import org.eclipse.sirius.web.forms.LazySelectOptions;
+import org.eclipse.sirius.web.forms.Select;
 import org.eclipse.sirius.web.forms.SelectOption;
 import org.eclipse.sirius.web.forms.description.SelectDescription;
 import org.eclipse.sirius.web.forms.elements.SelectElementProps;
@@ -50,22 +51,25 @@ public class SelectComponent implements IComponent {
         List<Object> optionCandidates = selectDescription.getOptionsProvider().apply(variableManager);
         String value = selectDescription.getValueProvider().apply(variableManager);
 
-        List<SelectOption> options = new ArrayList<>();
-        for (Object candidate : optionCandidates) {
-            VariableManager optionVariableManager = variableManager.createChild();
-            optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
+        Function<Object, String> optionIdProvider = candidate -> selectDescription.getOptionIdProvider().apply(this.createOptionVariableManager(variableManager, candidate));
+        Function<Object, String> optionLabelProvider = candidate -> selectDescription.getOptionLabelProvider().apply(this.createOptionVariableManager(variableManager, candidate));
 
-            String optionId = selectDescription.getOptionIdProvider().apply(optionVariableManager);
-            String optionLabel = selectDescription.getOptionLabelProvider().apply(optionVariableManager);
-
-            // @formatter:off
-            SelectOption option = SelectOption.newSelectOption(optionId)
-                    .label(optionLabel)
-                    .build();
-            // @formatter:on
+        // The ids of the options computed during the previous rendering are reused for the candidates still there
+        // @formatter:off
+        LazySelectOptions lazyOptions = variableManager.get(WidgetComponent.PREVIOUS_WIDGET, Select.class)
+                .map(Select::getLazyOptions)
+                .map(previousOptions -> new LazySelectOptions(optionCandidates, optionIdProvider, optionLabelProvider, previousOptions))
+                .orElseGet(() -> new LazySelectOptions(optionCandidates, optionIdProvider, optionLabelProvider));
+        // @formatter:on
 
-            options.add(option);
+        List<SelectOption> options;
+        if (optionCandidates.size() > selectDescription.getLazyOptionsThreshold()) {
+            // Only the option of the current value is sent with the form, the other ones will be retrieved on demand
+            options = lazyOptions.getOption(value).map(List::of).orElse(List.of());
+        } else {
+            options = lazyOptions.getOptions();
         }
+
         Function<String, Status> specializedHandler = newValue -> {
             return selectDescription.getNewValueHandler().apply(variableManager, newValue);
         };
@@ -75,9 +79,16 @@ public class SelectComponent implements IComponent {
                 .label(label)
                 .options(options)
                 .value(value)
+                .lazyOptions(lazyOptions)
                 .newValueHandler(specializedHandler)
                 .build();
         return new Element(SelectElementProps.TYPE, selectElementProps);
         // @formatter:on
     }
+
+    private VariableManager createOptionVariableManager(VariableManager variableManager, Object candidate) {
+        VariableManager optionVariableManager = variableManager.createChild();
+        optionVariableManager.put(CANDIDATE_VARIABLE, candidate);
+        return optionVariableManager;
+    }
 }
@@ -14,16 +14,20 @@ package org.eclipse.sirius.web.forms.components;
 
 import java.text.MessageFormat;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.components.IComponent;
 import org.eclipse.sirius.web.forms.description.AbstractWidgetDescription;
 import org.eclipse.sirius.web.forms.description.CheckboxDescription;
+import org.eclipse.sirius.web.forms.description.FormDescription;
 import org.eclipse.sirius.web.forms.description.ListDescription;
 import org.eclipse.sirius.web.forms.description.RadioDescription;
 import org.eclipse.sirius.web.forms.description.SelectDescription;
 import org.eclipse.sirius.web.forms.description.TextareaDescription;
 import org.eclipse.sirius.web.forms.description.TextfieldDescription;
+import org.eclipse.sirius.web.forms.renderer.FormRenderingCache;
+import org.eclipse.sirius.web.forms.renderer.WidgetRenderingRecord;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +39,18 @@ import org.slf4j.LoggerFactory;
  */
 public class WidgetComponent implements IComponent {
 
+    /**
+     * The variable name used to store the {@link WidgetDependencyRecorder} of the widget being rendered in the
+     * {@link VariableManager}.
+     */
+    public static final String DEPENDENCY_RECORDER = "widgetDependencyRecorder"; //$NON-NLS-1$
+
+    /**
+     * The variable name used to store the previous rendering of the widget in the {@link VariableManager} when the widget
+     * is rendered again by an incremental refresh.
+     */
+    public static final String PREVIOUS_WIDGET = "previousWidget"; //$NON-NLS-1$
+
     private final Logger logger = LoggerFactory.getLogger(WidgetComponent.class);
 
     private final WidgetComponentProps props;
@@ -48,6 +64,13 @@ public class WidgetComponent implements IComponent {
         VariableManager variableManager = this.props.getVariableManager();
         AbstractWidgetDescription widgetDescription = this.props.getWidgetDescription();
 
+        Optional<FormRenderingCache> optionalCache = variableManager.get(FormDescription.CACHE, FormRenderingCache.class);
+        WidgetDependencyRecorder dependencyRecorder = new WidgetDependencyRecorder();
+        if (optionalCache.isPresent()) {
+            variableManager = variableManager.createChild();
+            variableManager.put(DEPENDENCY_RECORDER, dependencyRecorder);
+        }
+
         Element element = null;
         if (widgetDescription instanceof TextfieldDescription) {
             TextfieldComponentProps textfieldProps = new TextfieldComponentProps(variableManager, (TextfieldDescription) widgetDescription);
@@ -71,6 +94,16 @@ public class WidgetComponent implements IComponent {
             String pattern = "Unsupported widget description: {0}"; //$NON-NLS-1$
             this.logger.error(MessageFormat.format(pattern, widgetDescription.getClass().getSimpleName()));
         }
+
+        if (element != null && optionalCache.isPresent()) {
+            // The id of the widget will be computed with the current value of the counter during its rendering
+            // @formatter:off
+            int widgetIdCounter = variableManager.get(GroupComponent.WIDGET_ID_PROVIDER_COUNTER, WidgetIdCounter.class)
+                    .map(WidgetIdCounter::getCounter)
+                    .orElse(0);
+            // @formatter:on
+            optionalCache.get().add(new WidgetRenderingRecord(this.props, widgetIdCounter, dependencyRecorder));
+        }
         return element;
     }
 }
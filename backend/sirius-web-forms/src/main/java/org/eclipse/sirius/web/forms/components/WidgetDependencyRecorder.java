@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.components;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Used to record the values read by a widget during its rendering.
+ *
+ * <p>
+ * The recorder of the widget being rendered is available in the variable manager thanks to the variable
+ * {@link WidgetComponent#DEPENDENCY_RECORDER}. The providers of the widget can record a supplier of each value that they
+ * read, the semantic feature of an object for example. The current value is kept and the widget will only be rendered
+ * again by an incremental refresh if one of those values has changed. The structure of the form (its pages, its groups
+ * and the widgets created by the for and if descriptions) is only computed again by a full refresh, dependencies should
+ * thus only be recorded by widgets whose existence does not depend on them.
+ * </p>
+ *
+ * <p>
+ * A widget without any dependency recorded cannot be refreshed incrementally.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class WidgetDependencyRecorder {
+
+    private final List<Supplier<Object>> valueSuppliers = new ArrayList<>();
+
+    private final List<Object> values = new ArrayList<>();
+
+    /**
+     * Records a dependency of the widget.
+     *
+     * @param valueSupplier
+     *            The supplier of the value, it should return a new copy of mutable values such as lists since the value
+     *            returned is kept in order to be compared later
+     */
+    public void record(Supplier<Object> valueSupplier) {
+        this.record(valueSupplier.get(), valueSupplier);
+    }
+
+    /**
+     * Records a dependency of the widget whose current value has already been computed.
+     *
+     * @param value
+     *            The current value, it will be compared with the values returned later by the supplier
+     * @param valueSupplier
+     *            The supplier of the value, it should return a new copy of mutable values such as lists
+     */
+    public void record(Object value, Supplier<Object> valueSupplier) {
+        this.valueSuppliers.add(Objects.requireNonNull(valueSupplier));
+        this.values.add(value);
+    }
+
+    public boolean isEmpty() {
+        return this.valueSuppliers.isEmpty();
+    }
+
+    /**
+     * Indicates if one of the values recorded has changed.
+     *
+     * @return <code>true</code> if one of the values has changed or if no dependency has been recorded,
+     *         <code>false</code> otherwise
+     */
+    public boolean hasChanged() {
+        boolean hasChanged = this.valueSuppliers.isEmpty();
+        for (int index = 0; index < this.valueSuppliers.size() && !hasChanged; index++) {
+            hasChanged = !Objects.equals(this.values.get(index), this.valueSuppliers.get(index).get());
+        }
+        return hasChanged;
+    }
+}
@@ -35,6 +35,20 @@ package org.eclipse.sirius.web.forms.components;
 public final class WidgetIdCounter {
     int counter;
 
+    public WidgetIdCounter() {
+        // Start with 0
+    }
+
+    /**
+     * Creates a counter starting with the given value, used to render a widget again with the same id.
+     *
+     * @param counter
+     *            The initial value of the counter
+     */
+    public WidgetIdCounter(int counter) {
+        this.counter = counter;
+    }
+
     public int getCounter() {
         return this.counter;
     }
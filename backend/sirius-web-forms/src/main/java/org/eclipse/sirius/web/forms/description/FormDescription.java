@@ -34,6 +34,12 @@ import org.eclipse.sirius.web.representations.VariableManager;
 @Immutable
 @GraphQLObjectType
 public final class FormDescription implements IRepresentationDescription {
+
+    /**
+     * The name of the variable used to store and retrieve the cache of the rendering from a variable manager.
+     */
+    public static final String CACHE = "cache"; //$NON-NLS-1$
+
     private UUID id;
 
     private String label;
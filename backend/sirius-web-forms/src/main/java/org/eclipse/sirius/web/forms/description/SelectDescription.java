@@ -42,6 +42,8 @@ public final class SelectDescription extends AbstractWidgetDescription {
 
     private Function<VariableManager, String> valueProvider;
 
+    private int lazyOptionsThreshold;
+
     private BiFunction<VariableManager, String, Status> newValueHandler;
 
     private SelectDescription() {
@@ -72,6 +74,16 @@ public final class SelectDescription extends AbstractWidgetDescription {
         return this.valueProvider;
     }
 
+    /**
+     * Returns the number of options above which only the option of the current value is sent with the form, the other
+     * options being retrieved on demand.
+     *
+     * @return The threshold of the lazy options
+     */
+    public int getLazyOptionsThreshold() {
+        return this.lazyOptionsThreshold;
+    }
+
     public BiFunction<VariableManager, String, Status> getNewValueHandler() {
         return this.newValueHandler;
     }
@@ -107,6 +119,8 @@ public final class SelectDescription extends AbstractWidgetDescription {
 
         private Function<VariableManager, String> valueProvider;
 
+        private int lazyOptionsThreshold = Integer.MAX_VALUE;
+
         private BiFunction<VariableManager, String, Status> newValueHandler;
 
         private Builder(String id) {
@@ -143,6 +157,11 @@ public final class SelectDescription extends AbstractWidgetDescription {
             return this;
         }
 
+        public Builder lazyOptionsThreshold(int lazyOptionsThreshold) {
+            this.lazyOptionsThreshold = lazyOptionsThreshold;
+            return this;
+        }
+
         public Builder newValueHandler(BiFunction<VariableManager, String, Status> newValueHandler) {
             this.newValueHandler = Objects.requireNonNull(newValueHandler);
             return this;
@@ -157,6 +176,7 @@ public final class SelectDescription extends AbstractWidgetDescription {
             selectDescription.optionIdProvider = Objects.requireNonNull(this.optionIdProvider);
             selectDescription.optionLabelProvider = Objects.requireNonNull(this.optionLabelProvider);
             selectDescription.valueProvider = Objects.requireNonNull(this.valueProvider);
+            selectDescription.lazyOptionsThreshold = this.lazyOptionsThreshold;
             selectDescription.newValueHandler = Objects.requireNonNull(this.newValueHandler);
             return selectDescription;
         }
@@ -19,6 +19,7 @@ import java.util.function.Function;
 
 import org.eclipse.sirius.web.annotations.Immutable;
 import org.eclipse.sirius.web.components.IProps;
+import org.eclipse.sirius.web.forms.LazySelectOptions;
 import org.eclipse.sirius.web.forms.SelectOption;
 import org.eclipse.sirius.web.representations.Status;
 
@@ -39,6 +40,8 @@ public final class SelectElementProps implements IProps {
 
     private String value;
 
+    private LazySelectOptions lazyOptions;
+
     private Function<String, Status> newValueHandler;
 
     private SelectElementProps() {
@@ -61,6 +64,10 @@ public final class SelectElementProps implements IProps {
         return this.value;
     }
 
+    public LazySelectOptions getLazyOptions() {
+        return this.lazyOptions;
+    }
+
     public Function<String, Status> getNewValueHandler() {
         return this.newValueHandler;
     }
@@ -91,6 +98,8 @@ public final class SelectElementProps implements IProps {
 
         private String value;
 
+        private LazySelectOptions lazyOptions;
+
         private Function<String, Status> newValueHandler;
 
         private Builder(String id) {
@@ -112,6 +121,11 @@ public final class SelectElementProps implements IProps {
             return this;
         }
 
+        public Builder lazyOptions(LazySelectOptions lazyOptions) {
+            this.lazyOptions = Objects.requireNonNull(lazyOptions);
+            return this;
+        }
+
         public Builder newValueHandler(Function<String, Status> handler) {
             this.newValueHandler = Objects.requireNonNull(handler);
             return this;
@@ -123,6 +137,7 @@ public final class SelectElementProps implements IProps {
             selectElementProps.label = Objects.requireNonNull(this.label);
             selectElementProps.options = Objects.requireNonNull(this.options);
             selectElementProps.value = this.value;
+            selectElementProps.lazyOptions = Objects.requireNonNull(this.lazyOptions);
             selectElementProps.newValueHandler = Objects.requireNonNull(this.newValueHandler);
             return selectElementProps;
         }
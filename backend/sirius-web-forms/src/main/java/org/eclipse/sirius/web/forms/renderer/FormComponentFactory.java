@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.renderer;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.web.components.ComponentFactoryRegistry;
+import org.eclipse.sirius.web.components.IComponent;
+import org.eclipse.sirius.web.components.IComponentFactory;
+import org.eclipse.sirius.web.components.IProps;
+import org.eclipse.sirius.web.forms.components.CheckboxComponent;
+import org.eclipse.sirius.web.forms.components.CheckboxComponentProps;
+import org.eclipse.sirius.web.forms.components.ForComponent;
+import org.eclipse.sirius.web.forms.components.ForComponentProps;
+import org.eclipse.sirius.web.forms.components.FormComponent;
+import org.eclipse.sirius.web.forms.components.FormComponentProps;
+import org.eclipse.sirius.web.forms.components.GroupComponent;
+import org.eclipse.sirius.web.forms.components.GroupComponentProps;
+import org.eclipse.sirius.web.forms.components.IfComponent;
+import org.eclipse.sirius.web.forms.components.IfComponentProps;
+import org.eclipse.sirius.web.forms.components.ListComponent;
+import org.eclipse.sirius.web.forms.components.ListComponentProps;
+import org.eclipse.sirius.web.forms.components.PageComponent;
+import org.eclipse.sirius.web.forms.components.PageComponentProps;
+import org.eclipse.sirius.web.forms.components.RadioComponent;
+import org.eclipse.sirius.web.forms.components.RadioComponentProps;
+import org.eclipse.sirius.web.forms.components.SelectComponent;
+import org.eclipse.sirius.web.forms.components.SelectComponentProps;
+import org.eclipse.sirius.web.forms.components.TextareaComponent;
+import org.eclipse.sirius.web.forms.components.TextareaComponentProps;
+import org.eclipse.sirius.web.forms.components.TextfieldComponent;
+import org.eclipse.sirius.web.forms.components.TextfieldComponentProps;
+import org.eclipse.sirius.web.forms.components.WidgetComponent;
+import org.eclipse.sirius.web.forms.components.WidgetComponentProps;
+
+/**
+ * Used to create the components of the form without relying on reflection.
+ *
+ * @author sbegaudeau
+ */
+public class FormComponentFactory implements IComponentFactory {
+
+    private final ComponentFactoryRegistry componentFactoryRegistry = new ComponentFactoryRegistry();
+
+    public FormComponentFactory() {
+        // @formatter:off
+        this.componentFactoryRegistry.register(FormComponent.class, FormComponentProps.class, FormComponent::new)
+                .register(PageComponent.class, PageComponentProps.class, PageComponent::new)
+                .register(GroupComponent.class, GroupComponentProps.class, GroupComponent::new)
+                .register(ForComponent.class, ForComponentProps.class, ForComponent::new)
+                .register(IfComponent.class, IfComponentProps.class, IfComponent::new)
+                .register(WidgetComponent.class, WidgetComponentProps.class, WidgetComponent::new)
+                .register(CheckboxComponent.class, CheckboxComponentProps.class, CheckboxComponent::new)
+                .register(ListComponent.class, ListComponentProps.class, ListComponent::new)
+                .register(RadioComponent.class, RadioComponentProps.class, RadioComponent::new)
+                .register(SelectComponent.class, SelectComponentProps.class, SelectComponent::new)
+                .register(TextareaComponent.class, TextareaComponentProps.class, TextareaComponent::new)
+                .register(TextfieldComponent.class, TextfieldComponentProps.class, TextfieldComponent::new);
+        // @formatter:on
+    }
+
+    @Override
+    public Optional<IComponent> createComponent(Class<?> componentType, IProps props) {
+        return this.componentFactoryRegistry.createComponent(componentType, props);
+    }
+
+    @Override
+    public boolean canCreateComponent(Class<?> componentType) {
+        return this.componentFactoryRegistry.canCreateComponent(componentType);
+    }
+
+}
@@ -146,6 +146,7 @@ public class FormElementFactory implements IElementFactory {
                 .label(props.getLabel())
                 .options(props.getOptions())
                 .value(props.getValue())
+                .lazyOptions(props.getLazyOptions())
                 .newValueHandler(props.getNewValueHandler())
                 .build();
         // @formatter:on
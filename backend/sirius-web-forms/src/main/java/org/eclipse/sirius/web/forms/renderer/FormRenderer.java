@@ -16,6 +16,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.web.components.BaseRenderer;
 import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.forms.AbstractWidget;
 import org.eclipse.sirius.web.forms.Form;
 import org.slf4j.Logger;
 
@@ -35,7 +36,7 @@ public class FormRenderer {
     private final BaseRenderer baseRenderer;
 
     public FormRenderer(Logger logger) {
-        this.baseRenderer = new BaseRenderer(new FormInstancePropsValidator(), new FormComponentPropsValidator(), new FormElementFactory(), logger);
+        this.baseRenderer = new BaseRenderer(new FormInstancePropsValidator(), new FormComponentPropsValidator(), new FormElementFactory(), new FormComponentFactory(), logger);
     }
 
     public Form render(Element element) {
@@ -47,4 +48,19 @@ public class FormRenderer {
         // @fomatter:on
     }
 
+    /**
+     * Renders a single widget.
+     *
+     * @param element
+     *            The element of the widget component
+     * @return The widget or an empty optional if it could not be rendered
+     */
+    public Optional<AbstractWidget> renderWidget(Element element) {
+        // @formatter:off
+        return Optional.ofNullable(this.baseRenderer.renderElement(element))
+                .filter(AbstractWidget.class::isInstance)
+                .map(AbstractWidget.class::cast);
+        // @formatter:on
+    }
+
 }
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.renderer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache used during the rendering of a form.
+ * <p>
+ * It keeps a record of each widget rendered, in the order of the widgets in the form, in order to refresh them
+ * incrementally.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class FormRenderingCache {
+
+    private final List<WidgetRenderingRecord> widgetRecords = new ArrayList<>();
+
+    public void add(WidgetRenderingRecord widgetRecord) {
+        this.widgetRecords.add(widgetRecord);
+    }
+
+    public void set(int index, WidgetRenderingRecord widgetRecord) {
+        this.widgetRecords.set(index, widgetRecord);
+    }
+
+    public List<WidgetRenderingRecord> getWidgetRecords() {
+        return this.widgetRecords;
+    }
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.renderer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.forms.AbstractWidget;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.Group;
+import org.eclipse.sirius.web.forms.Page;
+import org.eclipse.sirius.web.forms.components.GroupComponent;
+import org.eclipse.sirius.web.forms.components.WidgetComponent;
+import org.eclipse.sirius.web.forms.components.WidgetComponentProps;
+import org.eclipse.sirius.web.forms.components.WidgetIdCounter;
+import org.eclipse.sirius.web.forms.description.FormDescription;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.slf4j.Logger;
+
+/**
+ * Renderer used to refresh a form by rendering again only the widgets whose dependencies have changed.
+ * <p>
+ * The widgets are rendered again with the variables used during their previous rendering, thanks to the
+ * {@link FormRenderingCache} of the form. The structure of the form, its pages and its groups, is kept as is.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class IncrementalFormRenderer {
+
+    private final FormRenderer formRenderer;
+
+    public IncrementalFormRenderer(Logger logger) {
+        this.formRenderer = new FormRenderer(logger);
+    }
+
+    /**
+     * Renders again the widgets of the form whose dependencies have changed.
+     *
+     * @param form
+     *            The form previously rendered
+     * @param label
+     *            The new label of the form
+     * @param cache
+     *            The cache filled during the rendering of the form, it will be updated with the widgets rendered again
+     * @return The refreshed form, the given form itself if nothing has changed or an empty optional if the form cannot be
+     *         refreshed incrementally
+     */
+    public Optional<Form> render(Form form, String label, FormRenderingCache cache) {
+        List<WidgetRenderingRecord> widgetRecords = cache.getWidgetRecords();
+        List<AbstractWidget> widgets = this.getWidgets(form);
+
+        boolean canRefresh = widgets.size() == widgetRecords.size() && widgetRecords.stream().noneMatch(widgetRecord -> widgetRecord.getDependencyRecorder().isEmpty());
+
+        Map<Integer, AbstractWidget> refreshedWidgets = new HashMap<>();
+        for (int index = 0; index < widgetRecords.size() && canRefresh; index++) {
+            WidgetRenderingRecord widgetRecord = widgetRecords.get(index);
+            if (widgetRecord.getDependencyRecorder().hasChanged()) {
+                String widgetId = widgets.get(index).getId();
+
+                FormRenderingCache widgetCache = new FormRenderingCache();
+                Optional<AbstractWidget> optionalWidget = this.renderWidget(widgetRecord, widgets.get(index), widgetCache).filter(widget -> Objects.equals(widgetId, widget.getId()));
+
+                canRefresh = optionalWidget.isPresent() && widgetCache.getWidgetRecords().size() == 1;
+                if (canRefresh) {
+                    refreshedWidgets.put(index, optionalWidget.get());
+
+                    // The original props are kept to avoid stacking variable managers refresh after refresh
+                    var dependencyRecorder = widgetCache.getWidgetRecords().get(0).getDependencyRecorder();
+                    cache.set(index, new WidgetRenderingRecord(widgetRecord.getProps(), widgetRecord.getWidgetIdCounter(), dependencyRecorder));
+                }
+            }
+        }
+
+        Optional<Form> optionalForm = Optional.empty();
+        if (canRefresh && refreshedWidgets.isEmpty() && Objects.equals(label, form.getLabel())) {
+            optionalForm = Optional.of(form);
+        } else if (canRefresh) {
+            optionalForm = Optional.of(this.replaceWidgets(form, label, refreshedWidgets));
+        }
+        return optionalForm;
+    }
+
+    private Optional<AbstractWidget> renderWidget(WidgetRenderingRecord widgetRecord, AbstractWidget previousWidget, FormRenderingCache widgetCache) {
+        VariableManager variableManager = widgetRecord.getProps().getVariableManager().createChild();
+        variableManager.put(GroupComponent.WIDGET_ID_PROVIDER_COUNTER, new WidgetIdCounter(widgetRecord.getWidgetIdCounter()));
+        variableManager.put(FormDescription.CACHE, widgetCache);
+        variableManager.put(WidgetComponent.PREVIOUS_WIDGET, previousWidget);
+
+        WidgetComponentProps props = new WidgetComponentProps(variableManager, widgetRecord.getProps().getWidgetDescription());
+        Optional<AbstractWidget> optionalWidget = this.formRenderer.renderWidget(new Element(WidgetComponent.class, props));
+
+        // The providers of the new widget may keep the variable manager, it should not keep all the previous widgets alive
+        variableManager.put(WidgetComponent.PREVIOUS_WIDGET, null);
+        return optionalWidget;
+    }
+
+    private List<AbstractWidget> getWidgets(Form form) {
+        List<AbstractWidget> widgets = new ArrayList<>();
+        for (Page page : form.getPages()) {
+            for (Group group : page.getGroups()) {
+                widgets.addAll(group.getWidgets());
+            }
+        }
+        return widgets;
+    }
+
+    private Form replaceWidgets(Form form, String label, Map<Integer, AbstractWidget> refreshedWidgets) {
+        int index = 0;
+
+        List<Page> pages = new ArrayList<>();
+        for (Page page : form.getPages()) {
+            List<Group> groups = new ArrayList<>();
+            for (Group group : page.getGroups()) {
+                List<AbstractWidget> widgets = new ArrayList<>();
+                for (AbstractWidget widget : group.getWidgets()) {
+                    widgets.add(refreshedWidgets.getOrDefault(index, widget));
+                    index++;
+                }
+
+                // @formatter:off
+                groups.add(Group.newGroup(group.getId())
+                        .label(group.getLabel())
+                        .widgets(widgets)
+                        .build());
+                // @formatter:on
+            }
+
+            // @formatter:off
+            pages.add(Page.newPage(page.getId())
+                    .label(page.getLabel())
+                    .groups(groups)
+                    .build());
+            // @formatter:on
+        }
+
+        // @formatter:off
+        return Form.newForm(form.getId())
+                .label(label)
+                .targetObjectId(form.getTargetObjectId())
+                .pages(pages)
+                .build();
+        // @formatter:on
+    }
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.renderer;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.forms.components.WidgetComponentProps;
+import org.eclipse.sirius.web.forms.components.WidgetDependencyRecorder;
+
+/**
+ * The information kept after the rendering of a widget in order to render it again on its own.
+ *
+ * @author sbegaudeau
+ */
+public class WidgetRenderingRecord {
+
+    private final WidgetComponentProps props;
+
+    private final int widgetIdCounter;
+
+    private final WidgetDependencyRecorder dependencyRecorder;
+
+    public WidgetRenderingRecord(WidgetComponentProps props, int widgetIdCounter, WidgetDependencyRecorder dependencyRecorder) {
+        this.props = Objects.requireNonNull(props);
+        this.widgetIdCounter = widgetIdCounter;
+        this.dependencyRecorder = Objects.requireNonNull(dependencyRecorder);
+    }
+
+    public WidgetComponentProps getProps() {
+        return this.props;
+    }
+
+    /**
+     * Returns the value of the counter used to compute the id of the widget before its rendering.
+     *
+     * @return The value of the widget id counter
+     */
+    public int getWidgetIdCounter() {
+        return this.widgetIdCounter;
+    }
+
+    public WidgetDependencyRecorder getDependencyRecorder() {
+        return this.dependencyRecorder;
+    }
+}
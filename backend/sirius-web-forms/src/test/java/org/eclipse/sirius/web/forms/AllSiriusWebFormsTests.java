@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.forms;
 
 import org.eclipse.sirius.web.forms.architecture.CodingRulesTestCases;
 import org.eclipse.sirius.web.forms.architecture.ImmutableTestCases;
+import org.eclipse.sirius.web.forms.renderer.IncrementalFormRendererTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -24,7 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author sbegaudeau
  */
 @RunWith(Suite.class)
-@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class })
+@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, IncrementalFormRendererTestCases.class, LazySelectOptionsTestCases.class })
 public final class AllSiriusWebFormsTests {
     private AllSiriusWebFormsTests() {
         // Prevent instantiation
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of the options of a select computed on demand.
+ *
+ * @author sbegaudeau
+ */
+public class LazySelectOptionsTestCases {
+
+    private static final String OPTION = "option"; //$NON-NLS-1$
+
+    private static final String LABEL = "Label "; //$NON-NLS-1$
+
+    private final List<Object> idProviderCandidates = new ArrayList<>();
+
+    private final List<Object> labelProviderCandidates = new ArrayList<>();
+
+    private final Function<Object, String> optionIdProvider = candidate -> {
+        this.idProviderCandidates.add(candidate);
+        return OPTION + candidate;
+    };
+
+    private final Function<Object, String> optionLabelProvider = candidate -> {
+        this.labelProviderCandidates.add(candidate);
+        return LABEL + candidate;
+    };
+
+    /**
+     * Checks that a page only computes the labels of the candidates after its start index and the ids of its options.
+     */
+    @Test
+    public void testPageStartsAtTheIndex() {
+        LazySelectOptions lazyOptions = new LazySelectOptions(List.of(0, 1, 2, 3, 4, 5), this.optionIdProvider, this.optionLabelProvider);
+
+        assertThat(lazyOptions.getOptionIndexes(null, 4, 10)).containsExactly(4, 5);
+        assertThat(this.labelProviderCandidates).isEmpty();
+
+        assertThat(lazyOptions.getOptionIndexes("LABEL 3", 2, 10)).containsExactly(3); //$NON-NLS-1$
+        assertThat(this.labelProviderCandidates).containsExactly(2, 3, 4, 5);
+
+        assertThat(lazyOptions.getOption(3).getId()).isEqualTo(OPTION + 3);
+        assertThat(this.idProviderCandidates).containsExactly(3);
+    }
+
+    /**
+     * Checks that the ids computed by the previous options are reused for the candidates which are still there.
+     */
+    @Test
+    public void testOptionIdsAreReused() {
+        LazySelectOptions previousOptions = new LazySelectOptions(List.of(0, 1, 2), this.optionIdProvider, this.optionLabelProvider);
+        assertThat(previousOptions.getOption(OPTION + 2)).map(SelectOption::getLabel).contains(LABEL + 2);
+        assertThat(this.idProviderCandidates).containsExactly(0, 1, 2);
+
+        this.idProviderCandidates.clear();
+        LazySelectOptions lazyOptions = new LazySelectOptions(List.of(3, 2, 1, 0), this.optionIdProvider, this.optionLabelProvider, previousOptions);
+        assertThat(lazyOptions.getOptions()).extracting(SelectOption::getId).containsExactly(OPTION + 3, OPTION + 2, OPTION + 1, OPTION + 0);
+        assertThat(this.idProviderCandidates).containsExactly(3);
+    }
+}
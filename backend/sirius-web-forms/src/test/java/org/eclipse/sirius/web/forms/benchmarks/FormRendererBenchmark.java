@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.components.FormComponent;
+import org.eclipse.sirius.web.forms.components.FormComponentProps;
+import org.eclipse.sirius.web.forms.description.AbstractControlDescription;
+import org.eclipse.sirius.web.forms.description.ForDescription;
+import org.eclipse.sirius.web.forms.description.FormDescription;
+import org.eclipse.sirius.web.forms.description.GroupDescription;
+import org.eclipse.sirius.web.forms.description.IfDescription;
+import org.eclipse.sirius.web.forms.description.PageDescription;
+import org.eclipse.sirius.web.forms.description.TextfieldDescription;
+import org.eclipse.sirius.web.forms.renderer.FormRenderer;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark of the rendering of a form with lots of widgets.
+ * <p>
+ * It can be used to compare the cost of the instantiation of the components by the renderer. It is not executed by the
+ * test suites and should be launched from the IDE or with the JMH runner.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class FormRendererBenchmark {
+
+    private static final String ITERATOR = "feature"; //$NON-NLS-1$
+
+    @Param({ "10", "100" })
+    private int widgetsCount;
+
+    private FormRenderer formRenderer;
+
+    private FormDescription formDescription;
+
+    @Setup
+    public void setup() {
+        Logger logger = LoggerFactory.getLogger(FormRendererBenchmark.class);
+        this.formRenderer = new FormRenderer(logger);
+
+        List<Object> features = IntStream.range(0, this.widgetsCount).mapToObj(String::valueOf).collect(Collectors.toList());
+
+        // @formatter:off
+        TextfieldDescription textfieldDescription = TextfieldDescription.newTextfieldDescription("textfieldId") //$NON-NLS-1$
+                .idProvider(variableManager -> variableManager.get(ITERATOR, String.class).orElse("")) //$NON-NLS-1$
+                .labelProvider(variableManager -> variableManager.get(ITERATOR, String.class).orElse("")) //$NON-NLS-1$
+                .valueProvider(variableManager -> variableManager.get(ITERATOR, String.class).orElse("")) //$NON-NLS-1$
+                .newValueHandler((variableManager, newValue) -> Status.OK)
+                .build();
+
+        IfDescription ifDescription = IfDescription.newIfDescription("ifId") //$NON-NLS-1$
+                .predicate(variableManager -> true)
+                .widgetDescription(textfieldDescription)
+                .build();
+
+        ForDescription forDescription = ForDescription.newForDescription("forId") //$NON-NLS-1$
+                .iterator(ITERATOR)
+                .iterableProvider(variableManager -> features)
+                .ifDescriptions(List.of(ifDescription))
+                .build();
+
+        List<AbstractControlDescription> controlDescriptions = List.of(forDescription);
+        GroupDescription groupDescription = GroupDescription.newGroupDescription("groupId") //$NON-NLS-1$
+                .idProvider(variableManager -> "group") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Group") //$NON-NLS-1$
+                .semanticElementsProvider(variableManager -> List.of(variableManager.getVariables().get(VariableManager.SELF)))
+                .controlDescriptions(controlDescriptions)
+                .build();
+
+        PageDescription pageDescription = PageDescription.newPageDescription("pageId") //$NON-NLS-1$
+                .idProvider(variableManager -> "page") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Page") //$NON-NLS-1$
+                .semanticElementsProvider(variableManager -> List.of(variableManager.getVariables().get(VariableManager.SELF)))
+                .groupDescriptions(List.of(groupDescription))
+                .canCreatePredicate(variableManager -> true)
+                .build();
+
+        this.formDescription = FormDescription.newFormDescription(UUID.randomUUID())
+                .label("Benchmark") //$NON-NLS-1$
+                .idProvider(variableManager -> UUID.randomUUID())
+                .labelProvider(variableManager -> "Form") //$NON-NLS-1$
+                .targetObjectIdProvider(variableManager -> "targetObjectId") //$NON-NLS-1$
+                .pageDescriptions(List.of(pageDescription))
+                .groupDescriptions(List.of(groupDescription))
+                .build();
+        // @formatter:on
+    }
+
+    @Benchmark
+    public void render(Blackhole blackhole) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, "self"); //$NON-NLS-1$
+        Element element = new Element(FormComponent.class, new FormComponentProps(variableManager, this.formDescription));
+        Form form = this.formRenderer.render(element);
+        blackhole.consume(form);
+    }
+
+}
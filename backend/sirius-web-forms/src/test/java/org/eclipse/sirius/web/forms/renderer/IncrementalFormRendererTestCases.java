@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.forms.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.forms.AbstractWidget;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.Textfield;
+import org.eclipse.sirius.web.forms.components.FormComponent;
+import org.eclipse.sirius.web.forms.components.FormComponentProps;
+import org.eclipse.sirius.web.forms.components.GroupComponent;
+import org.eclipse.sirius.web.forms.components.WidgetComponent;
+import org.eclipse.sirius.web.forms.components.WidgetDependencyRecorder;
+import org.eclipse.sirius.web.forms.components.WidgetIdCounter;
+import org.eclipse.sirius.web.forms.description.ForDescription;
+import org.eclipse.sirius.web.forms.description.FormDescription;
+import org.eclipse.sirius.web.forms.description.GroupDescription;
+import org.eclipse.sirius.web.forms.description.IfDescription;
+import org.eclipse.sirius.web.forms.description.PageDescription;
+import org.eclipse.sirius.web.forms.description.TextfieldDescription;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Test cases for the incremental refresh of forms.
+ *
+ * @author sbegaudeau
+ */
+public class IncrementalFormRendererTestCases {
+
+    private static final String FEATURE = "feature"; //$NON-NLS-1$
+
+    private static final String NAME = "name"; //$NON-NLS-1$
+
+    private static final String DESCRIPTION = "description"; //$NON-NLS-1$
+
+    private final Logger logger = LoggerFactory.getLogger(IncrementalFormRendererTestCases.class);
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private final AtomicInteger valueProviderCount = new AtomicInteger();
+
+    /**
+     * Checks that only the widgets whose dependencies have changed are rendered again, with the same id.
+     */
+    @Test
+    public void testOnlyChangedWidgetsAreRendered() {
+        this.values.put(NAME, "Name"); //$NON-NLS-1$
+        this.values.put(DESCRIPTION, "Description"); //$NON-NLS-1$
+
+        FormRenderingCache cache = new FormRenderingCache();
+        Form form = this.render(this.getFormDescription(true), cache);
+        assertThat(cache.getWidgetRecords()).hasSize(2);
+        assertThat(this.valueProviderCount.get()).isEqualTo(2);
+
+        IncrementalFormRenderer incrementalFormRenderer = new IncrementalFormRenderer(this.logger);
+        assertThat(incrementalFormRenderer.render(form, form.getLabel(), cache)).containsSame(form);
+        assertThat(this.valueProviderCount.get()).isEqualTo(2);
+
+        this.values.put(DESCRIPTION, "New description"); //$NON-NLS-1$
+        Optional<Form> optionalForm = incrementalFormRenderer.render(form, form.getLabel(), cache);
+        assertThat(optionalForm).isPresent();
+        assertThat(this.valueProviderCount.get()).isEqualTo(3);
+
+        List<AbstractWidget> previousWidgets = form.getPages().get(0).getGroups().get(0).getWidgets();
+        List<AbstractWidget> widgets = optionalForm.get().getPages().get(0).getGroups().get(0).getWidgets();
+        assertThat(widgets).hasSize(2);
+        assertThat(widgets.get(0)).isSameAs(previousWidgets.get(0));
+        assertThat(widgets.get(1)).isNotSameAs(previousWidgets.get(1));
+        assertThat(widgets.get(1).getId()).isEqualTo(previousWidgets.get(1).getId());
+        assertThat(((Textfield) widgets.get(1)).getValue()).isEqualTo("New description"); //$NON-NLS-1$
+
+        Form refreshedForm = optionalForm.get();
+        assertThat(incrementalFormRenderer.render(refreshedForm, refreshedForm.getLabel(), cache)).containsSame(refreshedForm);
+    }
+
+    /**
+     * Checks that a form with a widget without any dependency recorded cannot be refreshed incrementally.
+     */
+    @Test
+    public void testWidgetsWithoutDependencies() {
+        this.values.put(NAME, "Name"); //$NON-NLS-1$
+
+        FormRenderingCache cache = new FormRenderingCache();
+        Form form = this.render(this.getFormDescription(false), cache);
+        assertThat(cache.getWidgetRecords()).hasSize(2);
+
+        assertThat(new IncrementalFormRenderer(this.logger).render(form, form.getLabel(), cache)).isEmpty();
+    }
+
+    private Form render(FormDescription formDescription, FormRenderingCache cache) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, "self"); //$NON-NLS-1$
+        variableManager.put(FormDescription.CACHE, cache);
+
+        Element element = new Element(FormComponent.class, new FormComponentProps(variableManager, formDescription));
+        return new FormRenderer(this.logger).render(element);
+    }
+
+    private FormDescription getFormDescription(boolean shouldRecordDependencies) {
+        // @formatter:off
+        TextfieldDescription textfieldDescription = TextfieldDescription.newTextfieldDescription("textfieldId") //$NON-NLS-1$
+                .idProvider(variableManager -> {
+                    WidgetIdCounter counter = variableManager.get(GroupComponent.WIDGET_ID_PROVIDER_COUNTER, WidgetIdCounter.class).get();
+                    String id = "widget#" + counter.getCounter(); //$NON-NLS-1$
+                    counter.increment();
+                    return id;
+                })
+                .labelProvider(variableManager -> variableManager.get(FEATURE, String.class).orElse("")) //$NON-NLS-1$
+                .valueProvider(variableManager -> {
+                    this.valueProviderCount.incrementAndGet();
+                    String feature = variableManager.get(FEATURE, String.class).orElse(""); //$NON-NLS-1$
+                    if (shouldRecordDependencies) {
+                        variableManager.get(WidgetComponent.DEPENDENCY_RECORDER, WidgetDependencyRecorder.class)
+                                .ifPresent(recorder -> recorder.record(() -> this.values.get(feature)));
+                    }
+                    return this.values.get(feature);
+                })
+                .newValueHandler((variableManager, newValue) -> Status.OK)
+                .build();
+
+        IfDescription ifDescription = IfDescription.newIfDescription("ifId") //$NON-NLS-1$
+                .predicate(variableManager -> true)
+                .widgetDescription(textfieldDescription)
+                .build();
+
+        ForDescription forDescription = ForDescription.newForDescription("forId") //$NON-NLS-1$
+                .iterator(FEATURE)
+                .iterableProvider(variableManager -> List.of(NAME, DESCRIPTION))
+                .ifDescriptions(List.of(ifDescription))
+                .build();
+
+        GroupDescription groupDescription = GroupDescription.newGroupDescription("groupId") //$NON-NLS-1$
+                .idProvider(variableManager -> "group") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Group") //$NON-NLS-1$
+                .semanticElementsProvider(variableManager -> List.of(variableManager.getVariables().get(VariableManager.SELF)))
+                .controlDescriptions(List.of(forDescription))
+                .build();
+
+        PageDescription pageDescription = PageDescription.newPageDescription("pageId") //$NON-NLS-1$
+                .idProvider(variableManager -> "page") //$NON-NLS-1$
+                .labelProvider(variableManager -> "Page") //$NON-NLS-1$
+                .semanticElementsProvider(variableManager -> List.of(variableManager.getVariables().get(VariableManager.SELF)))
+                .groupDescriptions(List.of(groupDescription))
+                .canCreatePredicate(variableManager -> true)
+                .build();
+
+        return FormDescription.newFormDescription(UUID.randomUUID())
+                .label("Form description") //$NON-NLS-1$
+                .idProvider(variableManager -> UUID.randomUUID())
+                .labelProvider(variableManager -> "Form") //$NON-NLS-1$
+                .targetObjectIdProvider(variableManager -> "targetObjectId") //$NON-NLS-1$
+                .pageDescriptions(List.of(pageDescription))
+                .groupDescriptions(List.of(groupDescription))
+                .build();
+        // @formatter:on
+    }
+}
@@ -31,9 +31,11 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramEventInput;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.web.collaborative.forms.api.dto.FormEventInput;
 import org.eclipse.sirius.web.collaborative.forms.api.dto.FormRefreshedEventPayload;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.FormWidgetsRefreshedEventPayload;
 import org.eclipse.sirius.web.collaborative.forms.api.dto.WidgetSubscription;
 import org.eclipse.sirius.web.collaborative.forms.api.dto.WidgetSubscriptionsUpdatedEventPayload;
 import org.eclipse.sirius.web.collaborative.trees.api.TreeEventInput;
+import org.eclipse.sirius.web.collaborative.trees.api.TreeItemsRefreshedEventPayload;
 import org.eclipse.sirius.web.collaborative.trees.api.TreeRefreshedEventPayload;
 import org.eclipse.sirius.web.graphql.utils.providers.GraphQLInputObjectTypeProvider;
 import org.eclipse.sirius.web.graphql.utils.providers.GraphQLObjectTypeProvider;
@@ -139,7 +141,9 @@ public class SubscriptionTypeProvider implements ISubscriptionTypeProvider {
                 SubscribersUpdatedEventPayload.class,
                 DiagramRefreshedEventPayload.class,
                 FormRefreshedEventPayload.class,
+                FormWidgetsRefreshedEventPayload.class,
                 TreeRefreshedEventPayload.class,
+                TreeItemsRefreshedEventPayload.class,
                 RepresentationRenamedEventPayload.class,
                 ProjectRenamedEventPayload.class,
                 WidgetSubscriptionsUpdatedEventPayload.class,
@@ -187,6 +191,7 @@ public class SubscriptionTypeProvider implements ISubscriptionTypeProvider {
         // @formatter:off
         return GraphQLUnionType.newUnionType().name(FORM_EVENT_PAYLOAD_UNION_TYPE).possibleTypes(
                 new GraphQLTypeReference(FormRefreshedEventPayload.class.getSimpleName()),
+                new GraphQLTypeReference(FormWidgetsRefreshedEventPayload.class.getSimpleName()),
                 new GraphQLTypeReference(SubscribersUpdatedEventPayload.class.getSimpleName()),
                 new GraphQLTypeReference(WidgetSubscriptionsUpdatedEventPayload.class.getSimpleName()),
                 new GraphQLTypeReference(PreDestroyPayload.class.getSimpleName())
@@ -198,6 +203,7 @@ public class SubscriptionTypeProvider implements ISubscriptionTypeProvider {
         // @formatter:off
         return GraphQLUnionType.newUnionType().name(TREE_EVENT_PAYLOAD_UNION_TYPE).possibleTypes(
                 new GraphQLTypeReference(TreeRefreshedEventPayload.class.getSimpleName()),
+                new GraphQLTypeReference(TreeItemsRefreshedEventPayload.class.getSimpleName()),
                 new GraphQLTypeReference(SubscribersUpdatedEventPayload.class.getSimpleName()),
                 new GraphQLTypeReference(PreDestroyPayload.class.getSimpleName())
             ).build();
@@ -52,6 +52,8 @@ import graphql.schema.GraphQLTypeReference;
  *   namespaces: [Namespace!]!
  *   toolSections(diagramId: ID!): [ToolSection!]!
  *   capabilities: Capabilities!
+ *   selectOptions(projectId: ID!, representationId: ID!, selectId: ID!, filter: String, first: Int, after: String, last: Int, before: String): ViewerSelectOptionConnection!
+ *   treeItemChildren(projectId: ID!, representationId: ID!, treeItemId: ID!, first: Int, after: String, last: Int, before: String): ViewerTreeItemConnection!
  * }
  *
  * type User implements Viewer {
@@ -66,6 +68,8 @@ import graphql.schema.GraphQLTypeReference;
  *   namespaces: [Namespace!]!
  *   toolSections(diagramId: ID!): [ToolSection!]!
  *   capabilities: Capabilities!
+ *   selectOptions(projectId: ID!, representationId: ID!, selectId: ID!, filter: String, first: Int, after: String, last: Int, before: String): ViewerSelectOptionConnection!
+ *   treeItemChildren(projectId: ID!, representationId: ID!, treeItemId: ID!, first: Int, after: String, last: Int, before: String): ViewerTreeItemConnection!
  * }
  *
  * type ViewerRepresentationDescriptionConnection {
@@ -76,6 +80,24 @@ import graphql.schema.GraphQLTypeReference;
  * type ViewerRepresentationDescriptionEdge {
  *   node: RepresentationDescription!
  * }
+ *
+ * type ViewerSelectOptionConnection {
+ *   edges: [ViewerSelectOptionEdge!]!
+ *   pageInfo: PageInfo!
+ * }
+ *
+ * type ViewerSelectOptionEdge {
+ *   node: SelectOption!
+ * }
+ *
+ * type ViewerTreeItemConnection {
+ *   edges: [ViewerTreeItemEdge!]!
+ *   pageInfo: PageInfo!
+ * }
+ *
+ * type ViewerTreeItemEdge {
+ *   node: TreeItem!
+ * }
  * </pre>
  *
  * @author sbegaudeau
@@ -122,6 +144,28 @@ public class ViewerTypeProvider implements ITypeProvider {
 
     public static final String CAPABILITIES_FIELD = "capabilities"; //$NON-NLS-1$
 
+    public static final String SELECT_OPTIONS_FIELD = "selectOptions"; //$NON-NLS-1$
+
+    public static final String REPRESENTATION_ID_ARGUMENT = "representationId"; //$NON-NLS-1$
+
+    public static final String SELECT_ID_ARGUMENT = "selectId"; //$NON-NLS-1$
+
+    public static final String FILTER_ARGUMENT = "filter"; //$NON-NLS-1$
+
+    public static final String SELECT_OPTION_TYPE = "SelectOption"; //$NON-NLS-1$
+
+    public static final String VIEWER_SELECT_OPTIONS_CONNECTION = TYPE + SELECT_OPTION_TYPE + GraphQLConstants.CONNECTION;
+
+    public static final String VIEWER_SELECT_OPTIONS_EDGE = TYPE + SELECT_OPTION_TYPE + GraphQLConstants.EDGE;
+
+    public static final String TREE_ITEM_CHILDREN_FIELD = "treeItemChildren"; //$NON-NLS-1$
+
+    public static final String TREE_ITEM_ID_ARGUMENT = "treeItemId"; //$NON-NLS-1$
+
+    public static final String VIEWER_TREE_ITEMS_CONNECTION = TYPE + TreeTypeProvider.TREE_ITEM_TYPE + GraphQLConstants.CONNECTION;
+
+    public static final String VIEWER_TREE_ITEMS_EDGE = TYPE + TreeTypeProvider.TREE_ITEM_TYPE + GraphQLConstants.EDGE;
+
     @Override
     public Set<GraphQLType> getTypes() {
         GraphQLInterfaceType viewerInterface = this.getViewerInterface();
@@ -131,7 +175,14 @@ public class ViewerTypeProvider implements ITypeProvider {
         GraphQLObjectType viewerRepresentationDescriptionConnection = new PaginationConnectionTypeProvider(VIEWER_REPRESENTATION_DESCRIPTIONS_CONNECTION, VIEWER_REPRESENTATION_DESCRIPTIONS_EDGE)
                 .getType();
 
-        return Set.of(viewerInterface, userType, viewerRepresentationDescriptionEdge, viewerRepresentationDescriptionConnection);
+        GraphQLObjectType viewerSelectOptionEdge = new PaginationEdgeTypeProvider(VIEWER_SELECT_OPTIONS_EDGE, SELECT_OPTION_TYPE).getType();
+        GraphQLObjectType viewerSelectOptionConnection = new PaginationConnectionTypeProvider(VIEWER_SELECT_OPTIONS_CONNECTION, VIEWER_SELECT_OPTIONS_EDGE).getType();
+
+        GraphQLObjectType viewerTreeItemEdge = new PaginationEdgeTypeProvider(VIEWER_TREE_ITEMS_EDGE, TreeTypeProvider.TREE_ITEM_TYPE).getType();
+        GraphQLObjectType viewerTreeItemConnection = new PaginationConnectionTypeProvider(VIEWER_TREE_ITEMS_CONNECTION, VIEWER_TREE_ITEMS_EDGE).getType();
+
+        return Set.of(viewerInterface, userType, viewerRepresentationDescriptionEdge, viewerRepresentationDescriptionConnection, viewerSelectOptionEdge, viewerSelectOptionConnection,
+                viewerTreeItemEdge, viewerTreeItemConnection);
     }
 
     private GraphQLInterfaceType getViewerInterface() {
@@ -166,6 +217,8 @@ public class ViewerTypeProvider implements ITypeProvider {
         viewerFieldsDefinition.add(this.getRepresentationDescriptionField());
         viewerFieldsDefinition.add(this.getChildCreationDescriptionsField());
         viewerFieldsDefinition.add(this.getCapabilitiesField());
+        viewerFieldsDefinition.add(this.getSelectOptionsField());
+        viewerFieldsDefinition.add(this.getTreeItemChildrenField());
         return viewerFieldsDefinition;
     }
 
@@ -309,4 +362,49 @@ public class ViewerTypeProvider implements ITypeProvider {
                 .build();
         // @formatter:on
     }
+
+    private GraphQLFieldDefinition getSelectOptionsField() {
+        // @formatter:off
+        return GraphQLFieldDefinition.newFieldDefinition()
+                .name(SELECT_OPTIONS_FIELD)
+                .argument(this.getProjectIdArgument())
+                .argument(this.getIdArgument(REPRESENTATION_ID_ARGUMENT))
+                .argument(this.getIdArgument(SELECT_ID_ARGUMENT))
+                .argument(this.getFilterArgument())
+                .arguments(new PaginationArgumentsProvider().getArguments())
+                .type(new GraphQLNonNull(new GraphQLTypeReference(VIEWER_SELECT_OPTIONS_CONNECTION)))
+                .build();
+        // @formatter:on
+    }
+
+    private GraphQLFieldDefinition getTreeItemChildrenField() {
+        // @formatter:off
+        return GraphQLFieldDefinition.newFieldDefinition()
+                .name(TREE_ITEM_CHILDREN_FIELD)
+                .argument(this.getProjectIdArgument())
+                .argument(this.getIdArgument(REPRESENTATION_ID_ARGUMENT))
+                .argument(this.getIdArgument(TREE_ITEM_ID_ARGUMENT))
+                .arguments(new PaginationArgumentsProvider().getArguments())
+                .type(new GraphQLNonNull(new GraphQLTypeReference(VIEWER_TREE_ITEMS_CONNECTION)))
+                .build();
+        // @formatter:on
+    }
+
+    private GraphQLArgument getIdArgument(String name) {
+        // @formatter:off
+        return GraphQLArgument.newArgument()
+                .name(name)
+                .type(new GraphQLNonNull(Scalars.GraphQLID))
+                .build();
+        // @formatter:on
+    }
+
+    private GraphQLArgument getFilterArgument() {
+        // @formatter:off
+        return GraphQLArgument.newArgument()
+                .name(FILTER_ARGUMENT)
+                .type(Scalars.GraphQLString)
+                .build();
+        // @formatter:on
+    }
 }
@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.graphql.datafetchers.GraphQLDataFetcherExceptionHandler;
+import org.eclipse.sirius.web.graphql.datafetchers.SubscriptionEventRecordingDataFetcher;
 import org.eclipse.sirius.web.graphql.utils.schema.IMutationTypeProvider;
 import org.eclipse.sirius.web.graphql.utils.schema.IQueryTypeProvider;
 import org.eclipse.sirius.web.graphql.utils.schema.ISubscriptionTypeProvider;
@@ -111,9 +112,14 @@ public class GraphQLConfiguration {
             .forEach(graphQLType -> builder.typeResolver(graphQLType.getName(), new ReflectiveTypeResolver()));
         // @formatter:on
 
+        String subscriptionTypeName = subscriptionTypeProvider.getType().getName();
         dataFetchersWithCoordinates.forEach(dataFetcherWithCoordinates -> {
             dataFetcherWithCoordinates.getFieldCoordinates().forEach(fieldCoordinates -> {
-                builder.dataFetcher(fieldCoordinates, dataFetcherWithCoordinates);
+                if (subscriptionTypeName.equals(fieldCoordinates.getTypeName())) {
+                    builder.dataFetcher(fieldCoordinates, new SubscriptionEventRecordingDataFetcher(dataFetcherWithCoordinates));
+                } else {
+                    builder.dataFetcher(fieldCoordinates, dataFetcherWithCoordinates);
+                }
             });
         });
         var graphQLCodeRegistry = builder.build();
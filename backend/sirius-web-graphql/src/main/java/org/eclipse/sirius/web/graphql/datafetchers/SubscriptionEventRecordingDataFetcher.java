@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.sirius.web.spring.graphql.api.GraphQLConstants;
+import org.reactivestreams.Publisher;
+
+import graphql.GraphQLContext;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Flux;
+
+/**
+ * Used to record, in the context of a subscription, the last event sent by the publisher of the subscription.
+ * <p>
+ * The events of a subscription are converted into results one after the other by the thread which has sent them. The
+ * event recorded is thus the one from which the result received by the subscriber has been computed. It lets the
+ * subscribers of the same query recognize that they have received the same event.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionEventRecordingDataFetcher implements DataFetcher<Object> {
+
+    private final DataFetcher<?> dataFetcher;
+
+    public SubscriptionEventRecordingDataFetcher(DataFetcher<?> dataFetcher) {
+        this.dataFetcher = Objects.requireNonNull(dataFetcher);
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment environment) throws Exception {
+        Object result = this.dataFetcher.get(environment);
+
+        GraphQLContext graphQLContext = environment.getContext();
+        Optional<AtomicReference<Object>> optionalSubscriptionEvent = graphQLContext.getOrEmpty(GraphQLConstants.SUBSCRIPTION_EVENT);
+        if (result instanceof Publisher<?> && optionalSubscriptionEvent.isPresent()) {
+            AtomicReference<Object> subscriptionEvent = optionalSubscriptionEvent.get();
+            result = Flux.from((Publisher<?>) result).doOnNext(subscriptionEvent::set);
+        }
+        return result;
+    }
+
+}
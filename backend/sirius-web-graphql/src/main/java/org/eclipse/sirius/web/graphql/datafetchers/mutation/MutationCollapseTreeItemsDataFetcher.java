@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.mutation;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
+import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
+import org.eclipse.sirius.web.collaborative.trees.api.CollapseTreeItemsInput;
+import org.eclipse.sirius.web.collaborative.trees.api.CollapseTreeItemsSuccessPayload;
+import org.eclipse.sirius.web.graphql.datafetchers.IDataFetchingEnvironmentService;
+import org.eclipse.sirius.web.graphql.messages.IGraphQLMessageService;
+import org.eclipse.sirius.web.graphql.schema.MutationTypeProvider;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * The data fetcher used to collapse some tree items.
+ * <p>
+ * It will be used to handle the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type Mutation {
+ *   collapseTreeItems(input: CollapseTreeItemsInput!): CollapseTreeItemsPayload!
+ * }
+ * </pre>
+ *
+ * <p>
+ * Just like the retrieval of the children of a tree item, collapsing a tree item does not modify the project and is
+ * thus available to the users who cannot edit it.
+ * </p>
+ *
+ * @author hmarchadour
+ */
+// @formatter:off
+@GraphQLMutationTypes(
+    input = CollapseTreeItemsInput.class,
+    payloads = {
+        CollapseTreeItemsSuccessPayload.class
+    }
+)
+@MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationCollapseTreeItemsDataFetcher.COLLAPSE_TREE_ITEMS_FIELD)
+// @formatter:on
+public class MutationCollapseTreeItemsDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+
+    public static final String COLLAPSE_TREE_ITEMS_FIELD = "collapseTreeItems"; //$NON-NLS-1$
+
+    private final IDataFetchingEnvironmentService dataFetchingEnvironmentService;
+
+    private final IProjectEventProcessorRegistry projectEventProcessorRegistry;
+
+    private final IGraphQLMessageService messageService;
+
+    public MutationCollapseTreeItemsDataFetcher(IDataFetchingEnvironmentService dataFetchingEnvironmentService, IProjectEventProcessorRegistry projectEventProcessorRegistry,
+            IGraphQLMessageService messageService) {
+        this.dataFetchingEnvironmentService = Objects.requireNonNull(dataFetchingEnvironmentService);
+        this.projectEventProcessorRegistry = Objects.requireNonNull(projectEventProcessorRegistry);
+        this.messageService = Objects.requireNonNull(messageService);
+    }
+
+    @Override
+    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+        var input = this.dataFetchingEnvironmentService.getInput(environment, CollapseTreeItemsInput.class);
+        var context = this.dataFetchingEnvironmentService.getContext(environment);
+
+        // @formatter:off
+        return this.projectEventProcessorRegistry.dispatchEvent(input.getProjectId(), input, context)
+                .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+        // @formatter:on
+    }
+}
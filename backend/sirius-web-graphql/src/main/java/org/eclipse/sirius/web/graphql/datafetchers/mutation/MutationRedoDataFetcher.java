@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.mutation;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
+import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
+import org.eclipse.sirius.web.collaborative.api.dto.RedoInput;
+import org.eclipse.sirius.web.collaborative.api.dto.RedoSuccessPayload;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
+import org.eclipse.sirius.web.graphql.datafetchers.IDataFetchingEnvironmentService;
+import org.eclipse.sirius.web.graphql.messages.IGraphQLMessageService;
+import org.eclipse.sirius.web.graphql.schema.MutationTypeProvider;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * The data fetcher used to redo the most recently undone changes of a project.
+ * <p>
+ * It will be used to handle the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type Mutation {
+ *   redo(input: RedoInput!): RedoPayload!
+ * }
+ * </pre>
+ *
+ * @author sbegaudeau
+ */
+// @formatter:off
+@GraphQLMutationTypes(
+    input = RedoInput.class,
+    payloads = {
+        RedoSuccessPayload.class
+    }
+)
+@MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationRedoDataFetcher.REDO_FIELD)
+// @formatter:on
+public class MutationRedoDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+
+    public static final String REDO_FIELD = "redo"; //$NON-NLS-1$
+
+    private final IDataFetchingEnvironmentService dataFetchingEnvironmentService;
+
+    private final IProjectEventProcessorRegistry projectEventProcessorRegistry;
+
+    private final IGraphQLMessageService messageService;
+
+    public MutationRedoDataFetcher(IDataFetchingEnvironmentService dataFetchingEnvironmentService, IProjectEventProcessorRegistry projectEventProcessorRegistry,
+            IGraphQLMessageService messageService) {
+        this.dataFetchingEnvironmentService = Objects.requireNonNull(dataFetchingEnvironmentService);
+        this.projectEventProcessorRegistry = Objects.requireNonNull(projectEventProcessorRegistry);
+        this.messageService = Objects.requireNonNull(messageService);
+    }
+
+    @Override
+    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+        var input = this.dataFetchingEnvironmentService.getInput(environment, RedoInput.class);
+        var context = this.dataFetchingEnvironmentService.getContext(environment);
+
+        IPayload payload = new ErrorPayload(this.messageService.unexpectedError());
+        boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, input.getProjectId());
+        if (canEdit) {
+            // @formatter:off
+            payload = this.projectEventProcessorRegistry.dispatchEvent(input.getProjectId(), input, context)
+                    .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+            // @formatter:on
+        } else {
+            payload = new ErrorPayload(this.messageService.unauthorized());
+        }
+        return payload;
+    }
+}
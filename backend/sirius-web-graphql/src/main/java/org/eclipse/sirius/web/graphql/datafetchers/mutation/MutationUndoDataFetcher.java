@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.mutation;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
+import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
+import org.eclipse.sirius.web.collaborative.api.dto.UndoInput;
+import org.eclipse.sirius.web.collaborative.api.dto.UndoSuccessPayload;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
+import org.eclipse.sirius.web.graphql.datafetchers.IDataFetchingEnvironmentService;
+import org.eclipse.sirius.web.graphql.messages.IGraphQLMessageService;
+import org.eclipse.sirius.web.graphql.schema.MutationTypeProvider;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IPayload;
+import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * The data fetcher used to undo the most recent changes of a project.
+ * <p>
+ * It will be used to handle the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type Mutation {
+ *   undo(input: UndoInput!): UndoPayload!
+ * }
+ * </pre>
+ *
+ * @author sbegaudeau
+ */
+// @formatter:off
+@GraphQLMutationTypes(
+    input = UndoInput.class,
+    payloads = {
+        UndoSuccessPayload.class
+    }
+)
+@MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationUndoDataFetcher.UNDO_FIELD)
+// @formatter:on
+public class MutationUndoDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+
+    public static final String UNDO_FIELD = "undo"; //$NON-NLS-1$
+
+    private final IDataFetchingEnvironmentService dataFetchingEnvironmentService;
+
+    private final IProjectEventProcessorRegistry projectEventProcessorRegistry;
+
+    private final IGraphQLMessageService messageService;
+
+    public MutationUndoDataFetcher(IDataFetchingEnvironmentService dataFetchingEnvironmentService, IProjectEventProcessorRegistry projectEventProcessorRegistry,
+            IGraphQLMessageService messageService) {
+        this.dataFetchingEnvironmentService = Objects.requireNonNull(dataFetchingEnvironmentService);
+        this.projectEventProcessorRegistry = Objects.requireNonNull(projectEventProcessorRegistry);
+        this.messageService = Objects.requireNonNull(messageService);
+    }
+
+    @Override
+    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+        var input = this.dataFetchingEnvironmentService.getInput(environment, UndoInput.class);
+        var context = this.dataFetchingEnvironmentService.getContext(environment);
+
+        IPayload payload = new ErrorPayload(this.messageService.unexpectedError());
+        boolean canEdit = this.dataFetchingEnvironmentService.canEdit(environment, input.getProjectId());
+        if (canEdit) {
+            // @formatter:off
+            payload = this.projectEventProcessorRegistry.dispatchEvent(input.getProjectId(), input, context)
+                    .orElse(new ErrorPayload(this.messageService.unexpectedError()));
+            // @formatter:on
+        } else {
+            payload = new ErrorPayload(this.messageService.unauthorized());
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.GetSelectOptionsInput;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.GetSelectOptionsSuccessPayload;
+import org.eclipse.sirius.web.forms.SelectOption;
+import org.eclipse.sirius.web.graphql.datafetchers.IDataFetchingEnvironmentService;
+import org.eclipse.sirius.web.graphql.schema.PaginationArgumentsProvider;
+import org.eclipse.sirius.web.graphql.schema.ViewerTypeProvider;
+import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+import graphql.relay.PageInfo;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * The data fetcher used to retrieve a page of the options of a select.
+ * <p>
+ * It will be used to fetch the data for the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type Viewer {
+ *   selectOptions(projectId: ID!, representationId: ID!, selectId: ID!, filter: String, first: Int, after: String): ViewerSelectOptionConnection!
+ * }
+ * </pre>
+ *
+ * <p>
+ * The request is dispatched to the form in order to use the candidates computed during its last refresh. The cursor of
+ * an option is the index of its candidate encoded in base 64, a page thus starts right after the candidate of the cursor
+ * without looking for it. Only the forward pagination is supported.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@QueryDataFetcher(type = ViewerTypeProvider.USER_TYPE, field = ViewerTypeProvider.SELECT_OPTIONS_FIELD)
+public class UserSelectOptionsDataFetcher implements IDataFetcherWithFieldCoordinates<Connection<SelectOption>> {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final IDataFetchingEnvironmentService dataFetchingEnvironmentService;
+
+    private final IProjectEventProcessorRegistry projectEventProcessorRegistry;
+
+    private final Logger logger = LoggerFactory.getLogger(UserSelectOptionsDataFetcher.class);
+
+    public UserSelectOptionsDataFetcher(IDataFetchingEnvironmentService dataFetchingEnvironmentService, IProjectEventProcessorRegistry projectEventProcessorRegistry) {
+        this.dataFetchingEnvironmentService = Objects.requireNonNull(dataFetchingEnvironmentService);
+        this.projectEventProcessorRegistry = Objects.requireNonNull(projectEventProcessorRegistry);
+    }
+
+    @Override
+    public Connection<SelectOption> get(DataFetchingEnvironment environment) throws Exception {
+        List<Edge<SelectOption>> edges = List.of();
+        boolean hasNextPage = false;
+        try {
+            UUID projectId = UUID.fromString(environment.getArgument(ViewerTypeProvider.PROJECT_ID_ARGUMENT));
+            UUID representationId = UUID.fromString(environment.getArgument(ViewerTypeProvider.REPRESENTATION_ID_ARGUMENT));
+            String selectId = environment.getArgument(ViewerTypeProvider.SELECT_ID_ARGUMENT);
+            String filter = environment.getArgument(ViewerTypeProvider.FILTER_ARGUMENT);
+            int startIndex = Optional.ofNullable(environment.<String> getArgument(PaginationArgumentsProvider.AFTER)).map(this::decode).map(index -> index + 1).orElse(0);
+            int first = Optional.ofNullable(environment.<Integer> getArgument(PaginationArgumentsProvider.FIRST)).orElse(DEFAULT_PAGE_SIZE);
+
+            var input = new GetSelectOptionsInput(projectId, representationId, selectId, filter, startIndex, first);
+            var context = this.dataFetchingEnvironmentService.getContext(environment);
+
+            // @formatter:off
+            Optional<GetSelectOptionsSuccessPayload> optionalPayload = this.projectEventProcessorRegistry.dispatchEvent(projectId, input, context)
+                    .filter(GetSelectOptionsSuccessPayload.class::isInstance)
+                    .map(GetSelectOptionsSuccessPayload.class::cast);
+
+            edges = optionalPayload.map(this::getEdges).orElse(List.of());
+            // @formatter:on
+            hasNextPage = optionalPayload.map(GetSelectOptionsSuccessPayload::isHasNextPage).orElse(false);
+        } catch (IllegalArgumentException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+
+        ConnectionCursor startCursor = edges.stream().findFirst().map(Edge::getCursor).orElse(null);
+        ConnectionCursor endCursor = null;
+        if (!edges.isEmpty()) {
+            endCursor = edges.get(edges.size() - 1).getCursor();
+        }
+        PageInfo pageInfo = new DefaultPageInfo(startCursor, endCursor, false, hasNextPage);
+        return new DefaultConnection<>(edges, pageInfo);
+    }
+
+    private List<Edge<SelectOption>> getEdges(GetSelectOptionsSuccessPayload payload) {
+        List<Edge<SelectOption>> edges = new ArrayList<>();
+        List<SelectOption> options = payload.getOptions();
+        List<Integer> optionIndexes = payload.getOptionIndexes();
+        for (int index = 0; index < options.size(); index++) {
+            edges.add(new DefaultEdge<>(options.get(index), new DefaultConnectionCursor(this.encode(optionIndexes.get(index)))));
+        }
+        return edges;
+    }
+
+    private String encode(int optionIndex) {
+        return Base64.getEncoder().encodeToString(String.valueOf(optionIndex).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int decode(String cursor) {
+        return Integer.parseInt(new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8));
+    }
+}
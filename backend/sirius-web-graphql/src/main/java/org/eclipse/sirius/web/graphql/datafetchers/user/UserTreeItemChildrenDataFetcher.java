@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
+import org.eclipse.sirius.web.collaborative.trees.api.GetTreeItemChildrenInput;
+import org.eclipse.sirius.web.collaborative.trees.api.GetTreeItemChildrenSuccessPayload;
+import org.eclipse.sirius.web.graphql.datafetchers.IDataFetchingEnvironmentService;
+import org.eclipse.sirius.web.graphql.schema.PaginationArgumentsProvider;
+import org.eclipse.sirius.web.graphql.schema.ViewerTypeProvider;
+import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
+import org.eclipse.sirius.web.trees.TreeItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+import graphql.relay.PageInfo;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * The data fetcher used to retrieve a page of the children of a tree item.
+ * <p>
+ * It will be used to fetch the data for the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type Viewer {
+ *   treeItemChildren(projectId: ID!, representationId: ID!, treeItemId: ID!, first: Int, after: String): ViewerTreeItemConnection!
+ * }
+ * </pre>
+ *
+ * <p>
+ * The request is dispatched to the tree which renders only the children requested and considers the tree item as
+ * visible from now on. The cursor of a child is its identifier encoded in base 64. Only the forward pagination is
+ * supported.
+ * </p>
+ *
+ * @author hmarchadour
+ */
+@QueryDataFetcher(type = ViewerTypeProvider.USER_TYPE, field = ViewerTypeProvider.TREE_ITEM_CHILDREN_FIELD)
+public class UserTreeItemChildrenDataFetcher implements IDataFetcherWithFieldCoordinates<Connection<TreeItem>> {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final IDataFetchingEnvironmentService dataFetchingEnvironmentService;
+
+    private final IProjectEventProcessorRegistry projectEventProcessorRegistry;
+
+    private final Logger logger = LoggerFactory.getLogger(UserTreeItemChildrenDataFetcher.class);
+
+    public UserTreeItemChildrenDataFetcher(IDataFetchingEnvironmentService dataFetchingEnvironmentService, IProjectEventProcessorRegistry projectEventProcessorRegistry) {
+        this.dataFetchingEnvironmentService = Objects.requireNonNull(dataFetchingEnvironmentService);
+        this.projectEventProcessorRegistry = Objects.requireNonNull(projectEventProcessorRegistry);
+    }
+
+    @Override
+    public Connection<TreeItem> get(DataFetchingEnvironment environment) throws Exception {
+        List<Edge<TreeItem>> edges = List.of();
+        boolean hasNextPage = false;
+        try {
+            UUID projectId = UUID.fromString(environment.getArgument(ViewerTypeProvider.PROJECT_ID_ARGUMENT));
+            UUID representationId = UUID.fromString(environment.getArgument(ViewerTypeProvider.REPRESENTATION_ID_ARGUMENT));
+            String treeItemId = environment.getArgument(ViewerTypeProvider.TREE_ITEM_ID_ARGUMENT);
+            String after = Optional.ofNullable(environment.<String> getArgument(PaginationArgumentsProvider.AFTER)).map(this::decode).orElse(null);
+            int first = Optional.ofNullable(environment.<Integer> getArgument(PaginationArgumentsProvider.FIRST)).orElse(DEFAULT_PAGE_SIZE);
+
+            var input = new GetTreeItemChildrenInput(projectId, representationId, treeItemId, after, first);
+            var context = this.dataFetchingEnvironmentService.getContext(environment);
+
+            // @formatter:off
+            Optional<GetTreeItemChildrenSuccessPayload> optionalPayload = this.projectEventProcessorRegistry.dispatchEvent(projectId, input, context)
+                    .filter(GetTreeItemChildrenSuccessPayload.class::isInstance)
+                    .map(GetTreeItemChildrenSuccessPayload.class::cast);
+
+            edges = optionalPayload.map(GetTreeItemChildrenSuccessPayload::getChildren)
+                    .orElse(List.of())
+                    .stream()
+                    .map(treeItem -> new DefaultEdge<>(treeItem, new DefaultConnectionCursor(this.encode(treeItem.getId()))))
+                    .collect(Collectors.toList());
+            // @formatter:on
+            hasNextPage = optionalPayload.map(GetTreeItemChildrenSuccessPayload::isHasNextPage).orElse(false);
+        } catch (IllegalArgumentException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+
+        ConnectionCursor startCursor = edges.stream().findFirst().map(Edge::getCursor).orElse(null);
+        ConnectionCursor endCursor = null;
+        if (!edges.isEmpty()) {
+            endCursor = edges.get(edges.size() - 1).getCursor();
+        }
+        PageInfo pageInfo = new DefaultPageInfo(startCursor, endCursor, false, hasNextPage);
+        return new DefaultConnection<>(edges, pageInfo);
+    }
+
+    private String encode(String treeItemId) {
+        return Base64.getEncoder().encodeToString(treeItemId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decode(String cursor) {
+        return new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
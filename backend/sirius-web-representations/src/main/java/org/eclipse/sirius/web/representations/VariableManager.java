@@ -89,7 +89,13 @@ public class VariableManager {
         return value;
     }
 
-    public VariableManager createChild() {
+    /**
+     * Creates a child variable manager. Child variable managers can be created concurrently since independent parts of
+     * a representation may be rendered in parallel.
+     *
+     * @return The child variable manager
+     */
+    public synchronized VariableManager createChild() {
         VariableManager variableManager = new VariableManager(this);
         this.children.add(variableManager);
         return variableManager;
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.api.objects;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,5 +21,20 @@ import java.util.UUID;
  * @author sbegaudeau
  */
 public interface IEditingContextPersistenceService {
-    void persist(UUID projectId, IEditingContext editingContext);
+    /**
+     * Persists the resources of the given editing context containing the given changed objects.
+     *
+     * @param projectId
+     *            The id of the project
+     * @param editingContext
+     *            The editing context
+     * @param changedObjects
+     *            The resources and the objects changed, or an empty set to persist all the resources
+     */
+    void persist(UUID projectId, IEditingContext editingContext, Set<Object> changedObjects);
+
+    /**
+     * Waits until all the changes persisted before have been written.
+     */
+    void flush();
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.api.projects;
 
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
@@ -24,5 +25,52 @@ import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 public interface IEditingContextManager {
     IEditingContext createEditingContext(UUID projectID);
 
-    void persist(UUID projectId, IEditingContext editingContext);
+    /**
+     * Persists the resources of the given editing context containing the given changed objects.
+     *
+     * @param projectId
+     *            The id of the project
+     * @param editingContext
+     *            The editing context
+     * @param changedObjects
+     *            The objects changed since the editing context has been persisted for the last time, or an empty set to
+     *            persist all its resources
+     */
+    void persist(UUID projectId, IEditingContext editingContext, Set<Object> changedObjects);
+
+    /**
+     * Starts recording the changes performed on the given editing context.
+     *
+     * @param editingContext
+     *            The editing context
+     */
+    void startRecording(IEditingContext editingContext);
+
+    /**
+     * Stops recording the changes performed on the given editing context and keeps them in its history in order to be
+     * able to undo them.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return The objects which have been modified, created or removed since the recording has been started
+     */
+    Set<Object> stopRecording(IEditingContext editingContext);
+
+    /**
+     * Reverts the most recent changes recorded on the given editing context.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return <code>true</code> if some changes have been undone, <code>false</code> otherwise
+     */
+    boolean undo(IEditingContext editingContext);
+
+    /**
+     * Performs again the most recently undone changes of the given editing context.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return <code>true</code> if some changes have been redone, <code>false</code> otherwise
+     */
+    boolean redo(IEditingContext editingContext);
 }
@@ -33,6 +33,8 @@ public interface IRepresentationService {
 
     void save(RepresentationDescriptor representationDescriptor);
 
+    void flush(UUID representationId);
+
     Optional<RepresentationDescriptor> getRepresentation(UUID representationId);
 
     void delete(UUID representationId);
@@ -12,10 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
 import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
 import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramCreationParameters;
@@ -23,6 +23,7 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramRefreshManager;
+import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
@@ -49,23 +50,24 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final IEditingContext editingContext;
 
-    private final List<IDiagramEventHandler> diagramEventHandlers;
+    private final EventHandlerRegistry<IDiagramInput, IDiagramEventHandler> diagramEventHandlerRegistry;
 
     private final ISubscriptionManager subscriptionManager;
 
     private final IDiagramRefreshManager diagramRefreshManager;
 
-    public DiagramEventProcessor(DiagramCreationParameters diagramCreationParameters, IEditingContext editingContext, List<IDiagramEventHandler> diagramEventHandlers,
-            ISubscriptionManager subscriptionManager, IDiagramRefreshManager diagramRefreshManager) {
+    public DiagramEventProcessor(DiagramCreationParameters diagramCreationParameters, IEditingContext editingContext,
+            EventHandlerRegistry<IDiagramInput, IDiagramEventHandler> diagramEventHandlerRegistry, ISubscriptionManager subscriptionManager, IDiagramRefreshManager diagramRefreshManager, Diagram storedDiagram) {
         this.diagramCreationParameters = Objects.requireNonNull(diagramCreationParameters);
         this.editingContext = Objects.requireNonNull(editingContext);
-        this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
+        this.diagramEventHandlerRegistry = Objects.requireNonNull(diagramEventHandlerRegistry);
         this.subscriptionManager = Objects.requireNonNull(subscriptionManager);
         this.diagramRefreshManager = Objects.requireNonNull(diagramRefreshManager);
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
-        // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius.
-        this.diagramRefreshManager.initialize(editingContext.getProjectId(), diagramCreationParameters);
+        // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius. The refresh
+        // manager may start with the stored diagram and perform this refresh in the background.
+        this.diagramRefreshManager.initialize(editingContext.getProjectId(), diagramCreationParameters, storedDiagram);
     }
 
     @Override
@@ -83,11 +85,11 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         if (representationInput instanceof IDiagramInput) {
             IDiagramInput diagramInput = (IDiagramInput) representationInput;
 
-            Optional<IDiagramEventHandler> optionalDiagramEventHandler = this.diagramEventHandlers.stream().filter(handler -> handler.canHandle(diagramInput)).findFirst();
+            Optional<EventHandlerResponse> optionalResponse = this.diagramEventHandlerRegistry.handle(diagramInput,
+                    diagramEventHandler -> diagramEventHandler.handle(this.editingContext, this.diagramRefreshManager.getDiagram(), diagramInput));
 
-            if (optionalDiagramEventHandler.isPresent()) {
-                IDiagramEventHandler diagramEventHandler = optionalDiagramEventHandler.get();
-                return Optional.of(diagramEventHandler.handle(this.editingContext, this.diagramRefreshManager.getDiagram(), diagramInput));
+            if (optionalResponse.isPresent()) {
+                return optionalResponse;
             } else {
                 this.logger.warn("No handler found for event: {}", diagramInput); //$NON-NLS-1$
             }
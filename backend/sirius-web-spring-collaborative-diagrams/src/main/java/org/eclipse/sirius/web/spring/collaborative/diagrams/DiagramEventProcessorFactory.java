@@ -12,10 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorFactory;
@@ -24,6 +24,7 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramConfiguration;
 import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramCreationParameters;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventProcessor;
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramRefreshManager;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.IDiagramRefreshManagerFactory;
@@ -51,17 +52,18 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final IDiagramRefreshManagerFactory diagramRefreshManagerFactory;
 
-    private final List<IDiagramEventHandler> diagramEventHandlers;
+    private final EventHandlerRegistry<IDiagramInput, IDiagramEventHandler> diagramEventHandlerRegistry;
 
     private final ISubscriptionManagerFactory subscriptionManagerFactory;
 
     public DiagramEventProcessorFactory(IRepresentationDescriptionService representationDescriptionService, IDiagramService diagramService, IObjectService objectService,
-            IDiagramRefreshManagerFactory diagramRefreshManagerFactory, List<IDiagramEventHandler> diagramEventHandlers, ISubscriptionManagerFactory subscriptionManagerFactory) {
+            IDiagramRefreshManagerFactory diagramRefreshManagerFactory, EventHandlerRegistry<IDiagramInput, IDiagramEventHandler> diagramEventHandlerRegistry,
+            ISubscriptionManagerFactory subscriptionManagerFactory) {
         this.representationDescriptionService = Objects.requireNonNull(representationDescriptionService);
         this.diagramService = Objects.requireNonNull(diagramService);
         this.diagramRefreshManagerFactory = Objects.requireNonNull(diagramRefreshManagerFactory);
         this.objectService = Objects.requireNonNull(objectService);
-        this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
+        this.diagramEventHandlerRegistry = Objects.requireNonNull(diagramEventHandlerRegistry);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
     }
 
@@ -99,7 +101,7 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
                     IDiagramRefreshManager diagramRefreshManager = this.diagramRefreshManagerFactory.create();
                     IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(diagramCreationParameters,
-                            editingContext, this.diagramEventHandlers, this.subscriptionManagerFactory.create(), diagramRefreshManager);
+                            editingContext, this.diagramEventHandlerRegistry, this.subscriptionManagerFactory.create(), diagramRefreshManager, diagram);
 
                     return Optional.of(diagramEventProcessor)
                             .filter(representationEventProcessorClass::isInstance)
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Used to perform the layout of the diagrams on a dedicated pool of workers.
+ * <p>
+ * Performing the layout on this pool releases the thread of the project while a long layout is running. Each layout is
+ * given up after a timeout. If no worker is configured, the diagrams are layouted by the thread of the project.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramLayoutScheduler {
+
+    private static final String THREAD_NAME_PREFIX = "sirius-web-layout"; //$NON-NLS-1$
+
+    private static final int KEEP_ALIVE_SECONDS = 60;
+
+    private final ILayoutService layoutService;
+
+    private final Duration timeout;
+
+    private final Optional<Scheduler> optionalScheduler;
+
+    /**
+     * Creates the diagram layout scheduler.
+     *
+     * @param layoutService
+     *            The layout service
+     * @param workers
+     *            The number of threads used to layout the diagrams or 0 to layout them on the thread of the project
+     * @param timeout
+     *            The duration, in milliseconds, after which a layout running on the workers is given up
+     */
+    public DiagramLayoutScheduler(ILayoutService layoutService, @Value("${sirius.web.diagrams.layout.workers:0}") int workers,
+            @Value("${sirius.web.diagrams.layout.timeout:10000}") long timeout) {
+        this.layoutService = Objects.requireNonNull(layoutService);
+        this.timeout = Duration.ofMillis(timeout);
+        if (workers > 0) {
+            this.optionalScheduler = Optional.of(Schedulers.newBoundedElastic(workers, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, THREAD_NAME_PREFIX, KEEP_ALIVE_SECONDS, true));
+        } else {
+            this.optionalScheduler = Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.optionalScheduler.ifPresent(Scheduler::dispose);
+    }
+
+    /**
+     * Indicates if the diagrams are layouted on the workers.
+     *
+     * @return <code>true</code> if the diagrams are layouted on the workers, <code>false</code> if they should be
+     *         layouted by the thread of the project
+     */
+    public boolean isEnabled() {
+        return this.optionalScheduler.isPresent();
+    }
+
+    /**
+     * Layouts the given diagram on the workers.
+     * <p>
+     * Disposing the subscription to the returned mono before the end of the layout abandons it. The mono fails with a
+     * timeout if the layout takes too long.
+     * </p>
+     *
+     * @param diagram
+     *            The diagram to layout
+     * @return The layouted diagram
+     */
+    public Mono<Diagram> layout(Diagram diagram) {
+        Mono<Diagram> layoutedDiagram = Mono.fromCallable(() -> this.layoutService.layout(diagram));
+        if (this.optionalScheduler.isPresent()) {
+            layoutedDiagram = this.layoutInBackground(diagram);
+        }
+        return layoutedDiagram;
+    }
+
+    /**
+     * Layouts the given diagram on the workers or, if no worker is configured, on the shared bounded elastic scheduler.
+     * <p>
+     * The diagram must have been rendered beforehand by the thread of the project since the layout does not read the
+     * semantic model. The mono fails with a timeout if the layout takes too long. The layout is canceled on timeout or
+     * when the subscription to the returned mono is disposed.
+     * </p>
+     *
+     * @param diagram
+     *            The diagram to layout
+     * @return The layouted diagram
+     */
+    public Mono<Diagram> layoutInBackground(Diagram diagram) {
+        Scheduler scheduler = this.optionalScheduler.orElseGet(Schedulers::boundedElastic);
+        return Mono.defer(() -> {
+            // Unsubscribing does not interrupt ELK, it has to be told to stop through its progress monitor
+            AtomicBoolean isCanceled = new AtomicBoolean();
+
+            // @formatter:off
+            return Mono.fromCallable(() -> this.layoutService.layout(diagram, isCanceled::get))
+                    .subscribeOn(scheduler)
+                    .timeout(this.timeout)
+                    .doOnError(TimeoutException.class, exception -> isCanceled.set(true))
+                    .doOnCancel(() -> isCanceled.set(true));
+            // @formatter:on
+        });
+    }
+
+}
@@ -12,9 +12,17 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.sirius.web.collaborative.api.dto.PreDestroyPayload;
 import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
@@ -27,9 +35,14 @@ import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
 import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
@@ -37,11 +50,26 @@ import reactor.core.publisher.Mono;
 
 /**
  * Service used to manage the lifecycle of the diagram and its palette.
+ * <p>
+ * When the initial refresh is deferred, the diagram stored in the database is used as the initial state of the
+ * diagram while the refreshed diagram is layouted in the background. The refreshed diagram is only saved and sent to the subscribers if it
+ * is different from the stored one and if it has not been superseded by a refresh triggered by a change in the
+ * meantime.
+ * </p>
+ * <p>
+ * When the layout is performed by the workers of the layout scheduler, a refresh sends the new diagram with the
+ * previous positions of its elements right away. The layouted diagram is saved and sent once the layout is done. A
+ * refresh abandons the layout of the previous one if it is still running.
+ * </p>
  *
  * @author sbegaudeau
  */
 public class DiagramRefreshManager implements IDiagramRefreshManager {
 
+    private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramRefreshManager.class);
+
     private final IRepresentationService representationService;
 
     private final IDiagramService diagramService;
@@ -54,12 +82,49 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
 
     private final Timer timer;
 
-    private Diagram diagram;
+    private final ObjectMapper objectMapper;
+
+    private final boolean isInitialRefreshDeferred;
+
+    private final DiagramLayoutScheduler diagramLayoutScheduler;
+
+    private final PreviousLayoutProvider previousLayoutProvider = new PreviousLayoutProvider();
+
+    private final AtomicLong diagramVersion = new AtomicLong();
 
-    public DiagramRefreshManager(IRepresentationService representationService, IDiagramService diagramService, ILayoutService layoutService, MeterRegistry meterRegistry) {
+    private volatile Diagram diagram;
+
+    private Disposable initialRefresh;
+
+    private Disposable pendingLayout;
+
+    /**
+     * Creates a diagram refresh manager.
+     *
+     * @param representationService
+     *            The representation service used to save the diagram
+     * @param diagramService
+     *            The diagram service used to render the diagram
+     * @param layoutService
+     *            The layout service used to layout the diagram
+     * @param meterRegistry
+     *            The meter registry
+     * @param objectMapper
+     *            The object mapper used to compute the fingerprints of the refreshed diagram and of the stored one
+     * @param isInitialRefreshDeferred
+     *            <code>true</code> if the stored diagram should be used as the initial state of the diagram while the
+     *            initial refresh is performed in the background, <code>false</code> otherwise
+     * @param diagramLayoutScheduler
+     *            The scheduler used to layout the refreshed diagrams on its workers, if enabled
+     */
+    public DiagramRefreshManager(IRepresentationService representationService, IDiagramService diagramService, ILayoutService layoutService, MeterRegistry meterRegistry,
+            ObjectMapper objectMapper, boolean isInitialRefreshDeferred, DiagramLayoutScheduler diagramLayoutScheduler) {
         this.representationService = Objects.requireNonNull(representationService);
         this.diagramService = Objects.requireNonNull(diagramService);
         this.layoutService = Objects.requireNonNull(layoutService);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.isInitialRefreshDeferred = isInitialRefreshDeferred;
+        this.diagramLayoutScheduler = Objects.requireNonNull(diagramLayoutScheduler);
         this.flux = DirectProcessor.create();
         this.sink = this.flux.sink();
 
@@ -78,10 +143,80 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
      *            The identifier of the project in which the diagram will be saved
      * @param diagramCreationParameters
      *            The parameters of the diagram to create
+     * @param storedDiagram
+     *            The diagram stored in the database
      */
     @Override
-    public void initialize(UUID projectId, DiagramCreationParameters diagramCreationParameters) {
-        this.computeDiagram(projectId, diagramCreationParameters);
+    public void initialize(UUID projectId, DiagramCreationParameters diagramCreationParameters, Diagram storedDiagram) {
+        if (this.isInitialRefreshDeferred) {
+            this.diagram = Objects.requireNonNull(storedDiagram);
+            long storedDiagramVersion = this.diagramVersion.get();
+            long start = System.currentTimeMillis();
+
+            // The rendering reads the semantic model so it must stay on the thread of the project, only the layout is
+            // performed in the background
+            Diagram unlayoutedDiagram = this.diagramService.create(diagramCreationParameters);
+
+            // @formatter:off
+            this.initialRefresh = this.diagramLayoutScheduler.layoutInBackground(unlayoutedDiagram)
+                    .subscribe(refreshedDiagram -> {
+                        this.timer.record(System.currentTimeMillis() - start, TimeUnit.MILLISECONDS);
+                        this.completeInitialRefresh(projectId, storedDiagramVersion, refreshedDiagram);
+                    }, throwable -> this.logger.warn(throwable.getMessage(), throwable));
+            // @formatter:on
+        } else {
+            this.computeDiagram(projectId, diagramCreationParameters);
+        }
+    }
+
+    /**
+     * Uses the diagram computed by the initial refresh if it has not been superseded by another refresh in the
+     * meantime and if it is different from the stored diagram.
+     *
+     * @param projectId
+     *            The identifier of the project in which the diagram will be saved
+     * @param storedDiagramVersion
+     *            The version of the stored diagram
+     * @param refreshedDiagram
+     *            The diagram computed by the initial refresh
+     */
+    private synchronized void completeInitialRefresh(UUID projectId, long storedDiagramVersion, Diagram refreshedDiagram) {
+        boolean isSuperseded = this.diagramVersion.get() != storedDiagramVersion;
+        if (!isSuperseded && !this.isSameDiagram(this.diagram, refreshedDiagram)) {
+            this.diagram = refreshedDiagram;
+            this.diagramVersion.incrementAndGet();
+            this.representationService.save(this.getRepresentationDescriptor(projectId));
+
+            this.sink.next(new DiagramRefreshedEventPayload(refreshedDiagram));
+        }
+    }
+
+    private boolean isSameDiagram(Diagram storedDiagram, Diagram refreshedDiagram) {
+        Optional<byte[]> optionalStoredFingerprint = this.getFingerprint(storedDiagram);
+        Optional<byte[]> optionalRefreshedFingerprint = this.getFingerprint(refreshedDiagram);
+        return optionalStoredFingerprint.isPresent() && optionalRefreshedFingerprint.isPresent()
+                && Arrays.equals(optionalStoredFingerprint.get(), optionalRefreshedFingerprint.get());
+    }
+
+    /**
+     * Computes a digest of the serialized diagram without keeping its serialization in memory.
+     *
+     * @param diagram
+     *            The diagram
+     * @return The digest of the diagram or an empty optional if it could not be computed
+     */
+    private Optional<byte[]> getFingerprint(Diagram diagram) {
+        Optional<byte[]> optionalFingerprint = Optional.empty();
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            try (var outputStream = new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest)) {
+                this.objectMapper.writeValue(outputStream, diagram);
+            }
+            optionalFingerprint = Optional.of(messageDigest.digest());
+        } catch (NoSuchAlgorithmException | IOException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return optionalFingerprint;
     }
 
     /**
@@ -96,17 +231,85 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
     public void refresh(UUID projectId, DiagramCreationParameters diagramCreationParameters) {
         long start = System.currentTimeMillis();
 
-        this.computeDiagram(projectId, diagramCreationParameters);
+        if (this.diagramLayoutScheduler.isEnabled()) {
+            this.refreshInBackground(projectId, diagramCreationParameters, start);
+        } else {
+            this.computeDiagram(projectId, diagramCreationParameters);
+
+            long end = System.currentTimeMillis();
+            this.timer.record(end - start, TimeUnit.MILLISECONDS);
 
-        long end = System.currentTimeMillis();
-        this.timer.record(end - start, TimeUnit.MILLISECONDS);
+            this.sink.next(new DiagramRefreshedEventPayload(this.diagram));
+        }
+    }
+
+    /**
+     * Renders the diagram, sends it with the previous layout and layouts it on the workers of the layout scheduler.
+     *
+     * @param projectId
+     *            The identifier of the project in which the diagram will be saved
+     * @param diagramCreationParameters
+     *            The parameters of the diagram to create
+     * @param start
+     *            The beginning of the refresh
+     */
+    private void refreshInBackground(UUID projectId, DiagramCreationParameters diagramCreationParameters, long start) {
+        Diagram unlayoutedDiagram = this.diagramService.create(diagramCreationParameters);
 
-        this.sink.next(new DiagramRefreshedEventPayload(this.diagram));
+        synchronized (this) {
+            if (this.pendingLayout != null) {
+                this.pendingLayout.dispose();
+            }
+
+            this.diagram = this.previousLayoutProvider.getDiagramWithPreviousLayout(this.diagram, unlayoutedDiagram);
+            long version = this.diagramVersion.incrementAndGet();
+
+            // @formatter:off
+            this.pendingLayout = this.diagramLayoutScheduler.layout(unlayoutedDiagram)
+                    .subscribe(layoutedDiagram -> {
+                        this.timer.record(System.currentTimeMillis() - start, TimeUnit.MILLISECONDS);
+                        this.completeLayout(projectId, version, layoutedDiagram);
+                    }, throwable -> this.abandonLayout(projectId, version, throwable));
+            // @formatter:on
+
+            this.sink.next(new DiagramRefreshedEventPayload(this.diagram));
+        }
+    }
+
+    private synchronized void completeLayout(UUID projectId, long version, Diagram layoutedDiagram) {
+        if (this.diagramVersion.get() == version) {
+            this.diagram = layoutedDiagram;
+            this.diagramVersion.incrementAndGet();
+            this.representationService.save(this.getRepresentationDescriptor(projectId));
+
+            this.sink.next(new DiagramRefreshedEventPayload(layoutedDiagram));
+        }
+    }
+
+    /**
+     * Keeps the diagram with the previous layout if its layout has failed or has timed out.
+     *
+     * @param projectId
+     *            The identifier of the project in which the diagram will be saved
+     * @param version
+     *            The version of the diagram which should have been layouted
+     * @param throwable
+     *            The cause of the failure of the layout
+     */
+    private synchronized void abandonLayout(UUID projectId, long version, Throwable throwable) {
+        this.logger.warn(throwable.getMessage(), throwable);
+        if (this.diagramVersion.get() == version) {
+            this.representationService.save(this.getRepresentationDescriptor(projectId));
+        }
     }
 
     private void computeDiagram(UUID projectId, DiagramCreationParameters diagramCreationParameters) {
         Diagram unlayoutedDiagram = this.diagramService.create(diagramCreationParameters);
-        this.diagram = this.layoutService.layout(unlayoutedDiagram);
+        Diagram layoutedDiagram = this.layoutService.layout(unlayoutedDiagram);
+        synchronized (this) {
+            this.diagram = layoutedDiagram;
+            this.diagramVersion.incrementAndGet();
+        }
 
         RepresentationDescriptor representationDescriptor = this.getRepresentationDescriptor(projectId);
         this.representationService.save(representationDescriptor);
@@ -136,6 +339,18 @@ public class DiagramRefreshManager implements IDiagramRefreshManager {
 
     @Override
     public void dispose() {
+        if (this.initialRefresh != null) {
+            this.initialRefresh.dispose();
+        }
+        synchronized (this) {
+            if (this.pendingLayout != null) {
+                this.pendingLayout.dispose();
+            }
+        }
+        if (this.diagram != null) {
+            // Writes the pending save of the diagram, if any, since nobody will refresh it anymore
+            this.representationService.flush(this.diagram.getId());
+        }
         this.flux.onComplete();
     }
 
@@ -19,8 +19,11 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.IDiagramRefreshManagerFactory;
 import org.eclipse.sirius.web.diagrams.layout.api.ILayoutService;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.micrometer.core.instrument.MeterRegistry;
 
 /**
@@ -39,16 +42,27 @@ public class DiagramRefreshManagerFactory implements IDiagramRefreshManagerFacto
 
     private final MeterRegistry meterRegistry;
 
-    public DiagramRefreshManagerFactory(IDiagramService diagramService, IRepresentationService representationService, ILayoutService layoutService, MeterRegistry meterRegistry) {
+    private final ObjectMapper objectMapper;
+
+    private final boolean isInitialRefreshDeferred;
+
+    private final DiagramLayoutScheduler diagramLayoutScheduler;
+
+    public DiagramRefreshManagerFactory(IDiagramService diagramService, IRepresentationService representationService, ILayoutService layoutService, MeterRegistry meterRegistry,
+            ObjectMapper objectMapper, @Value("${sirius.web.diagrams.initialRefresh.deferred:false}") boolean isInitialRefreshDeferred, DiagramLayoutScheduler diagramLayoutScheduler) {
         this.diagramService = Objects.requireNonNull(diagramService);
         this.representationService = Objects.requireNonNull(representationService);
         this.layoutService = Objects.requireNonNull(layoutService);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.isInitialRefreshDeferred = isInitialRefreshDeferred;
+        this.diagramLayoutScheduler = Objects.requireNonNull(diagramLayoutScheduler);
     }
 
     @Override
     public IDiagramRefreshManager create() {
-        return new DiagramRefreshManager(this.representationService, this.diagramService, this.layoutService, this.meterRegistry);
+        return new DiagramRefreshManager(this.representationService, this.diagramService, this.layoutService, this.meterRegistry, this.objectMapper, this.isInitialRefreshDeferred,
+                this.diagramLayoutScheduler);
     }
 
 }
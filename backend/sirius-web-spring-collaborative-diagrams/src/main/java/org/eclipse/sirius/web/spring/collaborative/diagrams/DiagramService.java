@@ -14,11 +14,12 @@ package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Predicate;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.annotation.PreDestroy;
 
 import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramCreationParameters;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramService;
@@ -38,6 +39,7 @@ import org.eclipse.sirius.web.services.api.representations.RepresentationDescrip
 import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -54,9 +56,34 @@ public class DiagramService implements IDiagramService {
 
     private final Logger logger = LoggerFactory.getLogger(DiagramService.class);
 
-    public DiagramService(IRepresentationRepository representationRepository, ObjectMapper objectMapper) {
+    private final Optional<ForkJoinPool> optionalRenderingPool;
+
+    /**
+     * Creates the diagram service.
+     *
+     * @param representationRepository
+     *            The repository of the representations
+     * @param objectMapper
+     *            The object mapper
+     * @param renderingParallelism
+     *            The number of threads used to render the nodes of the diagrams whose description is thread-safe in
+     *            parallel or 0 to render all the diagrams sequentially. The diagrams whose description relies on EMF,
+     *            for example through AQL expressions, are always rendered sequentially
+     */
+    public DiagramService(IRepresentationRepository representationRepository, ObjectMapper objectMapper,
+            @Value("${sirius.web.diagrams.rendering.parallelism:0}") int renderingParallelism) {
         this.representationRepository = Objects.requireNonNull(representationRepository);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        if (renderingParallelism > 0) {
+            this.optionalRenderingPool = Optional.of(new ForkJoinPool(renderingParallelism));
+        } else {
+            this.optionalRenderingPool = Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.optionalRenderingPool.ifPresent(ForkJoinPool::shutdownNow);
     }
 
     @Override
@@ -69,29 +96,19 @@ public class DiagramService implements IDiagramService {
 
         DiagramComponentProps props = new DiagramComponentProps(variableManager, parameters.getDiagramDescription());
         Element element = new Element(DiagramComponent.class, props);
-        Diagram diagram = new DiagramRenderer(this.logger).render(element);
+        // @formatter:off
+        DiagramRenderer diagramRenderer = this.optionalRenderingPool.filter(renderingPool -> parameters.getDiagramDescription().isThreadSafe())
+                .map(renderingPool -> new DiagramRenderer(this.logger, renderingPool))
+                .orElseGet(() -> new DiagramRenderer(this.logger));
+        // @formatter:on
+        Diagram diagram = diagramRenderer.render(element);
 
         return diagram;
     }
 
     @Override
     public Optional<Node> findNodeById(Diagram diagram, String nodeId) {
-        return this.findNode(node -> Objects.equals(node.getId(), nodeId), diagram.getNodes());
-    }
-
-    private Optional<Node> findNode(Predicate<Node> condition, List<Node> candidates) {
-        Optional<Node> result = Optional.empty();
-        for (Node node : candidates) {
-            if (condition.test(node)) {
-                result = Optional.of(node);
-            } else {
-                result = this.findNode(condition, node.getBorderNodes()).or(() -> this.findNode(condition, node.getChildNodes()));
-            }
-            if (result.isPresent()) {
-                break;
-            }
-        }
-        return result;
+        return diagram.getIndex().findNode(nodeId);
     }
 
     @Override
@@ -107,24 +124,6 @@ public class DiagramService implements IDiagramService {
 
     @Override
     public Optional<Edge> findEdgeById(Diagram diagram, String edgeId) {
-        return this.findEdge(edge -> Objects.equals(edge.getId(), edgeId), diagram.getEdges());
-    }
-
-    /**
-     * @param object
-     * @param edges
-     * @return
-     */
-    private Optional<Edge> findEdge(Predicate<Edge> condition, List<Edge> candidates) {
-        Optional<Edge> result = Optional.empty();
-        for (Edge node : candidates) {
-            if (condition.test(node)) {
-                result = Optional.of(node);
-            }
-            if (result.isPresent()) {
-                break;
-            }
-        }
-        return result;
+        return diagram.getIndex().findEdge(edgeId);
     }
 }
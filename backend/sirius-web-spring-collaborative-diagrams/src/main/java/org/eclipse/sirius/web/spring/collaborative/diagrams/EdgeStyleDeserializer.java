@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+import org.eclipse.sirius.web.diagrams.ArrowStyle;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.StylePool;
+
+/**
+ * Custom deserializer for the edge style used to share the equal edge styles thanks to the {@link StylePool}. All the
+ * properties of the edge style are required.
+ *
+ * @author sbegaudeau
+ */
+public class EdgeStyleDeserializer extends StdDeserializer<EdgeStyle> {
+
+    private static final long serialVersionUID = 2365740981720925326L;
+
+    private static final String STYLE_NAME = "edge style"; //$NON-NLS-1$
+
+    public EdgeStyleDeserializer() {
+        this(null);
+    }
+
+    public EdgeStyleDeserializer(Class<?> valueClass) {
+        super(valueClass);
+    }
+
+    @Override
+    public EdgeStyle deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException, JsonProcessingException {
+        ObjectCodec objectCodec = jsonParser.getCodec();
+        JsonNode root = objectCodec.readTree(jsonParser);
+
+        // @formatter:off
+        return EdgeStyle.newEdgeStyle()
+                .size(this.getRequiredNode(root, "size", context).asInt()) //$NON-NLS-1$
+                .lineStyle(objectCodec.treeToValue(this.getRequiredNode(root, "lineStyle", context), LineStyle.class)) //$NON-NLS-1$
+                .sourceArrow(objectCodec.treeToValue(this.getRequiredNode(root, "sourceArrow", context), ArrowStyle.class)) //$NON-NLS-1$
+                .targetArrow(objectCodec.treeToValue(this.getRequiredNode(root, "targetArrow", context), ArrowStyle.class)) //$NON-NLS-1$
+                .color(this.getRequiredNode(root, "color", context).asText()) //$NON-NLS-1$
+                .build();
+        // @formatter:on
+    }
+
+    /**
+     * Returns the value of the given property, the deserialization fails if it is missing like the builder of the
+     * style does.
+     */
+    private JsonNode getRequiredNode(JsonNode root, String propertyName, DeserializationContext context) throws IOException {
+        JsonNode node = root.get(propertyName);
+        if (node == null || node.isNull()) {
+            context.reportInputMismatch(this, "The property %s of the %s is missing", propertyName, STYLE_NAME); //$NON-NLS-1$
+        }
+        return node;
+    }
+
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.services.api.mapper.IDeserializerProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * The deserializer provider for {@link EdgeStyle}.
+ *
+ * @author sbegaudeau
+ *
+ */
+@Service
+public class EdgeStyleDeserializerProvider implements IDeserializerProvider<EdgeStyle> {
+
+    @Override
+    public StdDeserializer<EdgeStyle> getDeserializer() {
+        return new EdgeStyleDeserializer();
+    }
+
+    @Override
+    public Class<EdgeStyle> getType() {
+        return EdgeStyle.class;
+    }
+
+}
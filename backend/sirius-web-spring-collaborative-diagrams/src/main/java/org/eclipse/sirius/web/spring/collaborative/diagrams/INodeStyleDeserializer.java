@@ -25,9 +25,11 @@ import java.io.IOException;
 import org.eclipse.sirius.web.diagrams.INodeStyle;
 import org.eclipse.sirius.web.diagrams.ImageNodeStyle;
 import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.StylePool;
 
 /**
  * Custom deserializer for node style since Jackson need to know how to find the concrete class matching the JSON data.
+ * The node styles are shared thanks to the {@link StylePool}.
  *
  * @author sbegaudeau
  */
@@ -51,10 +53,11 @@ public class INodeStyleDeserializer extends StdDeserializer<INodeStyle> {
             ObjectMapper mapper = (ObjectMapper) objectCodec;
             ObjectNode root = mapper.readTree(jsonParser);
 
+            // The tree is read directly instead of being serialized and parsed again
             if (root.has("imageURL")) { //$NON-NLS-1$
-                nodeStyle = mapper.readValue(root.toString(), ImageNodeStyle.class);
+                nodeStyle = StylePool.INSTANCE.intern(mapper.treeToValue(root, ImageNodeStyle.class), ImageNodeStyle.class);
             } else {
-                nodeStyle = mapper.readValue(root.toString(), RectangularNodeStyle.class);
+                nodeStyle = StylePool.INSTANCE.intern(mapper.treeToValue(root, RectangularNodeStyle.class), RectangularNodeStyle.class);
             }
         }
         return nodeStyle;
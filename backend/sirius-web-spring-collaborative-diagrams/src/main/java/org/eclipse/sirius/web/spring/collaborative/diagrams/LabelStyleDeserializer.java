@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.StylePool;
+
+/**
+ * Custom deserializer for the label style used to share the equal label styles thanks to the {@link StylePool}. All the
+ * properties of the label style are required.
+ *
+ * @author sbegaudeau
+ */
+public class LabelStyleDeserializer extends StdDeserializer<LabelStyle> {
+
+    private static final long serialVersionUID = -3180414367541370931L;
+
+    private static final String STYLE_NAME = "label style"; //$NON-NLS-1$
+
+    public LabelStyleDeserializer() {
+        this(null);
+    }
+
+    public LabelStyleDeserializer(Class<?> valueClass) {
+        super(valueClass);
+    }
+
+    @Override
+    public LabelStyle deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException, JsonProcessingException {
+        JsonNode root = jsonParser.getCodec().readTree(jsonParser);
+
+        // @formatter:off
+        return LabelStyle.newLabelStyle()
+                .color(this.getRequiredNode(root, "color", context).asText()) //$NON-NLS-1$
+                .fontSize(this.getRequiredNode(root, "fontSize", context).asInt()) //$NON-NLS-1$
+                .bold(this.getRequiredNode(root, "bold", context).asBoolean()) //$NON-NLS-1$
+                .italic(this.getRequiredNode(root, "italic", context).asBoolean()) //$NON-NLS-1$
+                .underline(this.getRequiredNode(root, "underline", context).asBoolean()) //$NON-NLS-1$
+                .strikeThrough(this.getRequiredNode(root, "strikeThrough", context).asBoolean()) //$NON-NLS-1$
+                .iconURL(this.getRequiredNode(root, "iconURL", context).asText()) //$NON-NLS-1$
+                .build();
+        // @formatter:on
+    }
+
+    /**
+     * Returns the value of the given property, the deserialization fails if it is missing like the builder of the
+     * style does.
+     */
+    private JsonNode getRequiredNode(JsonNode root, String propertyName, DeserializationContext context) throws IOException {
+        JsonNode node = root.get(propertyName);
+        if (node == null || node.isNull()) {
+            context.reportInputMismatch(this, "The property %s of the %s is missing", propertyName, STYLE_NAME); //$NON-NLS-1$
+        }
+        return node;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.DiagramElementIndex;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * Used to apply the layout of the previous version of a diagram to a diagram which has not been layouted yet.
+ * <p>
+ * The nodes, edges and labels which were already in the previous diagram keep their position and size while the new
+ * ones stay unlayouted. It lets us send the new diagram to the subscribers while its layout is computed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class PreviousLayoutProvider {
+
+    public Diagram getDiagramWithPreviousLayout(Diagram previousDiagram, Diagram unlayoutedDiagram) {
+        DiagramElementIndex previousIndex = previousDiagram.getIndex();
+
+        // @formatter:off
+        return Diagram.newDiagram(unlayoutedDiagram)
+                .position(previousDiagram.getPosition())
+                .size(previousDiagram.getSize())
+                .nodes(this.getNodes(previousIndex, unlayoutedDiagram.getNodes()))
+                .edges(this.getEdges(previousIndex, unlayoutedDiagram.getEdges()))
+                .build();
+        // @formatter:on
+    }
+
+    private List<Node> getNodes(DiagramElementIndex previousIndex, List<Node> nodes) {
+        return nodes.stream().map(node -> this.getNode(previousIndex, node)).collect(Collectors.toUnmodifiableList());
+    }
+
+    private Node getNode(DiagramElementIndex previousIndex, Node node) {
+        // @formatter:off
+        Node.Builder builder = Node.newNode(node)
+                .borderNodes(this.getNodes(previousIndex, node.getBorderNodes()))
+                .childNodes(this.getNodes(previousIndex, node.getChildNodes()));
+
+        previousIndex.findNode(node.getId()).ifPresent(previousNode -> {
+            builder.position(previousNode.getPosition())
+                    .size(previousNode.getSize())
+                    .label(this.getLabel(previousNode.getLabel(), node.getLabel()));
+        });
+        // @formatter:on
+
+        return builder.build();
+    }
+
+    private List<Edge> getEdges(DiagramElementIndex previousIndex, List<Edge> edges) {
+        // @formatter:off
+        return edges.stream().map(edge -> {
+            return previousIndex.findEdge(edge.getId())
+                    .map(previousEdge -> this.getEdge(previousEdge, edge))
+                    .orElse(edge);
+        }).collect(Collectors.toUnmodifiableList());
+        // @formatter:on
+    }
+
+    private Edge getEdge(Edge previousEdge, Edge edge) {
+        // @formatter:off
+        return Edge.newEdge(edge)
+                .beginLabel(this.getLabel(previousEdge.getBeginLabel(), edge.getBeginLabel()))
+                .centerLabel(this.getLabel(previousEdge.getCenterLabel(), edge.getCenterLabel()))
+                .endLabel(this.getLabel(previousEdge.getEndLabel(), edge.getEndLabel()))
+                .routingPoints(previousEdge.getRoutingPoints())
+                .build();
+        // @formatter:on
+    }
+
+    private Label getLabel(Label previousLabel, Label label) {
+        // @formatter:off
+        return Optional.ofNullable(previousLabel)
+                .filter(candidate -> label != null)
+                .map(candidate -> Label.newLabel(label)
+                        .position(candidate.getPosition())
+                        .size(candidate.getSize())
+                        .alignment(candidate.getAlignment())
+                        .build())
+                .orElse(label);
+        // @formatter:on
+    }
+
+}
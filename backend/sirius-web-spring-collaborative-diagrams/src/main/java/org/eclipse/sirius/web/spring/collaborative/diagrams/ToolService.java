@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -53,12 +52,11 @@ public class ToolService implements IToolService {
     @Override
     public Optional<ITool> findToolById(Diagram diagram, String toolId) {
         // @formatter:off
-        return this.getToolSections(diagram)
-                .stream()
-                .map(ToolSection::getTools)
-                .flatMap(Collection::stream)
-                .filter(tool -> Objects.equals(tool.getId(), toolId))
-                .findFirst();
+        return this.representationDescriptionService.findRepresentationDescriptionById(diagram.getDescriptionId())
+                .filter(DiagramDescription.class::isInstance)
+                .map(DiagramDescription.class::cast)
+                .map(DiagramDescription::getToolIndex)
+                .map(toolIndex -> toolIndex.get(toolId));
         // @formatter:on
     }
 
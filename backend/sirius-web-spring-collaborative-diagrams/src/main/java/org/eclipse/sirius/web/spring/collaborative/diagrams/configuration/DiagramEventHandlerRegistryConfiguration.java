@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.configuration;
+
+import java.util.List;
+
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventHandler;
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramInput;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration used to create the dispatch table shared by all the diagram event processors.
+ *
+ * @author sbegaudeau
+ */
+@Configuration
+public class DiagramEventHandlerRegistryConfiguration {
+
+    @Bean
+    public EventHandlerRegistry<IDiagramInput, IDiagramEventHandler> diagramEventHandlerRegistry(List<IDiagramEventHandler> eventHandlers, MeterRegistry meterRegistry) {
+        return new EventHandlerRegistry<>(eventHandlers, IDiagramEventHandler::canHandle, meterRegistry);
+    }
+}
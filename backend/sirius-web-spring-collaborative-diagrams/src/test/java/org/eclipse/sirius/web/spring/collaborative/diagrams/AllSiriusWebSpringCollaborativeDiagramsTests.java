@@ -32,6 +32,9 @@ import org.junit.runners.Suite.SuiteClasses;
     SpringCodingRulesTestCases.class,
     CreateDiagramEventHandlerTestCases.class,
     RenameDiagramEventHandlerTestCases.class,
+    PreviousLayoutProviderTestCases.class,
+    DiagramContentCodecTestCases.class,
+    StyleDeserializerTestCases.class,
 })
 //@formatter:on
 public final class AllSiriusWebSpringCollaborativeDiagramsTests {
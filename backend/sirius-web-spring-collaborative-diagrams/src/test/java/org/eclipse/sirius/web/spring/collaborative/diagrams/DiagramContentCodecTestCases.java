@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.ArrowStyle;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.INodeStyle;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
+import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.spring.collaborative.representations.DiagramContentCodec;
+import org.eclipse.sirius.web.spring.collaborative.representations.IRepresentationDeserializer;
+import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationMapper;
+import org.junit.Test;
+
+/**
+ * Unit tests of the compact binary content of the diagrams.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramContentCodecTestCases {
+
+    private static final int NODES_COUNT = 20;
+
+    private final TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+
+    private final ObjectMapper objectMapper = this.createObjectMapper();
+
+    private ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(IRepresentation.class, new IRepresentationDeserializer());
+        module.addDeserializer(INodeStyle.class, new INodeStyleDeserializer());
+        module.addDeserializer(LabelStyle.class, new LabelStyleDeserializer());
+        module.addDeserializer(EdgeStyle.class, new EdgeStyleDeserializer());
+        mapper.registerModule(module);
+        return mapper;
+    }
+
+    @Test
+    public void testEncodedDiagramIsDecodedIdentically() throws JsonProcessingException {
+        Diagram diagram = this.createDiagram();
+        DiagramContentCodec codec = new DiagramContentCodec();
+
+        String json = this.objectMapper.writeValueAsString(diagram);
+        String content = codec.encode(diagram, false);
+        String compressedContent = codec.encode(diagram, true);
+
+        assertThat(content).startsWith(DiagramContentCodec.CONTENT_PREFIX);
+        assertThat(content.length()).isLessThan(json.length());
+        assertThat(compressedContent.length()).isLessThan(content.length());
+
+        for (String encodedContent : List.of(content, compressedContent)) {
+            Diagram decodedDiagram = codec.decode(encodedContent).orElse(null);
+            assertThat(decodedDiagram).isNotNull();
+            assertThat(this.objectMapper.writeValueAsString(decodedDiagram)).isEqualTo(json);
+        }
+    }
+
+    @Test
+    public void testEnumerationLiteralsAreWrittenByName() {
+        String content = new DiagramContentCodec().encode(this.createDiagram(), false);
+        byte[] bytes = Base64.getDecoder().decode(content.substring(DiagramContentCodec.CONTENT_PREFIX.length()));
+        String decodedContent = new String(bytes, StandardCharsets.UTF_8);
+
+        assertThat(decodedContent).contains(LineStyle.Solid.name(), ArrowStyle.None.name(), ArrowStyle.InputArrow.name());
+    }
+
+    @Test
+    public void testInvalidContentIsNotDecoded() {
+        DiagramContentCodec codec = new DiagramContentCodec();
+        String content = codec.encode(this.createDiagram(), false);
+
+        assertThat(codec.decode(content.substring(0, content.length() / 2))).isEmpty();
+        assertThat(codec.decode(DiagramContentCodec.CONTENT_PREFIX + "#")).isEmpty(); //$NON-NLS-1$
+        assertThat(codec.decode("{}")).isEmpty(); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testJsonAndBinaryContentsAreRead() throws JsonProcessingException {
+        Diagram diagram = this.createDiagram();
+        String json = this.objectMapper.writeValueAsString(diagram);
+
+        RepresentationMapper jsonRepresentationMapper = new RepresentationMapper(this.objectMapper);
+        RepresentationMapper binaryRepresentationMapper = new RepresentationMapper(this.objectMapper, true, true);
+
+        String jsonContent = jsonRepresentationMapper.toContent(diagram).orElse(null);
+        String binaryContent = binaryRepresentationMapper.toContent(diagram).orElse(null);
+        assertThat(jsonContent).isEqualTo(json);
+        assertThat(binaryContent).startsWith(DiagramContentCodec.CONTENT_PREFIX);
+
+        for (String content : List.of(jsonContent, binaryContent)) {
+            ProjectEntity projectEntity = new ProjectEntity();
+            projectEntity.setId(UUID.randomUUID());
+
+            RepresentationEntity representationEntity = new RepresentationEntity();
+            representationEntity.setId(diagram.getId());
+            representationEntity.setProject(projectEntity);
+            representationEntity.setLabel(diagram.getLabel());
+            representationEntity.setTargetObjectId(diagram.getTargetObjectId());
+            representationEntity.setContentType(Diagram.class.getSimpleName());
+            representationEntity.setContent(content);
+
+            RepresentationDescriptor representationDescriptor = binaryRepresentationMapper.toDTO(representationEntity);
+            assertThat(this.objectMapper.writeValueAsString(representationDescriptor.getRepresentation())).isEqualTo(json);
+        }
+    }
+
+    private Diagram createDiagram() {
+        List<Node> nodes = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < NODES_COUNT; i++) {
+            INodeStyle style = this.diagramBuilder.getRectangularNodeStyle();
+            if (i % 2 == 0) {
+                style = this.diagramBuilder.getImageNodeStyle();
+            }
+            // @formatter:off
+            Node childNode = Node.newNode(this.diagramBuilder.getNode(UUID.randomUUID().toString()))
+                    .style(style)
+                    .position(Position.newPosition().x(-8).y(12.25).build())
+                    .size(Size.newSize().width(40).height(20).build())
+                    .build();
+            Node node = Node.newNode(this.diagramBuilder.getNode(String.valueOf(i)))
+                    .position(Position.newPosition().x(i * 200).y(Double.MAX_VALUE).build())
+                    .size(Size.newSize().width(150).height(70).build())
+                    .childNodes(List.of(childNode))
+                    .build();
+            Edge edge = Edge.newEdge(this.diagramBuilder.getEdge(UUID.randomUUID().toString(), node.getId(), childNode.getId()))
+                    .routingPoints(List.of(Position.newPosition().x(1.5).y(-3).build()))
+                    .build();
+            // @formatter:on
+            nodes.add(node);
+            edges.add(edge);
+        }
+
+        // @formatter:off
+        return Diagram.newDiagram(this.diagramBuilder.getDiagram(UUID.randomUUID()))
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+        // @formatter:on
+    }
+}
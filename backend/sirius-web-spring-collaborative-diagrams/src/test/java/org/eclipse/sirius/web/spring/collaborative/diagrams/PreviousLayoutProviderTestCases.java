@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.Test;
+
+/**
+ * Unit tests of the provider of the diagrams with the previous layout.
+ *
+ * @author sbegaudeau
+ */
+public class PreviousLayoutProviderTestCases {
+
+    private static final UUID DIAGRAM_ID = UUID.randomUUID();
+
+    private static final String FIRST_NODE_ID = "firstNodeId"; //$NON-NLS-1$
+
+    private static final String SECOND_NODE_ID = "secondNodeId"; //$NON-NLS-1$
+
+    private static final String EDGE_ID = "edgeId"; //$NON-NLS-1$
+
+    private final TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void testPreviousLayoutIsApplied() {
+        Position nodePosition = Position.newPosition().x(10).y(20).build();
+        Size nodeSize = Size.newSize().width(100).height(50).build();
+        List<Position> routingPoints = List.of(Position.newPosition().x(60).y(45).build(), Position.newPosition().x(60).y(120).build());
+
+        // @formatter:off
+        Node previousNode = Node.newNode(this.diagramBuilder.getNode(FIRST_NODE_ID))
+                .position(nodePosition)
+                .size(nodeSize)
+                .build();
+        Edge previousEdge = Edge.newEdge(this.diagramBuilder.getEdge(EDGE_ID, FIRST_NODE_ID, FIRST_NODE_ID))
+                .routingPoints(routingPoints)
+                .build();
+        Diagram previousDiagram = Diagram.newDiagram(this.diagramBuilder.getDiagram(DIAGRAM_ID))
+                .nodes(List.of(previousNode))
+                .edges(List.of(previousEdge))
+                .build();
+
+        Diagram unlayoutedDiagram = Diagram.newDiagram(this.diagramBuilder.getDiagram(DIAGRAM_ID))
+                .nodes(List.of(this.diagramBuilder.getNode(FIRST_NODE_ID), this.diagramBuilder.getNode(SECOND_NODE_ID)))
+                .edges(List.of(this.diagramBuilder.getEdge(EDGE_ID, FIRST_NODE_ID, SECOND_NODE_ID)))
+                .build();
+        // @formatter:on
+
+        Diagram diagram = new PreviousLayoutProvider().getDiagramWithPreviousLayout(previousDiagram, unlayoutedDiagram);
+
+        assertThat(diagram.getNodes()).hasSize(2);
+        assertThat(diagram.getNodes().get(0).getPosition()).isEqualTo(nodePosition);
+        assertThat(diagram.getNodes().get(0).getSize()).isEqualTo(nodeSize);
+        assertThat(diagram.getNodes().get(1).getPosition()).isEqualTo(unlayoutedDiagram.getNodes().get(1).getPosition());
+        assertThat(diagram.getEdges()).hasSize(1);
+        assertThat(diagram.getEdges().get(0).getRoutingPoints()).isEqualTo(routingPoints);
+        assertThat(diagram.getEdges().get(0).getTargetId()).isEqualTo(SECOND_NODE_ID);
+    }
+
+}
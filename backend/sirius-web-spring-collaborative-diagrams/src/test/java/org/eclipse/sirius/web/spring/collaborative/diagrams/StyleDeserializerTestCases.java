@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.Test;
+
+/**
+ * Unit tests of the deserializers of the label and edge styles.
+ *
+ * @author sbegaudeau
+ */
+public class StyleDeserializerTestCases {
+
+    private static final String ID = "id"; //$NON-NLS-1$
+
+    private final TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+
+    private final ObjectMapper objectMapper = this.createObjectMapper();
+
+    private ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(LabelStyle.class, new LabelStyleDeserializer());
+        module.addDeserializer(EdgeStyle.class, new EdgeStyleDeserializer());
+        mapper.registerModule(module);
+        return mapper;
+    }
+
+    @Test
+    public void testStylesAreDeserializedAndShared() throws JsonProcessingException {
+        LabelStyle labelStyle = this.diagramBuilder.getNode(ID).getLabel().getStyle();
+        EdgeStyle edgeStyle = this.diagramBuilder.getEdge(ID, ID, ID).getStyle();
+
+        assertThat(this.objectMapper.readValue(this.objectMapper.writeValueAsString(labelStyle), LabelStyle.class)).isSameAs(labelStyle);
+        assertThat(this.objectMapper.readValue(this.objectMapper.writeValueAsString(edgeStyle), EdgeStyle.class)).isSameAs(edgeStyle);
+    }
+
+    @Test
+    public void testMissingPropertiesAreRejected() throws JsonProcessingException {
+        String labelStyle = this.objectMapper.writeValueAsString(this.diagramBuilder.getNode(ID).getLabel().getStyle()).replace("\"fontSize\"", "\"size\""); //$NON-NLS-1$ //$NON-NLS-2$
+        String edgeStyle = this.objectMapper.writeValueAsString(this.diagramBuilder.getEdge(ID, ID, ID).getStyle()).replace("\"color\"", "\"colour\""); //$NON-NLS-1$ //$NON-NLS-2$
+
+        assertThatThrownBy(() -> this.objectMapper.readValue(labelStyle, LabelStyle.class)).isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> this.objectMapper.readValue(edgeStyle, EdgeStyle.class)).isInstanceOf(MismatchedInputException.class);
+    }
+
+}
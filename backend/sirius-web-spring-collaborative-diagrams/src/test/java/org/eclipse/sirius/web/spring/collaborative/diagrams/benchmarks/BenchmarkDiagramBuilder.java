@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.INodeStyle;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.EdgeStyleDeserializer;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.INodeStyleDeserializer;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.LabelStyleDeserializer;
+import org.eclipse.sirius.web.spring.collaborative.representations.IRepresentationDeserializer;
+
+/**
+ * Builds the large diagrams used by the benchmarks.
+ *
+ * @author sbegaudeau
+ */
+public class BenchmarkDiagramBuilder {
+
+    private static final String SEPARATOR = "_"; //$NON-NLS-1$
+
+    private final TestDiagramBuilder diagramBuilder = new TestDiagramBuilder();
+
+    /**
+     * Creates an object mapper able to deserialize the diagrams like the one used by the server.
+     *
+     * @return The object mapper
+     */
+    public ObjectMapper getObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(IRepresentation.class, new IRepresentationDeserializer());
+        module.addDeserializer(INodeStyle.class, new INodeStyleDeserializer());
+        module.addDeserializer(LabelStyle.class, new LabelStyleDeserializer());
+        module.addDeserializer(EdgeStyle.class, new EdgeStyleDeserializer());
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    /**
+     * Creates a diagram with the given number of containers, each of them with the given number of child nodes
+     * alternating between image and rectangular styles. The child nodes are connected in pairs and the last child node
+     * of each container is connected to the next container.
+     *
+     * @param containersCount
+     *            The number of containers
+     * @param childrenCount
+     *            The number of child nodes of each container
+     * @return The diagram
+     */
+    public Diagram getDiagram(int containersCount, int childrenCount) {
+        List<Node> nodes = new ArrayList<>();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < containersCount; i++) {
+            List<Node> childNodes = new ArrayList<>();
+            for (int j = 0; j < childrenCount; j++) {
+                INodeStyle style = this.diagramBuilder.getRectangularNodeStyle();
+                if (j % 2 == 0) {
+                    style = this.diagramBuilder.getImageNodeStyle();
+                }
+                childNodes.add(this.createNode(i + SEPARATOR + j, style, List.of()));
+            }
+            nodes.add(this.createNode(String.valueOf(i), this.diagramBuilder.getRectangularNodeStyle(), childNodes));
+
+            for (int j = 0; j + 1 < childrenCount; j = j + 2) {
+                edges.add(this.diagramBuilder.getEdge(UUID.randomUUID().toString(), childNodes.get(j).getId(), childNodes.get(j + 1).getId()));
+            }
+            edges.add(this.diagramBuilder.getEdge(UUID.randomUUID().toString(), childNodes.get(childrenCount - 1).getId(), String.valueOf((i + 1) % containersCount)));
+        }
+
+        // @formatter:off
+        return Diagram.newDiagram(this.diagramBuilder.getDiagram(UUID.randomUUID()))
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+        // @formatter:on
+    }
+
+    private Node createNode(String id, INodeStyle style, List<Node> childNodes) {
+        // @formatter:off
+        return Node.newNode(this.diagramBuilder.getNode(id))
+                .style(style)
+                .position(Position.newPosition().x(10).y(20).build())
+                .size(Size.newSize().width(150).height(70).build())
+                .childNodes(childNodes)
+                .build();
+        // @formatter:on
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.spring.collaborative.representations.DiagramContentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark of the encoding and decoding of a diagram with 10 000 nodes and 5 000 edges in JSON and in the compact
+ * binary format, with and without compression.
+ * <p>
+ * The size of each kind of content is logged during the setup of the benchmark. It is not executed by the test suites
+ * and should be launched from the IDE or with the JMH runner.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DiagramContentCodecBenchmark {
+
+    private static final int CONTAINERS_COUNT = 1_000;
+
+    private static final int CHILDREN_COUNT = 9;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramContentCodecBenchmark.class);
+
+    private final DiagramContentCodec diagramContentCodec = new DiagramContentCodec();
+
+    private ObjectMapper objectMapper;
+
+    private Diagram diagram;
+
+    private String jsonContent;
+
+    private String binaryContent;
+
+    private String compressedBinaryContent;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        BenchmarkDiagramBuilder benchmarkDiagramBuilder = new BenchmarkDiagramBuilder();
+        this.objectMapper = benchmarkDiagramBuilder.getObjectMapper();
+        this.diagram = benchmarkDiagramBuilder.getDiagram(CONTAINERS_COUNT, CHILDREN_COUNT);
+
+        this.jsonContent = this.objectMapper.writeValueAsString(this.diagram);
+        this.binaryContent = this.diagramContentCodec.encode(this.diagram, false);
+        this.compressedBinaryContent = this.diagramContentCodec.encode(this.diagram, true);
+
+        this.logger.info("JSON content: {} characters", this.jsonContent.length()); //$NON-NLS-1$
+        this.logger.info("Binary content: {} characters", this.binaryContent.length()); //$NON-NLS-1$
+        this.logger.info("Compressed binary content: {} characters", this.compressedBinaryContent.length()); //$NON-NLS-1$
+    }
+
+    @Benchmark
+    public String encodeJson() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(this.diagram);
+    }
+
+    @Benchmark
+    public String encodeBinary() {
+        return this.diagramContentCodec.encode(this.diagram, false);
+    }
+
+    @Benchmark
+    public String encodeCompressedBinary() {
+        return this.diagramContentCodec.encode(this.diagram, true);
+    }
+
+    @Benchmark
+    public Diagram decodeJson() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.jsonContent, Diagram.class);
+    }
+
+    @Benchmark
+    public Optional<Diagram> decodeBinary() {
+        return this.diagramContentCodec.decode(this.binaryContent);
+    }
+
+    @Benchmark
+    public Optional<Diagram> decodeCompressedBinary() {
+        return this.diagramContentCodec.decode(this.compressedBinaryContent);
+    }
+
+}
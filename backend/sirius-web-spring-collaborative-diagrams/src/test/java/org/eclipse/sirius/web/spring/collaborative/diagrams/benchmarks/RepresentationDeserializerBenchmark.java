@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the deserialization of a diagram with 10 000 nodes and 5 000 edges.
+ * <p>
+ * The deserialization of the representation in a single pass is compared with the previous approach which was reading
+ * the whole JSON in a tree, converting it back to a string and parsing it again. It is not executed by the test suites
+ * and should be launched from the IDE or with the JMH runner.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RepresentationDeserializerBenchmark {
+
+    private static final int CONTAINERS_COUNT = 1_000;
+
+    private static final int CHILDREN_COUNT = 9;
+
+    private ObjectMapper objectMapper;
+
+    private String content;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        BenchmarkDiagramBuilder benchmarkDiagramBuilder = new BenchmarkDiagramBuilder();
+        this.objectMapper = benchmarkDiagramBuilder.getObjectMapper();
+        this.content = this.objectMapper.writeValueAsString(benchmarkDiagramBuilder.getDiagram(CONTAINERS_COUNT, CHILDREN_COUNT));
+    }
+
+    @Benchmark
+    public IRepresentation deserializeInOnePass() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.content, IRepresentation.class);
+    }
+
+    @Benchmark
+    public IRepresentation deserializeThroughTree() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.objectMapper.readTree(this.content).toString(), Diagram.class);
+    }
+
+}
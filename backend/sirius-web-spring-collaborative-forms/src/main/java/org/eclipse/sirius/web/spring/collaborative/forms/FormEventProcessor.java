@@ -12,7 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.forms;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,6 +20,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.sirius.web.collaborative.api.dto.PreDestroyPayload;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
 import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
 import org.eclipse.sirius.web.collaborative.forms.api.IFormEventHandler;
@@ -27,13 +28,19 @@ import org.eclipse.sirius.web.collaborative.forms.api.IFormEventProcessor;
 import org.eclipse.sirius.web.collaborative.forms.api.IFormInput;
 import org.eclipse.sirius.web.collaborative.forms.api.IWidgetSubscriptionManager;
 import org.eclipse.sirius.web.collaborative.forms.api.dto.FormRefreshedEventPayload;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.FormWidgetsRefreshedEventPayload;
 import org.eclipse.sirius.web.collaborative.forms.api.dto.UpdateWidgetFocusInput;
 import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.forms.AbstractWidget;
 import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.Group;
+import org.eclipse.sirius.web.forms.Page;
 import org.eclipse.sirius.web.forms.components.FormComponent;
 import org.eclipse.sirius.web.forms.components.FormComponentProps;
 import org.eclipse.sirius.web.forms.description.FormDescription;
 import org.eclipse.sirius.web.forms.renderer.FormRenderer;
+import org.eclipse.sirius.web.forms.renderer.FormRenderingCache;
+import org.eclipse.sirius.web.forms.renderer.IncrementalFormRenderer;
 import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.representations.VariableManager;
@@ -53,6 +60,11 @@ import reactor.core.publisher.Mono;
  * Reacts to the input that target the property sheet of a specific object and publishes updated versions of the
  * {@link Form} to interested subscribers.
  *
+ * <p>
+ * When all the widgets of the form have recorded their dependencies during the rendering, only the widgets whose
+ * dependencies have changed are rendered again and published.
+ * </p>
+ *
  * @author pcdavid
  */
 public class FormEventProcessor implements IFormEventProcessor {
@@ -67,7 +79,7 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     private final Object object;
 
-    private final List<IFormEventHandler> formEventHandlers;
+    private final EventHandlerRegistry<IFormInput, IFormEventHandler> formEventHandlerRegistry;
 
     private final ISubscriptionManager subscriptionManager;
 
@@ -79,13 +91,15 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     private final AtomicReference<Form> currentForm = new AtomicReference<>();
 
-    public FormEventProcessor(IEditingContext editingContext, FormDescription formDescription, UUID formId, Object object, List<IFormEventHandler> formEventHandlers,
-            ISubscriptionManager subscriptionManager, IWidgetSubscriptionManager widgetSubscriptionManager) {
+    private final AtomicReference<FormRenderingCache> currentCache = new AtomicReference<>();
+
+    public FormEventProcessor(IEditingContext editingContext, FormDescription formDescription, UUID formId, Object object,
+            EventHandlerRegistry<IFormInput, IFormEventHandler> formEventHandlerRegistry, ISubscriptionManager subscriptionManager, IWidgetSubscriptionManager widgetSubscriptionManager) {
         this.formDescription = Objects.requireNonNull(formDescription);
         this.editingContext = Objects.requireNonNull(editingContext);
         this.formId = Objects.requireNonNull(formId);
         this.object = Objects.requireNonNull(object);
-        this.formEventHandlers = Objects.requireNonNull(formEventHandlers);
+        this.formEventHandlerRegistry = Objects.requireNonNull(formEventHandlerRegistry);
         this.subscriptionManager = Objects.requireNonNull(subscriptionManager);
         this.widgetSubscriptionManager = Objects.requireNonNull(widgetSubscriptionManager);
 
@@ -115,11 +129,10 @@ public class FormEventProcessor implements IFormEventProcessor {
                 UpdateWidgetFocusInput input = (UpdateWidgetFocusInput) formInput;
                 this.widgetSubscriptionManager.handle(input, context);
             } else {
-                Optional<IFormEventHandler> optionalFormEventHandler = this.formEventHandlers.stream().filter(handler -> handler.canHandle(formInput)).findFirst();
+                Optional<EventHandlerResponse> optionalResponse = this.formEventHandlerRegistry.handle(formInput, formEventHandler -> formEventHandler.handle(this.currentForm.get(), formInput));
 
-                if (optionalFormEventHandler.isPresent()) {
-                    IFormEventHandler formEventHandler = optionalFormEventHandler.get();
-                    return Optional.of(formEventHandler.handle(this.currentForm.get(), formInput));
+                if (optionalResponse.isPresent()) {
+                    return optionalResponse;
                 } else {
                     this.logger.warn("No handler found for event: {}", formInput); //$NON-NLS-1$
                 }
@@ -131,27 +144,75 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     @Override
     public void refresh() {
-        Form form = this.refreshForm();
+        Form previousForm = this.currentForm.get();
 
-        this.currentForm.set(form);
-        this.sink.next(new FormRefreshedEventPayload(form));
+        String label = this.formDescription.getLabelProvider().apply(this.createVariableManager());
+        Optional<Form> optionalForm = new IncrementalFormRenderer(this.logger).render(previousForm, label, this.currentCache.get());
+        if (optionalForm.isPresent()) {
+            Form form = optionalForm.get();
+            if (form != previousForm) {
+                List<AbstractWidget> refreshedWidgets = this.getRefreshedWidgets(previousForm, form);
+
+                this.logger.debug("Form widgets refreshed: {}", refreshedWidgets.size()); //$NON-NLS-1$
+
+                this.currentForm.set(form);
+                this.sink.next(new FormWidgetsRefreshedEventPayload(form.getId(), form.getLabel(), refreshedWidgets));
+            }
+        } else {
+            Form form = this.refreshForm();
+
+            this.currentForm.set(form);
+            this.sink.next(new FormRefreshedEventPayload(form));
+        }
     }
 
     private Form refreshForm() {
-        VariableManager variableManager = new VariableManager();
-        variableManager.put(VariableManager.SELF, this.object);
-        variableManager.put(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, this.formId);
-        variableManager.put(IEditingContext.EDITING_CONTEXT, this.editingContext);
+        FormRenderingCache cache = new FormRenderingCache();
+
+        VariableManager variableManager = this.createVariableManager();
+        variableManager.put(FormDescription.CACHE, cache);
 
         FormComponentProps formComponentProps = new FormComponentProps(variableManager, this.formDescription);
         Element element = new Element(FormComponent.class, formComponentProps);
         Form form = new FormRenderer(this.logger).render(element);
 
-        this.logger.debug(MessageFormat.format("Form refreshed: {0})", form)); //$NON-NLS-1$
+        this.logger.debug("Form refreshed: {}", form); //$NON-NLS-1$
 
+        this.currentCache.set(cache);
         return form;
     }
 
+    private VariableManager createVariableManager() {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, this.object);
+        variableManager.put(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, this.formId);
+        variableManager.put(IEditingContext.EDITING_CONTEXT, this.editingContext);
+        return variableManager;
+    }
+
+    private List<AbstractWidget> getRefreshedWidgets(Form previousForm, Form form) {
+        List<AbstractWidget> previousWidgets = this.getWidgets(previousForm);
+        List<AbstractWidget> widgets = this.getWidgets(form);
+
+        List<AbstractWidget> refreshedWidgets = new ArrayList<>();
+        for (int index = 0; index < widgets.size(); index++) {
+            if (widgets.get(index) != previousWidgets.get(index)) {
+                refreshedWidgets.add(widgets.get(index));
+            }
+        }
+        return refreshedWidgets;
+    }
+
+    private List<AbstractWidget> getWidgets(Form form) {
+        List<AbstractWidget> widgets = new ArrayList<>();
+        for (Page page : form.getPages()) {
+            for (Group group : page.getGroups()) {
+                widgets.addAll(group.getWidgets());
+            }
+        }
+        return widgets;
+    }
+
     @Override
     public Flux<IPayload> getOutputEvents() {
         var initialRefresh = Mono.fromCallable(() -> new FormRefreshedEventPayload(this.currentForm.get()));
@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorFactory;
@@ -25,6 +26,7 @@ import org.eclipse.sirius.web.collaborative.forms.api.FormConfiguration;
 import org.eclipse.sirius.web.collaborative.forms.api.IDefaultFormDescriptionProvider;
 import org.eclipse.sirius.web.collaborative.forms.api.IFormEventHandler;
 import org.eclipse.sirius.web.collaborative.forms.api.IFormEventProcessor;
+import org.eclipse.sirius.web.collaborative.forms.api.IFormInput;
 import org.eclipse.sirius.web.collaborative.forms.api.IWidgetSubscriptionManagerFactory;
 import org.eclipse.sirius.web.forms.description.FormDescription;
 import org.eclipse.sirius.web.services.api.Context;
@@ -47,18 +49,18 @@ public class FormEventProcessorFactory implements IRepresentationEventProcessorF
 
     private final IObjectService objectService;
 
-    private final List<IFormEventHandler> formEventHandlers;
+    private final EventHandlerRegistry<IFormInput, IFormEventHandler> formEventHandlerRegistry;
 
     private final ISubscriptionManagerFactory subscriptionManagerFactory;
 
     private final IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory;
 
     public FormEventProcessorFactory(IRepresentationDescriptionService representationDescriptionService, IDefaultFormDescriptionProvider defaultFormDescriptionProvider, IObjectService objectService,
-            List<IFormEventHandler> formEventHandlers, ISubscriptionManagerFactory subscriptionManagerFactory, IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory) {
+            EventHandlerRegistry<IFormInput, IFormEventHandler> formEventHandlerRegistry, ISubscriptionManagerFactory subscriptionManagerFactory, IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory) {
         this.representationDescriptionService = Objects.requireNonNull(representationDescriptionService);
         this.defaultFormDescriptionProvider = Objects.requireNonNull(defaultFormDescriptionProvider);
         this.objectService = Objects.requireNonNull(objectService);
-        this.formEventHandlers = Objects.requireNonNull(formEventHandlers);
+        this.formEventHandlerRegistry = Objects.requireNonNull(formEventHandlerRegistry);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
         this.widgetSubscriptionManagerFactory = Objects.requireNonNull(widgetSubscriptionManagerFactory);
     }
@@ -88,7 +90,7 @@ public class FormEventProcessorFactory implements IRepresentationEventProcessorF
                     optionalFormDescription = new FormDescriptionAggregator().aggregate(formDescriptions, object, this.objectService);
                 }
                 FormDescription formDescription = optionalFormDescription.orElse(this.defaultFormDescriptionProvider.getFormDescription());
-                IRepresentationEventProcessor formEventProcessor = new FormEventProcessor(editingContext, formDescription, formConfiguration.getId(), object, this.formEventHandlers,
+                IRepresentationEventProcessor formEventProcessor = new FormEventProcessor(editingContext, formDescription, formConfiguration.getId(), object, this.formEventHandlerRegistry,
                         this.subscriptionManagerFactory.create(), this.widgetSubscriptionManagerFactory.create());
 
                 // @formatter:off
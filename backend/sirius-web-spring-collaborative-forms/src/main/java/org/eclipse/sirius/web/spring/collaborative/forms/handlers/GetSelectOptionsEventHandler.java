@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.eclipse.sirius.web.collaborative.forms.api.IFormEventHandler;
+import org.eclipse.sirius.web.collaborative.forms.api.IFormInput;
+import org.eclipse.sirius.web.collaborative.forms.api.IFormService;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.GetSelectOptionsInput;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.GetSelectOptionsSuccessPayload;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.LazySelectOptions;
+import org.eclipse.sirius.web.forms.Select;
+import org.eclipse.sirius.web.forms.SelectOption;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.spring.collaborative.forms.messages.ICollaborativeFormMessageService;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The handler used to retrieve a page of the options of a select.
+ *
+ * <p>
+ * The options are computed from the candidates of the select in the current form, without modifying the editing context
+ * or refreshing the form. Only the candidates after the start index are considered and only the labels of the options
+ * returned are computed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class GetSelectOptionsEventHandler implements IFormEventHandler {
+
+    private final IFormService formService;
+
+    private final ICollaborativeFormMessageService messageService;
+
+    private final Counter counter;
+
+    public GetSelectOptionsEventHandler(IFormService formService, ICollaborativeFormMessageService messageService, MeterRegistry meterRegistry) {
+        this.formService = Objects.requireNonNull(formService);
+        this.messageService = Objects.requireNonNull(messageService);
+
+        // @formatter:off
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @Override
+    public boolean canHandle(IFormInput formInput) {
+        return formInput instanceof GetSelectOptionsInput;
+    }
+
+    @Override
+    public EventHandlerResponse handle(Form form, IFormInput formInput) {
+        this.counter.increment();
+
+        if (formInput instanceof GetSelectOptionsInput) {
+            GetSelectOptionsInput input = (GetSelectOptionsInput) formInput;
+            int first = Math.max(input.getFirst(), 0);
+
+            // @formatter:off
+            Optional<LazySelectOptions> optionalLazyOptions = this.formService.findWidget(form, input.getSelectId())
+                    .filter(Select.class::isInstance)
+                    .map(Select.class::cast)
+                    .map(Select::getLazyOptions);
+
+            // One more option is requested to know if there is a next page
+            List<Integer> optionIndexes = optionalLazyOptions.map(lazyOptions -> lazyOptions.getOptionIndexes(input.getFilter(), input.getStartIndex(), first + 1))
+                    .orElse(List.of());
+            // @formatter:on
+
+            boolean hasNextPage = optionIndexes.size() > first;
+            List<Integer> pageIndexes = optionIndexes.subList(0, Math.min(first, optionIndexes.size()));
+            List<SelectOption> page = new ArrayList<>(pageIndexes.size());
+            optionalLazyOptions.ifPresent(lazyOptions -> pageIndexes.forEach(index -> page.add(lazyOptions.getOption(index))));
+
+            return new EventHandlerResponse(false, representation -> false, new GetSelectOptionsSuccessPayload(page, pageIndexes, hasNextPage));
+        }
+        String message = this.messageService.invalidInput(formInput.getClass().getSimpleName(), GetSelectOptionsInput.class.getSimpleName());
+        return new EventHandlerResponse(false, representation -> false, new ErrorPayload(message));
+    }
+}
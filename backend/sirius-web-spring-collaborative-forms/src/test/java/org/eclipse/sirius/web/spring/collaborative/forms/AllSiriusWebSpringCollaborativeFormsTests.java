@@ -17,6 +17,7 @@ import org.eclipse.sirius.web.spring.collaborative.forms.architecture.SpringCodi
 import org.eclipse.sirius.web.spring.collaborative.forms.handlers.EditCheckboxEventHandlerTestCases;
 import org.eclipse.sirius.web.spring.collaborative.forms.handlers.EditRadioEventHandlerTestCases;
 import org.eclipse.sirius.web.spring.collaborative.forms.handlers.EditTextfieldEventHandlerTestCases;
+import org.eclipse.sirius.web.spring.collaborative.forms.handlers.GetSelectOptionsEventHandlerTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -33,7 +34,8 @@ import org.junit.runners.Suite.SuiteClasses;
     SpringCodingRulesTestCases.class,
     EditCheckboxEventHandlerTestCases.class,
     EditRadioEventHandlerTestCases.class,
-    EditTextfieldEventHandlerTestCases.class
+    EditTextfieldEventHandlerTestCases.class,
+    GetSelectOptionsEventHandlerTestCases.class
 })
 //@formatter:on
 public final class AllSiriusWebSpringCollaborativeFormsTests {
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.forms.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.forms.api.IFormService;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.GetSelectOptionsInput;
+import org.eclipse.sirius.web.collaborative.forms.api.dto.GetSelectOptionsSuccessPayload;
+import org.eclipse.sirius.web.forms.AbstractWidget;
+import org.eclipse.sirius.web.forms.Form;
+import org.eclipse.sirius.web.forms.Group;
+import org.eclipse.sirius.web.forms.LazySelectOptions;
+import org.eclipse.sirius.web.forms.Page;
+import org.eclipse.sirius.web.forms.Select;
+import org.eclipse.sirius.web.forms.SelectOption;
+import org.eclipse.sirius.web.representations.Status;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the get select options event handler.
+ *
+ * @author sbegaudeau
+ */
+public class GetSelectOptionsEventHandlerTestCases {
+    private static final UUID FORM_ID = UUID.randomUUID();
+
+    private static final String SELECT_ID = "Select id"; //$NON-NLS-1$
+
+    private static final String OPTION = "option"; //$NON-NLS-1$
+
+    @Test
+    public void testPaginatedOptions() {
+        GetSelectOptionsEventHandler handler = this.createHandler(25);
+
+        var firstInput = new GetSelectOptionsInput(UUID.randomUUID(), FORM_ID, SELECT_ID, null, 0, 10);
+        assertThat(handler.canHandle(firstInput)).isTrue();
+
+        GetSelectOptionsSuccessPayload firstPage = this.getPayload(handler, firstInput);
+        assertThat(firstPage.getOptions()).hasSize(10);
+        assertThat(firstPage.getOptions().get(0).getId()).isEqualTo(OPTION + 0);
+        assertThat(firstPage.getOptionIndexes()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(firstPage.isHasNextPage()).isTrue();
+
+        var lastInput = new GetSelectOptionsInput(UUID.randomUUID(), FORM_ID, SELECT_ID, null, 20, 10);
+        GetSelectOptionsSuccessPayload lastPage = this.getPayload(handler, lastInput);
+        assertThat(lastPage.getOptions()).extracting(SelectOption::getId).containsExactly(OPTION + 20, OPTION + 21, OPTION + 22, OPTION + 23, OPTION + 24);
+        assertThat(lastPage.getOptionIndexes()).containsExactly(20, 21, 22, 23, 24);
+        assertThat(lastPage.isHasNextPage()).isFalse();
+    }
+
+    @Test
+    public void testFilteredOptions() {
+        GetSelectOptionsEventHandler handler = this.createHandler(25);
+
+        var input = new GetSelectOptionsInput(UUID.randomUUID(), FORM_ID, SELECT_ID, "LABEL 2", 0, 10); //$NON-NLS-1$
+        GetSelectOptionsSuccessPayload payload = this.getPayload(handler, input);
+        assertThat(payload.getOptions()).extracting(SelectOption::getId).containsExactly(OPTION + 2, OPTION + 20, OPTION + 21, OPTION + 22, OPTION + 23, OPTION + 24);
+        assertThat(payload.isHasNextPage()).isFalse();
+    }
+
+    private GetSelectOptionsSuccessPayload getPayload(GetSelectOptionsEventHandler handler, GetSelectOptionsInput input) {
+        EventHandlerResponse response = handler.handle(this.createForm(), input);
+        assertThat(response.getPayload()).isInstanceOf(GetSelectOptionsSuccessPayload.class);
+        return (GetSelectOptionsSuccessPayload) response.getPayload();
+    }
+
+    private GetSelectOptionsEventHandler createHandler(int candidatesCount) {
+        List<Object> candidates = IntStream.range(0, candidatesCount).mapToObj(Integer::valueOf).collect(Collectors.toList());
+        LazySelectOptions lazyOptions = new LazySelectOptions(candidates, candidate -> OPTION + candidate, candidate -> "Label " + candidate); //$NON-NLS-1$
+
+        // @formatter:off
+        Select select = Select.newSelect(SELECT_ID)
+                .label("label") //$NON-NLS-1$
+                .options(List.of())
+                .lazyOptions(lazyOptions)
+                .newValueHandler(newValue -> Status.OK)
+                .build();
+        // @formatter:on
+
+        IFormService formService = new NoOpFormService() {
+            @Override
+            public Optional<AbstractWidget> findWidget(Form form, String widgetId) {
+                return Optional.of(select);
+            }
+        };
+        return new GetSelectOptionsEventHandler(formService, new NoOpCollaborativeFormMessageService(), new SimpleMeterRegistry());
+    }
+
+    private Form createForm() {
+        // @formatter:off
+        Group group = Group.newGroup("groupId") //$NON-NLS-1$
+                .label("group label") //$NON-NLS-1$
+                .widgets(List.of())
+                .build();
+
+        Page page = Page.newPage("pageId") //$NON-NLS-1$
+                .label("page label") //$NON-NLS-1$
+                .groups(List.of(group))
+                .build();
+
+        return Form.newForm(FORM_ID)
+                .targetObjectId("targetObjectId") //$NON-NLS-1$
+                .label("form label") //$NON-NLS-1$
+                .pages(List.of(page))
+                .build();
+        // @formatter:on
+    }
+}
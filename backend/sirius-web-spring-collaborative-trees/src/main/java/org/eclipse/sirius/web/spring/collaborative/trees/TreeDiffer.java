@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.trees;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.TreeItem;
+
+/**
+ * Computes the tree items which have been refreshed between two versions of a tree.
+ *
+ * @author hmarchadour
+ */
+public class TreeDiffer {
+
+    /**
+     * Returns the tree items of the given tree which are new or whose content is different from the previous version of
+     * the tree. The content of a tree item does not include its children but only their ids.
+     *
+     * @param previousTree
+     *            The previous version of the tree
+     * @param tree
+     *            The new version of the tree
+     * @return The tree items refreshed, or an empty optional if the root of the tree itself has changed
+     */
+    public Optional<List<TreeItem>> getRefreshedTreeItems(Tree previousTree, Tree tree) {
+        Optional<List<TreeItem>> optionalRefreshedTreeItems = Optional.empty();
+
+        boolean isSameLabel = Objects.equals(previousTree.getLabel(), tree.getLabel());
+        if (isSameLabel && this.getIds(previousTree.getChildren()).equals(this.getIds(tree.getChildren()))) {
+            Map<String, TreeItem> previousTreeItems = new HashMap<>();
+            this.collectTreeItems(previousTree.getChildren(), previousTreeItems);
+
+            List<TreeItem> refreshedTreeItems = new ArrayList<>();
+            this.collectRefreshedTreeItems(tree.getChildren(), previousTreeItems, refreshedTreeItems);
+            optionalRefreshedTreeItems = Optional.of(refreshedTreeItems);
+        }
+        return optionalRefreshedTreeItems;
+    }
+
+    private void collectTreeItems(List<TreeItem> treeItems, Map<String, TreeItem> idToTreeItem) {
+        for (TreeItem treeItem : treeItems) {
+            idToTreeItem.put(treeItem.getId(), treeItem);
+            this.collectTreeItems(treeItem.getChildren(), idToTreeItem);
+        }
+    }
+
+    /**
+     * Collects the refreshed tree items. The subtree of a tree item reused as is from the previous version of the tree
+     * is skipped since nothing has changed in it.
+     */
+    private void collectRefreshedTreeItems(List<TreeItem> treeItems, Map<String, TreeItem> previousTreeItems, List<TreeItem> refreshedTreeItems) {
+        for (TreeItem treeItem : treeItems) {
+            TreeItem previousTreeItem = previousTreeItems.get(treeItem.getId());
+            if (previousTreeItem != treeItem) {
+                if (previousTreeItem == null || !this.hasSameContent(previousTreeItem, treeItem)) {
+                    refreshedTreeItems.add(treeItem);
+                }
+                this.collectRefreshedTreeItems(treeItem.getChildren(), previousTreeItems, refreshedTreeItems);
+            }
+        }
+    }
+
+    private boolean hasSameContent(TreeItem previousTreeItem, TreeItem treeItem) {
+        // @formatter:off
+        return Objects.equals(previousTreeItem.getKind(), treeItem.getKind())
+                && Objects.equals(previousTreeItem.getLabel(), treeItem.getLabel())
+                && previousTreeItem.isEditable() == treeItem.isEditable()
+                && Objects.equals(previousTreeItem.getImageURL(), treeItem.getImageURL())
+                && previousTreeItem.isHasChildren() == treeItem.isHasChildren()
+                && previousTreeItem.isExpanded() == treeItem.isExpanded()
+                && this.getIds(previousTreeItem.getChildren()).equals(this.getIds(treeItem.getChildren()));
+        // @formatter:on
+    }
+
+    private List<String> getIds(List<TreeItem> treeItems) {
+        return treeItems.stream().map(TreeItem::getId).collect(Collectors.toList());
+    }
+}
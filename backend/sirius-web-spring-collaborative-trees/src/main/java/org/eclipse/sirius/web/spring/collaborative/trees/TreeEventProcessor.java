@@ -12,28 +12,42 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.trees;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.sirius.web.collaborative.api.dto.PreDestroyPayload;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
 import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
 import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.eclipse.sirius.web.collaborative.trees.api.CollapseTreeItemsInput;
+import org.eclipse.sirius.web.collaborative.trees.api.CollapseTreeItemsSuccessPayload;
+import org.eclipse.sirius.web.collaborative.trees.api.GetTreeItemChildrenInput;
+import org.eclipse.sirius.web.collaborative.trees.api.GetTreeItemChildrenSuccessPayload;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeEventHandler;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeEventProcessor;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeInput;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeService;
 import org.eclipse.sirius.web.collaborative.trees.api.TreeCreationParameters;
+import org.eclipse.sirius.web.collaborative.trees.api.TreeItemsRefreshedEventPayload;
 import org.eclipse.sirius.web.collaborative.trees.api.TreeRefreshedEventPayload;
 import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
 import org.eclipse.sirius.web.services.api.dto.IRepresentationInput;
 import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.TreeItem;
+import org.eclipse.sirius.web.trees.renderer.TreeRenderer;
+import org.eclipse.sirius.web.trees.renderer.TreeRenderingCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +62,14 @@ import reactor.core.publisher.Mono;
  * Reacts to the input that target a tree representation and publishes updated versions of the {@link Tree} to
  * interested subscribers.
  *
+ * <p>
+ * The tree keeps track of its visible tree items, that is to say the tree items expanded initially and those whose
+ * children have been requested since and which have not been collapsed by all the clients which have expanded them.
+ * Only the visible tree items are rendered during a refresh and only those which have changed are sent to the
+ * subscribers. When the objects changed are known, only the tree items of these objects and those expanded or
+ * collapsed since the last refresh are rendered again, the other ones are reused as is.
+ * </p>
+ *
  * @author pcdavid
  */
 public class TreeEventProcessor implements ITreeEventProcessor {
@@ -58,7 +80,7 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     private final TreeCreationParameters treeCreationParameters;
 
-    private final List<ITreeEventHandler> treeEventHandlers;
+    private final EventHandlerRegistry<ITreeInput, ITreeEventHandler> treeEventHandlerRegistry;
 
     private final ISubscriptionManager subscriptionManager;
 
@@ -68,14 +90,32 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     private final AtomicReference<Tree> currentTree = new AtomicReference<>();
 
+    private final AtomicReference<TreeRenderingCache> currentCache = new AtomicReference<>();
+
+    private final Set<String> visibleTreeItemIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The number of times each tree item has been expanded by a client and not collapsed since, the tree items expanded
+     * initially staying visible anyway.
+     */
+    private final Map<String, Integer> treeItemId2expandedCount = new ConcurrentHashMap<>();
+
+    /**
+     * The ids of the tree items expanded or collapsed since the last refresh, which should be rendered again.
+     */
+    private final Set<String> invalidatedTreeItemIds = ConcurrentHashMap.newKeySet();
+
+    private final TreeDiffer treeDiffer = new TreeDiffer();
+
     private final Timer timer;
 
-    public TreeEventProcessor(ITreeService treeService, TreeCreationParameters treeCreationParameters, List<ITreeEventHandler> treeEventHandlers, ISubscriptionManager subscriptionManager,
-            MeterRegistry meterRegistry) {
+    public TreeEventProcessor(ITreeService treeService, TreeCreationParameters treeCreationParameters,
+            EventHandlerRegistry<ITreeInput, ITreeEventHandler> treeEventHandlerRegistry, ISubscriptionManager subscriptionManager, MeterRegistry meterRegistry) {
         this.treeService = Objects.requireNonNull(treeService);
         this.treeCreationParameters = Objects.requireNonNull(treeCreationParameters);
-        this.treeEventHandlers = Objects.requireNonNull(treeEventHandlers);
+        this.treeEventHandlerRegistry = Objects.requireNonNull(treeEventHandlerRegistry);
         this.subscriptionManager = Objects.requireNonNull(subscriptionManager);
+        this.visibleTreeItemIds.addAll(treeCreationParameters.getExpanded());
 
         this.flux = DirectProcessor.create();
         this.sink = this.flux.sink();
@@ -102,40 +142,155 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     @Override
     public Optional<EventHandlerResponse> handle(IRepresentationInput representationInput, Context context) {
+        Optional<EventHandlerResponse> optionalResponse = Optional.empty();
+
         if (representationInput instanceof ITreeInput) {
             ITreeInput treeInput = (ITreeInput) representationInput;
-            Optional<ITreeEventHandler> optionalTreeEventHandler = this.treeEventHandlers.stream().filter(handler -> handler.canHandle(treeInput)).findFirst();
 
-            if (optionalTreeEventHandler.isPresent()) {
-                ITreeEventHandler treeEventHandler = optionalTreeEventHandler.get();
-                return Optional.of(treeEventHandler.handle(this.currentTree.get(), treeInput));
+            if (treeInput instanceof GetTreeItemChildrenInput) {
+                optionalResponse = Optional.of(this.getTreeItemChildren((GetTreeItemChildrenInput) treeInput));
+            } else if (treeInput instanceof CollapseTreeItemsInput) {
+                optionalResponse = Optional.of(this.collapseTreeItems((CollapseTreeItemsInput) treeInput));
             } else {
-                this.logger.warn("No handler found for event: {}", treeInput); //$NON-NLS-1$
+                optionalResponse = this.treeEventHandlerRegistry.handle(treeInput, treeEventHandler -> treeEventHandler.handle(this.currentTree.get(), treeInput));
+
+                if (optionalResponse.isEmpty()) {
+                    this.logger.warn("No handler found for event: {}", treeInput); //$NON-NLS-1$
+                }
+            }
+        }
+
+        return optionalResponse;
+    }
+
+    /**
+     * Renders a page of the children of a tree item, without refreshing the rest of the tree. The tree item is
+     * considered as expanded by the client from now on when its first page is requested.
+     *
+     * @param input
+     *            The input
+     * @return The response containing the children rendered
+     */
+    private EventHandlerResponse getTreeItemChildren(GetTreeItemChildrenInput input) {
+        if (input.getAfter() == null) {
+            this.treeItemId2expandedCount.merge(input.getTreeItemId(), 1, Integer::sum);
+            if (this.visibleTreeItemIds.add(input.getTreeItemId())) {
+                this.invalidatedTreeItemIds.add(input.getTreeItemId());
             }
         }
+        int first = Math.max(input.getFirst(), 0);
+
+        // One more child is rendered to know if there is a next page
+        // @formatter:off
+        List<TreeItem> children = this.currentCache.get().getVariableManager(input.getTreeItemId())
+                .map(treeItemVariableManager -> this.renderChildren(treeItemVariableManager, input.getAfter(), first + 1))
+                .orElse(List.of());
+        // @formatter:on
 
-        return Optional.empty();
+        boolean hasNextPage = children.size() > first;
+        List<TreeItem> page = children.subList(0, Math.min(first, children.size()));
+        return new EventHandlerResponse(false, representation -> false, new GetTreeItemChildrenSuccessPayload(page, hasNextPage));
+    }
+
+    /**
+     * Collapses some tree items for a client. A tree item is not visible anymore once all the clients which have
+     * expanded it have collapsed it, unless it was expanded initially.
+     *
+     * @param input
+     *            The input
+     * @return The response of the collapse
+     */
+    private EventHandlerResponse collapseTreeItems(CollapseTreeItemsInput input) {
+        for (String treeItemId : input.getTreeItemIds()) {
+            Integer expandedCount = this.treeItemId2expandedCount.computeIfPresent(treeItemId, (id, count) -> count - 1);
+            if (expandedCount != null && expandedCount <= 0) {
+                this.treeItemId2expandedCount.remove(treeItemId);
+            }
+            boolean isExpanded = this.treeItemId2expandedCount.containsKey(treeItemId) || this.treeCreationParameters.getExpanded().contains(treeItemId);
+            if (!isExpanded && this.visibleTreeItemIds.remove(treeItemId)) {
+                this.invalidatedTreeItemIds.add(treeItemId);
+            }
+        }
+        return new EventHandlerResponse(false, representation -> false, new CollapseTreeItemsSuccessPayload(input.getRepresentationId()));
+    }
+
+    private List<TreeItem> renderChildren(VariableManager treeItemVariableManager, String after, int count) {
+        VariableManager variableManager = treeItemVariableManager.createChild();
+        variableManager.put(TreeRenderer.EXPANDED, this.visibleTreeItemIds);
+
+        TreeRenderer treeRenderer = new TreeRenderer(variableManager, this.treeCreationParameters.getTreeDescription(), this.currentCache.get());
+        return treeRenderer.renderChildren(after, count);
     }
 
     @Override
     public void refresh() {
-        long start = System.currentTimeMillis();
+        this.refresh(Set.of());
+    }
 
-        Tree tree = this.refreshTree();
+    @Override
+    public void refresh(Set<Object> changedObjects) {
+        long start = System.currentTimeMillis();
 
+        Tree previousTree = this.currentTree.get();
+        Tree tree = null;
+        if (changedObjects.isEmpty()) {
+            tree = this.refreshTree();
+        } else {
+            tree = this.refreshTreeItems(previousTree, changedObjects);
+        }
         this.currentTree.set(tree);
-        this.sink.next(new TreeRefreshedEventPayload(tree));
+
+        Optional<List<TreeItem>> optionalRefreshedTreeItems = this.treeDiffer.getRefreshedTreeItems(previousTree, tree);
+        if (optionalRefreshedTreeItems.isEmpty()) {
+            this.sink.next(new TreeRefreshedEventPayload(tree));
+        } else if (!optionalRefreshedTreeItems.get().isEmpty()) {
+            List<TreeItem> refreshedTreeItems = optionalRefreshedTreeItems.get();
+            this.logger.debug("Tree items refreshed: {}", refreshedTreeItems.size()); //$NON-NLS-1$
+            this.sink.next(new TreeItemsRefreshedEventPayload(tree.getId(), refreshedTreeItems));
+        }
 
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Renders again only the tree items of the changed objects and those expanded or collapsed since the last refresh.
+     */
+    private Tree refreshTreeItems(Tree previousTree, Set<Object> changedObjects) {
+        TreeRenderingCache previousCache = this.currentCache.get();
+        Set<String> treeItemIds = new HashSet<>(previousCache.getTreeItemIds(changedObjects));
+        treeItemIds.addAll(this.invalidatedTreeItemIds);
+        this.invalidatedTreeItemIds.clear();
+
+        TreeRenderingCache cache = new TreeRenderingCache();
+        Tree tree = this.treeService.refresh(this.getVisibleTreeCreationParameters(), previousTree, previousCache, treeItemIds, cache);
+        this.currentCache.set(cache);
+
+        this.logger.debug("Tree items rendered again: {}", treeItemIds.size()); //$NON-NLS-1$
+        return tree;
+    }
+
     private Tree refreshTree() {
-        Tree tree = this.treeService.create(this.treeCreationParameters);
-        this.logger.debug(MessageFormat.format("Tree refreshed: {0})", tree)); //$NON-NLS-1$
+        this.invalidatedTreeItemIds.clear();
+
+        TreeRenderingCache cache = new TreeRenderingCache();
+        Tree tree = this.treeService.create(this.getVisibleTreeCreationParameters(), cache);
+        this.currentCache.set(cache);
+
+        this.logger.debug("Tree refreshed: {}", tree); //$NON-NLS-1$
         return tree;
     }
 
+    private TreeCreationParameters getVisibleTreeCreationParameters() {
+        // @formatter:off
+        return TreeCreationParameters.newTreeCreationParameters(this.treeCreationParameters.getId())
+                .treeDescription(this.treeCreationParameters.getTreeDescription())
+                .expanded(new ArrayList<>(this.visibleTreeItemIds))
+                .editingContext(this.treeCreationParameters.getEditingContext())
+                .build();
+        // @formatter:on
+    }
+
     @Override
     public Flux<IPayload> getOutputEvents() {
         var initialRefresh = Mono.fromCallable(() -> new TreeRefreshedEventPayload(this.currentTree.get()));
@@ -12,16 +12,17 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.trees;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorFactory;
 import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManagerFactory;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeEventHandler;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeEventProcessor;
+import org.eclipse.sirius.web.collaborative.trees.api.ITreeInput;
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeService;
 import org.eclipse.sirius.web.collaborative.trees.api.TreeConfiguration;
 import org.eclipse.sirius.web.collaborative.trees.api.TreeCreationParameters;
@@ -31,7 +32,7 @@ import org.eclipse.sirius.web.services.api.representations.IRepresentationDescri
 import org.eclipse.sirius.web.trees.description.TreeDescription;
 import org.springframework.stereotype.Service;
 
-import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Used to create the tree event processors.
@@ -45,16 +46,19 @@ public class TreeEventProcessorFactory implements IRepresentationEventProcessorF
 
     private final ITreeService treeService;
 
-    private final List<ITreeEventHandler> treeEventHandlers;
+    private final EventHandlerRegistry<ITreeInput, ITreeEventHandler> treeEventHandlerRegistry;
 
     private final ISubscriptionManagerFactory subscriptionManagerFactory;
 
-    public TreeEventProcessorFactory(IRepresentationDescriptionService representationDescriptionService, ITreeService treeService, List<ITreeEventHandler> treeEventHandlers,
-            ISubscriptionManagerFactory subscriptionManagerFactory) {
+    private final MeterRegistry meterRegistry;
+
+    public TreeEventProcessorFactory(IRepresentationDescriptionService representationDescriptionService, ITreeService treeService,
+            EventHandlerRegistry<ITreeInput, ITreeEventHandler> treeEventHandlerRegistry, ISubscriptionManagerFactory subscriptionManagerFactory, MeterRegistry meterRegistry) {
         this.representationDescriptionService = Objects.requireNonNull(representationDescriptionService);
         this.treeService = Objects.requireNonNull(treeService);
-        this.treeEventHandlers = Objects.requireNonNull(treeEventHandlers);
+        this.treeEventHandlerRegistry = Objects.requireNonNull(treeEventHandlerRegistry);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
     }
 
     @Override
@@ -84,8 +88,8 @@ public class TreeEventProcessorFactory implements IRepresentationEventProcessorF
                         .build();
                 // @formatter:on
 
-                IRepresentationEventProcessor treeEventProcessor = new TreeEventProcessor(this.treeService, treeCreationParameters, this.treeEventHandlers, this.subscriptionManagerFactory.create(),
-                        new SimpleMeterRegistry());
+                IRepresentationEventProcessor treeEventProcessor = new TreeEventProcessor(this.treeService, treeCreationParameters, this.treeEventHandlerRegistry,
+                        this.subscriptionManagerFactory.create(), this.meterRegistry);
                 // @formatter:off
                 return Optional.of(treeEventProcessor)
                         .filter(representationEventProcessorClass::isInstance)
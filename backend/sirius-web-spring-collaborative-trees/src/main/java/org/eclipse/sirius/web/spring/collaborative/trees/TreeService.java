@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.trees;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.eclipse.sirius.web.collaborative.trees.api.ITreeService;
 import org.eclipse.sirius.web.collaborative.trees.api.TreeCreationParameters;
 import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
@@ -19,6 +22,7 @@ import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.services.api.objects.IEditingContext;
 import org.eclipse.sirius.web.trees.Tree;
 import org.eclipse.sirius.web.trees.renderer.TreeRenderer;
+import org.eclipse.sirius.web.trees.renderer.TreeRenderingCache;
 import org.springframework.stereotype.Service;
 
 /**
@@ -31,13 +35,27 @@ public class TreeService implements ITreeService {
 
     @Override
     public Tree create(TreeCreationParameters treeCreationParameters) {
+        return this.create(treeCreationParameters, new TreeRenderingCache());
+    }
+
+    @Override
+    public Tree create(TreeCreationParameters treeCreationParameters, TreeRenderingCache cache) {
+        TreeRenderer treeRenderer = new TreeRenderer(this.createVariableManager(treeCreationParameters), treeCreationParameters.getTreeDescription(), cache);
+        return treeRenderer.render();
+    }
+
+    @Override
+    public Tree refresh(TreeCreationParameters treeCreationParameters, Tree previousTree, TreeRenderingCache previousCache, Set<String> invalidatedTreeItemIds, TreeRenderingCache cache) {
+        TreeRenderer treeRenderer = new TreeRenderer(this.createVariableManager(treeCreationParameters), treeCreationParameters.getTreeDescription(), cache);
+        return treeRenderer.render(previousTree, previousCache, invalidatedTreeItemIds);
+    }
+
+    private VariableManager createVariableManager(TreeCreationParameters treeCreationParameters) {
         VariableManager variableManager = new VariableManager();
         variableManager.put(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, treeCreationParameters.getId());
         variableManager.put(IEditingContext.EDITING_CONTEXT, treeCreationParameters.getEditingContext());
-        variableManager.put(TreeRenderer.EXPANDED, treeCreationParameters.getExpanded());
-
-        TreeRenderer treeRenderer = new TreeRenderer(variableManager, treeCreationParameters.getTreeDescription());
-        return treeRenderer.render();
+        variableManager.put(TreeRenderer.EXPANDED, new HashSet<>(treeCreationParameters.getExpanded()));
+        return variableManager;
     }
 
 }
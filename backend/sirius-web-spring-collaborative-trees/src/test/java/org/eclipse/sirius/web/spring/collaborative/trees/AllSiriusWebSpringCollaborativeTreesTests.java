@@ -27,7 +27,8 @@ import org.junit.runners.Suite.SuiteClasses;
 //@formatter:off
 @SuiteClasses({
     CodingRulesTestCases.class,
-    SpringCodingRulesTestCases.class
+    SpringCodingRulesTestCases.class,
+    TreeDifferTestCases.class
 })
 //@formatter:on
 public final class AllSiriusWebSpringCollaborativeTreesTests {
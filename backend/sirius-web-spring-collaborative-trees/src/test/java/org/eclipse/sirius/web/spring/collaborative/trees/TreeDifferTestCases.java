@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.trees;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.TreeItem;
+import org.junit.Test;
+
+/**
+ * Test cases for the computation of the tree items refreshed.
+ *
+ * @author hmarchadour
+ */
+public class TreeDifferTestCases {
+
+    private static final String ROOT = "root"; //$NON-NLS-1$
+
+    private static final String FIRST_CHILD = "firstChild"; //$NON-NLS-1$
+
+    private static final String SECOND_CHILD = "secondChild"; //$NON-NLS-1$
+
+    private final UUID treeId = UUID.randomUUID();
+
+    @Test
+    public void testOnlyChangedTreeItemsAreRefreshed() {
+        Tree previousTree = this.getTree(this.getTreeItem(ROOT, ROOT, List.of(this.getTreeItem(FIRST_CHILD, FIRST_CHILD, List.of()), this.getTreeItem(SECOND_CHILD, SECOND_CHILD, List.of()))));
+        Tree tree = this.getTree(this.getTreeItem(ROOT, ROOT, List.of(this.getTreeItem(FIRST_CHILD, FIRST_CHILD, List.of()), this.getTreeItem(SECOND_CHILD, "renamed", List.of())))); //$NON-NLS-1$
+
+        Optional<List<TreeItem>> optionalRefreshedTreeItems = new TreeDiffer().getRefreshedTreeItems(previousTree, tree);
+        assertThat(optionalRefreshedTreeItems).isPresent();
+        assertThat(optionalRefreshedTreeItems.get()).hasSize(1);
+        assertThat(optionalRefreshedTreeItems.get().get(0).getLabel()).isEqualTo("renamed"); //$NON-NLS-1$
+
+        assertThat(new TreeDiffer().getRefreshedTreeItems(tree, tree).get()).isEmpty();
+    }
+
+    @Test
+    public void testParentOfNewTreeItemIsRefreshed() {
+        Tree previousTree = this.getTree(this.getTreeItem(ROOT, ROOT, List.of(this.getTreeItem(FIRST_CHILD, FIRST_CHILD, List.of()))));
+        Tree tree = this.getTree(this.getTreeItem(ROOT, ROOT, List.of(this.getTreeItem(FIRST_CHILD, FIRST_CHILD, List.of()), this.getTreeItem(SECOND_CHILD, SECOND_CHILD, List.of()))));
+
+        Optional<List<TreeItem>> optionalRefreshedTreeItems = new TreeDiffer().getRefreshedTreeItems(previousTree, tree);
+        assertThat(optionalRefreshedTreeItems).isPresent();
+        assertThat(optionalRefreshedTreeItems.get()).hasSize(2);
+        assertThat(optionalRefreshedTreeItems.get().get(0).getId()).isEqualTo(ROOT);
+        assertThat(optionalRefreshedTreeItems.get().get(1).getId()).isEqualTo(SECOND_CHILD);
+    }
+
+    @Test
+    public void testNewRootTreeItemRequiresFullRefresh() {
+        Tree previousTree = this.getTree(this.getTreeItem(ROOT, ROOT, List.of()));
+        Tree tree = this.getTree(this.getTreeItem(ROOT, ROOT, List.of()), this.getTreeItem(FIRST_CHILD, FIRST_CHILD, List.of()));
+
+        assertThat(new TreeDiffer().getRefreshedTreeItems(previousTree, tree)).isEmpty();
+    }
+
+    private Tree getTree(TreeItem... treeItems) {
+        // @formatter:off
+        return Tree.newTree(this.treeId)
+                .label("Explorer") //$NON-NLS-1$
+                .children(List.of(treeItems))
+                .build();
+        // @formatter:on
+    }
+
+    private TreeItem getTreeItem(String id, String label, List<TreeItem> children) {
+        // @formatter:off
+        return TreeItem.newTreeItem(id)
+                .kind("kind") //$NON-NLS-1$
+                .label(label)
+                .editable(true)
+                .imageURL("") //$NON-NLS-1$
+                .hasChildren(!children.isEmpty())
+                .expanded(!children.isEmpty())
+                .children(children)
+                .build();
+        // @formatter:on
+    }
+}
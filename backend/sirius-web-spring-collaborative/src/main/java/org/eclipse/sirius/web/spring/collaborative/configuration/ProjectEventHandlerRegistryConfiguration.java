@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.configuration;
+
+import java.util.List;
+
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
+import org.eclipse.sirius.web.services.api.dto.IProjectInput;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration used to create the dispatch table shared by all the project event processors.
+ *
+ * @author sbegaudeau
+ */
+@Configuration
+public class ProjectEventHandlerRegistryConfiguration {
+
+    @Bean
+    public EventHandlerRegistry<IProjectInput, IProjectEventHandler> projectEventHandlerRegistry(List<IProjectEventHandler> eventHandlers, MeterRegistry meterRegistry) {
+        return new EventHandlerRegistry<>(eventHandlers, IProjectEventHandler::canHandle, meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.handlers;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.collaborative.api.dto.RedoInput;
+import org.eclipse.sirius.web.collaborative.api.dto.RedoSuccessPayload;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.eclipse.sirius.web.services.api.Context;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.dto.IProjectInput;
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.eclipse.sirius.web.spring.collaborative.messages.ICollaborativeMessageService;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Handler used to redo the most recently undone changes of the editing context.
+ * <p>
+ * The history of the changes is shared by all the users of the project, redoing performs again the changes most
+ * recently undone by any user of the project.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RedoEventHandler implements IProjectEventHandler {
+
+    private final IEditingContextManager editingContextManager;
+
+    private final ICollaborativeMessageService messageService;
+
+    private final Counter counter;
+
+    public RedoEventHandler(IEditingContextManager editingContextManager, ICollaborativeMessageService messageService, MeterRegistry meterRegistry) {
+        this.editingContextManager = Objects.requireNonNull(editingContextManager);
+        this.messageService = Objects.requireNonNull(messageService);
+
+        // @formatter:off
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @Override
+    public boolean canHandle(IProjectInput projectInput) {
+        return projectInput instanceof RedoInput;
+    }
+
+    @Override
+    public EventHandlerResponse handle(IEditingContext editingContext, IProjectInput projectInput, Context context) {
+        this.counter.increment();
+
+        String message = this.messageService.invalidInput(projectInput.getClass().getSimpleName(), RedoInput.class.getSimpleName());
+        if (projectInput instanceof RedoInput) {
+            RedoInput input = (RedoInput) projectInput;
+            if (this.editingContextManager.redo(editingContext)) {
+                return new EventHandlerResponse(true, representation -> true, new RedoSuccessPayload(input.getProjectId()));
+            }
+            message = this.messageService.nothingToRedo();
+        }
+        return new EventHandlerResponse(false, representation -> false, new ErrorPayload(message));
+    }
+
+}
@@ -52,4 +52,14 @@ public class CollaborativeMessageService implements ICollaborativeMessageService
         return this.messageSourceAccessor.getMessage("OBJECT_CREATION_FAILED"); //$NON-NLS-1$
     }
 
+    @Override
+    public String nothingToUndo() {
+        return this.messageSourceAccessor.getMessage("NOTHING_TO_UNDO"); //$NON-NLS-1$
+    }
+
+    @Override
+    public String nothingToRedo() {
+        return this.messageSourceAccessor.getMessage("NOTHING_TO_REDO"); //$NON-NLS-1$
+    }
+
 }
@@ -25,4 +25,8 @@ public interface ICollaborativeMessageService {
     String projectNotFound();
 
     String objectCreationFailed();
+
+    String nothingToUndo();
+
+    String nothingToRedo();
 }
@@ -12,8 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.projects;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -22,9 +23,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
@@ -34,13 +34,17 @@ import org.eclipse.sirius.web.collaborative.api.dto.ProjectRenamedEventPayload;
 import org.eclipse.sirius.web.collaborative.api.dto.RenameRepresentationSuccessPayload;
 import org.eclipse.sirius.web.collaborative.api.dto.RepresentationRefreshedEvent;
 import org.eclipse.sirius.web.collaborative.api.dto.RepresentationRenamedEventPayload;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
+import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.SubscriptionDescription;
+import org.eclipse.sirius.web.collaborative.api.services.SubscriptionTarget;
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.representations.ISemanticRepresentation;
 import org.eclipse.sirius.web.services.api.Context;
@@ -66,8 +70,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 
 /**
- * Handles all the inputs which concern a particular project one at a time, in order of arrival, and in a dedicated
- * thread and emit the output events.
+ * Handles all the inputs which concern a particular project one at a time, in order of arrival, using the executor of
+ * the project and emit the output events.
  *
  * @author sbegaudeau
  * @author pcdavid
@@ -84,35 +88,70 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
 
     private final ApplicationEventPublisher applicationEventPublisher;
 
-    private final List<IProjectEventHandler> projectEventHandlers;
+    private final EventHandlerRegistry<IProjectInput, IProjectEventHandler> projectEventHandlerRegistry;
 
     private final IObjectService objectService;
 
     private final IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
 
-    private final ExecutorService executor;
+    private final ISubscriptionRegistry subscriptionRegistry;
+
+    private final ProjectExecutor executor;
 
     private final Map<UUID, IRepresentationEventProcessor> representationEventProcessors = new ConcurrentHashMap<>();
 
+    /**
+     * The responses of the inputs handled since the last refresh of the representations, only accessed by the
+     * executor of the project.
+     */
+    private final List<EventHandlerResponse> unrefreshedResponses = new ArrayList<>();
+
+    /**
+     * The objects changed by the inputs handled since the last refresh of the representations, only accessed by the
+     * executor of the project.
+     */
+    private final Set<Object> unrefreshedChangedObjects = new LinkedHashSet<>();
+
+    /**
+     * Indicates whether a project input has been handled since the last refresh of the representations. Some of its
+     * changes may not have been recorded, those performed on the representations or on the documents for example.
+     */
+    private boolean hasUnrecordedChanges;
+
+    /**
+     * The ids of the representations which have not been refreshed while some changes were performed and which should
+     * thus be refreshed entirely next time, only accessed by the executor of the project.
+     */
+    private final Set<UUID> representationsWithMissedChanges = new HashSet<>();
+
+    /**
+     * The objects changed since the editing context has been persisted for the last time, only accessed by the executor
+     * of the project.
+     */
+    private final Set<Object> unpersistedChangedObjects = new LinkedHashSet<>();
+
+    /**
+     * Indicates whether a project input has been handled since the editing context has been persisted for the last
+     * time, in which case all its resources are persisted since some changes may not have been recorded.
+     */
+    private boolean hasUnpersistedUnrecordedChanges;
+
     private final DirectProcessor<IPayload> flux;
 
     private final FluxSink<IPayload> sink;
 
-    public ProjectEventProcessor(UUID projectId, IEditingContextManager editingContextManager, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
-            List<IProjectEventHandler> projectEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory) {
-        this.projectId = Objects.requireNonNull(projectId);
+    public ProjectEventProcessor(ProjectExecutor executor, IEditingContextManager editingContextManager, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
+            EventHandlerRegistry<IProjectInput, IProjectEventHandler> projectEventHandlerRegistry, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
+            ISubscriptionRegistry subscriptionRegistry) {
+        this.executor = Objects.requireNonNull(executor);
+        this.projectId = executor.getProjectId();
         this.editingContextManager = Objects.requireNonNull(editingContextManager);
-        this.editingContext = this.editingContextManager.createEditingContext(projectId);
+        this.editingContext = this.editingContextManager.createEditingContext(this.projectId);
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
         this.objectService = Objects.requireNonNull(objectService);
-        this.projectEventHandlers = Objects.requireNonNull(projectEventHandlers);
+        this.projectEventHandlerRegistry = Objects.requireNonNull(projectEventHandlerRegistry);
         this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
-
-        this.executor = Executors.newSingleThreadExecutor((Runnable runnable) -> {
-            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-            thread.setName("FIFO Event Handler for project " + this.projectId); //$NON-NLS-1$
-            return thread;
-        });
+        this.subscriptionRegistry = Objects.requireNonNull(subscriptionRegistry);
 
         this.flux = DirectProcessor.create();
         this.sink = this.flux.sink();
@@ -148,7 +187,7 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
             Optional<EventHandlerResponse> optionalResponse = future.get();
 
             optionalPayload = optionalResponse.map(EventHandlerResponse::getPayload);
-        } catch (InterruptedException | ExecutionException exception) {
+        } catch (InterruptedException | ExecutionException | CancellationException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
 
@@ -178,49 +217,106 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
      * @return The response computed by the event handler
      */
     private Optional<EventHandlerResponse> doHandle(IInput input, Context context) {
-        this.logger.debug(MessageFormat.format("Handling received event: {0}", input)); //$NON-NLS-1$
+        this.logger.debug("Handling received event: {}", input); //$NON-NLS-1$
 
         Optional<EventHandlerResponse> optionalResponse = Optional.empty();
 
-        if (input instanceof IProjectInput) {
-            optionalResponse = this.handleProjectInput((IProjectInput) input, context);
-
-            if (input instanceof RenameRepresentationInput) {
-                UUID representationId = ((RenameRepresentationInput) input).getRepresentationId();
-                if (this.representationEventProcessors.containsKey(representationId)) {
-                    this.handleRepresentationInput((IRepresentationInput) input, context);
+        this.editingContextManager.startRecording(this.editingContext);
+        try {
+            if (input instanceof IProjectInput) {
+                this.hasUnrecordedChanges = true;
+                this.hasUnpersistedUnrecordedChanges = true;
+                optionalResponse = this.handleProjectInput((IProjectInput) input, context);
+
+                if (input instanceof RenameRepresentationInput) {
+                    UUID representationId = ((RenameRepresentationInput) input).getRepresentationId();
+                    if (this.representationEventProcessors.containsKey(representationId)) {
+                        this.handleRepresentationInput((IRepresentationInput) input, context);
+                    }
                 }
+            } else if (input instanceof IRepresentationInput) {
+                optionalResponse = this.handleRepresentationInput((IRepresentationInput) input, context);
             }
-        } else if (input instanceof IRepresentationInput) {
-            optionalResponse = this.handleRepresentationInput((IRepresentationInput) input, context);
+        } finally {
+            Set<Object> changedObjects = this.editingContextManager.stopRecording(this.editingContext);
+            this.logger.debug("{} objects changed by the event: {}", changedObjects.size(), input); //$NON-NLS-1$
+            this.unrefreshedChangedObjects.addAll(changedObjects);
+            this.unpersistedChangedObjects.addAll(changedObjects);
         }
 
-        if (optionalResponse.isPresent()) {
-            EventHandlerResponse response = optionalResponse.get();
-
-            this.disposeRepresentationIfNeeded(context);
-
-            // @formatter:off
-            this.representationEventProcessors.values().stream()
-                .filter(representationEventProcessor -> {
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    return response.getShouldRefreshPredicate().test(representation);
-                })
-                .forEach(representationEventProcessor -> {
-                    representationEventProcessor.refresh();
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.projectId, representation));
-                });
-            // @formatter:on
-
-            if (response.isEditingContextDirty()) {
-                this.editingContextManager.persist(this.projectId, this.editingContext);
-            }
+        optionalResponse.ifPresent(this.unrefreshedResponses::add);
+
+        boolean isBatchFull = this.unrefreshedResponses.size() >= this.executor.getMaxBatchSize();
+        if (isBatchFull || !this.executor.hasPendingTasks()) {
+            this.refreshRepresentations();
         }
 
         return optionalResponse;
     }
 
+    /**
+     * Refreshes once the representations impacted by the inputs handled since the last refresh and persists the
+     * editing context if one of them has modified it, either according to its response or to the recorded changes.
+     *
+     * <p>
+     * The representations are given the objects changed since the last refresh, unless some changes may not have been
+     * recorded or the representation has missed some changes by not being refreshed.
+     * </p>
+     */
+    private void refreshRepresentations() {
+        if (!this.unrefreshedResponses.isEmpty()) {
+            List<EventHandlerResponse> responses = List.copyOf(this.unrefreshedResponses);
+            this.unrefreshedResponses.clear();
+            this.executor.recordBatchSize(responses.size());
+
+            Set<Object> changedObjects = Set.of();
+            if (!this.hasUnrecordedChanges) {
+                changedObjects = Set.copyOf(this.unrefreshedChangedObjects);
+            }
+            boolean hasChanges = this.hasUnrecordedChanges || !this.unrefreshedChangedObjects.isEmpty();
+            this.unrefreshedChangedObjects.clear();
+            this.hasUnrecordedChanges = false;
+
+            this.disposeRepresentationIfNeeded();
+
+            for (Entry<UUID, IRepresentationEventProcessor> entry : this.representationEventProcessors.entrySet()) {
+                IRepresentationEventProcessor representationEventProcessor = entry.getValue();
+                IRepresentation representation = representationEventProcessor.getRepresentation();
+                boolean shouldRefresh = responses.stream().anyMatch(response -> response.getShouldRefreshPredicate().test(representation));
+                if (shouldRefresh) {
+                    if (this.representationsWithMissedChanges.remove(entry.getKey())) {
+                        representationEventProcessor.refresh(Set.of());
+                    } else {
+                        representationEventProcessor.refresh(changedObjects);
+                    }
+                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.projectId, representationEventProcessor.getRepresentation()));
+                } else if (hasChanges) {
+                    this.representationsWithMissedChanges.add(entry.getKey());
+                }
+            }
+
+            if (!this.unpersistedChangedObjects.isEmpty() || responses.stream().anyMatch(EventHandlerResponse::isEditingContextDirty)) {
+                this.persist();
+            }
+        }
+    }
+
+    /**
+     * Persists the resources of the editing context containing the objects changed since the last persistence, or all
+     * of them if some changes may not have been recorded. The changes are kept to be persisted again next time if the
+     * persistence fails.
+     */
+    private void persist() {
+        Set<Object> changedObjects = Set.of();
+        if (!this.hasUnpersistedUnrecordedChanges) {
+            changedObjects = Set.copyOf(this.unpersistedChangedObjects);
+        }
+        this.editingContextManager.persist(this.projectId, this.editingContext, changedObjects);
+
+        this.unpersistedChangedObjects.clear();
+        this.hasUnpersistedUnrecordedChanges = false;
+    }
+
     /**
      * Return <code>true</code> whether the given representation is not attached to a semantic element,
      * <code>false</code> otherwise.
@@ -241,11 +337,8 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
 
     /**
      * Disposes the representation when its target object has been removed.
-     *
-     * @param context
-     *            the context
      */
-    private void disposeRepresentationIfNeeded(Context context) {
+    private void disposeRepresentationIfNeeded() {
         List<IRepresentationEventProcessor> representationEventProcessorToDispose = new ArrayList<>();
         for (IRepresentationEventProcessor representationEventProcessor : this.representationEventProcessors.values()) {
             if (this.isDangling(representationEventProcessor.getRepresentation())) {
@@ -266,18 +359,9 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
             this.disposeRepresentation(deleteRepresentationInput.getRepresentationId());
         }
 
-        // @formatter:off
-        Optional<IProjectEventHandler> optionalProjectEventHandler = this.projectEventHandlers.stream()
-                .filter(handler -> handler.canHandle(projectInput))
-                .findFirst();
-        // @formatter:on
-
-        Optional<EventHandlerResponse> optionalResponse = Optional.empty();
-        if (optionalProjectEventHandler.isPresent()) {
-            IProjectEventHandler projectEventHandler = optionalProjectEventHandler.get();
-            EventHandlerResponse response = projectEventHandler.handle(this.editingContext, projectInput, context);
-            optionalResponse = Optional.of(response);
-        } else {
+        Optional<EventHandlerResponse> optionalResponse = this.projectEventHandlerRegistry.handle(projectInput,
+                projectEventHandler -> projectEventHandler.handle(this.editingContext, projectInput, context));
+        if (optionalResponse.isEmpty()) {
             this.logger.warn("No handler found for event: {}", projectInput); //$NON-NLS-1$
         }
         return optionalResponse;
@@ -299,6 +383,24 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
     @Override
     public <T extends IRepresentationEventProcessor> Optional<T> acquireRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
             SubscriptionDescription subscriptionDescription, Context context) {
+        Optional<T> optionalRepresentationEventProcessor = Optional.empty();
+        if (!this.executor.isShutdown()) {
+            // The representation event processors are only created and released in the thread of the project
+            Future<Optional<T>> future = this.executor
+                    .submit(() -> this.doAcquireRepresentationEventProcessor(representationEventProcessorClass, configuration, subscriptionDescription, context));
+            try {
+                optionalRepresentationEventProcessor = future.get();
+            } catch (InterruptedException | ExecutionException | CancellationException exception) {
+                this.logger.error(exception.getMessage(), exception);
+            }
+        }
+        return optionalRepresentationEventProcessor;
+    }
+
+    private <T extends IRepresentationEventProcessor> Optional<T> doAcquireRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+            SubscriptionDescription subscriptionDescription, Context context) {
+        this.refreshRepresentations();
+
         // @formatter:off
         var optionalRepresentationEventProcessor = Optional.ofNullable(this.representationEventProcessors.get(configuration.getId()))
                 .filter(representationEventProcessorClass::isInstance)
@@ -310,34 +412,39 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
             if (optionalRepresentationEventProcessor.isPresent()) {
                 var representationEventProcessor = optionalRepresentationEventProcessor.get();
                 this.representationEventProcessors.put(configuration.getId(), representationEventProcessor);
-                representationEventProcessor.getSubscriptionManager().add(subscriptionDescription);
             } else {
                 this.logger.warn("The representation with the id {} does not exist", configuration.getId()); //$NON-NLS-1$
             }
-        } else {
+        }
+
+        if (optionalRepresentationEventProcessor.isPresent()) {
             var representationEventProcessor = optionalRepresentationEventProcessor.get();
             representationEventProcessor.getSubscriptionManager().add(subscriptionDescription);
+            this.subscriptionRegistry.add(subscriptionDescription, new SubscriptionTarget(this.projectId, configuration.getId()));
         }
 
         return optionalRepresentationEventProcessor;
     }
 
     @Override
-    public void release(SubscriptionDescription subscriptionDescription, Context context) {
-        Optional<UUID> representationIDToRemove = Optional.empty();
-        // @formatter:off
-        Set<Entry<UUID, IRepresentationEventProcessor>> entries = this.representationEventProcessors.entrySet();
-        for (Entry<UUID, IRepresentationEventProcessor> entry : entries) {
-            var subscriptionManager = entry.getValue().getSubscriptionManager();
+    public void release(SubscriptionDescription subscriptionDescription, UUID representationId, Context context) {
+        if (!this.executor.isShutdown()) {
+            this.executor.execute(() -> this.doRelease(subscriptionDescription, representationId));
+        }
+    }
+
+    private void doRelease(SubscriptionDescription subscriptionDescription, UUID representationId) {
+        this.refreshRepresentations();
+
+        IRepresentationEventProcessor representationEventProcessor = this.representationEventProcessors.get(representationId);
+        if (representationEventProcessor != null) {
+            ISubscriptionManager subscriptionManager = representationEventProcessor.getSubscriptionManager();
             subscriptionManager.remove(subscriptionDescription);
 
             if (subscriptionManager.isEmpty()) {
-                representationIDToRemove = Optional.of(entry.getKey());
+                this.disposeRepresentation(representationId);
             }
         }
-
-        representationIDToRemove.ifPresent(this::disposeRepresentation);
-        // @formatter:on
     }
 
     @Override
@@ -346,7 +453,9 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
     }
 
     private void disposeRepresentation(UUID representationId) {
+        this.representationsWithMissedChanges.remove(representationId);
         Optional.ofNullable(this.representationEventProcessors.remove(representationId)).ifPresent(IRepresentationEventProcessor::dispose);
+        this.subscriptionRegistry.removeRepresentation(this.projectId, representationId);
     }
 
     @Override
@@ -360,6 +469,7 @@ public class ProjectEventProcessor implements IProjectEventProcessor {
 
         this.representationEventProcessors.values().stream().forEach(IRepresentationEventProcessor::dispose);
         this.representationEventProcessors.clear();
+        this.subscriptionRegistry.removeProject(this.projectId);
         this.flux.onComplete();
     }
 
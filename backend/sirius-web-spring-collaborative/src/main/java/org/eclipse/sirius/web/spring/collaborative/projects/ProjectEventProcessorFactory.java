@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerRegistry;
+import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionRegistry;
+import org.eclipse.sirius.web.services.api.dto.IProjectInput;
+import org.eclipse.sirius.web.services.api.objects.IObjectService;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to create the project event processors.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ProjectEventProcessorFactory {
+
+    private final IEditingContextManager editingContextManager;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final IObjectService objectService;
+
+    private final EventHandlerRegistry<IProjectInput, IProjectEventHandler> projectEventHandlerRegistry;
+
+    private final IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+    private final ISubscriptionRegistry subscriptionRegistry;
+
+    private final ProjectExecutorFactory projectExecutorFactory;
+
+    public ProjectEventProcessorFactory(IEditingContextManager editingContextManager, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
+            EventHandlerRegistry<IProjectInput, IProjectEventHandler> projectEventHandlerRegistry, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
+            ISubscriptionRegistry subscriptionRegistry, ProjectExecutorFactory projectExecutorFactory) {
+        this.editingContextManager = Objects.requireNonNull(editingContextManager);
+        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
+        this.objectService = Objects.requireNonNull(objectService);
+        this.projectEventHandlerRegistry = Objects.requireNonNull(projectEventHandlerRegistry);
+        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
+        this.subscriptionRegistry = Objects.requireNonNull(subscriptionRegistry);
+        this.projectExecutorFactory = Objects.requireNonNull(projectExecutorFactory);
+    }
+
+    public ProjectEventProcessor create(UUID projectId) {
+        ProjectExecutor projectExecutor = this.projectExecutorFactory.create(projectId);
+        return new ProjectEventProcessor(projectExecutor, this.editingContextManager, this.applicationEventPublisher, this.objectService, this.projectEventHandlerRegistry,
+                this.representationEventProcessorComposedFactory, this.subscriptionRegistry);
+    }
+}
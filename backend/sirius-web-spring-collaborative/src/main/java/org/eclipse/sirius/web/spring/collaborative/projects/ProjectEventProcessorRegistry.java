@@ -23,19 +23,14 @@ import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
 
-import org.eclipse.sirius.web.collaborative.api.services.IProjectEventHandler;
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
-import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.services.api.dto.IInput;
 import org.eclipse.sirius.web.services.api.dto.IPayload;
-import org.eclipse.sirius.web.services.api.objects.IObjectService;
-import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
 import org.eclipse.sirius.web.services.api.projects.IProjectService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -50,27 +45,13 @@ public class ProjectEventProcessorRegistry implements IProjectEventProcessorRegi
 
     private final IProjectService projectService;
 
-    private final IEditingContextManager editingContextManager;
-
-    private final ApplicationEventPublisher applicationEventPublisher;
-
-    private final IObjectService objectService;
-
-    private final List<IProjectEventHandler> projectEventHandlers;
-
-    private final IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+    private final ProjectEventProcessorFactory projectEventProcessorFactory;
 
     private final ConcurrentMap<UUID, ProjectEventProcessor> projectEventProcessors = new ConcurrentHashMap<>();
 
-    public ProjectEventProcessorRegistry(IProjectService projectService, IEditingContextManager editingContextManager, IObjectService objectService,
-            ApplicationEventPublisher applicationEventPublisher, List<IProjectEventHandler> projectEventHandlers,
-            IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory) {
+    public ProjectEventProcessorRegistry(IProjectService projectService, ProjectEventProcessorFactory projectEventProcessorFactory) {
         this.projectService = Objects.requireNonNull(projectService);
-        this.editingContextManager = Objects.requireNonNull(editingContextManager);
-        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
-        this.objectService = Objects.requireNonNull(objectService);
-        this.projectEventHandlers = Objects.requireNonNull(projectEventHandlers);
-        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
+        this.projectEventProcessorFactory = Objects.requireNonNull(projectEventProcessorFactory);
     }
 
     @Override
@@ -86,13 +67,15 @@ public class ProjectEventProcessorRegistry implements IProjectEventProcessorRegi
         // @formatter:on
     }
 
+    @Override
+    public Optional<IProjectEventProcessor> getProjectEventProcessor(UUID projectId) {
+        return Optional.ofNullable(this.projectEventProcessors.get(projectId));
+    }
+
     @Override
     public Optional<IProjectEventProcessor> getOrCreateProjectEventProcessor(UUID projectId) {
         if (this.projectService.existsById(projectId)) {
-            ProjectEventProcessor projectEventHandler = this.projectEventProcessors.computeIfAbsent(projectId, id -> {
-                return new ProjectEventProcessor(id, this.editingContextManager, this.applicationEventPublisher, this.objectService, this.projectEventHandlers,
-                        this.representationEventProcessorComposedFactory);
-            });
+            ProjectEventProcessor projectEventHandler = this.projectEventProcessors.computeIfAbsent(projectId, this.projectEventProcessorFactory::create);
             return Optional.of(projectEventHandler);
         }
 
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs the tasks of a project one at a time, in order of submission, on an underlying executor.
+ *
+ * <p>
+ * Only one task of the project is given to the underlying executor at a time and the next one is submitted once it is
+ * done. The underlying executor can thus be shared by several projects without breaking the ordering of their tasks
+ * and without letting a busy project monopolize it. The depth of the queue, the time spent by the tasks waiting in
+ * the queue and the time spent running them are measured for each project.
+ * </p>
+ *
+ * <p>
+ * The executor also indicates how many consecutive inputs may be handled before refreshing the representations of the
+ * project, and measures the size of these batches.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ProjectExecutor implements Executor {
+
+    private final Logger logger = LoggerFactory.getLogger(ProjectExecutor.class);
+
+    private final UUID projectId;
+
+    private final Executor executor;
+
+    private final int maxBatchSize;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Queue<FutureTask<?>> tasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingTasksCount = new AtomicInteger();
+
+    private final AtomicBoolean isShutdown = new AtomicBoolean();
+
+    private final Timer waitTimer;
+
+    private final Timer serviceTimer;
+
+    private final Gauge queueDepthGauge;
+
+    private final DistributionSummary batchSizeSummary;
+
+    public ProjectExecutor(UUID projectId, Executor executor, int maxBatchSize, MeterRegistry meterRegistry) {
+        this.projectId = Objects.requireNonNull(projectId);
+        this.executor = Objects.requireNonNull(executor);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+
+        // @formatter:off
+        this.waitTimer = Timer.builder(Monitoring.PROJECT_EXECUTOR_WAIT)
+                .tag(Monitoring.PROJECT, projectId.toString())
+                .register(meterRegistry);
+        this.serviceTimer = Timer.builder(Monitoring.PROJECT_EXECUTOR_SERVICE)
+                .tag(Monitoring.PROJECT, projectId.toString())
+                .register(meterRegistry);
+        this.queueDepthGauge = Gauge.builder(Monitoring.PROJECT_EXECUTOR_QUEUE_DEPTH, this.pendingTasksCount, AtomicInteger::get)
+                .tag(Monitoring.PROJECT, projectId.toString())
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(Monitoring.PROJECT_EXECUTOR_BATCH_SIZE)
+                .tag(Monitoring.PROJECT, projectId.toString())
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    /**
+     * Submits a task which will be run after all the tasks previously submitted.
+     *
+     * @param <T>
+     *            The type of the result of the task
+     * @param callable
+     *            The task
+     * @return The future result of the task
+     */
+    public <T> Future<T> submit(Callable<T> callable) {
+        long submissionTime = System.nanoTime();
+        FutureTask<T> task = new FutureTask<>(() -> {
+            this.waitTimer.record(System.nanoTime() - submissionTime, TimeUnit.NANOSECONDS);
+            return this.serviceTimer.recordCallable(callable);
+        });
+
+        this.tasks.add(task);
+        if (this.pendingTasksCount.getAndIncrement() == 0) {
+            this.scheduleNextTask();
+        }
+        return task;
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        this.submit(Executors.callable(runnable));
+    }
+
+    private void scheduleNextTask() {
+        try {
+            this.executor.execute(this::runNextTask);
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn("The tasks of the project {} have been rejected", this.projectId); //$NON-NLS-1$
+            this.cancelPendingTasks();
+        }
+    }
+
+    private void runNextTask() {
+        FutureTask<?> task = this.tasks.poll();
+        if (task != null) {
+            task.run();
+        }
+        if (this.pendingTasksCount.decrementAndGet() > 0) {
+            this.scheduleNextTask();
+        }
+    }
+
+    private void cancelPendingTasks() {
+        FutureTask<?> task = this.tasks.poll();
+        while (task != null) {
+            task.cancel(false);
+            this.pendingTasksCount.decrementAndGet();
+            task = this.tasks.poll();
+        }
+    }
+
+    /**
+     * Indicates if some tasks are waiting for the end of the task currently running.
+     *
+     * @return <code>true</code> if some tasks are waiting, <code>false</code> otherwise
+     */
+    public boolean hasPendingTasks() {
+        return this.pendingTasksCount.get() > 1;
+    }
+
+    /**
+     * Returns the maximum number of inputs which can be handled before refreshing the representations, 1 if the
+     * inputs should not be batched.
+     *
+     * @return The maximum size of a batch of inputs
+     */
+    public int getMaxBatchSize() {
+        return this.maxBatchSize;
+    }
+
+    public void recordBatchSize(int batchSize) {
+        this.batchSizeSummary.record(batchSize);
+    }
+
+    public boolean isShutdown() {
+        return this.isShutdown.get();
+    }
+
+    /**
+     * Stops accepting new tasks and removes the meters of the project. The tasks already submitted are still run.
+     */
+    public void shutdown() {
+        if (this.isShutdown.compareAndSet(false, true)) {
+            List<Meter> meters = List.of(this.waitTimer, this.serviceTimer, this.queueDepthGauge, this.batchSizeSummary);
+            meters.forEach(this.meterRegistry::remove);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Used to create the executors running the inputs of the projects.
+ * <p>
+ * By default, each project runs its inputs on its own thread, which is released after a minute without any input. If
+ * some workers are configured, the inputs of all the projects are multiplexed on this shared pool of threads instead,
+ * while the inputs of each project are still handled one at a time and in order.
+ * </p>
+ * <p>
+ * When a batch size greater than 1 is configured, the inputs queued back-to-back for a project are applied one after
+ * the other and the representations are refreshed and the editing context persisted only once for the whole batch.
+ * The inputs of a batch are thus handled against representations which have not been refreshed yet.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ProjectExecutorFactory {
+
+    private static final String THREAD_NAME_PREFIX = "FIFO Event Handler for project "; //$NON-NLS-1$
+
+    private static final String WORKER_NAME_PREFIX = "sirius-web-projects-"; //$NON-NLS-1$
+
+    private static final int KEEP_ALIVE_SECONDS = 60;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize;
+
+    private final Optional<ExecutorService> optionalSharedExecutor;
+
+    /**
+     * Creates the project executor factory.
+     *
+     * @param meterRegistry
+     *            The meter registry
+     * @param workers
+     *            The number of threads shared by all the projects or 0 to give each project its own thread
+     * @param batchSize
+     *            The maximum number of inputs handled before refreshing the representations or 1 to refresh them after
+     *            each input
+     */
+    public ProjectExecutorFactory(MeterRegistry meterRegistry, @Value("${sirius.web.projects.workers:0}") int workers, @Value("${sirius.web.projects.batchSize:1}") int batchSize) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.batchSize = batchSize;
+        if (workers > 0) {
+            AtomicInteger workersCount = new AtomicInteger();
+            ThreadFactory threadFactory = this.createThreadFactory(() -> WORKER_NAME_PREFIX + workersCount.incrementAndGet());
+            this.optionalSharedExecutor = Optional.of(Executors.newFixedThreadPool(workers, threadFactory));
+        } else {
+            this.optionalSharedExecutor = Optional.empty();
+        }
+    }
+
+    /**
+     * Creates the executor of the given project.
+     *
+     * @param projectId
+     *            The identifier of the project
+     * @return The executor of the project
+     */
+    public ProjectExecutor create(UUID projectId) {
+        ExecutorService executor = this.optionalSharedExecutor.orElseGet(() -> {
+            ThreadFactory threadFactory = this.createThreadFactory(() -> THREAD_NAME_PREFIX + projectId);
+            ThreadPoolExecutor projectThreadPoolExecutor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            projectThreadPoolExecutor.allowCoreThreadTimeOut(true);
+            return projectThreadPoolExecutor;
+        });
+        return new ProjectExecutor(projectId, executor, this.batchSize, this.meterRegistry);
+    }
+
+    private ThreadFactory createThreadFactory(Supplier<String> threadNameProvider) {
+        return runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(threadNameProvider.get());
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.optionalSharedExecutor.ifPresent(ExecutorService::shutdown);
+    }
+}
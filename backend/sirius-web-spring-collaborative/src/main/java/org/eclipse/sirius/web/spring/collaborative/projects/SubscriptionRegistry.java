@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionRegistry;
+import org.eclipse.sirius.web.collaborative.api.services.SubscriptionDescription;
+import org.eclipse.sirius.web.collaborative.api.services.SubscriptionTarget;
+import org.springframework.stereotype.Service;
+
+/**
+ * Registry of the subscriptions to the representations of all the projects.
+ * <p>
+ * The subscriptions are removed when they are terminated and when their representation or their project is disposed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class SubscriptionRegistry implements ISubscriptionRegistry {
+
+    private final Map<SubscriptionDescription, SubscriptionTarget> subscriptionTargets = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(SubscriptionDescription subscriptionDescription, SubscriptionTarget subscriptionTarget) {
+        this.subscriptionTargets.put(subscriptionDescription, subscriptionTarget);
+    }
+
+    @Override
+    public Optional<SubscriptionTarget> remove(SubscriptionDescription subscriptionDescription) {
+        return Optional.ofNullable(this.subscriptionTargets.remove(subscriptionDescription));
+    }
+
+    @Override
+    public void removeRepresentation(UUID projectId, UUID representationId) {
+        // @formatter:off
+        this.subscriptionTargets.values().removeIf(subscriptionTarget -> projectId.equals(subscriptionTarget.getProjectId())
+                && representationId.equals(subscriptionTarget.getRepresentationId()));
+        // @formatter:on
+    }
+
+    @Override
+    public void removeProject(UUID projectId) {
+        this.subscriptionTargets.values().removeIf(subscriptionTarget -> projectId.equals(subscriptionTarget.getProjectId()));
+    }
+
+}
@@ -14,15 +14,22 @@ package org.eclipse.sirius.web.spring.collaborative.projects;
 
 import java.security.Principal;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.web.collaborative.api.services.IProjectEventProcessorRegistry;
+import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionRegistry;
 import org.eclipse.sirius.web.collaborative.api.services.SubscriptionDescription;
+import org.eclipse.sirius.web.collaborative.api.services.SubscriptionTarget;
 import org.eclipse.sirius.web.services.api.Context;
 import org.eclipse.sirius.web.spring.graphql.api.ISubscriptionTerminatedHandler;
 import org.springframework.stereotype.Service;
 
 /**
  * This class is used to release the relevant event processors when a subscription is terminated.
+ * <p>
+ * The target of the subscription is found directly thanks to the subscription registry, the release itself is then
+ * performed by the project event processor in its own thread.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -31,8 +38,11 @@ public class SubscriptionTerminatedHandler implements ISubscriptionTerminatedHan
 
     private final IProjectEventProcessorRegistry projectEventProcessorRegistry;
 
-    public SubscriptionTerminatedHandler(IProjectEventProcessorRegistry projectEventProcessorRegistry) {
+    private final ISubscriptionRegistry subscriptionRegistry;
+
+    public SubscriptionTerminatedHandler(IProjectEventProcessorRegistry projectEventProcessorRegistry, ISubscriptionRegistry subscriptionRegistry) {
         this.projectEventProcessorRegistry = Objects.requireNonNull(projectEventProcessorRegistry);
+        this.subscriptionRegistry = Objects.requireNonNull(subscriptionRegistry);
     }
 
     @Override
@@ -40,10 +50,14 @@ public class SubscriptionTerminatedHandler implements ISubscriptionTerminatedHan
         SubscriptionDescription subscriptionDescription = new SubscriptionDescription(principal, subscriptionId);
         Context context = new Context(principal);
 
-        // @formatter:off
-        this.projectEventProcessorRegistry.getProjectEventProcessors().stream()
-                .forEach(projectEventProcessor -> projectEventProcessor.release(subscriptionDescription, context));
-        // @formatter:on
+        Optional<SubscriptionTarget> optionalSubscriptionTarget = this.subscriptionRegistry.remove(subscriptionDescription);
+        if (optionalSubscriptionTarget.isPresent()) {
+            SubscriptionTarget subscriptionTarget = optionalSubscriptionTarget.get();
+            // @formatter:off
+            this.projectEventProcessorRegistry.getProjectEventProcessor(subscriptionTarget.getProjectId())
+                    .ifPresent(projectEventProcessor -> projectEventProcessor.release(subscriptionDescription, subscriptionTarget.getRepresentationId(), context));
+            // @formatter:on
+        }
     }
 
 }
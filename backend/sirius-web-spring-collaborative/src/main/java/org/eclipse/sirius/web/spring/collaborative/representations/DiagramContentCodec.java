@@ -0,0 +1,472 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.sirius.web.diagrams.ArrowStyle;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.INodeStyle;
+import org.eclipse.sirius.web.diagrams.ImageNodeStyle;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Codec used to persist diagrams in a compact binary format instead of JSON.
+ * <p>
+ * Strings, description identifiers and styles are dictionary encoded, they are only written once and then referenced,
+ * and integral coordinates are packed in variable length quantities. Enumeration literals are written by name so that
+ * the content does not depend on their order. The binary content can be compressed. Since the
+ * content of the representations is stored as text, the binary content is encoded in Base64 after a prefix which is
+ * used to recognize it, any other content is JSON.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramContentCodec {
+
+    /**
+     * The prefix of the content encoded by this codec.
+     */
+    public static final String CONTENT_PREFIX = "diagram+binary;base64,"; //$NON-NLS-1$
+
+    private static final int VERSION = 2;
+
+    /**
+     * The version in which the enumeration literals were written by ordinal, it is still read.
+     */
+    private static final int ORDINAL_VERSION = 1;
+
+    private static final int COMPRESSED = 1;
+
+    private static final int HEADER_LENGTH = 2;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int RECTANGULAR_NODE_STYLE = 0;
+
+    private static final int IMAGE_NODE_STYLE = 1;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramContentCodec.class);
+
+    public boolean canDecode(String content) {
+        return content != null && content.startsWith(CONTENT_PREFIX);
+    }
+
+    /**
+     * Encodes the given diagram.
+     *
+     * @param diagram
+     *            The diagram
+     * @param compressed
+     *            <code>true</code> to compress the binary content before its encoding in Base64
+     * @return The encoded content
+     */
+    public String encode(Diagram diagram, boolean compressed) {
+        DiagramContentOutput output = new DiagramContentOutput();
+        output.writeVarInt(VERSION);
+        int flags = 0;
+        if (compressed) {
+            flags = COMPRESSED;
+        }
+        output.writeVarInt(flags);
+        this.writeDiagram(output, diagram);
+
+        byte[] bytes = output.toByteArray();
+        if (compressed) {
+            bytes = this.compress(bytes);
+        }
+        return CONTENT_PREFIX + Base64.getEncoder().encodeToString(bytes);
+    }
+
+    /**
+     * Decodes the given content.
+     *
+     * @param content
+     *            The content, which should have been encoded by this codec
+     * @return The diagram or an empty optional if the content could not be decoded
+     */
+    public Optional<Diagram> decode(String content) {
+        Optional<Diagram> optionalDiagram = Optional.empty();
+        if (this.canDecode(content)) {
+            try {
+                byte[] bytes = Base64.getDecoder().decode(content.substring(CONTENT_PREFIX.length()));
+                DiagramContentInput header = new DiagramContentInput(bytes, 0, 0);
+                int version = header.readVarInt();
+                int flags = header.readVarInt();
+                byte[] body = bytes;
+                if ((flags & COMPRESSED) != 0) {
+                    body = this.decompress(bytes);
+                }
+                if (version == VERSION || version == ORDINAL_VERSION) {
+                    optionalDiagram = Optional.of(this.readDiagram(new DiagramContentInput(body, HEADER_LENGTH, version)));
+                } else {
+                    this.logger.warn("Unsupported version of the binary content of a diagram: {}", version); //$NON-NLS-1$
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | ClassCastException | DataFormatException exception) {
+                this.logger.error(exception.getMessage(), exception);
+            }
+        }
+        return optionalDiagram;
+    }
+
+    private byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4);
+        outputStream.write(bytes, 0, HEADER_LENGTH);
+
+        // The content is rewritten after each refresh of the diagram so the fastest compression level is used
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        deflater.finish();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            outputStream.write(buffer, 0, length);
+        }
+        deflater.end();
+        return outputStream.toByteArray();
+    }
+
+    private byte[] decompress(byte[] bytes) throws DataFormatException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+        outputStream.write(bytes, 0, HEADER_LENGTH);
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length = -1;
+            while (!inflater.finished() && length != 0) {
+                length = inflater.inflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+        } finally {
+            inflater.end();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void writeDiagram(DiagramContentOutput output, Diagram diagram) {
+        output.writeUUID(diagram.getId());
+        output.writeString(diagram.getTargetObjectId());
+        output.writeUUID(diagram.getDescriptionId());
+        output.writeString(diagram.getLabel());
+        this.writePosition(output, diagram.getPosition());
+        this.writeSize(output, diagram.getSize());
+        this.writeNodes(output, diagram.getNodes());
+
+        output.writeVarInt(diagram.getEdges().size());
+        for (Edge edge : diagram.getEdges()) {
+            this.writeEdge(output, edge);
+        }
+    }
+
+    private Diagram readDiagram(DiagramContentInput input) {
+        // @formatter:off
+        return Diagram.newDiagram(input.readUUID())
+                .targetObjectId(input.readString())
+                .descriptionId(input.readUUID())
+                .label(input.readString())
+                .position(this.readPosition(input))
+                .size(this.readSize(input))
+                .nodes(this.readNodes(input))
+                .edges(this.readEdges(input))
+                .build();
+        // @formatter:on
+    }
+
+    private void writeNodes(DiagramContentOutput output, List<Node> nodes) {
+        output.writeVarInt(nodes.size());
+        for (Node node : nodes) {
+            output.writeString(node.getId());
+            output.writeString(node.getType());
+            output.writeString(node.getTargetObjectId());
+            output.writeString(node.getTargetObjectKind());
+            output.writeString(node.getTargetObjectLabel());
+            output.writeUUID(node.getDescriptionId());
+            output.writeBoolean(node.isBorderNode());
+            this.writeLabel(output, node.getLabel());
+            this.writeNodeStyle(output, node.getStyle());
+            this.writePosition(output, node.getPosition());
+            this.writeSize(output, node.getSize());
+            this.writeNodes(output, node.getBorderNodes());
+            this.writeNodes(output, node.getChildNodes());
+        }
+    }
+
+    private List<Node> readNodes(DiagramContentInput input) {
+        int count = input.readVarInt();
+        List<Node> nodes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // @formatter:off
+            Node node = Node.newNode(input.readString())
+                    .type(input.readString())
+                    .targetObjectId(input.readString())
+                    .targetObjectKind(input.readString())
+                    .targetObjectLabel(input.readString())
+                    .descriptionId(input.readUUID())
+                    .borderNode(input.readBoolean())
+                    .label(this.readLabel(input))
+                    .style(this.readNodeStyle(input))
+                    .position(this.readPosition(input))
+                    .size(this.readSize(input))
+                    .borderNodes(this.readNodes(input))
+                    .childNodes(this.readNodes(input))
+                    .build();
+            // @formatter:on
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    private void writeEdge(DiagramContentOutput output, Edge edge) {
+        output.writeString(edge.getId());
+        output.writeString(edge.getType());
+        output.writeString(edge.getTargetObjectId());
+        output.writeString(edge.getTargetObjectKind());
+        output.writeString(edge.getTargetObjectLabel());
+        output.writeUUID(edge.getDescriptionId());
+        this.writeOptionalLabel(output, edge.getBeginLabel());
+        this.writeOptionalLabel(output, edge.getCenterLabel());
+        this.writeOptionalLabel(output, edge.getEndLabel());
+        output.writeString(edge.getSourceId());
+        output.writeString(edge.getTargetId());
+        this.writeEdgeStyle(output, edge.getStyle());
+
+        output.writeVarInt(edge.getRoutingPoints().size());
+        for (Position routingPoint : edge.getRoutingPoints()) {
+            this.writePosition(output, routingPoint);
+        }
+    }
+
+    private List<Edge> readEdges(DiagramContentInput input) {
+        int count = input.readVarInt();
+        List<Edge> edges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // @formatter:off
+            Edge edge = Edge.newEdge(input.readString())
+                    .type(input.readString())
+                    .targetObjectId(input.readString())
+                    .targetObjectKind(input.readString())
+                    .targetObjectLabel(input.readString())
+                    .descriptionId(input.readUUID())
+                    .beginLabel(this.readOptionalLabel(input))
+                    .centerLabel(this.readOptionalLabel(input))
+                    .endLabel(this.readOptionalLabel(input))
+                    .sourceId(input.readString())
+                    .targetId(input.readString())
+                    .style(this.readEdgeStyle(input))
+                    .routingPoints(this.readRoutingPoints(input))
+                    .build();
+            // @formatter:on
+            edges.add(edge);
+        }
+        return edges;
+    }
+
+    private List<Position> readRoutingPoints(DiagramContentInput input) {
+        int count = input.readVarInt();
+        List<Position> routingPoints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            routingPoints.add(this.readPosition(input));
+        }
+        return routingPoints;
+    }
+
+    private void writeOptionalLabel(DiagramContentOutput output, Label label) {
+        output.writeBoolean(label != null);
+        if (label != null) {
+            this.writeLabel(output, label);
+        }
+    }
+
+    private Label readOptionalLabel(DiagramContentInput input) {
+        Label label = null;
+        if (input.readBoolean()) {
+            label = this.readLabel(input);
+        }
+        return label;
+    }
+
+    private void writeLabel(DiagramContentOutput output, Label label) {
+        output.writeString(label.getId());
+        output.writeString(label.getType());
+        output.writeString(label.getText());
+        this.writePosition(output, label.getPosition());
+        this.writeSize(output, label.getSize());
+        this.writePosition(output, label.getAlignment());
+
+        LabelStyle style = label.getStyle();
+        List<Object> key = List.of(LabelStyle.class, style.getColor(), style.getFontSize(), style.isBold(), style.isItalic(), style.isUnderline(), style.isStrikeThrough(), style.getIconURL());
+        if (output.writeReference(key)) {
+            output.writeString(style.getColor());
+            output.writeVarInt(style.getFontSize());
+            output.writeBoolean(style.isBold());
+            output.writeBoolean(style.isItalic());
+            output.writeBoolean(style.isUnderline());
+            output.writeBoolean(style.isStrikeThrough());
+            output.writeString(style.getIconURL());
+        }
+    }
+
+    private Label readLabel(DiagramContentInput input) {
+        // @formatter:off
+        Label.Builder builder = Label.newLabel(input.readString())
+                .type(input.readString())
+                .text(input.readString())
+                .position(this.readPosition(input))
+                .size(this.readSize(input))
+                .alignment(this.readPosition(input));
+        // @formatter:on
+
+        int index = input.readReference();
+        if (!input.isResolved(index)) {
+            // @formatter:off
+            LabelStyle style = LabelStyle.newLabelStyle()
+                    .color(input.readString())
+                    .fontSize(input.readVarInt())
+                    .bold(input.readBoolean())
+                    .italic(input.readBoolean())
+                    .underline(input.readBoolean())
+                    .strikeThrough(input.readBoolean())
+                    .iconURL(input.readString())
+                    .build();
+            // @formatter:on
+            input.resolve(index, style);
+        }
+        return builder.style(input.getReference(index, LabelStyle.class)).build();
+    }
+
+    private void writeNodeStyle(DiagramContentOutput output, INodeStyle style) {
+        if (style instanceof ImageNodeStyle) {
+            ImageNodeStyle imageNodeStyle = (ImageNodeStyle) style;
+            if (output.writeReference(List.of(ImageNodeStyle.class, imageNodeStyle.getImageURL(), imageNodeStyle.getScalingFactor()))) {
+                output.writeVarInt(IMAGE_NODE_STYLE);
+                output.writeString(imageNodeStyle.getImageURL());
+                output.writeVarInt(imageNodeStyle.getScalingFactor());
+            }
+        } else {
+            RectangularNodeStyle rectangularNodeStyle = (RectangularNodeStyle) style;
+            List<Object> key = List.of(RectangularNodeStyle.class, rectangularNodeStyle.getColor(), rectangularNodeStyle.getBorderColor(), rectangularNodeStyle.getBorderSize(),
+                    rectangularNodeStyle.getBorderStyle());
+            if (output.writeReference(key)) {
+                output.writeVarInt(RECTANGULAR_NODE_STYLE);
+                output.writeString(rectangularNodeStyle.getColor());
+                output.writeString(rectangularNodeStyle.getBorderColor());
+                output.writeVarInt(rectangularNodeStyle.getBorderSize());
+                output.writeString(rectangularNodeStyle.getBorderStyle().name());
+            }
+        }
+    }
+
+    private INodeStyle readNodeStyle(DiagramContentInput input) {
+        int index = input.readReference();
+        if (!input.isResolved(index)) {
+            INodeStyle style;
+            if (input.readVarInt() == IMAGE_NODE_STYLE) {
+                // @formatter:off
+                style = ImageNodeStyle.newImageNodeStyle()
+                        .imageURL(input.readString())
+                        .scalingFactor(input.readVarInt())
+                        .build();
+                // @formatter:on
+            } else {
+                // @formatter:off
+                style = RectangularNodeStyle.newRectangularNodeStyle()
+                        .color(input.readString())
+                        .borderColor(input.readString())
+                        .borderSize(input.readVarInt())
+                        .borderStyle(this.readEnum(input, LineStyle.class))
+                        .build();
+                // @formatter:on
+            }
+            input.resolve(index, style);
+        }
+        return input.getReference(index, INodeStyle.class);
+    }
+
+    private void writeEdgeStyle(DiagramContentOutput output, EdgeStyle style) {
+        if (output.writeReference(List.of(EdgeStyle.class, style.getSize(), style.getLineStyle(), style.getSourceArrow(), style.getTargetArrow(), style.getColor()))) {
+            output.writeVarInt(style.getSize());
+            output.writeString(style.getLineStyle().name());
+            output.writeString(style.getSourceArrow().name());
+            output.writeString(style.getTargetArrow().name());
+            output.writeString(style.getColor());
+        }
+    }
+
+    private EdgeStyle readEdgeStyle(DiagramContentInput input) {
+        int index = input.readReference();
+        if (!input.isResolved(index)) {
+            // @formatter:off
+            EdgeStyle style = EdgeStyle.newEdgeStyle()
+                    .size(input.readVarInt())
+                    .lineStyle(this.readEnum(input, LineStyle.class))
+                    .sourceArrow(this.readEnum(input, ArrowStyle.class))
+                    .targetArrow(this.readEnum(input, ArrowStyle.class))
+                    .color(input.readString())
+                    .build();
+            // @formatter:on
+            input.resolve(index, style);
+        }
+        return input.getReference(index, EdgeStyle.class);
+    }
+
+    private <T extends Enum<T>> T readEnum(DiagramContentInput input, Class<T> enumType) {
+        T literal;
+        if (input.getVersion() == ORDINAL_VERSION) {
+            literal = enumType.getEnumConstants()[input.readVarInt()];
+        } else {
+            literal = Enum.valueOf(enumType, input.readString());
+        }
+        return literal;
+    }
+
+    private void writePosition(DiagramContentOutput output, Position position) {
+        output.writeDouble(position.getX());
+        output.writeDouble(position.getY());
+    }
+
+    private Position readPosition(DiagramContentInput input) {
+        double x = input.readDouble();
+        double y = input.readDouble();
+        return Position.newPosition().x(x).y(y).build();
+    }
+
+    private void writeSize(DiagramContentOutput output, Size size) {
+        output.writeDouble(size.getWidth());
+        output.writeDouble(size.getHeight());
+    }
+
+    private Size readSize(DiagramContentInput input) {
+        double width = input.readDouble();
+        double height = input.readDouble();
+        return Size.newSize().width(width).height(height).build();
+    }
+}
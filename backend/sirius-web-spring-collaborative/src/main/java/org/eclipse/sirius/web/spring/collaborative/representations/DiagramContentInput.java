@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Input used to read the compact binary content of a diagram written by {@link DiagramContentOutput}.
+ * <p>
+ * Reading past the end of the content or following an unknown reference will fail with an
+ * {@link IndexOutOfBoundsException}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+class DiagramContentInput {
+
+    /**
+     * The upper bound of the absolute integral values which are packed in a variable length quantity.
+     */
+    public static final long MAX_PACKED_VALUE = 1L << 52;
+
+    private final byte[] bytes;
+
+    private final int version;
+
+    private int position;
+
+    private final List<Object> references = new ArrayList<>();
+
+    DiagramContentInput(byte[] bytes, int position, int version) {
+        this.bytes = bytes;
+        this.position = position;
+        this.version = version;
+    }
+
+    /**
+     * Returns the version of the format of the content.
+     *
+     * @return The version of the format of the content
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Reads a reference.
+     *
+     * @return The index of the reference, if this index is not resolved yet, the value should be read right after the
+     *         reference and then resolved
+     */
+    public int readReference() {
+        int index = this.readVarInt();
+        if (index == this.references.size()) {
+            this.references.add(null);
+        }
+        return index;
+    }
+
+    public boolean isResolved(int index) {
+        return this.references.get(index) != null;
+    }
+
+    public void resolve(int index, Object value) {
+        this.references.set(index, value);
+    }
+
+    public <T> T getReference(int index, Class<T> type) {
+        return type.cast(this.references.get(index));
+    }
+
+    public String readString() {
+        int index = this.readReference();
+        if (!this.isResolved(index)) {
+            int length = this.readVarInt();
+            this.resolve(index, new String(this.bytes, this.position, length, StandardCharsets.UTF_8));
+            this.position = this.position + length;
+        }
+        return this.getReference(index, String.class);
+    }
+
+    public UUID readUUID() {
+        int index = this.readReference();
+        if (!this.isResolved(index)) {
+            long mostSignificantBits = this.readLong();
+            long leastSignificantBits = this.readLong();
+            this.resolve(index, new UUID(mostSignificantBits, leastSignificantBits));
+        }
+        return this.getReference(index, UUID.class);
+    }
+
+    public double readDouble() {
+        double value;
+        long packedValue = this.readVarLong();
+        if ((packedValue & 1) == 0) {
+            long zigZagValue = packedValue >>> 1;
+            value = (zigZagValue >>> 1) ^ -(zigZagValue & 1);
+        } else {
+            value = Double.longBitsToDouble(this.readLong());
+        }
+        return value;
+    }
+
+    public boolean readBoolean() {
+        return this.readByte() != 0;
+    }
+
+    public int readVarInt() {
+        return (int) this.readVarLong();
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        int currentByte = this.readByte();
+        while ((currentByte & 0x80) != 0) {
+            value = value | ((long) (currentByte & 0x7F) << shift);
+            shift = shift + 7;
+            currentByte = this.readByte();
+        }
+        return value | ((long) currentByte << shift);
+    }
+
+    private long readLong() {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | this.readByte();
+        }
+        return value;
+    }
+
+    private int readByte() {
+        int value = this.bytes[this.position] & 0xFF;
+        this.position = this.position + 1;
+        return value;
+    }
+}
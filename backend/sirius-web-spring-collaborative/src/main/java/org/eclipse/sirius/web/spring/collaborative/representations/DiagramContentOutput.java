@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Output used to write the compact binary content of a diagram.
+ * <p>
+ * Integers are written as variable length quantities and integral coordinates are packed in the same way. Strings,
+ * identifiers of descriptions and styles are written only once, their next occurrences are written as a reference to
+ * their first occurrence.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+class DiagramContentOutput {
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    private final Map<Object, Integer> references = new HashMap<>();
+
+    /**
+     * Writes the reference of the given value.
+     *
+     * @param key
+     *            The key of the value, two values with equal keys are considered as identical
+     * @return <code>true</code> if the value has not been written yet and should thus be written right after its
+     *         reference, <code>false</code> otherwise
+     */
+    public boolean writeReference(Object key) {
+        Integer index = this.references.get(key);
+        boolean isNew = index == null;
+        if (isNew) {
+            index = this.references.size();
+            this.references.put(key, index);
+        }
+        this.writeVarInt(index);
+        return isNew;
+    }
+
+    public void writeString(String value) {
+        if (this.writeReference(value)) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.writeVarInt(bytes.length);
+            this.outputStream.writeBytes(bytes);
+        }
+    }
+
+    public void writeUUID(UUID value) {
+        if (this.writeReference(value)) {
+            this.writeLong(value.getMostSignificantBits());
+            this.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * Writes the given double, integral values are packed in a variable length quantity whose lowest bit is 0 while
+     * other values are written on 8 bytes after a marker.
+     *
+     * @param value
+     *            The value
+     */
+    public void writeDouble(double value) {
+        long integralValue = (long) value;
+        if (integralValue == value && Math.abs(integralValue) < DiagramContentInput.MAX_PACKED_VALUE) {
+            long zigZagValue = (integralValue << 1) ^ (integralValue >> 63);
+            this.writeVarLong(zigZagValue << 1);
+        } else {
+            this.writeVarLong(1);
+            this.writeLong(Double.doubleToRawLongBits(value));
+        }
+    }
+
+    public void writeBoolean(boolean value) {
+        int byteValue = 0;
+        if (value) {
+            byteValue = 1;
+        }
+        this.outputStream.write(byteValue);
+    }
+
+    public void writeVarInt(int value) {
+        this.writeVarLong(Integer.toUnsignedLong(value));
+    }
+
+    public void writeVarLong(long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            this.outputStream.write((int) ((remaining & 0x7F) | 0x80));
+            remaining = remaining >>> 7;
+        }
+        this.outputStream.write((int) remaining);
+    }
+
+    private void writeLong(long value) {
+        for (int shift = 56; shift >= 0; shift = shift - 8) {
+            this.outputStream.write((int) (value >>> shift));
+        }
+    }
+
+    public byte[] toByteArray() {
+        return this.outputStream.toByteArray();
+    }
+}
@@ -14,13 +14,14 @@ package org.eclipse.sirius.web.spring.collaborative.representations;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.representations.IRepresentation;
@@ -28,6 +29,11 @@ import org.eclipse.sirius.web.representations.IRepresentation;
 /**
  * Custom deserializer for IRepresentation since Jackson need to now how to find the concrete class matching the JSON
  * data.
+ * <p>
+ * The representation is read in a single pass from the parser. If the first property of the JSON object is its kind,
+ * it is used to find the concrete class of the representation. Otherwise, the representation is a diagram since
+ * diagrams have been persisted without their kind.
+ * </p>
  *
  * @author gcoutable
  */
@@ -35,6 +41,10 @@ public class IRepresentationDeserializer extends StdDeserializer<IRepresentation
 
     private static final long serialVersionUID = -1759653601179599083L;
 
+    private static final String KIND = "kind"; //$NON-NLS-1$
+
+    private final Map<String, Class<? extends IRepresentation>> kinds2classes = Map.of(Diagram.class.getSimpleName(), Diagram.class);
+
     public IRepresentationDeserializer() {
         this(null);
     }
@@ -45,14 +55,24 @@ public class IRepresentationDeserializer extends StdDeserializer<IRepresentation
 
     @Override
     public IRepresentation deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException, JsonProcessingException {
-        IRepresentation representation = null;
-        ObjectCodec objectCodec = jsonParser.getCodec();
-        if (objectCodec instanceof ObjectMapper) {
-            ObjectMapper mapper = (ObjectMapper) objectCodec;
-            ObjectNode root = mapper.readTree(jsonParser);
-            representation = mapper.readValue(root.toString(), Diagram.class);
+        if (jsonParser.isExpectedStartObjectToken()) {
+            jsonParser.nextToken();
+        }
+
+        String kind = Diagram.class.getSimpleName();
+        if (jsonParser.currentToken() == JsonToken.FIELD_NAME && KIND.equals(jsonParser.getCurrentName())) {
+            kind = jsonParser.nextTextValue();
+            jsonParser.nextToken();
         }
-        return representation;
+
+        Optional<Class<? extends IRepresentation>> optionalRepresentationClass = Optional.ofNullable(kind).map(this.kinds2classes::get);
+        if (optionalRepresentationClass.isEmpty()) {
+            return context.reportInputMismatch(this, "Unsupported representation kind: %s", kind); //$NON-NLS-1$
+        }
+
+        // The parser is now on the first property of the representation, which is supported by the bean deserializers
+        JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(context.constructType(optionalRepresentationClass.get()));
+        return (IRepresentation) deserializer.deserialize(jsonParser, context);
     }
 
 }
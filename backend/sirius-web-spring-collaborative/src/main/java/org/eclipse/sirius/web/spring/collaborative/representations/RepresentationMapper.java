@@ -16,6 +16,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
@@ -36,13 +37,39 @@ public class RepresentationMapper {
 
     private final ObjectMapper objectMapper;
 
+    private final DiagramContentCodec diagramContentCodec = new DiagramContentCodec();
+
+    private final boolean binary;
+
+    private final boolean compressed;
+
     public RepresentationMapper(ObjectMapper objectMapper) {
+        this(objectMapper, false, false);
+    }
+
+    /**
+     * Creates the mapper.
+     *
+     * @param objectMapper
+     *            The object mapper
+     * @param binary
+     *            <code>true</code> to serialize the diagrams with the {@link DiagramContentCodec} instead of JSON, both
+     *            kinds of content can always be read
+     * @param compressed
+     *            <code>true</code> to compress the binary content
+     */
+    public RepresentationMapper(ObjectMapper objectMapper, boolean binary, boolean compressed) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.binary = binary;
+        this.compressed = compressed;
     }
 
     public RepresentationDescriptor toDTO(RepresentationEntity representationEntity) {
         IRepresentation representation = null;
-        if (representationEntity.getContentType().equals(Diagram.class.getSimpleName())) {
+        boolean isDiagram = representationEntity.getContentType().equals(Diagram.class.getSimpleName());
+        if (isDiagram && this.diagramContentCodec.canDecode(representationEntity.getContent())) {
+            representation = this.diagramContentCodec.decode(representationEntity.getContent()).orElse(null);
+        } else if (isDiagram) {
             try {
                 representation = this.objectMapper.readValue(representationEntity.getContent(), Diagram.class);
             } catch (JsonProcessingException exception) {
@@ -61,6 +88,24 @@ public class RepresentationMapper {
     }
 
     public RepresentationEntity toEntity(RepresentationDescriptor representationDescriptor, ProjectEntity projectEntity) {
+        String content = this.toContent(representationDescriptor.getRepresentation()).orElse(null);
+        return this.toEntity(representationDescriptor, projectEntity, content);
+    }
+
+    /**
+     * Converts the given representation descriptor to an entity using the given content, which should have been
+     * computed by {@link #toContent(IRepresentation)}, in order to prevent the serialization of the representation
+     * twice.
+     *
+     * @param representationDescriptor
+     *            The representation descriptor
+     * @param projectEntity
+     *            The project containing the representation
+     * @param content
+     *            The serialized representation
+     * @return The representation entity
+     */
+    public RepresentationEntity toEntity(RepresentationDescriptor representationDescriptor, ProjectEntity projectEntity, String content) {
         RepresentationEntity representationEntity = new RepresentationEntity();
 
         representationEntity.setId(representationDescriptor.getId());
@@ -68,14 +113,23 @@ public class RepresentationMapper {
         representationEntity.setLabel(representationDescriptor.getLabel());
         representationEntity.setTargetObjectId(representationDescriptor.getTargetObjectId());
         representationEntity.setContentType(representationDescriptor.getRepresentation().getClass().getSimpleName());
-        try {
-            String content = this.objectMapper.writeValueAsString(representationDescriptor.getRepresentation());
-            representationEntity.setContent(content);
-        } catch (JsonProcessingException exception) {
-            this.logger.error(exception.getMessage(), exception);
-        }
+        representationEntity.setContent(content);
 
         return representationEntity;
     }
 
+    public Optional<String> toContent(IRepresentation representation) {
+        Optional<String> optionalContent = Optional.empty();
+        if (this.binary && representation instanceof Diagram) {
+            optionalContent = Optional.of(this.diagramContentCodec.encode((Diagram) representation, this.compressed));
+        } else {
+            try {
+                optionalContent = Optional.of(this.objectMapper.writeValueAsString(representation));
+            } catch (JsonProcessingException exception) {
+                this.logger.error(exception.getMessage(), exception);
+            }
+        }
+        return optionalContent;
+    }
+
 }
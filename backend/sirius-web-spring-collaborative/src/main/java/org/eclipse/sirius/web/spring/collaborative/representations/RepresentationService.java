@@ -14,19 +14,32 @@ package org.eclipse.sirius.web.spring.collaborative.representations;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
 import org.eclipse.sirius.web.persistence.repositories.IProjectRepository;
 import org.eclipse.sirius.web.persistence.repositories.IRepresentationRepository;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -34,6 +47,18 @@ import io.micrometer.core.instrument.Timer;
 
 /**
  * The service to manipulate representations.
+ * <p>
+ * When a coalescing window is configured, the saves of a representation which has already been persisted are written
+ * behind: the last version of the representation saved during the window is written once at the end of the window.
+ * Pending saves are visible to the readers of this service and they are flushed when the representation is released
+ * and when the server shuts down. The writes of a representation whose serialized content has not changed since its
+ * last write are skipped. The hashes of the contents used to detect them are forgotten once the representation is
+ * released.
+ * </p>
+ * <p>
+ * Without coalescing window, the representations are written immediately without computing any hash nor taking any
+ * lock.
+ * </p>
  *
  * @author gcoutable
  */
@@ -42,20 +67,61 @@ public class RepresentationService implements IRepresentationService {
 
     private static final String TIMER_NAME = "siriusweb_representation_save"; //$NON-NLS-1$
 
+    private static final String OUTCOME = "outcome"; //$NON-NLS-1$
+
+    private static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationService.class);
+
     private final IProjectRepository projectRepository;
 
     private final IRepresentationRepository representationRepository;
 
-    private final ObjectMapper objectMapper;
+    private final RepresentationMapper representationMapper;
 
     private final Timer timer;
 
-    public RepresentationService(IProjectRepository projectRepository, IRepresentationRepository representationRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    private final Timer coalescedTimer;
+
+    private final Timer unchangedTimer;
+
+    private final long coalescingWindow;
+
+    private final Optional<ScheduledExecutorService> optionalScheduler;
+
+    private final Map<UUID, RepresentationDescriptor> pendingSaves = new ConcurrentHashMap<>();
+
+    private final Map<UUID, String> contentHashes = new ConcurrentHashMap<>();
+
+    /**
+     * The locks used to write each representation behind in order, they are released with the representation.
+     */
+    private final Map<UUID, Object> representationLocks = new ConcurrentHashMap<>();
+
+    public RepresentationService(IProjectRepository projectRepository, IRepresentationRepository representationRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${sirius.web.representations.save.coalescingWindow:0}") long coalescingWindow, @Value("${sirius.web.representations.content.binary:false}") boolean binary,
+            @Value("${sirius.web.representations.content.compression:false}") boolean compressed) {
         this.projectRepository = Objects.requireNonNull(projectRepository);
         this.representationRepository = Objects.requireNonNull(representationRepository);
-        this.objectMapper = Objects.requireNonNull(objectMapper);
+        // Both the JSON and the binary content can be read, the configuration only drives how the diagrams are written
+        this.representationMapper = new RepresentationMapper(objectMapper, binary, compressed);
+        this.coalescingWindow = coalescingWindow;
+
+        // The ratio between the coalesced saves and all the saves gives the efficiency of the write-behind
+        this.timer = Timer.builder(TIMER_NAME).tag(OUTCOME, "written").register(meterRegistry); //$NON-NLS-1$
+        this.coalescedTimer = Timer.builder(TIMER_NAME).tag(OUTCOME, "coalesced").register(meterRegistry); //$NON-NLS-1$
+        this.unchangedTimer = Timer.builder(TIMER_NAME).tag(OUTCOME, "unchanged").register(meterRegistry); //$NON-NLS-1$
 
-        this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+        if (coalescingWindow > 0) {
+            this.optionalScheduler = Optional.of(Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Representation write-behind"); //$NON-NLS-1$
+                thread.setDaemon(true);
+                return thread;
+            }));
+        } else {
+            this.optionalScheduler = Optional.empty();
+        }
     }
 
     @Override
@@ -65,14 +131,19 @@ public class RepresentationService implements IRepresentationService {
 
     @Override
     public Optional<RepresentationDescriptor> getRepresentationDescriptorForProjectId(UUID projectId, UUID representationId) {
-        return this.representationRepository.findByIdAndProjectId(representationId, projectId).map(new RepresentationMapper(this.objectMapper)::toDTO);
+        // @formatter:off
+        return Optional.ofNullable(this.pendingSaves.get(representationId))
+                .filter(representationDescriptor -> projectId.equals(representationDescriptor.getProjectId()))
+                .or(() -> this.representationRepository.findByIdAndProjectId(representationId, projectId).map(this.representationMapper::toDTO));
+        // @formatter:on
     }
 
     @Override
     public List<RepresentationDescriptor> getRepresentationDescriptorsForProjectId(UUID projectId) {
         // @formatter:off
         return this.representationRepository.findAllByProjectId(projectId).stream()
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+                .map(this.representationMapper::toDTO)
+                .map(this::getPendingSaveOrElse)
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
@@ -81,36 +152,172 @@ public class RepresentationService implements IRepresentationService {
     public List<RepresentationDescriptor> getRepresentationDescriptorsForObjectId(String objectId) {
         // @formatter:off
         return this.representationRepository.findAllByTargetObjectId(objectId).stream()
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+                .map(this.representationMapper::toDTO)
+                .map(this::getPendingSaveOrElse)
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
+    private RepresentationDescriptor getPendingSaveOrElse(RepresentationDescriptor representationDescriptor) {
+        return this.pendingSaves.getOrDefault(representationDescriptor.getId(), representationDescriptor);
+    }
+
     @Override
     public void save(RepresentationDescriptor representationDescriptor) {
+        if (this.optionalScheduler.isPresent()) {
+            this.saveBehind(this.optionalScheduler.get(), representationDescriptor);
+        } else {
+            long start = System.currentTimeMillis();
+
+            String content = this.representationMapper.toContent(representationDescriptor.getRepresentation()).orElse(null);
+            this.write(representationDescriptor, content);
+
+            long end = System.currentTimeMillis();
+            this.timer.record(end - start, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void saveBehind(ScheduledExecutorService scheduler, RepresentationDescriptor representationDescriptor) {
+        UUID representationId = representationDescriptor.getId();
+        boolean isPersisted = this.contentHashes.containsKey(representationId);
+        if (isPersisted) {
+            long start = System.currentTimeMillis();
+
+            RepresentationDescriptor previousRepresentationDescriptor = this.pendingSaves.put(representationId, representationDescriptor);
+            if (previousRepresentationDescriptor == null) {
+                scheduler.schedule(() -> this.writePendingSave(representationId), this.coalescingWindow, TimeUnit.MILLISECONDS);
+            } else {
+                long end = System.currentTimeMillis();
+                this.coalescedTimer.record(end - start, TimeUnit.MILLISECONDS);
+            }
+        } else {
+            synchronized (this.getLock(representationId)) {
+                this.writeIfChanged(representationDescriptor);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending save of the given representation, if any, and releases the resources used to write it behind
+     * since nobody will save it anymore.
+     *
+     * @param representationId
+     *            The identifier of the representation
+     */
+    @Override
+    public void flush(UUID representationId) {
+        if (this.optionalScheduler.isPresent()) {
+            this.writePendingSave(representationId);
+
+            // If the representation is saved again later on, its first save will be written immediately
+            this.contentHashes.remove(representationId);
+            this.representationLocks.remove(representationId);
+        }
+    }
+
+    /**
+     * Writes all the pending saves before the shutdown of the server.
+     */
+    @PreDestroy
+    public void dispose() {
+        this.optionalScheduler.ifPresent(ScheduledExecutorService::shutdown);
+        this.pendingSaves.keySet().forEach(this::writePendingSave);
+    }
+
+    private Object getLock(UUID representationId) {
+        return this.representationLocks.computeIfAbsent(representationId, id -> new Object());
+    }
+
+    private void writePendingSave(UUID representationId) {
+        if (this.pendingSaves.containsKey(representationId)) {
+            synchronized (this.getLock(representationId)) {
+                Optional.ofNullable(this.pendingSaves.remove(representationId)).ifPresent(this::writeIfChanged);
+            }
+        }
+    }
+
+    /**
+     * Writes the given representation unless its content has not changed since its last write. The caller must hold
+     * the lock of the representation.
+     *
+     * @param representationDescriptor
+     *            The representation descriptor
+     */
+    private void writeIfChanged(RepresentationDescriptor representationDescriptor) {
         long start = System.currentTimeMillis();
 
+        String content = this.representationMapper.toContent(representationDescriptor.getRepresentation()).orElse(null);
+        Optional<String> optionalContentHash = this.getContentHash(representationDescriptor, content);
+
+        boolean isUnchanged = optionalContentHash.isPresent() && optionalContentHash.get().equals(this.contentHashes.get(representationDescriptor.getId()));
+        if (isUnchanged) {
+            long end = System.currentTimeMillis();
+            this.unchangedTimer.record(end - start, TimeUnit.MILLISECONDS);
+        } else {
+            boolean isWritten = this.write(representationDescriptor, content);
+            if (isWritten) {
+                optionalContentHash.ifPresent(contentHash -> this.contentHashes.put(representationDescriptor.getId(), contentHash));
+            }
+
+            long end = System.currentTimeMillis();
+            this.timer.record(end - start, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private boolean write(RepresentationDescriptor representationDescriptor, String content) {
         var optionalProjectEntity = this.projectRepository.findById(representationDescriptor.getProjectId());
         if (optionalProjectEntity.isPresent()) {
             ProjectEntity projectEntity = optionalProjectEntity.get();
-            RepresentationEntity representationEntity = new RepresentationMapper(this.objectMapper).toEntity(representationDescriptor, projectEntity);
+            RepresentationEntity representationEntity = this.representationMapper.toEntity(representationDescriptor, projectEntity, content);
             this.representationRepository.save(representationEntity);
         }
+        return optionalProjectEntity.isPresent();
+    }
 
-        long end = System.currentTimeMillis();
-        this.timer.record(end - start, TimeUnit.MILLISECONDS);
+    /**
+     * Computes the hash of the content of the entity which would be created for the given representation.
+     *
+     * @param representationDescriptor
+     *            The representation descriptor
+     * @param content
+     *            The serialized representation
+     * @return The hash of the content of the entity or an empty optional if it could not be computed
+     */
+    private Optional<String> getContentHash(RepresentationDescriptor representationDescriptor, String content) {
+        Optional<String> optionalContentHash = Optional.empty();
+        if (content != null) {
+            try {
+                MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+                messageDigest.update(representationDescriptor.getLabel().getBytes(StandardCharsets.UTF_8));
+                messageDigest.update(representationDescriptor.getTargetObjectId().getBytes(StandardCharsets.UTF_8));
+                messageDigest.update(content.getBytes(StandardCharsets.UTF_8));
+                optionalContentHash = Optional.of(Base64.getEncoder().encodeToString(messageDigest.digest()));
+            } catch (NoSuchAlgorithmException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+        return optionalContentHash;
     }
 
     @Override
     public Optional<RepresentationDescriptor> getRepresentation(UUID representationId) {
         // @formatter:off
-        return this.representationRepository.findById(representationId)
-                .map(new RepresentationMapper(this.objectMapper)::toDTO);
-        // @formatter:off
+        return Optional.ofNullable(this.pendingSaves.get(representationId))
+                .or(() -> this.representationRepository.findById(representationId).map(this.representationMapper::toDTO));
+        // @formatter:on
     }
 
     @Override
     public void delete(UUID representationId) {
-        this.representationRepository.deleteById(representationId);
+        if (this.optionalScheduler.isPresent()) {
+            synchronized (this.getLock(representationId)) {
+                this.pendingSaves.remove(representationId);
+                this.contentHashes.remove(representationId);
+                this.representationRepository.deleteById(representationId);
+            }
+            this.representationLocks.remove(representationId);
+        } else {
+            this.representationRepository.deleteById(representationId);
+        }
     }
 }
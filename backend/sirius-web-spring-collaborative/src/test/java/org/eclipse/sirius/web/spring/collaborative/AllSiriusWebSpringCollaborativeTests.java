@@ -19,8 +19,12 @@ import org.eclipse.sirius.web.spring.collaborative.handlers.CreateRootObjectEven
 import org.eclipse.sirius.web.spring.collaborative.handlers.DeleteObjectEventHandlerTestCases;
 import org.eclipse.sirius.web.spring.collaborative.handlers.DeleteRepresentationEventHandlerTestCases;
 import org.eclipse.sirius.web.spring.collaborative.handlers.RenameObjectEventHandlerTestCases;
+import org.eclipse.sirius.web.spring.collaborative.handlers.RedoEventHandlerTestCases;
 import org.eclipse.sirius.web.spring.collaborative.handlers.RenameProjectEventHandlerTestCases;
+import org.eclipse.sirius.web.spring.collaborative.handlers.UndoEventHandlerTestCases;
+import org.eclipse.sirius.web.spring.collaborative.projects.ProjectExecutorTestCases;
 import org.eclipse.sirius.web.spring.collaborative.projects.ProjectServiceTestCases;
+import org.eclipse.sirius.web.spring.collaborative.projects.SubscriptionRegistryTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -41,7 +45,11 @@ import org.junit.runners.Suite.SuiteClasses;
     DeleteRepresentationEventHandlerTestCases.class,
     RenameObjectEventHandlerTestCases.class,
     ProjectServiceTestCases.class,
-    RenameProjectEventHandlerTestCases.class
+    ProjectExecutorTestCases.class,
+    SubscriptionRegistryTestCases.class,
+    RenameProjectEventHandlerTestCases.class,
+    UndoEventHandlerTestCases.class,
+    RedoEventHandlerTestCases.class
 })
 //@formatter:on
 public final class AllSiriusWebSpringCollaborativeTests {
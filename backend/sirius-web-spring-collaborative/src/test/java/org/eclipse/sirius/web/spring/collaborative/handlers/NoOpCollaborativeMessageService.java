@@ -41,4 +41,14 @@ public class NoOpCollaborativeMessageService implements ICollaborativeMessageSer
         return ""; //$NON-NLS-1$
     }
 
+    @Override
+    public String nothingToUndo() {
+        return ""; //$NON-NLS-1$
+    }
+
+    @Override
+    public String nothingToRedo() {
+        return ""; //$NON-NLS-1$
+    }
+
 }
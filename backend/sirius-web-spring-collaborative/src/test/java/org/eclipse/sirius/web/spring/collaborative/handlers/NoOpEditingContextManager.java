@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.handlers;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+
+/**
+ * Implementation of the editing context manager which does nothing.
+ *
+ * @author sbegaudeau
+ */
+public class NoOpEditingContextManager implements IEditingContextManager {
+
+    @Override
+    public IEditingContext createEditingContext(UUID projectID) {
+        return new NoOpEditingContext();
+    }
+
+    @Override
+    public void persist(UUID projectId, IEditingContext editingContext, Set<Object> changedObjects) {
+        // Do nothing
+    }
+
+    @Override
+    public void startRecording(IEditingContext editingContext) {
+        // Do nothing
+    }
+
+    @Override
+    public Set<Object> stopRecording(IEditingContext editingContext) {
+        return Set.of();
+    }
+
+    @Override
+    public boolean undo(IEditingContext editingContext) {
+        return false;
+    }
+
+    @Override
+    public boolean redo(IEditingContext editingContext) {
+        return false;
+    }
+
+}
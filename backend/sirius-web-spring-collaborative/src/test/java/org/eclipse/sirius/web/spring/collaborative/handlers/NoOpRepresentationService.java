@@ -56,6 +56,10 @@ public class NoOpRepresentationService implements IRepresentationService {
         return null;
     }
 
+    @Override
+    public void flush(UUID representationId) {
+    }
+
     @Override
     public void delete(UUID representationId) {
     }
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.web.collaborative.api.dto.UndoInput;
+import org.eclipse.sirius.web.collaborative.api.dto.UndoSuccessPayload;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.services.api.Context;
+import org.eclipse.sirius.web.services.api.dto.ErrorPayload;
+import org.eclipse.sirius.web.services.api.objects.IEditingContext;
+import org.eclipse.sirius.web.services.api.projects.IEditingContextManager;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the undo event handler.
+ *
+ * @author sbegaudeau
+ */
+public class UndoEventHandlerTestCases {
+    @Test
+    public void testUndo() {
+        AtomicBoolean hasChanges = new AtomicBoolean(true);
+        IEditingContextManager editingContextManager = new NoOpEditingContextManager() {
+            @Override
+            public boolean undo(IEditingContext editingContext) {
+                return hasChanges.getAndSet(false);
+            }
+        };
+
+        UndoEventHandler handler = new UndoEventHandler(editingContextManager, new NoOpCollaborativeMessageService(), new SimpleMeterRegistry());
+        var input = new UndoInput(UUID.randomUUID());
+        var context = new Context(new UsernamePasswordAuthenticationToken(null, null));
+
+        assertThat(handler.canHandle(input)).isTrue();
+
+        EventHandlerResponse response = handler.handle(new NoOpEditingContext(), input, context);
+        assertThat(response.getPayload()).isInstanceOf(UndoSuccessPayload.class);
+        assertThat(response.isEditingContextDirty()).isTrue();
+
+        response = handler.handle(new NoOpEditingContext(), input, context);
+        assertThat(response.getPayload()).isInstanceOf(ErrorPayload.class);
+        assertThat(response.isEditingContextDirty()).isFalse();
+    }
+}
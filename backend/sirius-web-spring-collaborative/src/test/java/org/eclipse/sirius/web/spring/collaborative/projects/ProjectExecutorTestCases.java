@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the project executor.
+ *
+ * @author sbegaudeau
+ */
+public class ProjectExecutorTestCases {
+
+    private static final int PROJECTS_COUNT = 8;
+
+    private static final int TASKS_COUNT = 200;
+
+    @Test
+    public void testTasksOfEachProjectRunInOrderOnSharedPool() throws InterruptedException, ExecutionException {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExecutorService sharedExecutor = Executors.newFixedThreadPool(3);
+        try {
+            Map<UUID, List<Integer>> projectIdToRunTasks = new ConcurrentHashMap<>();
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int projectIndex = 0; projectIndex < PROJECTS_COUNT; projectIndex++) {
+                ProjectExecutor projectExecutor = new ProjectExecutor(UUID.randomUUID(), sharedExecutor, 1, meterRegistry);
+                List<Integer> runTasks = Collections.synchronizedList(new ArrayList<>());
+                projectIdToRunTasks.put(projectExecutor.getProjectId(), runTasks);
+                for (int taskIndex = 0; taskIndex < TASKS_COUNT; taskIndex++) {
+                    int index = taskIndex;
+                    futures.add(projectExecutor.submit(() -> {
+                        runTasks.add(index);
+                        return index;
+                    }));
+                }
+            }
+
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+
+            List<Integer> expectedTasks = IntStream.range(0, TASKS_COUNT).boxed().collect(Collectors.toList());
+            assertThat(projectIdToRunTasks).hasSize(PROJECTS_COUNT);
+            for (List<Integer> runTasks : projectIdToRunTasks.values()) {
+                assertThat(runTasks).isEqualTo(expectedTasks);
+            }
+        } finally {
+            sharedExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecutionMeasured() throws InterruptedException, ExecutionException {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProjectExecutor projectExecutor = new ProjectExecutor(UUID.randomUUID(), Runnable::run, 1, meterRegistry);
+        String projectId = projectExecutor.getProjectId().toString();
+
+        assertThat(projectExecutor.submit(() -> 1).get()).isEqualTo(1);
+        assertThat(projectExecutor.submit(() -> 2).get()).isEqualTo(2);
+
+        assertThat(meterRegistry.get(Monitoring.PROJECT_EXECUTOR_WAIT).tag(Monitoring.PROJECT, projectId).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(Monitoring.PROJECT_EXECUTOR_SERVICE).tag(Monitoring.PROJECT, projectId).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(Monitoring.PROJECT_EXECUTOR_QUEUE_DEPTH).tag(Monitoring.PROJECT, projectId).gauge().value()).isEqualTo(0.0);
+
+        projectExecutor.shutdown();
+        assertThat(projectExecutor.isShutdown()).isTrue();
+        assertThat(meterRegistry.find(Monitoring.PROJECT_EXECUTOR_WAIT).tag(Monitoring.PROJECT, projectId).timer()).isNull();
+    }
+
+    @Test
+    public void testPendingTasksAndBatchSize() throws InterruptedException, ExecutionException {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<Runnable> scheduledRunnables = new ArrayList<>();
+        ProjectExecutor projectExecutor = new ProjectExecutor(UUID.randomUUID(), scheduledRunnables::add, 10, meterRegistry);
+
+        Future<Boolean> firstFuture = projectExecutor.submit(projectExecutor::hasPendingTasks);
+        Future<Boolean> secondFuture = projectExecutor.submit(projectExecutor::hasPendingTasks);
+        assertThat(scheduledRunnables).hasSize(1);
+        scheduledRunnables.remove(0).run();
+        assertThat(scheduledRunnables).hasSize(1);
+        scheduledRunnables.remove(0).run();
+
+        assertThat(firstFuture.get()).isTrue();
+        assertThat(secondFuture.get()).isFalse();
+        assertThat(scheduledRunnables).isEmpty();
+
+        projectExecutor.recordBatchSize(3);
+        projectExecutor.recordBatchSize(1);
+
+        DistributionSummary batchSizeSummary = meterRegistry.get(Monitoring.PROJECT_EXECUTOR_BATCH_SIZE).tag(Monitoring.PROJECT, projectExecutor.getProjectId().toString()).summary();
+        assertThat(projectExecutor.getMaxBatchSize()).isEqualTo(10);
+        assertThat(batchSizeSummary.count()).isEqualTo(2);
+        assertThat(batchSizeSummary.totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    public void testTasksCancelledWhenRejected() {
+        ExecutorService sharedExecutor = Executors.newSingleThreadExecutor();
+        sharedExecutor.shutdown();
+
+        ProjectExecutor projectExecutor = new ProjectExecutor(UUID.randomUUID(), sharedExecutor, 1, new SimpleMeterRegistry());
+        Future<Integer> future = projectExecutor.submit(() -> 1);
+
+        assertThat(future.isCancelled()).isTrue();
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.Principal;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.collaborative.api.services.SubscriptionDescription;
+import org.eclipse.sirius.web.collaborative.api.services.SubscriptionTarget;
+import org.junit.Test;
+
+/**
+ * Unit tests of the subscription registry.
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionRegistryTestCases {
+
+    private final Principal principal = () -> "user"; //$NON-NLS-1$
+
+    @Test
+    public void testSubscriptionsRemovedWithTheirRepresentation() {
+        UUID projectId = UUID.randomUUID();
+        UUID representationId = UUID.randomUUID();
+        UUID otherRepresentationId = UUID.randomUUID();
+
+        SubscriptionRegistry subscriptionRegistry = new SubscriptionRegistry();
+        SubscriptionDescription subscription = this.addSubscription(subscriptionRegistry, projectId, representationId);
+        SubscriptionDescription otherSubscription = this.addSubscription(subscriptionRegistry, projectId, otherRepresentationId);
+
+        subscriptionRegistry.removeRepresentation(projectId, representationId);
+
+        assertThat(subscriptionRegistry.remove(subscription)).isEmpty();
+        assertThat(subscriptionRegistry.remove(otherSubscription)).isPresent();
+    }
+
+    @Test
+    public void testSubscriptionsRemovedWithTheirProject() {
+        UUID projectId = UUID.randomUUID();
+        UUID otherProjectId = UUID.randomUUID();
+
+        SubscriptionRegistry subscriptionRegistry = new SubscriptionRegistry();
+        SubscriptionDescription subscription = this.addSubscription(subscriptionRegistry, projectId, UUID.randomUUID());
+        SubscriptionDescription otherSubscription = this.addSubscription(subscriptionRegistry, otherProjectId, UUID.randomUUID());
+
+        subscriptionRegistry.removeProject(projectId);
+
+        assertThat(subscriptionRegistry.remove(subscription)).isEmpty();
+        assertThat(subscriptionRegistry.remove(otherSubscription)).isPresent();
+    }
+
+    private SubscriptionDescription addSubscription(SubscriptionRegistry subscriptionRegistry, UUID projectId, UUID representationId) {
+        SubscriptionDescription subscriptionDescription = new SubscriptionDescription(this.principal, UUID.randomUUID().toString());
+        subscriptionRegistry.add(subscriptionDescription, new SubscriptionTarget(projectId, representationId));
+        return subscriptionDescription;
+    }
+}
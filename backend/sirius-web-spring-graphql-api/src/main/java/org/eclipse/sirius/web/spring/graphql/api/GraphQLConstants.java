@@ -25,6 +25,12 @@ public final class GraphQLConstants {
 
     public static final String SUBSCRIPTION_ID = "userId"; //$NON-NLS-1$
 
+    /**
+     * The key of the {@link java.util.concurrent.atomic.AtomicReference} holding the last event sent by the publisher
+     * of a subscription.
+     */
+    public static final String SUBSCRIPTION_EVENT = "subscriptionEvent"; //$NON-NLS-1$
+
     private GraphQLConstants() {
         // Prevent instantiation
     }
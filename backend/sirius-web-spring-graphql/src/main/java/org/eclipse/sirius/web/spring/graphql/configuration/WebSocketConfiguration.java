@@ -18,7 +18,9 @@ import java.util.Objects;
 
 import org.eclipse.sirius.web.spring.graphql.api.ISubscriptionTerminatedHandler;
 import org.eclipse.sirius.web.spring.graphql.api.URLConstants;
+import org.eclipse.sirius.web.spring.graphql.ws.GraphQLHandshakeHandler;
 import org.eclipse.sirius.web.spring.graphql.ws.GraphQLWebSocketHandler;
+import org.eclipse.sirius.web.spring.graphql.ws.OutboundWebSocketSessionFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -53,19 +55,28 @@ public class WebSocketConfiguration implements WebSocketConfigurer {
 
     private final MeterRegistry meterRegistry;
 
+    private final OutboundWebSocketSessionFactory outboundWebSocketSessionFactory;
+
+    private final boolean isCompressionEnabled;
+
     public WebSocketConfiguration(@Value("${sirius.web.graphql.websocket.allowed.origins}") String allowedOrigins, GraphQL graphQL, ObjectMapper objectMapper,
-            ISubscriptionTerminatedHandler subscriptionTerminatedHandler, MeterRegistry meterRegistry) {
+            ISubscriptionTerminatedHandler subscriptionTerminatedHandler, MeterRegistry meterRegistry, OutboundWebSocketSessionFactory outboundWebSocketSessionFactory,
+            @Value("${sirius.web.graphql.websocket.compression:true}") boolean isCompressionEnabled) {
         this.allowedOrigins = Objects.requireNonNull(allowedOrigins);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.subscriptionTerminatedHandler = Objects.requireNonNull(subscriptionTerminatedHandler);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.outboundWebSocketSessionFactory = Objects.requireNonNull(outboundWebSocketSessionFactory);
+        this.isCompressionEnabled = isCompressionEnabled;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.subscriptionTerminatedHandler, this.meterRegistry);
+        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.subscriptionTerminatedHandler, this.meterRegistry,
+                this.outboundWebSocketSessionFactory);
         WebSocketHandlerRegistration graphQLWebSocketRegistration = registry.addHandler(graphQLWebSocketHandler, URLConstants.GRAPHQL_SUBSCRIPTION_PATH);
+        graphQLWebSocketRegistration.setHandshakeHandler(new GraphQLHandshakeHandler(this.isCompressionEnabled));
         graphQLWebSocketRegistration.setAllowedOrigins(this.allowedOrigins);
     }
 
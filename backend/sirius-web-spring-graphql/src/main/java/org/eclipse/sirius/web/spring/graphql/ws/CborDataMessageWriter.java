@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the CBOR representation of a data message around a payload which has already been encoded in CBOR.
+ * <p>
+ * The message is written as a map with the same three entries as the JSON representation of the data message, "id",
+ * "payload" and "type", in order to let the pre-encoded payload be shared by all the subscribers.
+ * </p>
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc7049">RFC 7049</a>
+ * @author sbegaudeau
+ */
+public class CborDataMessageWriter {
+
+    private static final int MAP_OF_THREE_ENTRIES = 0xA3;
+
+    private static final int TEXT_STRING = 0x60;
+
+    private static final int ONE_BYTE_LENGTH = 24;
+
+    private static final int TWO_BYTES_LENGTH = 25;
+
+    private static final int FOUR_BYTES_LENGTH = 26;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final String ID = "id"; //$NON-NLS-1$
+
+    private static final String PAYLOAD = "payload"; //$NON-NLS-1$
+
+    private static final String TYPE = "type"; //$NON-NLS-1$
+
+    private static final String DATA = "data"; //$NON-NLS-1$
+
+    public byte[] write(String id, byte[] encodedPayload) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(encodedPayload.length + 32);
+        outputStream.write(MAP_OF_THREE_ENTRIES);
+        this.writeText(outputStream, ID);
+        this.writeText(outputStream, id);
+        this.writeText(outputStream, PAYLOAD);
+        outputStream.write(encodedPayload, 0, encodedPayload.length);
+        this.writeText(outputStream, TYPE);
+        this.writeText(outputStream, DATA);
+        return outputStream.toByteArray();
+    }
+
+    private void writeText(ByteArrayOutputStream outputStream, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        if (length < ONE_BYTE_LENGTH) {
+            outputStream.write(TEXT_STRING | length);
+        } else if (length <= BYTE_MASK) {
+            outputStream.write(TEXT_STRING | ONE_BYTE_LENGTH);
+            outputStream.write(length);
+        } else if (length <= 0xFFFF) {
+            outputStream.write(TEXT_STRING | TWO_BYTES_LENGTH);
+            outputStream.write((length >> 8) & BYTE_MASK);
+            outputStream.write(length & BYTE_MASK);
+        } else {
+            outputStream.write(TEXT_STRING | FOUR_BYTES_LENGTH);
+            outputStream.write((length >> 24) & BYTE_MASK);
+            outputStream.write((length >> 16) & BYTE_MASK);
+            outputStream.write((length >> 8) & BYTE_MASK);
+            outputStream.write(length & BYTE_MASK);
+        }
+        outputStream.write(bytes, 0, length);
+    }
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/**
+ * Handles the handshake of the GraphQL Web Socket endpoint.
+ * <p>
+ * The permessage-deflate extension, which compresses each message, is negotiated with the clients requesting it if the
+ * server supports it and if the compression is enabled. Both the JSON and CBOR messages of the representations are
+ * highly compressible since they contain lots of repeated identifiers, types and style properties.
+ * </p>
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc7692">RFC 7692</a>
+ * @author sbegaudeau
+ */
+public class GraphQLHandshakeHandler extends DefaultHandshakeHandler {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate"; //$NON-NLS-1$
+
+    private final Logger logger = LoggerFactory.getLogger(GraphQLHandshakeHandler.class);
+
+    private final boolean isCompressionEnabled;
+
+    public GraphQLHandshakeHandler(boolean isCompressionEnabled) {
+        this.isCompressionEnabled = isCompressionEnabled;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request, List<WebSocketExtension> requestedExtensions, List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> extensions = super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+        if (!this.isCompressionEnabled) {
+            extensions = extensions.stream().filter(extension -> !PERMESSAGE_DEFLATE.equals(extension.getName())).collect(Collectors.toList());
+        } else if (this.isRequested(requestedExtensions) && !this.isRequested(supportedExtensions)) {
+            this.logger.debug("The compression of the Web Socket messages is not supported by the server"); //$NON-NLS-1$
+        }
+        return extensions;
+    }
+
+    private boolean isRequested(List<WebSocketExtension> extensions) {
+        return extensions.stream().anyMatch(extension -> PERMESSAGE_DEFLATE.equals(extension.getName()));
+    }
+}
@@ -15,12 +15,13 @@ package org.eclipse.sirius.web.spring.graphql.ws;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 import java.io.IOException;
 import java.security.Principal;
 import java.text.MessageFormat;
 import java.time.Duration;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,9 +45,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
@@ -83,6 +86,12 @@ import reactor.core.publisher.Flux;
  * </p>
  *
  * <p>
+ * Clients may also use the "graphql-ws-cbor" subprotocol to exchange the very same messages encoded in CBOR in binary
+ * Web Socket messages instead of JSON in text messages. This encoding is both smaller and faster to parse for the
+ * large payloads of the representations.
+ * </p>
+ *
+ * <p>
  * Once the connection has been established, users can send an initial request to ensure that the server is up and ready
  * to handle their GraphQL requests:
  * </p>
@@ -184,18 +193,24 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private static final String GRAPHQL_WS = "graphql-ws"; //$NON-NLS-1$
 
+    private static final String GRAPHQL_WS_CBOR = "graphql-ws-cbor"; //$NON-NLS-1$
+
     private static final String TYPE = "type"; //$NON-NLS-1$
 
     private final Logger logger = LoggerFactory.getLogger(GraphQLWebSocketHandler.class);
 
     private final ObjectMapper objectMapper;
 
+    private final ObjectMapper cborObjectMapper = new ObjectMapper(new CBORFactory());
+
     private final GraphQL graphQL;
 
     private final Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries = new ConcurrentHashMap<>();
 
     private final Map<WebSocketSession, Disposable> sessions2keepAliveSubscriptions = new ConcurrentHashMap<>();
 
+    private final Map<WebSocketSession, OutboundWebSocketSession> sessions2outboundSessions = new ConcurrentHashMap<>();
+
     private final ISubscriptionTerminatedHandler subscriptionTerminatedHandler;
 
     private final Counter connectionInitCounter;
@@ -210,11 +225,18 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final MeterRegistry meterRegistry;
 
-    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, ISubscriptionTerminatedHandler subscriptionTerminatedHandler, MeterRegistry meterRegistry) {
+    private final SubscriptionPayloadEncoder subscriptionPayloadEncoder;
+
+    private final OutboundWebSocketSessionFactory outboundWebSocketSessionFactory;
+
+    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, ISubscriptionTerminatedHandler subscriptionTerminatedHandler, MeterRegistry meterRegistry,
+            OutboundWebSocketSessionFactory outboundWebSocketSessionFactory) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.subscriptionTerminatedHandler = Objects.requireNonNull(subscriptionTerminatedHandler);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.subscriptionPayloadEncoder = new SubscriptionPayloadEncoder(objectMapper, meterRegistry);
+        this.outboundWebSocketSessionFactory = Objects.requireNonNull(outboundWebSocketSessionFactory);
 
         // @formatter:off
         this.startMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
@@ -240,12 +262,35 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     @Override
     public List<String> getSubProtocols() {
-        return Collections.singletonList(GRAPHQL_WS);
+        return List.of(GRAPHQL_WS, GRAPHQL_WS_CBOR);
     }
 
     @Override
-    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        Optional<IOperationMessage> optionalOperationMessage = this.parseRequest(message);
+    protected void handleTextMessage(WebSocketSession webSocketSession, TextMessage message) throws Exception {
+        Optional<JsonNode> optionalJsonNode = Optional.empty();
+        try {
+            optionalJsonNode = Optional.of(this.objectMapper.readTree(message.getPayload()));
+        } catch (JsonProcessingException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+        this.handleOperationMessage(webSocketSession, optionalJsonNode.flatMap(this::parseRequest));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession webSocketSession, BinaryMessage message) {
+        Optional<JsonNode> optionalJsonNode = Optional.empty();
+        try {
+            optionalJsonNode = Optional.of(this.cborObjectMapper.readTree(new ByteBufferBackedInputStream(message.getPayload())));
+        } catch (IOException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+        this.handleOperationMessage(webSocketSession, optionalJsonNode.flatMap(this::parseRequest));
+    }
+
+    private void handleOperationMessage(WebSocketSession webSocketSession, Optional<IOperationMessage> optionalOperationMessage) {
+        WebSocketSession session = this.sessions2outboundSessions.getOrDefault(webSocketSession, webSocketSession);
+        ObjectMapper sessionObjectMapper = this.getObjectMapper(session);
+
         if (session.getPrincipal() != null && optionalOperationMessage.isPresent()) {
             Principal principal = session.getPrincipal();
             if (principal instanceof Authentication) {
@@ -257,12 +302,12 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
             this.logger.debug(MessageFormat.format("Message received: {0}", operationMessage)); //$NON-NLS-1$
 
             if (operationMessage instanceof ConnectionInitMessage) {
-                new ConnectionInitMessageHandler(session, this.objectMapper).handle();
+                new ConnectionInitMessageHandler(session, sessionObjectMapper).handle();
                 this.connectionInitCounter.increment();
             } else if (operationMessage instanceof StartMessage) {
                 StartMessage startMessage = (StartMessage) operationMessage;
 
-                new StartMessageHandler(session, this.graphQL, this.objectMapper, this.sessions2entries, this.meterRegistry).handle(startMessage);
+                new StartMessageHandler(session, this.graphQL, sessionObjectMapper, this.sessions2entries, this.subscriptionPayloadEncoder, this.meterRegistry).handle(startMessage);
                 this.startMessageCounter.increment();
             } else if (operationMessage instanceof StopMessage) {
                 StopMessage stopMessage = (StopMessage) operationMessage;
@@ -281,31 +326,35 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
         }
     }
 
+    private ObjectMapper getObjectMapper(WebSocketSession session) {
+        ObjectMapper sessionObjectMapper = this.objectMapper;
+        if (GRAPHQL_WS_CBOR.equals(session.getAcceptedProtocol())) {
+            sessionObjectMapper = this.cborObjectMapper;
+        }
+        return sessionObjectMapper;
+    }
+
     private void send(WebSocketSession session, IOperationMessage message) {
         try {
-            String responsePayload = this.objectMapper.writeValueAsString(message);
-            TextMessage textMessage = new TextMessage(responsePayload);
+            WebSocketMessage<?> webSocketMessage = null;
+            ObjectMapper sessionObjectMapper = this.getObjectMapper(session);
+            if (sessionObjectMapper == this.cborObjectMapper) {
+                webSocketMessage = new BinaryMessage(sessionObjectMapper.writeValueAsBytes(message));
+            } else {
+                webSocketMessage = new TextMessage(sessionObjectMapper.writeValueAsString(message));
+            }
 
             this.logger.debug(MessageFormat.format("Message sent: {0}", message)); //$NON-NLS-1$
 
-            session.sendMessage(textMessage);
+            session.sendMessage(webSocketMessage);
         } catch (IOException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
     }
 
-    private Optional<IOperationMessage> parseRequest(TextMessage message) {
-        Optional<IOperationMessage> optionalOperationMessage = Optional.empty();
-
-        try {
-            JsonNode jsonNode = this.objectMapper.readTree(message.getPayload());
-            Optional<String> optionalType = this.getType(jsonNode);
-            optionalOperationMessage = optionalType.flatMap(type -> this.getOperationMessage(jsonNode, type));
-        } catch (IOException exception) {
-            this.logger.error(exception.getMessage(), exception);
-        }
-
-        return optionalOperationMessage;
+    private Optional<IOperationMessage> parseRequest(JsonNode jsonNode) {
+        Optional<String> optionalType = this.getType(jsonNode);
+        return optionalType.flatMap(type -> this.getOperationMessage(jsonNode, type));
     }
 
     private Optional<String> getType(JsonNode jsonNode) {
@@ -343,19 +392,29 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
     }
 
     @Override
-    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    public void afterConnectionEstablished(WebSocketSession webSocketSession) throws Exception {
+        OutboundWebSocketSession session = this.outboundWebSocketSessionFactory.createOutboundWebSocketSession(webSocketSession);
+        this.sessions2outboundSessions.put(webSocketSession, session);
+
         // @formatter:off
         Disposable subscribe = Flux.interval(GRAPHQL_KEEP_ALIVE_INTERVAL)
                 .subscribe(data -> this.send(session, new ConnectionKeepAliveMessage()));
         // @formatter:on
-        this.sessions2keepAliveSubscriptions.put(session, subscribe);
+        this.sessions2keepAliveSubscriptions.put(webSocketSession, subscribe);
     }
 
     @Override
-    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        Disposable keepAliveSubscription = this.sessions2keepAliveSubscriptions.remove(session);
+    public void afterConnectionClosed(WebSocketSession webSocketSession, CloseStatus status) throws Exception {
+        Disposable keepAliveSubscription = this.sessions2keepAliveSubscriptions.remove(webSocketSession);
         keepAliveSubscription.dispose();
 
+        WebSocketSession session = webSocketSession;
+        OutboundWebSocketSession outboundSession = this.sessions2outboundSessions.remove(webSocketSession);
+        if (outboundSession != null) {
+            outboundSession.clear();
+            session = outboundSession;
+        }
+
         // Closing the connection will trigger the same behavior as indicating that the connection should be closed
         new ConnectionTerminateMessageHandler(session, this.sessions2entries, this.subscriptionTerminatedHandler).handle();
     }
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * A message waiting in the outbound queue of a Web Socket session.
+ * <p>
+ * Messages with a coalescing key are replaced by the next message with the same key if they have not been sent yet.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+class OutboundMessage {
+
+    private final Optional<String> optionalCoalescingKey;
+
+    private WebSocketMessage<?> message;
+
+    OutboundMessage(WebSocketMessage<?> message, Optional<String> optionalCoalescingKey) {
+        this.message = Objects.requireNonNull(message);
+        this.optionalCoalescingKey = Objects.requireNonNull(optionalCoalescingKey);
+    }
+
+    WebSocketMessage<?> getMessage() {
+        return this.message;
+    }
+
+    void setMessage(WebSocketMessage<?> message) {
+        this.message = Objects.requireNonNull(message);
+    }
+
+    Optional<String> getCoalescingKey() {
+        return this.optionalCoalescingKey;
+    }
+}
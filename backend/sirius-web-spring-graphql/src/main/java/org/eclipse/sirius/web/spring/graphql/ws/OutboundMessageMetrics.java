@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The metrics shared by the outbound message queues of all the Web Socket sessions.
+ *
+ * @author sbegaudeau
+ */
+public class OutboundMessageMetrics {
+
+    private static final String QUEUE_METRIC_NAME = "siriusweb_graphql_ws_queue"; //$NON-NLS-1$
+
+    private static final String DROPPED_METRIC_NAME = "siriusweb_graphql_ws_dropped"; //$NON-NLS-1$
+
+    private static final String SEND_METRIC_NAME = "siriusweb_graphql_ws_send"; //$NON-NLS-1$
+
+    private static final String REASON = "reason"; //$NON-NLS-1$
+
+    private final AtomicInteger queuedMessagesCount = new AtomicInteger();
+
+    private final Counter coalescedMessagesCounter;
+
+    private final Counter discardedMessagesCounter;
+
+    private final Timer sendTimer;
+
+    public OutboundMessageMetrics(MeterRegistry meterRegistry) {
+        // @formatter:off
+        Gauge.builder(QUEUE_METRIC_NAME, this.queuedMessagesCount::get)
+                .register(meterRegistry);
+        this.coalescedMessagesCounter = Counter.builder(DROPPED_METRIC_NAME)
+                .tag(REASON, "coalesced") //$NON-NLS-1$
+                .register(meterRegistry);
+        this.discardedMessagesCounter = Counter.builder(DROPPED_METRIC_NAME)
+                .tag(REASON, "discarded") //$NON-NLS-1$
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder(SEND_METRIC_NAME)
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    public AtomicInteger getQueuedMessagesCount() {
+        return this.queuedMessagesCount;
+    }
+
+    public Counter getCoalescedMessagesCounter() {
+        return this.coalescedMessagesCounter;
+    }
+
+    public Counter getDiscardedMessagesCounter() {
+        return this.discardedMessagesCounter;
+    }
+
+    public Timer getSendTimer() {
+        return this.sendTimer;
+    }
+}
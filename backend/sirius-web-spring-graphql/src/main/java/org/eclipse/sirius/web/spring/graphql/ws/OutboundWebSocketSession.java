@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * Decorates a Web Socket session to send its messages from a queue with a single writer.
+ * <p>
+ * Threads sending messages only add them to the queue of the session and they are written to the client one after the
+ * other by a task of the given executor. A slow client will thus not block the threads emitting events and the
+ * underlying session, which does not support concurrent sends, will only be used by one thread at a time.
+ * </p>
+ * <p>
+ * Like the {@link org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator}, the session will be
+ * closed if a message has been in the process of being sent for more than the send time limit or if the queued
+ * messages exceed the buffer size limit. Queued messages with a coalescing key are replaced by the next message sent
+ * with the same key in order to only send the latest state to slow clients.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class OutboundWebSocketSession extends WebSocketSessionDecorator {
+
+    private final Logger logger = LoggerFactory.getLogger(OutboundWebSocketSession.class);
+
+    private final Executor executor;
+
+    private final int sendTimeLimit;
+
+    private final int bufferSizeLimit;
+
+    private final OutboundMessageMetrics metrics;
+
+    private final Deque<OutboundMessage> outboundMessages = new ArrayDeque<>();
+
+    private final Map<String, OutboundMessage> coalescingKeys2outboundMessages = new HashMap<>();
+
+    private int bufferSize;
+
+    private boolean isSending;
+
+    private long sendStartTime;
+
+    private boolean isLimitExceeded;
+
+    public OutboundWebSocketSession(WebSocketSession delegate, Executor executor, int sendTimeLimit, int bufferSizeLimit, OutboundMessageMetrics metrics) {
+        super(delegate);
+        this.executor = Objects.requireNonNull(executor);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        this.enqueue(new OutboundMessage(message, Optional.empty()));
+    }
+
+    /**
+     * Sends the given message, replacing any message with the same coalescing key which has not been sent yet.
+     *
+     * @param message
+     *            The message to send
+     * @param coalescingKey
+     *            The coalescing key of the message
+     * @throws IOException
+     *             If the session has been closed because of the limits exceeded by this message
+     */
+    public void sendMessage(WebSocketMessage<?> message, String coalescingKey) throws IOException {
+        this.enqueue(new OutboundMessage(message, Optional.of(coalescingKey)));
+    }
+
+    /**
+     * Prevents the messages with the given coalescing key which have not been sent yet from being replaced. The next
+     * messages with this key will be sent after them and after any message sent in the meantime.
+     *
+     * @param coalescingKey
+     *            The coalescing key
+     */
+    public void seal(String coalescingKey) {
+        synchronized (this.outboundMessages) {
+            this.coalescingKeys2outboundMessages.remove(coalescingKey);
+        }
+    }
+
+    /**
+     * Discards all the messages which have not been sent yet.
+     */
+    public void clear() {
+        synchronized (this.outboundMessages) {
+            this.discard();
+        }
+    }
+
+    private void enqueue(OutboundMessage outboundMessage) throws IOException {
+        boolean shouldStartSending = false;
+        boolean shouldClose = false;
+        synchronized (this.outboundMessages) {
+            if (this.isLimitExceeded) {
+                this.metrics.getDiscardedMessagesCounter().increment();
+            } else {
+                this.add(outboundMessage);
+
+                long sendTime = System.currentTimeMillis() - this.sendStartTime;
+                if ((this.isSending && sendTime > this.sendTimeLimit) || this.bufferSize > this.bufferSizeLimit) {
+                    this.logger.warn("Closing the Web Socket session {} after {}ms spent sending a message with {} bytes queued", this.getId(), sendTime, this.bufferSize); //$NON-NLS-1$
+                    this.isLimitExceeded = true;
+                    this.discard();
+                    shouldClose = true;
+                } else if (!this.isSending) {
+                    this.isSending = true;
+                    this.sendStartTime = System.currentTimeMillis();
+                    shouldStartSending = true;
+                }
+            }
+        }
+
+        if (shouldClose) {
+            this.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } else if (shouldStartSending) {
+            this.executor.execute(this::sendQueuedMessages);
+        }
+    }
+
+    private void add(OutboundMessage outboundMessage) {
+        OutboundMessage queuedMessage = outboundMessage.getCoalescingKey().map(this.coalescingKeys2outboundMessages::get).orElse(null);
+        if (queuedMessage != null) {
+            this.bufferSize = this.bufferSize - queuedMessage.getMessage().getPayloadLength() + outboundMessage.getMessage().getPayloadLength();
+            queuedMessage.setMessage(outboundMessage.getMessage());
+            this.metrics.getCoalescedMessagesCounter().increment();
+        } else {
+            this.outboundMessages.add(outboundMessage);
+            outboundMessage.getCoalescingKey().ifPresent(coalescingKey -> this.coalescingKeys2outboundMessages.put(coalescingKey, outboundMessage));
+            this.bufferSize = this.bufferSize + outboundMessage.getMessage().getPayloadLength();
+            this.metrics.getQueuedMessagesCount().incrementAndGet();
+        }
+    }
+
+    private void discard() {
+        int discardedMessagesCount = this.outboundMessages.size();
+        this.outboundMessages.clear();
+        this.coalescingKeys2outboundMessages.clear();
+        this.bufferSize = 0;
+        this.metrics.getQueuedMessagesCount().addAndGet(-discardedMessagesCount);
+        this.metrics.getDiscardedMessagesCounter().increment(discardedMessagesCount);
+    }
+
+    private void sendQueuedMessages() {
+        Optional<WebSocketMessage<?>> optionalMessage = this.poll();
+        while (optionalMessage.isPresent()) {
+            WebSocketMessage<?> message = optionalMessage.get();
+            long start = System.currentTimeMillis();
+            try {
+                if (this.isOpen()) {
+                    this.getDelegate().sendMessage(message);
+                } else {
+                    this.metrics.getDiscardedMessagesCounter().increment();
+                }
+            } catch (IOException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+            this.metrics.getSendTimer().record(System.currentTimeMillis() - start, TimeUnit.MILLISECONDS);
+
+            optionalMessage = this.poll();
+        }
+    }
+
+    private Optional<WebSocketMessage<?>> poll() {
+        synchronized (this.outboundMessages) {
+            Optional<WebSocketMessage<?>> optionalMessage = Optional.empty();
+            OutboundMessage outboundMessage = this.outboundMessages.poll();
+            if (outboundMessage != null) {
+                outboundMessage.getCoalescingKey().ifPresent(coalescingKey -> this.coalescingKeys2outboundMessages.remove(coalescingKey, outboundMessage));
+                this.bufferSize = this.bufferSize - outboundMessage.getMessage().getPayloadLength();
+                this.metrics.getQueuedMessagesCount().decrementAndGet();
+                this.sendStartTime = System.currentTimeMillis();
+                optionalMessage = Optional.of(outboundMessage.getMessage());
+            } else {
+                this.isSending = false;
+            }
+            return optionalMessage;
+        }
+    }
+}
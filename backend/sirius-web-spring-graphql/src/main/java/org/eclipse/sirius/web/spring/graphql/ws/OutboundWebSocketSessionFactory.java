@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Used to decorate the Web Socket sessions with their outbound message queue.
+ *
+ * @author sbegaudeau
+ */
+@Component
+public class OutboundWebSocketSessionFactory {
+
+    private final OutboundMessageMetrics outboundMessageMetrics;
+
+    private final int sendTimeLimit;
+
+    private final int bufferSizeLimit;
+
+    public OutboundWebSocketSessionFactory(MeterRegistry meterRegistry, @Value("${sirius.web.graphql.websocket.sendTimeLimit:10000}") int sendTimeLimit,
+            @Value("${sirius.web.graphql.websocket.bufferSizeLimit:67108864}") int bufferSizeLimit) {
+        this.outboundMessageMetrics = new OutboundMessageMetrics(meterRegistry);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    public OutboundWebSocketSession createOutboundWebSocketSession(WebSocketSession session) {
+        // Messages are sent by a single writer so that slow clients do not block the threads emitting the events
+        Executor executor = runnable -> Schedulers.boundedElastic().schedule(runnable);
+        return new OutboundWebSocketSession(session, executor, this.sendTimeLimit, this.bufferSizeLimit, this.outboundMessageMetrics);
+    }
+}
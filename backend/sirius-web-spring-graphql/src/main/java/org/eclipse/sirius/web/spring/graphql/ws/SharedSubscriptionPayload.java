@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.spring.graphql.ws.dto.output.EncodedDataMessage;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * The last payload sent to the subscribers of a query, kept in its serialized form.
+ * <p>
+ * The payload is serialized with the object mapper of the format negotiated by the subscribers, JSON payloads are sent
+ * in text messages while CBOR payloads are sent in binary messages.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+class SharedSubscriptionPayload {
+
+    private final ObjectMapper objectMapper;
+
+    private final Counter encodedPayloadCounter;
+
+    private final Counter sharedPayloadCounter;
+
+    private final Map<String, WebSocketMessage<?>> frames = new HashMap<>();
+
+    private int subscribersCount;
+
+    private Object event;
+
+    private byte[] encodedPayload;
+
+    private String encodedTextPayload;
+
+    SharedSubscriptionPayload(ObjectMapper objectMapper, Counter encodedPayloadCounter, Counter sharedPayloadCounter) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.encodedPayloadCounter = Objects.requireNonNull(encodedPayloadCounter);
+        this.sharedPayloadCounter = Objects.requireNonNull(sharedPayloadCounter);
+    }
+
+    /**
+     * Registers a new subscriber.
+     */
+    synchronized void acquire() {
+        this.subscribersCount++;
+    }
+
+    /**
+     * Unregisters a subscriber.
+     *
+     * @return <code>true</code> if there are no more subscribers, <code>false</code> otherwise
+     */
+    synchronized boolean release() {
+        this.subscribersCount--;
+        return this.subscribersCount <= 0;
+    }
+
+    /**
+     * Returns the frame containing the given payload, which is only serialized if it has been computed from another
+     * event than the last one.
+     * <p>
+     * Subscribers are encoded one after the other so that only the first one which has received a new event serializes
+     * its payload. Events are compared by identity, the payloads computed from an unknown event are always serialized.
+     * </p>
+     *
+     * @param id
+     *            The identifier of the operation
+     * @param newEvent
+     *            The event from which the payload has been computed or <code>null</code> if it is unknown
+     * @param newPayload
+     *            The result of the query
+     * @return The frame to send
+     * @throws JsonProcessingException
+     *             If the payload cannot be serialized
+     */
+    synchronized WebSocketMessage<?> encode(String id, Object newEvent, Map<String, Object> newPayload) throws JsonProcessingException {
+        if (this.encodedPayload == null || newEvent == null || newEvent != this.event) {
+            this.encodedPayload = this.objectMapper.writeValueAsBytes(newPayload);
+            this.encodedTextPayload = null;
+            this.event = newEvent;
+            this.frames.clear();
+            this.encodedPayloadCounter.increment();
+        } else {
+            this.sharedPayloadCounter.increment();
+        }
+
+        WebSocketMessage<?> message = this.frames.get(id);
+        if (message == null) {
+            message = this.createMessage(id);
+            this.frames.put(id, message);
+        }
+        return message;
+    }
+
+    private WebSocketMessage<?> createMessage(String id) throws JsonProcessingException {
+        WebSocketMessage<?> message = null;
+        if (this.objectMapper.getFactory() instanceof CBORFactory) {
+            message = new BinaryMessage(new CborDataMessageWriter().write(id, this.encodedPayload));
+        } else {
+            if (this.encodedTextPayload == null) {
+                this.encodedTextPayload = new String(this.encodedPayload, StandardCharsets.UTF_8);
+            }
+            message = new TextMessage(this.objectMapper.writeValueAsString(new EncodedDataMessage(id, this.encodedTextPayload)));
+        }
+        return message;
+    }
+}
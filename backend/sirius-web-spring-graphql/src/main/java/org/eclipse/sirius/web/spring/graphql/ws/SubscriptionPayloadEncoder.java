@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.WebSocketMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Serializes the results of the GraphQL subscriptions once for all the subscribers sharing the same query.
+ * <p>
+ * Subscriptions with the same query, operation name and variables receive identical results for each event. The
+ * payload of those results is thus serialized once per event and format and the pre-encoded payload is reused for every
+ * other subscriber using the same format which has received the same event.
+ * Since the frames of the graphql-ws protocol contain the operation identifier chosen by each client, the Web Socket
+ * frame itself is only shared between the subscribers using the same identifier.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionPayloadEncoder {
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_graphql_ws_payloads"; //$NON-NLS-1$
+
+    private static final String OUTCOME = "outcome"; //$NON-NLS-1$
+
+    /** Used to separate the various parts of the query in the creation of its key. */
+    private static final String SEPARATOR = "\n"; //$NON-NLS-1$
+
+    private final Logger logger = LoggerFactory.getLogger(SubscriptionPayloadEncoder.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SharedSubscriptionPayload> sharedPayloads = new HashMap<>();
+
+    private final Counter encodedPayloadCounter;
+
+    private final Counter sharedPayloadCounter;
+
+    public SubscriptionPayloadEncoder(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+
+        // @formatter:off
+        this.encodedPayloadCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(OUTCOME, "encoded") //$NON-NLS-1$
+                .register(meterRegistry);
+        this.sharedPayloadCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(OUTCOME, "shared") //$NON-NLS-1$
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    /**
+     * Registers a new subscriber of the given query.
+     *
+     * @param formatObjectMapper
+     *            The object mapper of the format used by the subscriber
+     * @param operationName
+     *            The name of the operation
+     * @param query
+     *            The query
+     * @param variables
+     *            The variables of the query
+     * @return The key of the query, which should be released once the subscription is over, or an empty optional if
+     *         the payload of this subscription cannot be shared
+     */
+    public Optional<String> acquire(ObjectMapper formatObjectMapper, String operationName, String query, Map<String, Object> variables) {
+        Optional<String> optionalKey = Optional.empty();
+        try {
+            String format = formatObjectMapper.getFactory().getFormatName();
+            String key = format + SEPARATOR + operationName + SEPARATOR + query + SEPARATOR + this.objectMapper.writeValueAsString(variables);
+            synchronized (this.sharedPayloads) {
+                this.sharedPayloads.computeIfAbsent(key, k -> new SharedSubscriptionPayload(formatObjectMapper, this.encodedPayloadCounter, this.sharedPayloadCounter)).acquire();
+            }
+            optionalKey = Optional.of(key);
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return optionalKey;
+    }
+
+    /**
+     * Unregisters a subscriber of the query with the given key.
+     *
+     * @param key
+     *            The key of the query
+     */
+    public void release(String key) {
+        synchronized (this.sharedPayloads) {
+            SharedSubscriptionPayload sharedPayload = this.sharedPayloads.get(key);
+            if (sharedPayload != null && sharedPayload.release()) {
+                this.sharedPayloads.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the Web Socket frame containing the given result of the query with the given key.
+     *
+     * @param key
+     *            The key of the query
+     * @param id
+     *            The identifier of the operation
+     * @param event
+     *            The event sent by the publisher of the subscription from which the result has been computed or
+     *            <code>null</code> if it is unknown
+     * @param payload
+     *            The result of the query
+     * @return The frame to send or an empty optional if it could not be encoded
+     */
+    public Optional<WebSocketMessage<?>> encode(String key, String id, Object event, Map<String, Object> payload) {
+        SharedSubscriptionPayload sharedPayload = null;
+        synchronized (this.sharedPayloads) {
+            sharedPayload = this.sharedPayloads.get(key);
+        }
+
+        Optional<WebSocketMessage<?>> optionalMessage = Optional.empty();
+        if (sharedPayload != null) {
+            try {
+                optionalMessage = Optional.of(sharedPayload.encode(id, event, payload));
+            } catch (JsonProcessingException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+        return optionalMessage;
+    }
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws.dto.output;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.text.MessageFormat;
+
+import org.eclipse.sirius.web.spring.graphql.ws.dto.IOperationMessage;
+
+/**
+ * Message used to transfer a GraphQL operation result whose payload has already been serialized in JSON.
+ * <p>
+ * It is serialized exactly like a {@link DataMessage} but the payload is written as is.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EncodedDataMessage implements IOperationMessage {
+
+    private static final String DATA = "data"; //$NON-NLS-1$
+
+    private String id;
+
+    private String payload;
+
+    public EncodedDataMessage(String id, String payload) {
+        this.id = id;
+        this.payload = payload;
+    }
+
+    @Override
+    public String getType() {
+        return DATA;
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    @JsonRawValue
+    public String getPayload() {
+        return this.payload;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, type: {2}, payload: {3} characters'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.getType(), this.payload.length());
+    }
+}
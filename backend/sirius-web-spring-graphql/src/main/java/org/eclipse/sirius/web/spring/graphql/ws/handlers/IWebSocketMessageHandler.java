@@ -16,13 +16,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 
+import org.eclipse.sirius.web.spring.graphql.ws.OutboundWebSocketSession;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.IOperationMessage;
 import org.slf4j.Logger;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 /**
  * Common interface of all the message handlers.
+ * <p>
+ * Messages are sent in text messages in JSON or in binary messages if the given object mapper uses a binary format.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -30,16 +36,43 @@ public interface IWebSocketMessageHandler {
 
     default void send(ObjectMapper objectMapper, WebSocketSession session, IOperationMessage message, Logger logger) {
         try {
-            String responsePayload = objectMapper.writeValueAsString(message);
-            TextMessage textMessage = new TextMessage(responsePayload);
+            WebSocketMessage<?> webSocketMessage = null;
+            if (objectMapper.getFactory().canHandleBinaryNatively()) {
+                webSocketMessage = new BinaryMessage(objectMapper.writeValueAsBytes(message));
+            } else {
+                webSocketMessage = new TextMessage(objectMapper.writeValueAsString(message));
+            }
+            this.send(session, webSocketMessage, message, logger);
+        } catch (IOException exception) {
+            logger.error(exception.getMessage(), exception);
+        }
+    }
+
+    default void send(WebSocketSession session, WebSocketMessage<?> webSocketMessage, IOperationMessage message, Logger logger) {
+        try {
             synchronized (session) {
                 if (session.isOpen()) {
                     logger.debug("Message sent: {}", message); //$NON-NLS-1$
-                    session.sendMessage(textMessage);
+                    session.sendMessage(webSocketMessage);
                 }
             }
         } catch (IOException exception) {
             logger.error(exception.getMessage(), exception);
         }
     }
+
+    default void send(WebSocketSession session, WebSocketMessage<?> webSocketMessage, String coalescingKey, IOperationMessage message, Logger logger) {
+        if (session instanceof OutboundWebSocketSession) {
+            try {
+                if (session.isOpen()) {
+                    logger.debug("Message sent: {}", message); //$NON-NLS-1$
+                    ((OutboundWebSocketSession) session).sendMessage(webSocketMessage, coalescingKey);
+                }
+            } catch (IOException exception) {
+                logger.error(exception.getMessage(), exception);
+            }
+        } else {
+            this.send(session, webSocketMessage, message, logger);
+        }
+    }
 }
@@ -19,12 +19,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.sirius.web.spring.graphql.api.GraphQLConstants;
 import org.eclipse.sirius.web.spring.graphql.controllers.GraphQLPayload;
+import org.eclipse.sirius.web.spring.graphql.ws.OutboundWebSocketSession;
 import org.eclipse.sirius.web.spring.graphql.ws.SubscriptionEntry;
+import org.eclipse.sirius.web.spring.graphql.ws.SubscriptionPayloadEncoder;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.output.CompleteMessage;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.output.DataMessage;
@@ -32,6 +36,7 @@ import org.eclipse.sirius.web.spring.graphql.ws.dto.output.ErrorMessage;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import graphql.ExecutionInput;
@@ -58,6 +63,16 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
     /** Used to separate the session id from the operation id in the creation of the subscription id. */
     private static final String SEPARATOR = "#"; //$NON-NLS-1$
 
+    private static final String DATA = "data"; //$NON-NLS-1$
+
+    private static final String TYPENAME = "__typename"; //$NON-NLS-1$
+
+    /**
+     * The types of the events containing the whole new state of a representation, which makes any previous event of
+     * the same subscription useless. Events containing only the changes of a representation must never be replaced.
+     */
+    private static final Set<String> FULL_STATE_EVENT_PAYLOADS = Set.of("DiagramRefreshedEventPayload", "FormRefreshedEventPayload", "TreeRefreshedEventPayload"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
     private Logger logger = LoggerFactory.getLogger(StartMessageHandler.class);
 
     private final WebSocketSession session;
@@ -68,13 +83,17 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     private final Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries;
 
+    private final SubscriptionPayloadEncoder subscriptionPayloadEncoder;
+
     private final Timer graphQLRequestTimer;
 
-    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
+    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries,
+            SubscriptionPayloadEncoder subscriptionPayloadEncoder, MeterRegistry meterRegistry) {
         this.session = Objects.requireNonNull(session);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.sessions2entries = Objects.requireNonNull(sessions2entries);
+        this.subscriptionPayloadEncoder = Objects.requireNonNull(subscriptionPayloadEncoder);
 
         this.graphQLRequestTimer = Timer.builder(COUNTER_METRIC_NAME).register(meterRegistry);
     }
@@ -87,10 +106,13 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         Map<String, Object> variables = Optional.ofNullable(graphQLPayload.getVariables()).orElse(Map.of());
         String operationName = graphQLPayload.getOperationName();
 
+        AtomicReference<Object> subscriptionEvent = new AtomicReference<>();
+
         // @formatter:off
         GraphQLContext graphQLContext = GraphQLContext.newContext()
                 .of(GraphQLConstants.SUBSCRIPTION_ID, this.session.getId() + SEPARATOR + id)
                 .of(GraphQLConstants.PRINCIPAL, this.session.getPrincipal())
+                .of(GraphQLConstants.SUBSCRIPTION_EVENT, subscriptionEvent)
                 .build();
 
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
@@ -110,14 +132,15 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         if (executionResult.getData() instanceof Publisher<?>) {
             Publisher<ExecutionResult> publisher = executionResult.getData();
 
-            this.subscribe(id, publisher);
+            Optional<String> optionalQueryKey = this.subscriptionPayloadEncoder.acquire(this.objectMapper, operationName, query, variables);
+            this.subscribe(id, optionalQueryKey, subscriptionEvent, publisher);
         } else {
             this.send(this.objectMapper, this.session, new DataMessage(id, executionResult.toSpecification()), this.logger);
         }
     }
 
-    private void subscribe(String id, Publisher<ExecutionResult> publisher) {
-        Consumer<ExecutionResult> consumer = result -> this.send(this.objectMapper, this.session, new DataMessage(id, result.toSpecification()), this.logger);
+    private void subscribe(String id, Optional<String> optionalQueryKey, AtomicReference<Object> subscriptionEvent, Publisher<ExecutionResult> publisher) {
+        Consumer<ExecutionResult> consumer = result -> this.send(id, optionalQueryKey, subscriptionEvent.get(), result);
         Consumer<Throwable> onErrorConsumer = error -> {
             this.send(this.objectMapper, this.session, new ErrorMessage(id, null), this.logger);
         };
@@ -125,6 +148,7 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
         // @formatter:off
         Disposable subscription = Flux.from(publisher)
+                .doFinally(signalType -> optionalQueryKey.ifPresent(this.subscriptionPayloadEncoder::release))
                 .subscribe(consumer, onErrorConsumer, onCompleteConsumer);
         // @formatter:on
 
@@ -136,4 +160,41 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     }
 
+    private void send(String id, Optional<String> optionalQueryKey, Object event, ExecutionResult result) {
+        Map<String, Object> specification = result.toSpecification();
+        DataMessage dataMessage = new DataMessage(id, specification);
+
+        Optional<WebSocketMessage<?>> optionalMessage = optionalQueryKey.flatMap(queryKey -> this.subscriptionPayloadEncoder.encode(queryKey, id, event, specification));
+        if (optionalMessage.isPresent() && this.isFullStateEvent(specification)) {
+            // A refresh which has not been sent yet is useless once the next one is available
+            this.send(this.session, optionalMessage.get(), id, dataMessage, this.logger);
+        } else {
+            // The previous refreshes must be sent before this event since it may depend on them
+            if (this.session instanceof OutboundWebSocketSession) {
+                ((OutboundWebSocketSession) this.session).seal(id);
+            }
+            if (optionalMessage.isPresent()) {
+                this.send(this.session, optionalMessage.get(), dataMessage, this.logger);
+            } else {
+                this.send(this.objectMapper, this.session, dataMessage, this.logger);
+            }
+        }
+    }
+
+    private boolean isFullStateEvent(Map<String, Object> specification) {
+        // @formatter:off
+        return Optional.ofNullable(specification.get(DATA))
+                .filter(data -> data instanceof Map<?, ?>)
+                .map(data -> (Map<?, ?>) data)
+                .filter(data -> data.size() == 1)
+                .map(data -> data.values().iterator().next())
+                .filter(event -> event instanceof Map<?, ?>)
+                .map(event -> ((Map<?, ?>) event).get(TYPENAME))
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .filter(FULL_STATE_EVENT_PAYLOADS::contains)
+                .isPresent();
+        // @formatter:on
+    }
+
 }
@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.spring.graphql;
 import org.eclipse.sirius.web.spring.graphql.architecture.CodingRulesTestCases;
 import org.eclipse.sirius.web.spring.graphql.architecture.SpringCodingRulesTestCases;
 import org.eclipse.sirius.web.spring.graphql.controllers.GraphQLControllerTestCases;
+import org.eclipse.sirius.web.spring.graphql.ws.OutboundWebSocketSessionTestCases;
 import org.eclipse.sirius.web.spring.graphql.ws.WebSocketHandlerTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -26,7 +27,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author sbegaudeau
  */
 @RunWith(Suite.class)
-@SuiteClasses({ CodingRulesTestCases.class, SpringCodingRulesTestCases.class, GraphQLControllerTestCases.class, WebSocketHandlerTestCases.class })
+@SuiteClasses({ CodingRulesTestCases.class, SpringCodingRulesTestCases.class, GraphQLControllerTestCases.class, WebSocketHandlerTestCases.class, OutboundWebSocketSessionTestCases.class })
 public final class AllSiriusWebSpringGraphQLTests {
     private AllSiriusWebSpringGraphQLTests() {
         // Prevent instantiation
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the outbound message queue of the Web Socket sessions.
+ *
+ * @author sbegaudeau
+ */
+public class OutboundWebSocketSessionTestCases {
+
+    private static final String SUBSCRIPTION_ID = "subscriptionId"; //$NON-NLS-1$
+
+    private static final String DROPPED_METRIC_NAME = "siriusweb_graphql_ws_dropped"; //$NON-NLS-1$
+
+    private static final String REASON = "reason"; //$NON-NLS-1$
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final Executor executor = this.tasks::add;
+
+    @Test
+    public void testMessagesSentInOrder() throws IOException {
+        NoOpWebSocketSession delegate = new NoOpWebSocketSession();
+        OutboundWebSocketSession session = new OutboundWebSocketSession(delegate, this.executor, 10000, 1000, new OutboundMessageMetrics(new SimpleMeterRegistry()));
+
+        session.sendMessage(new TextMessage("first")); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("second")); //$NON-NLS-1$
+        assertThat(delegate.getMessages()).isEmpty();
+        assertThat(this.tasks).hasSize(1);
+
+        this.runTasks();
+        assertThat(this.getPayloads(delegate)).containsExactly("first", "second"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        session.sendMessage(new TextMessage("third")); //$NON-NLS-1$
+        this.runTasks();
+        assertThat(this.getPayloads(delegate)).containsExactly("first", "second", "third"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    @Test
+    public void testMessagesCoalesced() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NoOpWebSocketSession delegate = new NoOpWebSocketSession();
+        OutboundWebSocketSession session = new OutboundWebSocketSession(delegate, this.executor, 10000, 1000, new OutboundMessageMetrics(meterRegistry));
+
+        session.sendMessage(new TextMessage("refresh1"), SUBSCRIPTION_ID); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("ack")); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("refresh2"), SUBSCRIPTION_ID); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("other"), "otherSubscriptionId"); //$NON-NLS-1$ //$NON-NLS-2$
+        session.sendMessage(new TextMessage("refresh3"), SUBSCRIPTION_ID); //$NON-NLS-1$
+        this.runTasks();
+
+        assertThat(this.getPayloads(delegate)).containsExactly("refresh3", "ack", "other"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        assertThat(meterRegistry.get(DROPPED_METRIC_NAME).tag(REASON, "coalesced").counter().count()).isEqualTo(2.0); //$NON-NLS-1$
+        assertThat(meterRegistry.get("siriusweb_graphql_ws_queue").gauge().value()).isEqualTo(0.0); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testSealedMessagesNotCoalesced() throws IOException {
+        NoOpWebSocketSession delegate = new NoOpWebSocketSession();
+        OutboundWebSocketSession session = new OutboundWebSocketSession(delegate, this.executor, 10000, 1000, new OutboundMessageMetrics(new SimpleMeterRegistry()));
+
+        session.sendMessage(new TextMessage("refresh1"), SUBSCRIPTION_ID); //$NON-NLS-1$
+        session.seal(SUBSCRIPTION_ID);
+        session.sendMessage(new TextMessage("delta1")); //$NON-NLS-1$
+        session.seal(SUBSCRIPTION_ID);
+        session.sendMessage(new TextMessage("delta2")); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("refresh2"), SUBSCRIPTION_ID); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("refresh3"), SUBSCRIPTION_ID); //$NON-NLS-1$
+        this.runTasks();
+
+        assertThat(this.getPayloads(delegate)).containsExactly("refresh1", "delta1", "delta2", "refresh3"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    @Test
+    public void testBufferSizeLimitExceeded() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NoOpWebSocketSession delegate = new NoOpWebSocketSession();
+        OutboundWebSocketSession session = new OutboundWebSocketSession(delegate, this.executor, 10000, 10, new OutboundMessageMetrics(meterRegistry));
+
+        session.sendMessage(new TextMessage("12345")); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("123456")); //$NON-NLS-1$
+        session.sendMessage(new TextMessage("1")); //$NON-NLS-1$
+        this.runTasks();
+
+        assertThat(delegate.getMessages()).isEmpty();
+        assertThat(meterRegistry.get(DROPPED_METRIC_NAME).tag(REASON, "discarded").counter().count()).isEqualTo(3.0); //$NON-NLS-1$
+    }
+
+    private void runTasks() {
+        List<Runnable> runnables = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        runnables.forEach(Runnable::run);
+    }
+
+    private List<String> getPayloads(NoOpWebSocketSession session) {
+        // @formatter:off
+        return session.getMessages().stream()
+                .map(WebSocketMessage::getPayload)
+                .map(String.class::cast)
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
+}
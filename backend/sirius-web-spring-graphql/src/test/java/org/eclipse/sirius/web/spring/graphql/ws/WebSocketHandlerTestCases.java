@@ -15,12 +15,18 @@ package org.eclipse.sirius.web.spring.graphql.ws;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.spring.graphql.api.ISubscriptionTerminatedHandler;
 import org.eclipse.sirius.web.spring.graphql.controllers.GraphQLPayload;
@@ -31,6 +37,7 @@ import org.eclipse.sirius.web.spring.graphql.ws.handlers.ConnectionTerminateMess
 import org.eclipse.sirius.web.spring.graphql.ws.handlers.StartMessageHandler;
 import org.eclipse.sirius.web.spring.graphql.ws.handlers.StopMessageHandler;
 import org.junit.Test;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -45,6 +52,8 @@ import graphql.schema.GraphQLSchema;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
 
 /**
  * Unit tests of the various Web Socket handlers. The handlers should implement the behavior described in the
@@ -92,7 +101,7 @@ public class WebSocketHandlerTestCases {
         // @formatter:on
 
         StartMessage startMessage = new StartMessage("operationId", payload); //$NON-NLS-1$
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SubscriptionPayloadEncoder(objectMapper, new SimpleMeterRegistry()), new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(1);
         WebSocketMessage<?> webSocketMessage = session.getMessages().get(0);
@@ -144,7 +153,7 @@ public class WebSocketHandlerTestCases {
         assertThat(session.getMessages()).hasSize(0);
 
         StartMessage startMessage = new StartMessage("subscriptionOperationId", payload); //$NON-NLS-1$
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SubscriptionPayloadEncoder(objectMapper, new SimpleMeterRegistry()), new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(2);
 
@@ -159,6 +168,208 @@ public class WebSocketHandlerTestCases {
         assertThat(textMessage.getPayload()).isEqualTo("{\"id\":\"subscriptionOperationId\",\"type\":\"complete\"}"); //$NON-NLS-1$
     }
 
+    @Test
+    public void testStartMessageHandlerWithSharedSubscription() {
+        Many<String> sink = Sinks.many().multicast().directBestEffort();
+        // @formatter:off
+        DataFetcher<Flux<String>> dataFetcher = environment -> sink.asFlux();
+
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Subscription", "eventReceived"), dataFetcher) //$NON-NLS-1$ //$NON-NLS-2$
+                .build();
+
+        GraphQLObjectType queryType = GraphQLObjectType.newObject()
+                .name("Query") //$NON-NLS-1$
+                .field(newFieldDefinition()
+                        .name("field") //$NON-NLS-1$
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLObjectType subscriptionType = GraphQLObjectType.newObject()
+                .name("Subscription") //$NON-NLS-1$
+                .field(newFieldDefinition()
+                        .name("eventReceived") //$NON-NLS-1$
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryType)
+                .subscription(subscriptionType)
+                .codeRegistry(codeRegistry)
+                .build();
+        GraphQL graphQL = GraphQL.newGraphQL(graphQLSchema)
+                .build();
+
+        GraphQLPayload payload = GraphQLPayload.newGraphQLPayload()
+                .query("subscription { eventReceived }") //$NON-NLS-1$
+                .build();
+        // @formatter:on
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SubscriptionPayloadEncoder subscriptionPayloadEncoder = new SubscriptionPayloadEncoder(objectMapper, meterRegistry);
+        Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries = new HashMap<>();
+
+        NoOpWebSocketSession firstSession = new NoOpWebSocketSession();
+        NoOpWebSocketSession secondSession = new NoOpWebSocketSession();
+        NoOpWebSocketSession thirdSession = new NoOpWebSocketSession();
+        StartMessage startMessage = new StartMessage("subscriptionOperationId", payload); //$NON-NLS-1$
+        new StartMessageHandler(firstSession, graphQL, objectMapper, sessions2entries, subscriptionPayloadEncoder, meterRegistry).handle(startMessage);
+        new StartMessageHandler(secondSession, graphQL, objectMapper, sessions2entries, subscriptionPayloadEncoder, meterRegistry).handle(startMessage);
+        new StartMessageHandler(thirdSession, graphQL, objectMapper, sessions2entries, subscriptionPayloadEncoder, meterRegistry).handle(new StartMessage("otherOperationId", payload)); //$NON-NLS-1$
+
+        sink.tryEmitNext("OneEvent"); //$NON-NLS-1$
+
+        assertThat(firstSession.getMessages()).hasSize(1);
+        assertThat(secondSession.getMessages()).hasSize(1);
+        assertThat(thirdSession.getMessages()).hasSize(1);
+        assertThat(secondSession.getMessages().get(0)).isSameAs(firstSession.getMessages().get(0));
+
+        TextMessage textMessage = (TextMessage) thirdSession.getMessages().get(0);
+        assertThat(textMessage.getPayload()).isEqualTo("{\"id\":\"otherOperationId\",\"payload\":{\"data\":{\"eventReceived\":\"OneEvent\"}},\"type\":\"data\"}"); //$NON-NLS-1$
+
+        assertThat(meterRegistry.get("siriusweb_graphql_ws_payloads").tag("outcome", "encoded").counter().count()).isEqualTo(1.0); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        sink.tryEmitComplete();
+
+        assertThat(firstSession.getMessages()).hasSize(2);
+        assertThat(secondSession.getMessages()).hasSize(2);
+        assertThat(thirdSession.getMessages()).hasSize(2);
+    }
+
+    @Test
+    public void testStartMessageHandlerWithCborSubscription() throws IOException {
+        Many<String> sink = Sinks.many().multicast().directBestEffort();
+        // @formatter:off
+        DataFetcher<Flux<String>> dataFetcher = environment -> sink.asFlux();
+
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Subscription", "eventReceived"), dataFetcher) //$NON-NLS-1$ //$NON-NLS-2$
+                .build();
+
+        GraphQLObjectType queryType = GraphQLObjectType.newObject()
+                .name("Query") //$NON-NLS-1$
+                .field(newFieldDefinition()
+                        .name("field") //$NON-NLS-1$
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLObjectType subscriptionType = GraphQLObjectType.newObject()
+                .name("Subscription") //$NON-NLS-1$
+                .field(newFieldDefinition()
+                        .name("eventReceived") //$NON-NLS-1$
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryType)
+                .subscription(subscriptionType)
+                .codeRegistry(codeRegistry)
+                .build();
+        GraphQL graphQL = GraphQL.newGraphQL(graphQLSchema)
+                .build();
+
+        GraphQLPayload payload = GraphQLPayload.newGraphQLPayload()
+                .query("subscription { eventReceived }") //$NON-NLS-1$
+                .build();
+        // @formatter:on
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectMapper cborObjectMapper = new ObjectMapper(new CBORFactory());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SubscriptionPayloadEncoder subscriptionPayloadEncoder = new SubscriptionPayloadEncoder(objectMapper, meterRegistry);
+        Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries = new HashMap<>();
+
+        NoOpWebSocketSession jsonSession = new NoOpWebSocketSession();
+        NoOpWebSocketSession cborSession = new NoOpWebSocketSession();
+        StartMessage startMessage = new StartMessage("subscriptionOperationIdWithALongName", payload); //$NON-NLS-1$
+        new StartMessageHandler(jsonSession, graphQL, objectMapper, sessions2entries, subscriptionPayloadEncoder, meterRegistry).handle(startMessage);
+        new StartMessageHandler(cborSession, graphQL, cborObjectMapper, sessions2entries, subscriptionPayloadEncoder, meterRegistry).handle(startMessage);
+
+        sink.tryEmitNext("OneEvent"); //$NON-NLS-1$
+        sink.tryEmitComplete();
+
+        assertThat(jsonSession.getMessages()).hasSize(2);
+        assertThat(cborSession.getMessages()).hasSize(2);
+        assertThat(jsonSession.getMessages().get(0)).isInstanceOf(TextMessage.class);
+        assertThat(cborSession.getMessages()).allMatch(BinaryMessage.class::isInstance);
+
+        TextMessage textMessage = (TextMessage) jsonSession.getMessages().get(0);
+        BinaryMessage binaryMessage = (BinaryMessage) cborSession.getMessages().get(0);
+        JsonNode cborDataMessage = cborObjectMapper.readTree(new ByteBufferBackedInputStream(binaryMessage.getPayload()));
+        assertThat(cborDataMessage).isEqualTo(objectMapper.readTree(textMessage.getPayload()));
+
+        binaryMessage = (BinaryMessage) cborSession.getMessages().get(1);
+        JsonNode cborCompleteMessage = cborObjectMapper.readTree(new ByteBufferBackedInputStream(binaryMessage.getPayload()));
+        assertThat(cborCompleteMessage.get("type").asText()).isEqualTo("complete"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Queues two deltas of a form, each one for a different widget, before the session starts sending them and checks
+     * that none of them is coalesced away.
+     */
+    @Test
+    public void testStartMessageHandlerDoesNotCoalesceDeltas() {
+        // @formatter:off
+        DataFetcher<Flux<Map<String, String>>> dataFetcher = environment -> Flux.just(Map.of("widgetId", "firstWidget"), Map.of("widgetId", "secondWidget")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Subscription", "formEvent"), dataFetcher) //$NON-NLS-1$ //$NON-NLS-2$
+                .build();
+
+        GraphQLObjectType queryType = GraphQLObjectType.newObject()
+                .name("Query") //$NON-NLS-1$
+                .field(newFieldDefinition()
+                        .name("field") //$NON-NLS-1$
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLObjectType widgetsRefreshedEventPayloadType = GraphQLObjectType.newObject()
+                .name("FormWidgetsRefreshedEventPayload") //$NON-NLS-1$
+                .field(newFieldDefinition()
+                        .name("widgetId") //$NON-NLS-1$
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLObjectType subscriptionType = GraphQLObjectType.newObject()
+                .name("Subscription") //$NON-NLS-1$
+                .field(newFieldDefinition()
+                        .name("formEvent") //$NON-NLS-1$
+                        .type(widgetsRefreshedEventPayloadType))
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryType)
+                .subscription(subscriptionType)
+                .codeRegistry(codeRegistry)
+                .build();
+        GraphQL graphQL = GraphQL.newGraphQL(graphQLSchema)
+                .build();
+
+        GraphQLPayload payload = GraphQLPayload.newGraphQLPayload()
+                .query("subscription { formEvent { __typename widgetId } }") //$NON-NLS-1$
+                .build();
+        // @formatter:on
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries = new HashMap<>();
+
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+        NoOpWebSocketSession delegate = new NoOpWebSocketSession();
+        OutboundWebSocketSession session = new OutboundWebSocketSession(delegate, executor, 10000, 100000, new OutboundMessageMetrics(meterRegistry));
+
+        StartMessage startMessage = new StartMessage("formOperationId", payload); //$NON-NLS-1$
+        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SubscriptionPayloadEncoder(objectMapper, meterRegistry), meterRegistry).handle(startMessage);
+
+        assertThat(delegate.getMessages()).isEmpty();
+        tasks.forEach(Runnable::run);
+
+        // @formatter:off
+        List<String> messages = delegate.getMessages().stream()
+                .map(WebSocketMessage::getPayload)
+                .map(String.class::cast)
+                .collect(Collectors.toList());
+        // @formatter:on
+        assertThat(messages).hasSize(3);
+        assertThat(messages.get(0)).contains("firstWidget"); //$NON-NLS-1$
+        assertThat(messages.get(1)).contains("secondWidget"); //$NON-NLS-1$
+    }
+
     @Test
     public void testStopMessageHandler() {
         NoOpWebSocketSession session = new NoOpWebSocketSession();
@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.tests.architecture;
 import static com.tngtech.archunit.core.domain.JavaModifier.FINAL;
 import static com.tngtech.archunit.core.domain.JavaModifier.PUBLIC;
 import static com.tngtech.archunit.core.domain.JavaModifier.STATIC;
+import static com.tngtech.archunit.core.domain.JavaModifier.TRANSIENT;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -55,9 +56,11 @@ public class HaveAValidBuilderCondition extends ArchCondition<JavaClass> {
         boolean isValidBuilder = builderJavaClass.getModifiers().contains(FINAL);
         isValidBuilder = isValidBuilder && builderJavaClass.getModifiers().contains(PUBLIC);
 
+        // The transient fields hold values derived lazily from the other ones, they are not built
         // @formatter:off
         List<JavaField> javaFields = javaClass.getAllFields().stream()
                 .filter(field -> !field.getModifiers().contains(STATIC))
+                .filter(field -> !field.getModifiers().contains(TRANSIENT))
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
 
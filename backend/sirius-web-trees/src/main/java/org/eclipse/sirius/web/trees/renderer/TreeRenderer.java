@@ -13,8 +13,14 @@
 package org.eclipse.sirius.web.trees.renderer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.representations.VariableManager;
@@ -35,9 +41,16 @@ public class TreeRenderer {
 
     private TreeDescription treeDescription;
 
+    private TreeRenderingCache cache;
+
     public TreeRenderer(VariableManager variableManager, TreeDescription treeDescription) {
+        this(variableManager, treeDescription, new TreeRenderingCache());
+    }
+
+    public TreeRenderer(VariableManager variableManager, TreeDescription treeDescription, TreeRenderingCache cache) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.treeDescription = Objects.requireNonNull(treeDescription);
+        this.cache = Objects.requireNonNull(cache);
     }
 
     public Tree render() {
@@ -60,23 +73,158 @@ public class TreeRenderer {
         // @formatter:on
     }
 
+    /**
+     * Renders the tree again by rendering only the tree items which have been invalidated.
+     *
+     * <p>
+     * The other tree items of the previous version of the tree are reused as is, with their variable manager kept in the
+     * cache of the previous rendering. The root elements are always computed again. An invalidated tree item is
+     * rendered again with the variables of this renderer, the expanded tree items for example, and only its new
+     * children are rendered, the children which were already there are reused unless they have been invalidated too.
+     * The content of a tree item is thus expected to depend only on its own element.
+     * </p>
+     *
+     * @param previousTree
+     *            The previous version of the tree
+     * @param previousCache
+     *            The cache filled during the rendering of the previous version of the tree
+     * @param invalidatedTreeItemIds
+     *            The ids of the tree items to render again
+     * @return The new version of the tree
+     */
+    public Tree render(Tree previousTree, TreeRenderingCache previousCache, Set<String> invalidatedTreeItemIds) {
+        String label = this.treeDescription.getLabelProvider().apply(this.variableManager);
+
+        List<Object> rootElements = this.treeDescription.getElementsProvider().apply(this.variableManager);
+        List<TreeItem> childrenItems = this.renderChildren(this.variableManager, rootElements, previousTree.getChildren(), previousCache, invalidatedTreeItemIds);
+
+        // @formatter:off
+        return Tree.newTree(previousTree.getId())
+                .label(label)
+                .children(childrenItems)
+                .build();
+        // @formatter:on
+    }
+
+    private List<TreeItem> renderChildren(VariableManager parentVariableManager, List<Object> children, List<TreeItem> previousChildren, TreeRenderingCache previousCache,
+            Set<String> invalidatedTreeItemIds) {
+        Map<String, TreeItem> previousChildrenById = new HashMap<>();
+        previousChildren.forEach(previousChild -> previousChildrenById.put(previousChild.getId(), previousChild));
+
+        List<TreeItem> childrenItems = new ArrayList<>();
+        for (Object child : children) {
+            VariableManager childVariableManager = parentVariableManager.createChild();
+            childVariableManager.put(VariableManager.SELF, child);
+
+            String childId = this.treeDescription.getTreeItemIdProvider().apply(childVariableManager);
+            Optional<TreeItem> optionalPreviousChild = Optional.ofNullable(previousChildrenById.get(childId));
+            Optional<VariableManager> optionalPreviousVariableManager = previousCache.getVariableManager(childId);
+            if (optionalPreviousChild.isPresent() && optionalPreviousVariableManager.isPresent()) {
+                childrenItems.add(this.renderTreeItem(optionalPreviousChild.get(), optionalPreviousVariableManager.get(), previousCache, invalidatedTreeItemIds));
+            } else {
+                childrenItems.add(this.renderTreeItem(childVariableManager));
+            }
+        }
+        return childrenItems;
+    }
+
+    /**
+     * Renders again the given tree item if it has been invalidated, or reuses it if neither it nor its children have
+     * been invalidated.
+     */
+    private TreeItem renderTreeItem(TreeItem previousTreeItem, VariableManager previousVariableManager, TreeRenderingCache previousCache, Set<String> invalidatedTreeItemIds) {
+        // The variable manager of the previous rendering is kept to avoid stacking variable managers refresh after refresh
+        this.cache.put(previousTreeItem.getId(), previousVariableManager);
+
+        TreeItem treeItem = previousTreeItem;
+        if (invalidatedTreeItemIds.contains(previousTreeItem.getId())) {
+            VariableManager treeItemVariableManager = previousVariableManager.createChild();
+            for (Entry<String, Object> entry : this.variableManager.getVariables().entrySet()) {
+                treeItemVariableManager.put(entry.getKey(), entry.getValue());
+            }
+
+            List<Object> children = this.treeDescription.getChildrenProvider().apply(treeItemVariableManager);
+            List<TreeItem> childrenItems = this.renderChildren(treeItemVariableManager, children, previousTreeItem.getChildren(), previousCache, invalidatedTreeItemIds);
+            treeItem = this.createTreeItem(previousTreeItem.getId(), treeItemVariableManager, childrenItems);
+        } else {
+            List<TreeItem> childrenItems = new ArrayList<>();
+            boolean hasChanged = false;
+            for (TreeItem previousChild : previousTreeItem.getChildren()) {
+                // @formatter:off
+                TreeItem childItem = previousCache.getVariableManager(previousChild.getId())
+                        .map(previousChildVariableManager -> this.renderTreeItem(previousChild, previousChildVariableManager, previousCache, invalidatedTreeItemIds))
+                        .orElse(previousChild);
+                // @formatter:on
+                childrenItems.add(childItem);
+                hasChanged = hasChanged || childItem != previousChild;
+            }
+            if (hasChanged) {
+                // @formatter:off
+                treeItem = TreeItem.newTreeItem(previousTreeItem.getId())
+                        .kind(previousTreeItem.getKind())
+                        .label(previousTreeItem.getLabel())
+                        .editable(previousTreeItem.isEditable())
+                        .imageURL(previousTreeItem.getImageURL())
+                        .children(childrenItems)
+                        .hasChildren(previousTreeItem.isHasChildren())
+                        .expanded(previousTreeItem.isExpanded())
+                        .build();
+                // @formatter:on
+            }
+        }
+        return treeItem;
+    }
+
+    /**
+     * Renders the children of the element of the variable manager, without rendering the rest of the tree.
+     *
+     * @param after
+     *            The id of the tree item after which the children should be rendered, or <code>null</code> to start
+     *            with the first child
+     * @param count
+     *            The maximum number of children to render
+     * @return The tree items of the children rendered
+     */
+    public List<TreeItem> renderChildren(String after, int count) {
+        List<TreeItem> childrenTreeItems = new ArrayList<>();
+
+        List<Object> children = this.treeDescription.getChildrenProvider().apply(this.variableManager);
+        boolean isAfterFound = after == null;
+        Iterator<Object> iterator = children.iterator();
+        while (iterator.hasNext() && childrenTreeItems.size() < count) {
+            VariableManager childVariableManager = this.variableManager.createChild();
+            childVariableManager.put(VariableManager.SELF, iterator.next());
+            if (isAfterFound) {
+                childrenTreeItems.add(this.renderTreeItem(childVariableManager));
+            } else {
+                isAfterFound = after.equals(this.treeDescription.getTreeItemIdProvider().apply(childVariableManager));
+            }
+        }
+        return childrenTreeItems;
+    }
+
     private TreeItem renderTreeItem(VariableManager treeItemVariableManager) {
         List<TreeItem> childrenTreeItems = new ArrayList<>();
 
         String id = this.treeDescription.getTreeItemIdProvider().apply(treeItemVariableManager);
-        String kind = this.treeDescription.getKindProvider().apply(treeItemVariableManager);
-        String label = this.treeDescription.getLabelProvider().apply(treeItemVariableManager);
-        boolean editable = this.treeDescription.getEditableProvider().apply(treeItemVariableManager);
-        String imageURL = this.treeDescription.getImageURLProvider().apply(treeItemVariableManager);
-        Boolean hasChildren = this.treeDescription.getHasChildrenProvider().apply(treeItemVariableManager);
+        this.cache.put(id, treeItemVariableManager);
 
         List<Object> children = this.treeDescription.getChildrenProvider().apply(treeItemVariableManager);
-        boolean expanded = !children.isEmpty();
         for (Object child : children) {
             VariableManager childVariableManager = treeItemVariableManager.createChild();
             childVariableManager.put(VariableManager.SELF, child);
             childrenTreeItems.add(this.renderTreeItem(childVariableManager));
         }
+        return this.createTreeItem(id, treeItemVariableManager, childrenTreeItems);
+    }
+
+    private TreeItem createTreeItem(String id, VariableManager treeItemVariableManager, List<TreeItem> childrenTreeItems) {
+        String kind = this.treeDescription.getKindProvider().apply(treeItemVariableManager);
+        String label = this.treeDescription.getLabelProvider().apply(treeItemVariableManager);
+        boolean editable = this.treeDescription.getEditableProvider().apply(treeItemVariableManager);
+        String imageURL = this.treeDescription.getImageURLProvider().apply(treeItemVariableManager);
+        Boolean hasChildren = this.treeDescription.getHasChildrenProvider().apply(treeItemVariableManager);
+        boolean expanded = !childrenTreeItems.isEmpty();
 
         // @formatter:off
         return TreeItem.newTreeItem(id)
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.trees.renderer;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.web.representations.VariableManager;
+
+/**
+ * Cache used during the rendering of a tree.
+ * <p>
+ * It keeps the variable manager of each tree item rendered in order to render the children of a tree item later on,
+ * without rendering the whole tree again.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class TreeRenderingCache {
+
+    private final Map<String, VariableManager> treeItemIdToVariableManager = new ConcurrentHashMap<>();
+
+    public void put(String treeItemId, VariableManager treeItemVariableManager) {
+        this.treeItemIdToVariableManager.put(treeItemId, treeItemVariableManager);
+    }
+
+    public Optional<VariableManager> getVariableManager(String treeItemId) {
+        return Optional.ofNullable(this.treeItemIdToVariableManager.get(treeItemId));
+    }
+
+    /**
+     * Returns the ids of the tree items rendered for the given elements.
+     *
+     * @param elements
+     *            The elements
+     * @return The ids of the tree items whose variable {@link VariableManager#SELF} is one of the elements
+     */
+    public Set<String> getTreeItemIds(Set<Object> elements) {
+        Set<String> treeItemIds = new HashSet<>();
+        this.treeItemIdToVariableManager.forEach((treeItemId, treeItemVariableManager) -> {
+            if (treeItemVariableManager.get(VariableManager.SELF, Object.class).filter(elements::contains).isPresent()) {
+                treeItemIds.add(treeItemId);
+            }
+        });
+        return treeItemIds;
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.trees;
 
 import org.eclipse.sirius.web.trees.architecture.CodingRulesTestCases;
 import org.eclipse.sirius.web.trees.architecture.ImmutableTestCases;
+import org.eclipse.sirius.web.trees.renderer.TreeRendererTestCases;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -24,7 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * @author sbegaudeau
  */
 @RunWith(Suite.class)
-@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class })
+@SuiteClasses({ CodingRulesTestCases.class, ImmutableTestCases.class, TreeRendererTestCases.class })
 public final class AllSiriusWebTreesTests {
     private AllSiriusWebTreesTests() {
         // Prevent instantiation
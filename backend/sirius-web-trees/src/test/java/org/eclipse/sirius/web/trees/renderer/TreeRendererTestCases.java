@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2019, 2020 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.trees.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.eclipse.sirius.web.trees.Tree;
+import org.eclipse.sirius.web.trees.TreeItem;
+import org.eclipse.sirius.web.trees.description.TreeDescription;
+import org.junit.Test;
+
+/**
+ * Test cases for the rendering of the children of a tree item.
+ *
+ * @author hmarchadour
+ */
+public class TreeRendererTestCases {
+
+    private static final int CHILDREN_COUNT = 10;
+
+    private static final String ROOT = "root"; //$NON-NLS-1$
+
+    private static final String SEPARATOR = "_"; //$NON-NLS-1$
+
+    /**
+     * Renders a tree without any expanded item and then renders some pages of the children of its root item.
+     */
+    @Test
+    public void testRenderChildrenOfCollapsedTreeItem() {
+        TreeDescription treeDescription = this.getTreeDescription();
+        TreeRenderingCache cache = new TreeRenderingCache();
+
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(TreeRenderer.EXPANDED, Set.of());
+        Tree tree = new TreeRenderer(variableManager, treeDescription, cache).render();
+
+        assertThat(tree.getChildren()).hasSize(1);
+        TreeItem rootItem = tree.getChildren().get(0);
+        assertThat(rootItem.isExpanded()).isFalse();
+        assertThat(rootItem.getChildren()).isEmpty();
+        assertThat(cache.getVariableManager(ROOT)).isPresent();
+
+        VariableManager childrenVariableManager = cache.getVariableManager(ROOT).get().createChild();
+        childrenVariableManager.put(TreeRenderer.EXPANDED, Set.of(ROOT));
+        TreeRenderer treeRenderer = new TreeRenderer(childrenVariableManager, treeDescription, cache);
+
+        List<TreeItem> firstPage = treeRenderer.renderChildren(null, 4);
+        assertThat(firstPage.stream().map(TreeItem::getId).collect(Collectors.toList())).isEqualTo(List.of(this.getChildId(0), this.getChildId(1), this.getChildId(2), this.getChildId(3)));
+
+        List<TreeItem> lastPage = treeRenderer.renderChildren(this.getChildId(7), 4);
+        assertThat(lastPage.stream().map(TreeItem::getId).collect(Collectors.toList())).isEqualTo(List.of(this.getChildId(8), this.getChildId(9)));
+        assertThat(cache.getVariableManager(this.getChildId(9))).isPresent();
+    }
+
+    /**
+     * Renders a tree with its root item expanded and then renders again only one of its children and, after that, only
+     * its root item collapsed.
+     */
+    @Test
+    public void testRenderInvalidatedTreeItems() {
+        TreeDescription treeDescription = this.getTreeDescription();
+        TreeRenderingCache previousCache = new TreeRenderingCache();
+
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(TreeRenderer.EXPANDED, Set.of(ROOT));
+        Tree previousTree = new TreeRenderer(variableManager, treeDescription, previousCache).render();
+
+        TreeRenderingCache cache = new TreeRenderingCache();
+        Tree tree = new TreeRenderer(variableManager, treeDescription, cache).render(previousTree, previousCache, Set.of(this.getChildId(3)));
+
+        TreeItem previousRootItem = previousTree.getChildren().get(0);
+        TreeItem rootItem = tree.getChildren().get(0);
+        assertThat(rootItem).isNotSameAs(previousRootItem);
+        assertThat(rootItem.getChildren()).hasSize(CHILDREN_COUNT);
+        assertThat(rootItem.getChildren().get(0)).isSameAs(previousRootItem.getChildren().get(0));
+        assertThat(rootItem.getChildren().get(3)).isNotSameAs(previousRootItem.getChildren().get(3));
+        assertThat(rootItem.getChildren().get(3).getId()).isEqualTo(this.getChildId(3));
+        assertThat(cache.getVariableManager(this.getChildId(9))).isPresent();
+
+        VariableManager collapsedVariableManager = new VariableManager();
+        collapsedVariableManager.put(TreeRenderer.EXPANDED, Set.of());
+        Tree collapsedTree = new TreeRenderer(collapsedVariableManager, treeDescription, new TreeRenderingCache()).render(tree, cache, Set.of(ROOT));
+        assertThat(collapsedTree.getChildren().get(0).isExpanded()).isFalse();
+        assertThat(collapsedTree.getChildren().get(0).getChildren()).isEmpty();
+    }
+
+    private String getChildId(int index) {
+        return ROOT + SEPARATOR + index;
+    }
+
+    private TreeDescription getTreeDescription() {
+        // @formatter:off
+        return TreeDescription.newTreeDescription(UUID.randomUUID())
+                .label("Tree") //$NON-NLS-1$
+                .idProvider(variableManager -> UUID.randomUUID())
+                .treeItemIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .kindProvider(variableManager -> "kind") //$NON-NLS-1$
+                .labelProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse("")) //$NON-NLS-1$
+                .editableProvider(variableManager -> false)
+                .imageURLProvider(variableManager -> "") //$NON-NLS-1$
+                .elementsProvider(variableManager -> List.of(ROOT))
+                .hasChildrenProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).filter(ROOT::equals).isPresent())
+                .childrenProvider(variableManager -> {
+                    String self = variableManager.get(VariableManager.SELF, String.class).orElse(""); //$NON-NLS-1$
+                    Collection<?> expanded = variableManager.get(TreeRenderer.EXPANDED, Collection.class).orElse(List.of());
+                    List<Object> children = List.of();
+                    if (expanded.contains(self)) {
+                        children = IntStream.range(0, CHILDREN_COUNT).<Object> mapToObj(index -> self + SEPARATOR + index).collect(Collectors.toList());
+                    }
+                    return children;
+                })
+                .build();
+        // @formatter:on
+    }
+}
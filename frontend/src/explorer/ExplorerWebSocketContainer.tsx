@@ -11,6 +11,7 @@
  *     Obeo - initial API and implementation
  *******************************************************************************/
 import { GraphQLClient } from 'common/GraphQLClient';
+import { useLazyQuery, useMutation } from 'common/GraphQLHooks';
 import { M, Spacing } from 'core/spacing/Spacing';
 import { Text } from 'core/text/Text';
 import {
@@ -19,17 +20,62 @@ import {
   HANDLE_COMPLETE__ACTION,
   HANDLE_CONNECTION_ERROR__ACTION,
   HANDLE_DATA__ACTION,
+  HANDLE_COLLAPSED__ACTION,
   HANDLE_ERROR__ACTION,
-  HANDLE_EXPANDED__ACTION,
+  HANDLE_TREE_ITEM_CHILDREN__ACTION,
   LOADING__STATE,
 } from 'explorer/machine';
+import gql from 'graphql-tag';
 import { useProject } from 'project/ProjectProvider';
 import PropTypes from 'prop-types';
-import React, { useContext, useEffect, useReducer } from 'react';
+import React, { useContext, useEffect, useReducer, useState } from 'react';
 import { Explorer } from './Explorer';
 import styles from './ExplorerWebSocketContainer.module.css';
 import { getTreeEventSubscription } from './getTreeEventSubscription';
-import { initialState, reducer } from './reducer';
+import { getExpandedTreeItemIds, initialState, reducer } from './reducer';
+
+const getTreeItemChildrenQuery = gql`
+  query getTreeItemChildren($projectId: ID!, $representationId: ID!, $treeItemId: ID!, $first: Int, $after: String) {
+    viewer {
+      treeItemChildren(
+        projectId: $projectId
+        representationId: $representationId
+        treeItemId: $treeItemId
+        first: $first
+        after: $after
+      ) {
+        edges {
+          node {
+            id
+            hasChildren
+            expanded
+            label
+            editable
+            kind
+            imageURL
+          }
+        }
+        pageInfo {
+          hasNextPage
+          endCursor
+        }
+      }
+    }
+  }
+`.loc.source.body;
+
+const collapseTreeItemsMutation = gql`
+  mutation collapseTreeItems($input: CollapseTreeItemsInput!) {
+    collapseTreeItems(input: $input) {
+      __typename
+      ... on ErrorPayload {
+        message
+      }
+    }
+  }
+`.loc.source.body;
+
+const PAGE_SIZE = 50;
 
 const propTypes = {
   selection: PropTypes.object,
@@ -39,7 +85,7 @@ const propTypes = {
 
 export const ExplorerWebSocketContainer = ({ selection, displayedRepresentation, setSelection }) => {
   const [state, dispatch] = useReducer(reducer, initialState);
-  const { viewState, tree, expanded, maxDepth, message } = state;
+  const { viewState, tree, expanded, subscribedExpanded, maxDepth, message } = state;
 
   const { graphQLWebSocketClient } = useContext(GraphQLClient);
   const { id } = useProject() as any;
@@ -67,7 +113,7 @@ export const ExplorerWebSocketContainer = ({ selection, displayedRepresentation,
       const variables = {
         input: {
           projectId: id,
-          expanded,
+          expanded: subscribedExpanded,
         },
       };
       const subscription = getTreeEventSubscription(maxDepth);
@@ -88,10 +134,67 @@ export const ExplorerWebSocketContainer = ({ selection, displayedRepresentation,
     const operationId = graphQLWebSocketClient.generateOperationId();
     subscribe(operationId);
     return () => unsubscribe(operationId);
-  }, [id, viewState, expanded, maxDepth, graphQLWebSocketClient]);
+  }, [id, viewState, subscribedExpanded, maxDepth, graphQLWebSocketClient]);
+
+  // The children of the tree item being expanded are retrieved page by page, one tree item at a time
+  const [expanding, setExpanding] = useState(null);
+  const treeId = tree?.id;
+  const expandingTreeItemId = expanding?.treeItemId;
+  const expandingAfter = expanding?.after;
+  const [getTreeItemChildren, { loading, data, error }] = useLazyQuery(
+    getTreeItemChildrenQuery,
+    {},
+    'getTreeItemChildren'
+  );
+  useEffect(() => {
+    if (expandingTreeItemId) {
+      getTreeItemChildren({
+        projectId: id,
+        representationId: treeId,
+        treeItemId: expandingTreeItemId,
+        first: PAGE_SIZE,
+        after: expandingAfter,
+      });
+    }
+  }, [getTreeItemChildren, id, treeId, expandingTreeItemId, expandingAfter]);
+
+  useEffect(() => {
+    if (!loading && data?.data?.viewer?.treeItemChildren) {
+      const { edges, pageInfo } = data.data.viewer.treeItemChildren;
+      const pageChildren = edges.map((edge) => ({ ...edge.node, expanded: false, children: [] }));
+      setExpanding((prevExpanding) => {
+        if (!prevExpanding) {
+          return prevExpanding;
+        }
+        const children = prevExpanding.children.concat(pageChildren);
+        if (pageInfo.hasNextPage) {
+          return { ...prevExpanding, after: pageInfo.endCursor, children };
+        }
+        return { ...prevExpanding, children, complete: true };
+      });
+    } else if (!loading && error) {
+      setExpanding(null);
+    }
+  }, [loading, data, error]);
+
+  useEffect(() => {
+    if (expanding?.complete) {
+      const { treeItemId, depth, children } = expanding;
+      dispatch({ type: HANDLE_TREE_ITEM_CHILDREN__ACTION, id: treeItemId, depth, children });
+      setExpanding(null);
+    }
+  }, [expanding]);
 
-  const onExpand = (id, depth) => {
-    dispatch({ type: HANDLE_EXPANDED__ACTION, id, depth });
+  const [collapseTreeItems] = useMutation(collapseTreeItemsMutation, {}, 'collapseTreeItems');
+  const onExpand = (treeItemId, depth) => {
+    if (expanded.includes(treeItemId)) {
+      // The descendants expanded by this client are collapsed too in order to let the server stop rendering them
+      const treeItemIds = getExpandedTreeItemIds(tree, treeItemId, expanded);
+      dispatch({ type: HANDLE_COLLAPSED__ACTION, treeItemIds });
+      collapseTreeItems({ input: { projectId: id, representationId: tree.id, treeItemIds } });
+    } else if (!expanding) {
+      setExpanding({ treeItemId, depth: Number(depth), after: null, children: [], complete: false });
+    }
   };
 
   if (viewState === LOADING__STATE) {
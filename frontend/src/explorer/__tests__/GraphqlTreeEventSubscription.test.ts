@@ -35,6 +35,15 @@ const getDocumentSubscription = gql`
           }
         }
       }
+      ... on TreeItemsRefreshedEventPayload {
+        treeId
+        treeItems {
+          ...treeItemFields
+          children {
+            id
+          }
+        }
+      }
     }
   }
 
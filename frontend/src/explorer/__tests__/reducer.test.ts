@@ -10,7 +10,7 @@
  * Contributors:
  *     Obeo - initial API and implementation
  *******************************************************************************/
-import { initialState, reducer } from '../reducer';
+import { getExpandedTreeItemIds, initialState, reducer } from '../reducer';
 import {
   LOADING__STATE,
   TREE_LOADED__STATE,
@@ -20,6 +20,8 @@ import {
   HANDLE_CONNECTION_ERROR__ACTION,
   HANDLE_ERROR__ACTION,
   HANDLE_COMPLETE__ACTION,
+  HANDLE_TREE_ITEM_CHILDREN__ACTION,
+  HANDLE_COLLAPSED__ACTION,
 } from '../machine';
 
 const treeLoadedState = {
@@ -30,6 +32,7 @@ const treeLoadedState = {
     children: [],
   },
   expanded: [],
+  subscribedExpanded: [],
   maxDepth: 1,
   message: '',
 };
@@ -42,6 +45,7 @@ const treeLoadedWithErrorState = {
     children: [],
   },
   expanded: [],
+  subscribedExpanded: [],
   maxDepth: 1,
   message: 'An error has occured while retrieving the content from the server',
 };
@@ -73,12 +77,48 @@ const treeRefreshEventPayloadMessage = {
   },
 };
 
+const treeItem = (id, label, children) => {
+  return { id, label, kind: 'kind', imageURL: '', editable: true, hasChildren: children.length > 0, expanded: children.length > 0, children };
+};
+
+const treeWithItemsLoadedState = {
+  viewState: TREE_LOADED__STATE,
+  tree: {
+    id: 'tree',
+    label: 'Project',
+    children: [treeItem('document', 'Document', [treeItem('first', 'First', []), treeItem('second', 'Second', [])])],
+  },
+  expanded: ['document'],
+  subscribedExpanded: [],
+  maxDepth: 1,
+  message: '',
+  modal: undefined,
+};
+
+const treeItemsRefreshedEventPayloadMessage = {
+  type: 'data',
+  id: '43',
+  payload: {
+    data: {
+      treeEvent: {
+        __typename: 'TreeItemsRefreshedEventPayload',
+        treeId: 'tree',
+        treeItems: [
+          treeItem('document', 'Document', [{ id: 'second' }, { id: 'third' }]),
+          treeItem('third', 'Third', []),
+        ],
+      },
+    },
+  },
+};
+
 describe('ExplorerWebSocketContainer - reducer', () => {
   it('has a proper initial state', () => {
     expect(initialState).toStrictEqual({
       viewState: LOADING__STATE,
       tree: undefined,
       expanded: [],
+      subscribedExpanded: [],
       maxDepth: 1,
       message: '',
       modal: undefined,
@@ -97,6 +137,7 @@ describe('ExplorerWebSocketContainer - reducer', () => {
       viewState: ERROR__STATE,
       tree: undefined,
       expanded: [],
+      subscribedExpanded: [],
       maxDepth: 1,
       message: 'An error has occured while retrieving the content from the server',
       modal: undefined,
@@ -113,6 +154,7 @@ describe('ExplorerWebSocketContainer - reducer', () => {
       viewState: ERROR__STATE,
       tree: undefined,
       expanded: [],
+      subscribedExpanded: [],
       maxDepth: 1,
       message: message.payload,
       modal: undefined,
@@ -129,6 +171,7 @@ describe('ExplorerWebSocketContainer - reducer', () => {
       viewState: TREE_LOADED__STATE,
       tree: message.payload.data.treeEvent.tree,
       expanded: [],
+      subscribedExpanded: [],
       maxDepth: 1,
       message: '',
       modal: undefined,
@@ -145,6 +188,7 @@ describe('ExplorerWebSocketContainer - reducer', () => {
       viewState: TREE_LOADED__STATE,
       tree: message.payload.data.treeEvent.tree,
       expanded: [],
+      subscribedExpanded: [],
       maxDepth: 1,
       message: '',
       modal: undefined,
@@ -161,6 +205,7 @@ describe('ExplorerWebSocketContainer - reducer', () => {
       viewState: TREE_LOADED__STATE,
       tree: prevState.tree,
       expanded: prevState.expanded,
+      subscribedExpanded: prevState.subscribedExpanded,
       maxDepth: prevState.maxDepth,
       message: message.payload,
       modal: undefined,
@@ -177,6 +222,7 @@ describe('ExplorerWebSocketContainer - reducer', () => {
       viewState: TREE_LOADED__STATE,
       tree: message.payload.data.treeEvent.tree,
       expanded: [],
+      subscribedExpanded: [],
       maxDepth: 1,
       message: '',
       modal: undefined,
@@ -193,9 +239,90 @@ describe('ExplorerWebSocketContainer - reducer', () => {
       viewState: COMPLETE__STATE,
       tree: undefined,
       expanded: [],
+      subscribedExpanded: [],
       maxDepth: 1,
       message: '',
       modal: undefined,
     });
   });
+
+  it('refreshes only the tree items which have been received', () => {
+    const prevState = treeWithItemsLoadedState;
+    const message = treeItemsRefreshedEventPayloadMessage;
+    const action = { type: HANDLE_DATA__ACTION, message };
+    const state = reducer(prevState, action);
+
+    expect(state).toStrictEqual({
+      ...prevState,
+      tree: {
+        id: 'tree',
+        label: 'Project',
+        children: [treeItem('document', 'Document', [treeItem('second', 'Second', []), treeItem('third', 'Third', [])])],
+      },
+    });
+  });
+
+  it('subscribes again to retrieve the whole tree if the refreshed tree items reference unknown tree items', () => {
+    const prevState = treeWithItemsLoadedState;
+    const message = {
+      ...treeItemsRefreshedEventPayloadMessage,
+      payload: {
+        data: {
+          treeEvent: {
+            __typename: 'TreeItemsRefreshedEventPayload',
+            treeId: 'tree',
+            treeItems: [treeItem('document', 'Document', [{ id: 'second' }, { id: 'unknown' }])],
+          },
+        },
+      },
+    };
+    const action = { type: HANDLE_DATA__ACTION, message };
+    const state = reducer(prevState, action);
+
+    expect(state.tree).toBe(prevState.tree);
+    expect(state.expanded).toBe(prevState.expanded);
+    expect(state.subscribedExpanded).toStrictEqual(prevState.expanded);
+  });
+
+  it('displays only the children of the tree items expanded by this client', () => {
+    const prevState = { ...treeWithItemsLoadedState, expanded: [] };
+    const message = treeItemsRefreshedEventPayloadMessage;
+    const action = { type: HANDLE_DATA__ACTION, message };
+    const state = reducer(prevState, action);
+
+    expect(state.tree).toStrictEqual({
+      id: 'tree',
+      label: 'Project',
+      children: [{ ...treeItem('document', 'Document', []), hasChildren: true }],
+    });
+  });
+
+  it('displays the children of a tree item retrieved by this client', () => {
+    const prevState = { ...treeWithItemsLoadedState, expanded: [] };
+    prevState.tree = { ...prevState.tree, children: [{ ...treeItem('document', 'Document', []), hasChildren: true }] };
+    const children = [treeItem('first', 'First', [])];
+    const action = { type: HANDLE_TREE_ITEM_CHILDREN__ACTION, id: 'document', depth: 1, children };
+    const state = reducer(prevState, action);
+
+    expect(state.tree.children[0]).toStrictEqual({ ...treeItem('document', 'Document', children) });
+    expect(state.expanded).toStrictEqual(['document']);
+    expect(state.subscribedExpanded).toBe(prevState.subscribedExpanded);
+
+    const deeperAction = { type: HANDLE_TREE_ITEM_CHILDREN__ACTION, id: 'first', depth: 2, children: [] };
+    const deeperState = reducer(state, deeperAction);
+    expect(deeperState.maxDepth).toBe(2);
+    expect(deeperState.subscribedExpanded).toStrictEqual(['document', 'first']);
+  });
+
+  it('collapses a tree item and its expanded descendants', () => {
+    const prevState = treeWithItemsLoadedState;
+    const treeItemIds = getExpandedTreeItemIds(prevState.tree, 'document', prevState.expanded);
+    expect(treeItemIds).toStrictEqual(['document']);
+
+    const action = { type: HANDLE_COLLAPSED__ACTION, treeItemIds };
+    const state = reducer(prevState, action);
+
+    expect(state.tree.children[0]).toStrictEqual({ ...treeItem('document', 'Document', []), hasChildren: true });
+    expect(state.expanded).toStrictEqual([]);
+  });
 });
@@ -28,6 +28,15 @@ subscription treeEvent($input: TreeEventInput!) {
         }
       }
     }
+    ... on TreeItemsRefreshedEventPayload {
+      treeId
+      treeItems {
+        ...treeItemFields
+        children {
+          id
+        }
+      }
+    }
   }
 }
 `;
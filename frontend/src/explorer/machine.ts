@@ -19,7 +19,8 @@ export const HANDLE_DATA__ACTION = 'HANDLE_DATA__ACTION';
 export const HANDLE_CONNECTION_ERROR__ACTION = 'HANDLE_CONNECTION_ERROR__ACTION';
 export const HANDLE_ERROR__ACTION = 'HANDLE_ERROR__ACTION';
 export const HANDLE_COMPLETE__ACTION = 'HANDLE_COMPLETE__ACTION';
-export const HANDLE_EXPANDED__ACTION = 'HANDLE_EXPANDED__ACTION';
+export const HANDLE_TREE_ITEM_CHILDREN__ACTION = 'HANDLE_TREE_ITEM_CHILDREN__ACTION';
+export const HANDLE_COLLAPSED__ACTION = 'HANDLE_COLLAPSED__ACTION';
 
 export const machine = {
   LOADING__STATE: {
@@ -32,7 +33,8 @@ export const machine = {
     HANDLE_ERROR__ACTION: [TREE_LOADED__STATE],
     HANDLE_DATA__ACTION: [TREE_LOADED__STATE],
     HANDLE_COMPLETE__ACTION: [COMPLETE__STATE],
-    HANDLE_EXPANDED__ACTION: [TREE_LOADED__STATE],
+    HANDLE_TREE_ITEM_CHILDREN__ACTION: [TREE_LOADED__STATE],
+    HANDLE_COLLAPSED__ACTION: [TREE_LOADED__STATE],
   },
   ERROR__STATE: {
     HANDLE_ERROR__ACTION: [ERROR__STATE],
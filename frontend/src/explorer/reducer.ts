@@ -20,18 +20,26 @@ import {
   HANDLE_CONNECTION_ERROR__ACTION,
   HANDLE_ERROR__ACTION,
   HANDLE_COMPLETE__ACTION,
-  HANDLE_EXPANDED__ACTION,
+  HANDLE_TREE_ITEM_CHILDREN__ACTION,
+  HANDLE_COLLAPSED__ACTION,
 } from './machine';
 
 export const initialState = {
   viewState: LOADING__STATE,
   tree: undefined,
   expanded: [],
+  subscribedExpanded: [],
   maxDepth: 1,
   message: '',
   modal: undefined,
 };
 
+/**
+ * The expanded tree items are the ones whose children have been retrieved by this client with the treeItemChildren
+ * query. The subscribed expanded tree items are the ones given to the subscription, it is only started again when the
+ * whole tree has to be retrieved. Since the tree may be shared with other clients, a tree item is only displayed as
+ * expanded if it has been expanded by this client.
+ */
 export const reducer = (prevState, action) => {
   const supportedActions = machine[prevState.viewState];
   if (!supportedActions[action.type]) {
@@ -52,8 +60,11 @@ export const reducer = (prevState, action) => {
     case HANDLE_COMPLETE__ACTION:
       state = handleCompleteAction();
       break;
-    case HANDLE_EXPANDED__ACTION:
-      state = handleExpandedAction(prevState, action);
+    case HANDLE_TREE_ITEM_CHILDREN__ACTION:
+      state = handleTreeItemChildrenAction(prevState, action);
+      break;
+    case HANDLE_COLLAPSED__ACTION:
+      state = handleCollapsedAction(prevState, action);
       break;
     default:
       state = prevState;
@@ -72,6 +83,7 @@ const handleConnectionErrorAction = () => {
     viewState: ERROR__STATE,
     tree: undefined,
     expanded: [],
+    subscribedExpanded: [],
     maxDepth: 1,
     message: 'An error has occured while retrieving the content from the server',
     modal: undefined,
@@ -79,27 +91,93 @@ const handleConnectionErrorAction = () => {
 };
 
 const handleDataAction = (prevState, action) => {
-  const { expanded, maxDepth, modal } = prevState;
+  const { expanded, subscribedExpanded, maxDepth, modal } = prevState;
   const { message } = action;
 
   if (message.payload && message.payload.data && message.payload.data.treeEvent) {
     const { treeEvent } = message.payload.data;
     if (treeEvent.__typename === 'TreeRefreshedEventPayload') {
-      const { tree } = treeEvent;
-      return { viewState: TREE_LOADED__STATE, tree, expanded, maxDepth, message: '', modal };
+      const tree = keepExpandedTreeItems(treeEvent.tree, expanded);
+      return { viewState: TREE_LOADED__STATE, tree, expanded, subscribedExpanded, maxDepth, message: '', modal };
+    } else if (treeEvent.__typename === 'TreeItemsRefreshedEventPayload' && prevState.tree) {
+      const { treeItems } = treeEvent;
+      const tree = refreshTreeItems(prevState.tree, treeItems, expanded);
+      if (!tree) {
+        // Some tree items have never been received, a new subscription is started to retrieve the whole tree
+        return { ...prevState, subscribedExpanded: [...expanded] };
+      }
+      return { ...prevState, tree };
     }
   }
 
   return prevState;
 };
 
+/**
+ * Keeps only the children of the tree items expanded by this client.
+ */
+const keepExpandedTreeItems = (tree, expanded) => {
+  const keepExpandedTreeItem = (treeItem) => {
+    if (!expanded.includes(treeItem.id)) {
+      return { ...treeItem, expanded: false, children: [] };
+    }
+    return { ...treeItem, expanded: true, children: treeItem.children.map(keepExpandedTreeItem) };
+  };
+  return { ...tree, children: tree.children.map(keepExpandedTreeItem) };
+};
+
+/**
+ * Rebuilds the tree with the tree items refreshed by the server.
+ *
+ * The children of a refreshed tree item only contain their ids, they are retrieved among the refreshed tree items or
+ * the tree items of the previous version of the tree. Only the children of the tree items expanded by this client are
+ * kept, and those of a tree item which has not been expanded by the server yet are kept from the previous version of
+ * the tree. Returns null if one of them is unknown.
+ */
+const refreshTreeItems = (tree, refreshedTreeItems, expanded) => {
+  const id2previousTreeItem = new Map();
+  const collectTreeItems = (treeItems) => {
+    treeItems.forEach((treeItem) => {
+      id2previousTreeItem.set(treeItem.id, treeItem);
+      collectTreeItems(treeItem.children);
+    });
+  };
+  collectTreeItems(tree.children);
+
+  const id2refreshedTreeItem = new Map(refreshedTreeItems.map((treeItem) => [treeItem.id, treeItem]));
+  let hasUnknownTreeItems = false;
+  const rebuildTreeItem = (id) => {
+    const refreshedTreeItem = id2refreshedTreeItem.get(id);
+    const previousTreeItem = id2previousTreeItem.get(id);
+    const treeItem = refreshedTreeItem || previousTreeItem;
+    if (!treeItem) {
+      hasUnknownTreeItems = true;
+      return null;
+    }
+    if (!expanded.includes(id)) {
+      return { ...treeItem, expanded: false, children: [] };
+    }
+    let { children } = treeItem;
+    if (refreshedTreeItem && !refreshedTreeItem.expanded) {
+      children = refreshedTreeItem.hasChildren && previousTreeItem ? previousTreeItem.children : [];
+    }
+    return { ...treeItem, expanded: true, children: children.map((child) => rebuildTreeItem(child.id)) };
+  };
+
+  const children = tree.children.map((treeItem) => rebuildTreeItem(treeItem.id));
+  if (hasUnknownTreeItems) {
+    return null;
+  }
+  return { ...tree, children };
+};
+
 const handleErrorAction = (prevState, action) => {
-  const { viewState, tree, expanded, maxDepth, modal } = prevState;
+  const { viewState, tree, expanded, subscribedExpanded, maxDepth, modal } = prevState;
   const { payload: message } = action.message;
   if (viewState === TREE_LOADED__STATE) {
-    return { viewState: TREE_LOADED__STATE, tree, expanded, maxDepth, message, modal };
+    return { viewState: TREE_LOADED__STATE, tree, expanded, subscribedExpanded, maxDepth, message, modal };
   }
-  return { viewState: ERROR__STATE, tree, expanded, maxDepth, message, modal };
+  return { viewState: ERROR__STATE, tree, expanded, subscribedExpanded, maxDepth, message, modal };
 };
 
 const handleCompleteAction = () => {
@@ -107,22 +185,77 @@ const handleCompleteAction = () => {
     viewState: COMPLETE__STATE,
     tree: undefined,
     expanded: [],
+    subscribedExpanded: [],
     maxDepth: 1,
     message: '',
     modal: undefined,
   };
 };
 
-const handleExpandedAction = (prevState, action) => {
-  const { viewState, tree, expanded, maxDepth, message, modal } = prevState;
-  const { id, depth } = action;
-  let newExpanded;
-  if (expanded.includes(id)) {
-    newExpanded = [...expanded];
-    newExpanded.splice(newExpanded.indexOf(id), 1);
-  } else {
-    newExpanded = [...expanded, id];
+/**
+ * Updates the tree items of the tree matching the given ids.
+ */
+const updateTreeItems = (tree, ids, update) => {
+  const updateTreeItem = (treeItem) => {
+    let newTreeItem = { ...treeItem, children: treeItem.children.map(updateTreeItem) };
+    if (ids.includes(treeItem.id)) {
+      newTreeItem = update(newTreeItem);
+    }
+    return newTreeItem;
+  };
+  return { ...tree, children: tree.children.map(updateTreeItem) };
+};
+
+/**
+ * Displays the children of a tree item retrieved with the treeItemChildren query. If the tree item is deeper than the
+ * tree items retrieved by the subscription, a new subscription is started with the expanded tree items.
+ */
+const handleTreeItemChildrenAction = (prevState, action) => {
+  const { viewState, tree, expanded, subscribedExpanded, maxDepth, message, modal } = prevState;
+  const { id, depth, children } = action;
+
+  const newTree = updateTreeItems(tree, [id], (treeItem) => ({ ...treeItem, expanded: true, children }));
+  const newExpanded = expanded.includes(id) ? expanded : [...expanded, id];
+  if (depth > maxDepth) {
+    return {
+      viewState,
+      tree: newTree,
+      expanded: newExpanded,
+      subscribedExpanded: newExpanded,
+      maxDepth: depth,
+      message,
+      modal,
+    };
   }
+  return { viewState, tree: newTree, expanded: newExpanded, subscribedExpanded, maxDepth, message, modal };
+};
+
+/**
+ * Collapses the given tree items, which should contain the expanded descendants of the tree item collapsed.
+ */
+const handleCollapsedAction = (prevState, action) => {
+  const { viewState, tree, expanded, subscribedExpanded, maxDepth, message, modal } = prevState;
+  const { treeItemIds } = action;
 
-  return { viewState, tree, expanded: newExpanded, maxDepth: Math.max(maxDepth, depth), message, modal };
+  const newTree = updateTreeItems(tree, treeItemIds, (treeItem) => ({ ...treeItem, expanded: false, children: [] }));
+  const newExpanded = expanded.filter((id) => !treeItemIds.includes(id));
+  return { viewState, tree: newTree, expanded: newExpanded, subscribedExpanded, maxDepth, message, modal };
+};
+
+/**
+ * Returns the ids of the given tree item and of its descendants expanded by this client.
+ */
+export const getExpandedTreeItemIds = (tree, id, expanded) => {
+  const expandedTreeItemIds = [];
+  const collectExpandedTreeItemIds = (treeItems, isDescendant) => {
+    treeItems.forEach((treeItem) => {
+      const isCollapsed = isDescendant || treeItem.id === id;
+      if (isCollapsed && expanded.includes(treeItem.id)) {
+        expandedTreeItemIds.push(treeItem.id);
+      }
+      collectExpandedTreeItemIds(treeItem.children, isCollapsed);
+    });
+  };
+  collectExpandedTreeItemIds(tree.children, false);
+  return expandedTreeItemIds;
 };
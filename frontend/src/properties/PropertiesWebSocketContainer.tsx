@@ -63,49 +63,61 @@ const propertiesEventSubscription = gql`
               label
               id
               widgets {
-                id
-                __typename
-                ... on Textfield {
-                  label
-                  stringValue: value
-                }
-                ... on Textarea {
-                  label
-                  stringValue: value
-                }
-                ... on Checkbox {
-                  label
-                  booleanValue: value
-                }
-                ... on Select {
-                  label
-                  value
-                  options {
-                    id
-                    label
-                  }
-                }
-                ... on Radio {
-                  label
-                  options {
-                    id
-                    label
-                    selected
-                  }
-                }
-                ... on List {
-                  label
-                  items {
-                    id
-                    label
-                    imageURL
-                  }
-                }
+                ...widgetFields
               }
             }
           }
         }
       }
+      ... on FormWidgetsRefreshedEventPayload {
+        formId
+        label
+        widgets {
+          ...widgetFields
+        }
+      }
+    }
+  }
+
+  fragment widgetFields on Widget {
+    id
+    __typename
+    ... on Textfield {
+      label
+      stringValue: value
+    }
+    ... on Textarea {
+      label
+      stringValue: value
+    }
+    ... on Checkbox {
+      label
+      booleanValue: value
+    }
+    ... on Select {
+      label
+      value
+      optionsCount
+      options {
+        id
+        label
+      }
+    }
+    ... on Radio {
+      label
+      options {
+        id
+        label
+        selected
+      }
+    }
+    ... on List {
+      label
+      items {
+        id
+        label
+        imageURL
+      }
     }
   }
 `.loc.source.body;
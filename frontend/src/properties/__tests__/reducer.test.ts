@@ -86,6 +86,49 @@ const formRefreshEventPayloadMessage = {
   },
 };
 
+const formWithWidgetsReadyState = {
+  viewState: READY__STATE,
+  form: {
+    id: 'form',
+    label: 'Existing form',
+    pages: [
+      {
+        id: 'page',
+        label: 'Page',
+        groups: [
+          {
+            id: 'group',
+            label: 'Group',
+            widgets: [
+              { id: 'name', __typename: 'Textfield', label: 'Name', stringValue: 'Old name' },
+              { id: 'abstract', __typename: 'Checkbox', label: 'Abstract', booleanValue: false },
+            ],
+          },
+        ],
+      },
+    ],
+  },
+  displayedObjectId: 'objectId',
+  subscribers: [],
+  widgetSubscriptions: [],
+  message: '',
+};
+
+const formWidgetsRefreshedEventPayloadMessage = {
+  type: 'data',
+  id: '43',
+  payload: {
+    data: {
+      formEvent: {
+        __typename: 'FormWidgetsRefreshedEventPayload',
+        formId: 'form',
+        label: 'New Label',
+        widgets: [{ id: 'name', __typename: 'Textfield', label: 'Name', stringValue: 'New name' }],
+      },
+    },
+  },
+};
+
 const subscribersUpdatedEventPayloadMessage = {
   type: 'data',
   id: '51',
@@ -316,4 +359,18 @@ describe('PropertiesWebSocketContainer - reducer', () => {
       message: prevState.message,
     });
   });
+
+  it('replaces only the widgets which have been refreshed', () => {
+    const prevState = formWithWidgetsReadyState;
+    const message = formWidgetsRefreshedEventPayloadMessage;
+    const action = { type: HANDLE_DATA__ACTION, message };
+    const state = reducer(prevState, action);
+
+    const [previousGroup] = prevState.form.pages[0].groups;
+    const [refreshedWidget] = message.payload.data.formEvent.widgets;
+    const [group] = state.form.pages[0].groups;
+    expect(state.form.label).toBe('New Label');
+    expect(group.widgets[0]).toBe(refreshedWidget);
+    expect(group.widgets[1]).toBe(previousGroup.widgets[1]);
+  });
 });
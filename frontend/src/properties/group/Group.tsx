@@ -85,6 +85,7 @@ const widgetToPropertySection = (projectId, formId, widget, widgetSubscriptions)
           widgetId={widget.id}
           label={widget.label}
           options={widget.options}
+          optionsCount={widget.optionsCount}
           value={widget.value}
         />
       );
@@ -10,23 +10,98 @@
  * Contributors:
  *     Obeo - initial API and implementation
  *******************************************************************************/
-import { useMutation } from 'common/GraphQLHooks';
+import { useLazyQuery, useMutation } from 'common/GraphQLHooks';
+import { LinkButton } from 'core/linkbutton/LinkButton';
 import { Select } from 'core/select/Select';
 import { Text } from 'core/text/Text';
+import { Textfield } from 'core/textfield/Textfield';
 import { Permission } from 'project/Permission';
+import gql from 'graphql-tag';
 import PropTypes from 'prop-types';
-import React from 'react';
+import React, { useEffect, useState } from 'react';
 import { editSelectMutation } from './mutations';
 import styles from './PropertySection.module.css';
 
+const getSelectOptionsQuery = gql`
+  query getSelectOptions(
+    $projectId: ID!
+    $representationId: ID!
+    $selectId: ID!
+    $filter: String
+    $first: Int
+    $after: String
+  ) {
+    viewer {
+      selectOptions(
+        projectId: $projectId
+        representationId: $representationId
+        selectId: $selectId
+        filter: $filter
+        first: $first
+        after: $after
+      ) {
+        edges {
+          node {
+            id
+            label
+          }
+        }
+        pageInfo {
+          hasNextPage
+          endCursor
+        }
+      }
+    }
+  }
+`.loc.source.body;
+
+const PAGE_SIZE = 20;
+
 const propTypes = {
   label: PropTypes.string.isRequired,
   value: PropTypes.string,
   options: PropTypes.array.isRequired,
+  optionsCount: PropTypes.number,
 };
 
-export const SelectPropertySection = ({ projectId, formId, widgetId, label, value, options }) => {
-  const optionsWithEmptySelection = [{ id: '', label: '' }].concat(options);
+/**
+ * When the select has more options than the ones sent with the form, the other options are retrieved page by page, and
+ * filtered by label, thanks to the selectOptions query.
+ */
+export const SelectPropertySection = ({ projectId, formId, widgetId, label, value, options, optionsCount }) => {
+  const isLazy = optionsCount > options.length;
+  const [state, setState] = useState({
+    filter: '',
+    after: null,
+    loadedOptions: [],
+    endCursor: null,
+    hasNextPage: false,
+  });
+  const { filter, after, loadedOptions, endCursor, hasNextPage } = state;
+
+  const [getSelectOptions, { loading, data }] = useLazyQuery(getSelectOptionsQuery, {}, 'getSelectOptions');
+  useEffect(() => {
+    if (isLazy) {
+      getSelectOptions({ projectId, representationId: formId, selectId: widgetId, filter, first: PAGE_SIZE, after });
+    }
+  }, [isLazy, getSelectOptions, projectId, formId, widgetId, filter, after]);
+
+  useEffect(() => {
+    if (!loading && data?.data?.viewer?.selectOptions) {
+      const { edges, pageInfo } = data.data.viewer.selectOptions;
+      const pageOptions = edges.map((edge) => edge.node);
+      setState((prevState) => {
+        // A page requested after a cursor is appended to the options already loaded
+        const newLoadedOptions = prevState.after ? prevState.loadedOptions.concat(pageOptions) : pageOptions;
+        return {
+          ...prevState,
+          loadedOptions: newLoadedOptions,
+          endCursor: pageInfo.endCursor,
+          hasNextPage: pageInfo.hasNextPage,
+        };
+      });
+    }
+  }, [loading, data]);
 
   const [editSelect] = useMutation(editSelectMutation, {}, 'editSelect');
   const onChange = async (event) => {
@@ -42,9 +117,33 @@ export const SelectPropertySection = ({ projectId, formId, widgetId, label, valu
     await editSelect(variables);
   };
 
+  const onFilterChange = (event) => {
+    const newFilter = event.target.value;
+    setState((prevState) => ({ ...prevState, filter: newFilter, after: null, endCursor: null, hasNextPage: false }));
+  };
+  const onLoadMore = () => setState((prevState) => ({ ...prevState, after: endCursor }));
+
+  let displayedOptions = options;
+  if (isLazy) {
+    // The option of the current value is always available even if it does not match the filter
+    const otherOptions = loadedOptions.filter((option) => !options.some((valueOption) => valueOption.id === option.id));
+    displayedOptions = options.concat(otherOptions);
+  }
+  const optionsWithEmptySelection = [{ id: '', label: '' }].concat(displayedOptions);
+
   return (
     <>
       <Text className={styles.label}>{label}</Text>
+      {isLazy ? (
+        <Textfield
+          kind="small"
+          name={`${label}-filter`}
+          value={filter}
+          placeholder={`Filter the ${optionsCount} options`}
+          onChange={onFilterChange}
+          data-testid={`${label}-filter`}
+        />
+      ) : null}
       <Permission requiredAccessLevel="EDIT">
         <Select
           name={label}
@@ -54,6 +153,9 @@ export const SelectPropertySection = ({ projectId, formId, widgetId, label, valu
           data-testid={label}
         />
       </Permission>
+      {isLazy && hasNextPage ? (
+        <LinkButton label="Load more options" onClick={onLoadMore} data-testid={`${label}-more`} />
+      ) : null}
     </>
   );
 };
@@ -104,6 +104,12 @@ const handleDataAction = (prevState, action) => {
     if (formEvent.__typename === 'FormRefreshedEventPayload') {
       const { form } = formEvent;
       state = { ...prevState, viewState: READY__STATE, form, message: '' };
+    } else if (formEvent.__typename === 'FormWidgetsRefreshedEventPayload') {
+      const { formId, label, widgets } = formEvent;
+      if (prevState.form && prevState.form.id === formId) {
+        const form = replaceWidgets({ ...prevState.form, label }, widgets);
+        state = { ...prevState, form };
+      }
     } else if (formEvent.__typename === 'SubscribersUpdatedEventPayload') {
       const { subscribers } = formEvent;
       state = { ...prevState, subscribers };
@@ -116,6 +122,21 @@ const handleDataAction = (prevState, action) => {
   return state;
 };
 
+/**
+ * Replaces the widgets of the form which have been refreshed by the server, using their id.
+ */
+const replaceWidgets = (form, refreshedWidgets) => {
+  const id2widget = new Map(refreshedWidgets.map((widget) => [widget.id, widget]));
+  const pages = form.pages.map((page) => {
+    const groups = page.groups.map((group) => {
+      const widgets = group.widgets.map((widget) => id2widget.get(widget.id) || widget);
+      return { ...group, widgets };
+    });
+    return { ...page, groups };
+  });
+  return { ...form, pages };
+};
+
 const handleConnectionErrorAction = (prevState) => {
   return switchToCompleteState(prevState, 'An error has occured while retrieving the content from the server');
 };